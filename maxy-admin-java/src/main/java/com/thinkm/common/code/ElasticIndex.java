@@ -95,6 +95,21 @@ public enum ElasticIndex {
     private final String timeColumn;
     private final String durationColumn;
 
+    /**
+     * index 명으로 ElasticIndex 조회
+     *
+     * @param index index 명 (ex. maxy_app_total_log_)
+     * @return ElasticIndex
+     */
+    public static ElasticIndex fromIndex(String index) {
+        for (ElasticIndex value : values()) {
+            if (value.getIndex().equals(index)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("unknown index: " + index);
+    }
+
     /**
      * timestamp 범위로부터 인덱스 목록을 생성하는 메서드
      */
@@ -4,25 +4,18 @@ import org.apache.catalina.Context;
 import org.apache.catalina.webresources.ExtractingRoot;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.util.StringUtils;
 import org.springframework.web.bind.support.WebBindingInitializer;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
-import reactor.netty.http.client.HttpClient;
 
-import java.time.Duration;
 import java.util.Collections;
 
 @EnableAsync
@@ -57,27 +50,6 @@ public class AppConfig {
         return new RestTemplate(factory);
     }
 
-    @Bean
-    public WebClient fileDbWebClient(@Value("${network.filedb.url:}") String fileDbBaseUrl) {
-        ExchangeStrategies strategies = ExchangeStrategies.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
-                .build();
-
-        WebClient.Builder builder = WebClient.builder()
-                .exchangeStrategies(strategies);
-
-        if (StringUtils.hasText(fileDbBaseUrl)) {
-            builder.baseUrl(fileDbBaseUrl);
-        }
-
-        return builder
-                .clientConnector(new ReactorClientHttpConnector(
-                        HttpClient.create()
-                                .responseTimeout(Duration.ofSeconds(5))
-                ))
-                .build();
-    }
-
     @Bean
     public RequestMappingHandlerAdapter requestMappingHandlerAdapter(WebBindingInitializer bindingInitializer) {
         RequestMappingHandlerAdapter adapter = new RequestMappingHandlerAdapter();
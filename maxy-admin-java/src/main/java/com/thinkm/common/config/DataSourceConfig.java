@@ -1,5 +1,7 @@
 package com.thinkm.common.config;
 
+import com.thinkm.common.config.metrics.MapperMetricsInterceptor;
+import com.thinkm.common.config.metrics.MaxyMetrics;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.annotation.MapperScan;
@@ -13,7 +15,7 @@ import javax.sql.DataSource;
 @Configuration
 public class DataSourceConfig {
     @Bean
-    public SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+    public SqlSessionFactory sqlSessionFactory(DataSource dataSource, MaxyMetrics maxyMetrics) throws Exception {
         SqlSessionFactoryBean sqlSessionFactoryBean = new SqlSessionFactoryBean();
         sqlSessionFactoryBean.setDataSource(dataSource);
 
@@ -27,6 +29,9 @@ public class DataSourceConfig {
                 new PathMatchingResourcePatternResolver().getResources("classpath:/mybatis/mapper/**/*.xml")
         );
 
+        // mapper statement 별 실행 시간 / 결과 건수 기록
+        sqlSessionFactoryBean.setPlugins(new MapperMetricsInterceptor(maxyMetrics));
+
         return sqlSessionFactoryBean.getObject();
     }
 }
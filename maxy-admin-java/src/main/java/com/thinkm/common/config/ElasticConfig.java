@@ -5,8 +5,17 @@ import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.SSLContexts;
 import org.opensearch.client.RestClient;
@@ -43,29 +52,84 @@ public class ElasticConfig {
     @Value("${spring.elasticsearch.rest.auth}")
     private boolean auth;
 
-    public static RestClientBuilder initRestClientBuilder() {
+    /* Connection Pool 설정 */
+    // route(host) 당 최대 connection 수
+    @Value("${spring.elasticsearch.rest.pool.max-conn-per-route:32}")
+    private int maxConnPerRoute;
+    // 전체 최대 connection 수
+    @Value("${spring.elasticsearch.rest.pool.max-conn-total:128}")
+    private int maxConnTotal;
+    // idle connection 유지 시간 (ms)
+    @Value("${spring.elasticsearch.rest.pool.keep-alive-ms:60000}")
+    private long keepAliveMs;
+    // I/O reactor thread 수 (0 이하면 cpu core 수)
+    @Value("${spring.elasticsearch.rest.pool.io-thread-count:0}")
+    private int ioThreadCount;
+
+    /**
+     * 공유 connection pool 을 사용하는 {@link RestClientBuilder} 생성
+     *
+     * @param connectionManager 공유할 connection manager
+     * @param keepAliveMs       idle connection 유지 시간 (ms)
+     * @return RestClientBuilder
+     */
+    public static RestClientBuilder initRestClientBuilder(PoolingNHttpClientConnectionManager connectionManager,
+                                                          long keepAliveMs) {
         return RestClient.builder(httpHosts)
                 .setRequestConfigCallback(b -> b
                         .setConnectTimeout(timeout)
                         .setSocketTimeout(timeout))
                 .setHttpClientConfigCallback(b -> b
-                        .setDefaultCredentialsProvider(credentialsProvider)
-                        .setSSLContext(sslContext)
-                        .setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE));
-    }
-
-    public static RestClient initRestClient() {
-        return initRestClientBuilder().build();
+                        .setConnectionManager(connectionManager)
+                        .setKeepAliveStrategy((response, context) -> keepAliveMs)
+                        .setDefaultCredentialsProvider(credentialsProvider));
     }
 
     public static String getHosts() {
         return Arrays.toString(httpHosts);
     }
 
+    /**
+     * OpenSearch 요청에 공유되는 connection pool.
+     * 요청마다 RestClient 를 생성/종료하지 않도록 {@link #esClient} 와 함께 application 수명 동안 유지한다.
+     */
     @Bean
     @DependsOn("elasticSearchTemplate")
-    public RestHighLevelClient esClient() {
-        return new RestHighLevelClient(initRestClientBuilder());
+    public PoolingNHttpClientConnectionManager esConnectionManager() throws IOReactorException {
+        IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setIoThreadCount(ioThreadCount > 0 ? ioThreadCount : Runtime.getRuntime().availableProcessors())
+                .setConnectTimeout(timeout)
+                .setSoTimeout(timeout)
+                .setSoKeepAlive(true)
+                .build();
+
+        SSLContext ctx = sslContext != null ? sslContext : SSLContexts.createDefault();
+        Registry<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", new SSLIOSessionStrategy(ctx, NoopHostnameVerifier.INSTANCE))
+                .build();
+
+        PoolingNHttpClientConnectionManager connectionManager =
+                new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(ioReactorConfig), registry);
+        connectionManager.setDefaultMaxPerRoute(maxConnPerRoute);
+        connectionManager.setMaxTotal(maxConnTotal);
+
+        log.info("OpenSearch connection pool: maxConnPerRoute={}, maxConnTotal={}, keepAliveMs={}, ioThreadCount={}",
+                maxConnPerRoute, maxConnTotal, keepAliveMs, ioReactorConfig.getIoThreadCount());
+        return connectionManager;
+    }
+
+    @Bean
+    public RestHighLevelClient esClient(PoolingNHttpClientConnectionManager esConnectionManager) {
+        return new RestHighLevelClient(initRestClientBuilder(esConnectionManager, keepAliveMs));
+    }
+
+    /**
+     * high level client 와 connection pool 을 공유하는 low level client
+     */
+    @Bean(destroyMethod = "")
+    public RestClient esRestClient(RestHighLevelClient esClient) {
+        return esClient.getLowLevelClient();
     }
 
     @Bean
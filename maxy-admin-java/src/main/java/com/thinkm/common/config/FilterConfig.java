@@ -1,5 +1,7 @@
 package com.thinkm.common.config;
 
+import com.thinkm.common.config.session.RedisSessionStore;
+import com.thinkm.common.config.session.RedisSessionStoreFilter;
 import com.thinkm.common.filter.IPAllowFilter;
 import com.thinkm.common.filter.SessionFilter;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +25,9 @@ public class FilterConfig {
     @Value("${security.ip-allowlist:}")
     private String ipAllowCsv;
 
+    @Value("${maxy.health.monitor-ips:}")
+    private String monitorIpCsv;
+
     private static List<String> csvToList(String csv) {
         if (csv == null || csv.isBlank()) return List.of();
         return Arrays.stream(csv.split(","))
@@ -38,8 +43,19 @@ public class FilterConfig {
      */
     @Bean
     public FilterRegistrationBean<SessionFilter> setFilterRegistration() {
-        FilterRegistrationBean<SessionFilter> bean = new FilterRegistrationBean<>(new SessionFilter());
+        FilterRegistrationBean<SessionFilter> bean = new FilterRegistrationBean<>(new SessionFilter(csvToList(monitorIpCsv)));
+        bean.setUrlPatterns(Collections.singletonList("*.maxy"));
+        return bean;
+    }
+
+    /**
+     * Redis session 저장소와 로컬 session 동기화 (SessionFilter 보다 먼저 실행)
+     */
+    @Bean
+    public FilterRegistrationBean<RedisSessionStoreFilter> redisSessionStoreFilter(RedisSessionStore redisSessionStore) {
+        FilterRegistrationBean<RedisSessionStoreFilter> bean = new FilterRegistrationBean<>(new RedisSessionStoreFilter(redisSessionStore));
         bean.setUrlPatterns(Collections.singletonList("*.maxy"));
+        bean.setOrder(2);
         return bean;
     }
 
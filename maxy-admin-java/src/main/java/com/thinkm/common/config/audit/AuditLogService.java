@@ -6,7 +6,6 @@ import com.thinkm.maxy.mapper.AuditLogMapper;
 import com.thinkm.maxy.vo.MaxyUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import javax.servlet.http.HttpServletRequest;
@@ -20,10 +19,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AuditLogService {
     private final AuditLogMapper auditLogMapper;
+    private final AuditLogWriter auditLogWriter;
 
-    @Async
+    /**
+     * audit log 저장. queue 에 넣고 AuditLogWriter 가 batch 로 저장한다.
+     */
     public void saveAuditLog(AuditLog auditLog) {
-        auditLogMapper.insertAuditLog(auditLog);
+        auditLogWriter.offer(auditLog);
     }
 
     public List<AuditLog> getAuditLogList(AuditLogRequestDto dto) {
@@ -0,0 +1,291 @@
+package com.thinkm.common.config.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thinkm.common.util.JsonUtil;
+import com.thinkm.maxy.mapper.AuditLogMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * audit log 일괄 저장
+ * <pre>
+ * - 요청 thread 는 bounded queue 에 넣기만 하고, 전용 thread 가 batch-size 건 또는 flush-interval 마다 multi-row insert
+ * - queue 가 가득 차면 overflow 정책에 따라 처리
+ *   BLOCK: block-timeout 까지 대기 후 버림 / DROP: 즉시 버림 / SPILL: 로컬 파일에 기록 후 여유가 있을 때 다시 저장
+ * - 종료 시 queue 에 남은 log 를 모두 저장
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    public enum Overflow {
+        BLOCK, DROP, SPILL
+    }
+
+    private static final ObjectMapper MAPPER = JsonUtil.createMapper();
+    private static final long SPILL_REPLAY_INTERVAL_MS = 30_000L;
+
+    private final AuditLogMapper auditLogMapper;
+    private final BlockingQueue<AuditLog> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final Overflow overflow;
+    private final long blockTimeoutMs;
+    private final Path spillFile;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchNanos = new LongAdder();
+    private final AtomicLong maxBatchNanos = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(
+            AuditLogMapper auditLogMapper,
+            @Value("${security.audit.writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${security.audit.writer.batch-size:200}") int batchSize,
+            @Value("${security.audit.writer.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${security.audit.writer.overflow:SPILL}") Overflow overflow,
+            @Value("${security.audit.writer.block-timeout-ms:100}") long blockTimeoutMs,
+            @Value("${security.audit.writer.spill-file:${java.io.tmpdir}/maxy-audit-log-${server.port:8080}.spill}") String spillFile
+    ) {
+        this.auditLogMapper = auditLogMapper;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(1, flushIntervalMs);
+        this.overflow = overflow;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.spillFile = Path.of(spillFile);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("audit log writer: batchSize={}, flushIntervalMs={}, overflow={}", batchSize, flushIntervalMs, overflow);
+    }
+
+    /**
+     * 종료 시 남은 log 저장
+     */
+    @PreDestroy
+    public void stop() {
+        // 진행 중인 insert 가 끊기지 않도록 interrupt 하지 않고 poll timeout 후 종료를 기다린다.
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // worker 가 끝나지 않았거나 그 사이 들어온 log
+        List<AuditLog> batch = new ArrayList<>();
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    /**
+     * audit log 를 queue 에 추가 (요청 thread 에서 호출)
+     *
+     * @param auditLog audit log
+     * @return queue 에 추가되었는지 여부
+     */
+    public boolean offer(AuditLog auditLog) {
+        boolean added = queue.offer(auditLog);
+        if (!added && overflow == Overflow.BLOCK) {
+            try {
+                added = queue.offer(auditLog, blockTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (added) {
+            enqueued.increment();
+            return true;
+        }
+        if (overflow == Overflow.SPILL && spill(List.of(auditLog))) {
+            return false;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    private void run() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        long firstAt = 0;
+        long nextReplayAt = 0;
+        while (running) {
+            try {
+                long waitMs = batch.isEmpty()
+                        ? flushIntervalMs
+                        : Math.max(0, flushIntervalMs - (System.currentTimeMillis() - firstAt));
+                AuditLog item = queue.poll(waitMs, TimeUnit.MILLISECONDS);
+                if (item != null) {
+                    if (batch.isEmpty()) {
+                        firstAt = System.currentTimeMillis();
+                    }
+                    batch.add(item);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                if (batch.size() >= batchSize
+                        || (!batch.isEmpty() && System.currentTimeMillis() - firstAt >= flushIntervalMs)) {
+                    flush(batch);
+                }
+                if (item == null && batch.isEmpty() && System.currentTimeMillis() >= nextReplayAt) {
+                    // 한가할 때 spill 된 log 저장 (DB 장애 시 반복 실패하지 않도록 간격을 둠)
+                    nextReplayAt = System.currentTimeMillis() + SPILL_REPLAY_INTERVAL_MS;
+                    replaySpill();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("audit log writer error: {}", e.getMessage(), e);
+            }
+        }
+        flush(batch);
+    }
+
+    /**
+     * multi-row insert. 실패하면 SPILL 정책인 경우 파일에 기록
+     */
+    void flush(List<AuditLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long s = System.nanoTime();
+        try {
+            auditLogMapper.insertAuditLogList(batch);
+            written.add(batch.size());
+        } catch (Exception e) {
+            log.error("audit log batch insert failed ({}): {}", batch.size(), e.getMessage());
+            if (overflow != Overflow.SPILL || !spill(batch)) {
+                failed.add(batch.size());
+            }
+        } finally {
+            long elapsed = System.nanoTime() - s;
+            batches.increment();
+            batchNanos.add(elapsed);
+            maxBatchNanos.accumulateAndGet(elapsed, Math::max);
+            batch.clear();
+        }
+    }
+
+    private synchronized boolean spill(List<AuditLog> logs) {
+        try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (AuditLog auditLog : logs) {
+                writer.write(MAPPER.writeValueAsString(auditLog));
+                writer.newLine();
+            }
+            spilled.add(logs.size());
+            return true;
+        } catch (IOException e) {
+            log.error("audit log spill failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * spill 파일의 log 를 batch-size 단위로 저장. 실패한 batch 는 다시 spill 된다.
+     * 이전 replay 가 중간에 끝나 남은 .replay 파일이 있으면 먼저 저장한다. (덮어쓰지 않음, 일부 중복 저장될 수 있음)
+     */
+    void replaySpill() {
+        Path replayFile = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+        if (Files.exists(replayFile) && !replay(replayFile)) {
+            return;
+        }
+        synchronized (this) {
+            if (!Files.exists(spillFile)) {
+                return;
+            }
+            try {
+                Files.move(spillFile, replayFile);
+            } catch (IOException e) {
+                log.error("audit log spill move failed: {}", e.getMessage());
+                return;
+            }
+        }
+        replay(replayFile);
+    }
+
+    /**
+     * @return 파일을 모두 읽고 삭제했는지 여부
+     */
+    private boolean replay(Path replayFile) {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(MAPPER.readValue(line, AuditLog.class));
+                } catch (IOException e) {
+                    log.warn("invalid spilled audit log: {}", line);
+                    continue;
+                }
+                if (batch.size() >= batchSize) {
+                    flush(batch);
+                }
+            }
+            flush(batch);
+            Files.deleteIfExists(replayFile);
+            return true;
+        } catch (IOException e) {
+            log.error("audit log spill replay failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return queue 크기 및 batch 저장 통계
+     */
+    public Map<String, Object> getStats() {
+        long count = batches.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("overflow", overflow);
+        result.put("queueSize", queue.size());
+        result.put("remainingCapacity", queue.remainingCapacity());
+        result.put("enqueued", enqueued.sum());
+        result.put("written", written.sum());
+        result.put("dropped", dropped.sum());
+        result.put("spilled", spilled.sum());
+        result.put("failed", failed.sum());
+        result.put("batches", count);
+        result.put("avgBatchMs", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(batchNanos.sum() / count));
+        result.put("maxBatchMs", TimeUnit.NANOSECONDS.toMillis(maxBatchNanos.get()));
+        return result;
+    }
+}
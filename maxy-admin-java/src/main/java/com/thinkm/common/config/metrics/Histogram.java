@@ -0,0 +1,158 @@
+package com.thinkm.common.config.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 bucket 누적 histogram (Prometheus histogram 과 같은 형태)
+ * <pre>
+ * - bucket 경계는 생성 시 정해지며 record 는 lock / 할당 없이 LongAdder 만 증가시킨다.
+ * - 백분위는 bucket 안에서 선형 보간한 추정값이다.
+ * </pre>
+ */
+public class Histogram {
+
+    // latency bucket (ns): 1ms ~ 10s 는 한 자리당 1, 2, 3, 5, 7 배, 그 이후 15s, 30s, 60s
+    static final long[] LATENCY_BOUNDS = latencyBounds();
+    // byte / 건수 bucket: 1 부터 4 배씩 (1 ~ 4^14 = 268,435,456)
+    static final long[] SIZE_BOUNDS = powersOf4(14);
+
+    private final long[] bounds;
+    // bounds.length 번째는 +Inf
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    Histogram(long[] bounds) {
+        this.bounds = bounds;
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    private static long[] latencyBounds() {
+        long[] steps = {1, 2, 3, 5, 7};
+        long[] result = new long[steps.length * 4 + 4];
+        int n = 0;
+        for (long decade = 1_000_000L; decade < 10_000_000_000L; decade *= 10) {
+            for (long step : steps) {
+                result[n++] = step * decade;
+            }
+        }
+        result[n++] = 10_000_000_000L;
+        result[n++] = 15_000_000_000L;
+        result[n++] = 30_000_000_000L;
+        result[n] = 60_000_000_000L;
+        return result;
+    }
+
+    private static long[] powersOf4(int n) {
+        long[] result = new long[n + 1];
+        for (int i = 0; i <= n; i++) {
+            result[i] = 1L << (2 * i);
+        }
+        return result;
+    }
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets[indexOf(value)].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * value 가 들어갈 bucket (value <= bound 인 첫 bucket)
+     */
+    private int indexOf(long value) {
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bounds[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new Snapshot(bounds, counts, count.sum(), sum.sum(), max.get());
+    }
+
+    /**
+     * @param bounds bucket 상한 (마지막 bucket 은 +Inf)
+     * @param counts bucket 별 건수 (누적 아님)
+     */
+    public record Snapshot(long[] bounds, long[] counts, long count, long sum, long max) {
+
+        /**
+         * bucket 안에서 선형 보간한 백분위 추정값
+         *
+         * @param quantile 0 ~ 1
+         * @return 추정값, 기록이 없으면 0
+         */
+        public double percentile(double quantile) {
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            double rank = quantile * total;
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0 || seen + counts[i] < rank) {
+                    seen += counts[i];
+                    continue;
+                }
+                double lower = i == 0 ? 0 : bounds[i - 1];
+                // +Inf bucket 은 max 까지로 본다
+                double upper = i < bounds.length ? Math.min(bounds[i], max) : max;
+                if (upper < lower) {
+                    upper = lower;
+                }
+                return lower + (upper - lower) * ((rank - seen) / counts[i]);
+            }
+            return max;
+        }
+
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * 조회용 요약 (count, mean, p50, p95, p99, max)
+         *
+         * @param scale 값을 나눌 단위 (ns → ms 는 1_000_000)
+         */
+        public Map<String, Object> toMap(double scale) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", count);
+            result.put("mean", round(mean() / scale));
+            result.put("p50", round(percentile(0.5) / scale));
+            result.put("p95", round(percentile(0.95) / scale));
+            result.put("p99", round(percentile(0.99) / scale));
+            result.put("max", round(max / scale));
+            return result;
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
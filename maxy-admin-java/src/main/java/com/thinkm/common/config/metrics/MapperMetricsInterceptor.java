@@ -0,0 +1,74 @@
+package com.thinkm.common.config.metrics;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.Collection;
+
+/**
+ * MyBatis mapper statement 별 실행 시간과 결과 건수 기록
+ * <pre>
+ * - statement: mapper id (ex. UserMapper.selectUserList)
+ * - command: select / insert / update / delete
+ * - select 는 결과 건수, 변경은 적용된 row 수를 rows distribution 으로 기록
+ * </pre>
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+    private final MaxyMetrics metrics;
+
+    public MapperMetricsInterceptor(MaxyMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        String id = statementName(statement.getId());
+        String command = statement.getSqlCommandType().name().toLowerCase();
+
+        MaxyMetrics.Sample sample = metrics.start(MaxyMetrics.DB, "statement", id, "command", command);
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            sample.stop(e);
+            throw e;
+        }
+        sample.success();
+
+        long rows = -1;
+        if (result instanceof Collection<?> list) {
+            rows = list.size();
+        } else if (result instanceof Integer updated) {
+            rows = updated;
+        }
+        metrics.recordSize(MaxyMetrics.DB_ROWS, MaxyMetrics.ROWS, rows, "statement", id, "command", command);
+        return result;
+    }
+
+    /**
+     * com.thinkm.maxy.mapper.UserMapper.selectUserList → UserMapper.selectUserList
+     */
+    static String statementName(String id) {
+        int method = id.lastIndexOf('.');
+        int mapper = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        return mapper >= 0 ? id.substring(mapper + 1) : id;
+    }
+}
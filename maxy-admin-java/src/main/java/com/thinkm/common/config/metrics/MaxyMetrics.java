@@ -0,0 +1,403 @@
+package com.thinkm.common.config.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketTimeoutException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * OpenSearch / Redis / DB / FileDB / PDF 호출의 latency, payload 크기 histogram 저장소
+ * <pre>
+ * - 시간은 timer (ns 로 기록, seconds 로 노출), 크기는 distribution (bytes, rows 등) 으로 기록한다.
+ * - series 는 이름과 tag 로 구분하며 최대 max-series 개까지 만든다. (초과 시 overflow="true" series 로 합산)
+ * - {@link #scrape()} 는 Prometheus text format (/health/prometheus.maxy), {@link #getStats()} 는 백분위 요약
+ * - cache, pool 등 component 상태는 {@link #register} 로 등록하고 {@link #snapshot()} 으로 함께 조회한다. (/health/metrics.maxy)
+ * </pre>
+ * <pre>
+ * MaxyMetrics.Sample sample = maxyMetrics.start(MaxyMetrics.REDIS, "op", "get");
+ * try {
+ *     return sample.success(redisTemplate.opsForValue().get(key));
+ * } catch (Exception e) {
+ *     sample.error();
+ *     ...
+ * }
+ * </pre>
+ */
+@Slf4j
+@Component
+public class MaxyMetrics {
+
+    public static final String ELASTIC = "maxy.elastic.request";
+    public static final String ELASTIC_RESPONSE = "maxy.elastic.response";
+    public static final String REDIS = "maxy.redis.command";
+    public static final String DB = "maxy.db.statement";
+    public static final String DB_ROWS = "maxy.db.result";
+    public static final String FILEDB = "maxy.filedb.request";
+    public static final String FILEDB_RESPONSE = "maxy.filedb.response";
+    public static final String PDF = "maxy.pdf.generate";
+    public static final String PDF_SIZE = "maxy.pdf.document";
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String TIMEOUT = "timeout";
+
+    public static final String BYTES = "bytes";
+    public static final String ROWS = "rows";
+    private static final String SECONDS = "seconds";
+
+    private static final String[] NO_TAGS = {};
+    private static final int MAX_TAG_LENGTH = 200;
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    /**
+     * @param name  metric 이름 (ex. maxy.elastic.request)
+     * @param unit  seconds / bytes / rows
+     * @param tags  key, value 순서의 tag
+     * @param scale 노출 단위로 나눌 값 (seconds 는 1e9)
+     */
+    private record Series(String name, String unit, String[] tags, double scale, Histogram histogram) {
+    }
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<Map<String, Object>>> components = new ConcurrentHashMap<>();
+    private final int maxSeries;
+
+    public MaxyMetrics(@Value("${maxy.metrics.max-series:2000}") int maxSeries) {
+        this.maxSeries = maxSeries;
+    }
+
+    /**
+     * 시작 시각 (System.nanoTime) 부터 지금까지의 시간 기록
+     */
+    public void recordTime(String name, long startNanos, String... tags) {
+        get(name, SECONDS, tags).histogram().record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 크기 (bytes, rows 등) 기록. 음수는 (알 수 없는 크기) 기록하지 않는다.
+     */
+    public void recordSize(String name, String unit, long value, String... tags) {
+        if (value >= 0) {
+            get(name, unit, tags).histogram().record(value);
+        }
+    }
+
+    /**
+     * 시간 측정 시작. 종료 시 outcome tag 를 붙여 기록한다.
+     */
+    public Sample start(String name, String... tags) {
+        return new Sample(name, tags, System.nanoTime());
+    }
+
+    public final class Sample {
+        private final String name;
+        private final String[] tags;
+        private final long startNanos;
+
+        private Sample(String name, String[] tags, long startNanos) {
+            this.name = name;
+            this.tags = tags;
+            this.startNanos = startNanos;
+        }
+
+        public <T> T success(T value) {
+            stop(SUCCESS);
+            return value;
+        }
+
+        public void success() {
+            stop(SUCCESS);
+        }
+
+        public void error() {
+            stop(ERROR);
+        }
+
+        public void stop(Throwable e) {
+            stop(outcome(e));
+        }
+
+        public void stop(String outcome) {
+            String[] withOutcome = Arrays.copyOf(tags, tags.length + 2);
+            withOutcome[tags.length] = "outcome";
+            withOutcome[tags.length + 1] = outcome;
+            recordTime(name, startNanos, withOutcome);
+        }
+    }
+
+    private Series get(String name, String unit, String[] tags) {
+        if (tags == null) {
+            tags = NO_TAGS;
+        }
+        String key = key(name, tags);
+        Series found = series.get(key);
+        if (found != null) {
+            return found;
+        }
+        if (series.size() >= maxSeries) {
+            // tag 값이 너무 다양한 경우 (index 이름 등) series 가 무한히 늘지 않도록 합산
+            String[] overflow = {"overflow", "true"};
+            return series.computeIfAbsent(key(name, overflow), k -> {
+                log.warn("metric series limit ({}) reached: {}", maxSeries, name);
+                return newSeries(name, unit, overflow);
+            });
+        }
+        String[] copy = tags;
+        return series.computeIfAbsent(key, k -> newSeries(name, unit, copy));
+    }
+
+    private static Series newSeries(String name, String unit, String[] tags) {
+        String[] normalized = new String[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            String value = tags[i] == null ? "none" : tags[i];
+            normalized[i] = value.length() > MAX_TAG_LENGTH ? value.substring(0, MAX_TAG_LENGTH) : value;
+        }
+        boolean time = SECONDS.equals(unit);
+        return new Series(name, unit, normalized, time ? 1e9 : 1,
+                new Histogram(time ? Histogram.LATENCY_BOUNDS : Histogram.SIZE_BOUNDS));
+    }
+
+    private static String key(String name, String[] tags) {
+        StringBuilder key = new StringBuilder(name);
+        for (String tag : tags) {
+            key.append('\u0001').append(tag);
+        }
+        return key.toString();
+    }
+
+    /**
+     * 예외를 outcome tag 값으로 변환
+     */
+    public static String outcome(Throwable e) {
+        if (e == null) {
+            return SUCCESS;
+        }
+        // CompletionException, ResourceAccessException 등으로 감싸진 timeout 도 timeout 으로 본다
+        Throwable cause = e;
+        for (int depth = 0; cause != null && depth < 10; depth++) {
+            if (cause instanceof TimeoutException || cause instanceof SocketTimeoutException) {
+                return TIMEOUT;
+            }
+            cause = cause.getCause();
+        }
+        return ERROR;
+    }
+
+    /**
+     * index 목록을 날짜 부분을 뺀 pattern 으로 변환 (ex. maxy_app_total_log_20240101 → maxy_app_total_log_*)
+     *
+     * @param indices index 이름 또는 pattern
+     * @return 정렬된 pattern 목록 (',' 구분)
+     */
+    public static String indexPattern(String... indices) {
+        if (indices == null || indices.length == 0) {
+            return "none";
+        }
+        if (indices.length == 1) {
+            return patternOf(indices[0]);
+        }
+        Set<String> patterns = new TreeSet<>();
+        for (String index : indices) {
+            patterns.add(patternOf(index));
+        }
+        return String.join(",", patterns);
+    }
+
+    private static String patternOf(String index) {
+        if (index == null || index.isEmpty()) {
+            return "none";
+        }
+        int end = index.length();
+        if (index.charAt(end - 1) == '*') {
+            end--;
+        }
+        int digits = end;
+        while (digits > 0 && Character.isDigit(index.charAt(digits - 1))) {
+            digits--;
+        }
+        if (digits == end && end == index.length()) {
+            return index;
+        }
+        return index.substring(0, digits) + "*";
+    }
+
+    /**
+     * 호출한 업무 class 의 method (ex. DashboardService.getAllAnalysisData)
+     * <p>
+     * query family 가 지정되지 않은 {@code SearchRequest} 를 어느 화면의 조회인지 구분하는 데 사용한다.
+     */
+    public static String caller() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith("com.thinkm.maxy."))
+                .findFirst()
+                .map(f -> simpleName(f.getClassName()) + "." + methodName(f.getMethodName()))
+                .orElse("unknown"));
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int proxy = name.indexOf("$$");
+        return proxy > 0 ? name.substring(0, proxy) : name;
+    }
+
+    private static String methodName(String method) {
+        // lambda$getList$3 → getList
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', 7);
+            return end > 7 ? method.substring(7, end) : method;
+        }
+        return method;
+    }
+
+    /**
+     * Prometheus text format (0.0.4)
+     */
+    public String scrape() {
+        Map<String, List<Series>> byName = new TreeMap<>();
+        for (Series s : series.values()) {
+            byName.computeIfAbsent(prometheusName(s), k -> new ArrayList<>()).add(s);
+        }
+
+        StringBuilder sb = new StringBuilder(8192);
+        for (Map.Entry<String, List<Series>> entry : byName.entrySet()) {
+            String name = entry.getKey();
+            List<Series> list = entry.getValue();
+            list.sort(Comparator.comparing(s -> key(s.name(), s.tags())));
+
+            sb.append("# TYPE ").append(name).append(" histogram\n");
+            for (Series s : list) {
+                Histogram.Snapshot snapshot = s.histogram().snapshot();
+                long cumulative = 0;
+                for (int i = 0; i < snapshot.counts().length; i++) {
+                    cumulative += snapshot.counts()[i];
+                    String le = i < snapshot.bounds().length
+                            ? formatValue(snapshot.bounds()[i], s.scale())
+                            : "+Inf";
+                    sb.append(name).append("_bucket");
+                    appendLabels(sb, s.tags(), le);
+                    sb.append(' ').append(cumulative).append('\n');
+                }
+                sb.append(name).append("_sum");
+                appendLabels(sb, s.tags(), null);
+                sb.append(' ').append(formatValue(snapshot.sum(), s.scale())).append('\n');
+                sb.append(name).append("_count");
+                appendLabels(sb, s.tags(), null);
+                sb.append(' ').append(snapshot.count()).append('\n');
+            }
+            sb.append("# TYPE ").append(name).append("_max gauge\n");
+            for (Series s : list) {
+                sb.append(name).append("_max");
+                appendLabels(sb, s.tags(), null);
+                sb.append(' ').append(formatValue(s.histogram().snapshot().max(), s.scale())).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String prometheusName(Series s) {
+        return s.name().replace('.', '_').replace('-', '_') + "_" + s.unit();
+    }
+
+    private static String formatValue(long value, double scale) {
+        return scale == 1 ? Long.toString(value) : Double.toString(value / scale);
+    }
+
+    private static void appendLabels(StringBuilder sb, String[] tags, String le) {
+        if (tags.length == 0 && le == null) {
+            return;
+        }
+        sb.append('{');
+        for (int i = 0; i + 1 < tags.length; i += 2) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(tags[i]).append("=\"");
+            escape(sb, tags[i + 1]);
+            sb.append('"');
+        }
+        if (le != null) {
+            if (tags.length > 0) {
+                sb.append(',');
+            }
+            sb.append("le=\"").append(le).append('"');
+        }
+        sb.append('}');
+    }
+
+    private static void escape(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '"' -> sb.append("\\\"");
+                case '\n' -> sb.append("\\n");
+                default -> sb.append(c);
+            }
+        }
+    }
+
+    /**
+     * component 상태 조회 함수 등록 (ex. "elastic.pool" → elasticClient::getPoolStats)
+     */
+    public void register(String component, Supplier<Map<String, Object>> stats) {
+        components.put(component, stats);
+    }
+
+    /**
+     * 등록된 component 상태와 metric 요약
+     *
+     * @param component 조회할 component (null 이면 전체)
+     * @return component → 상태 Map, "metrics" → {@link #getStats()}
+     */
+    public Map<String, Object> snapshot(String component) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String name : new TreeSet<>(components.keySet())) {
+            if (component == null || name.equals(component)) {
+                result.put(name, componentStats(name));
+            }
+        }
+        if (component == null || "metrics".equals(component)) {
+            result.put("metrics", getStats());
+        }
+        return result;
+    }
+
+    private Object componentStats(String name) {
+        try {
+            return components.get(name).get();
+        } catch (Exception e) {
+            // 한 component 의 오류로 전체 조회가 실패하지 않도록 오류 메시지만 반환
+            log.warn("component stats failed. component: {}, message: {}", name, e.getMessage());
+            return Map.of("error", String.valueOf(e.getMessage()));
+        }
+    }
+
+    /**
+     * metric 별 series 요약 (시간은 ms)
+     *
+     * @return 이름 → [tag, count, mean, p50, p95, p99, max]
+     */
+    public Map<String, Object> getStats() {
+        Map<String, List<Map<String, Object>>> byName = new TreeMap<>();
+        for (Series s : series.values()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (int i = 0; i + 1 < s.tags().length; i += 2) {
+                item.put(s.tags()[i], s.tags()[i + 1]);
+            }
+            item.putAll(s.histogram().snapshot().toMap(s.scale() == 1 ? 1 : 1_000_000));
+            byName.computeIfAbsent(s.name() + (s.scale() == 1 ? "." + s.unit() : ".ms"), k -> new ArrayList<>()).add(item);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("series", series.size());
+        byName.forEach((name, list) -> {
+            list.sort(Comparator.comparing((Map<String, Object> m) -> (Long) m.get("count")).reversed());
+            result.put(name, list);
+        });
+        return result;
+    }
+}
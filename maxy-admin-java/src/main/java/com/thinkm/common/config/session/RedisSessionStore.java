@@ -0,0 +1,231 @@
+package com.thinkm.common.config.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thinkm.common.util.JsonUtil;
+import com.thinkm.maxy.vo.MaxyUser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 WAS 가 로그인 정보를 공유하기 위한 Redis session 저장소 (maxy.session-store.redis.enabled)
+ * <pre>
+ * - 로그인 시 MaxyUser 를 Redis 에 저장하고 임의의 token 을 cookie 로 내려준다.
+ * - 다른 WAS 로 들어온 요청은 {@link RedisSessionStoreFilter} 가 token 으로 조회하여 로컬 HttpSession 에 넣는다.
+ * - 조회 결과는 WAS 별로 near-cache-ms 동안 캐시하므로 Redis 조회는 token 당 그 주기에 한 번이다.
+ *   (로그아웃은 다른 WAS 에 최대 near-cache-ms 후 반영)
+ * - 조회할 때마다 만료 시간을 다시 설정한다. (sliding expire)
+ * </pre>
+ */
+@Slf4j
+@Component
+public class RedisSessionStore {
+
+    public static final String COOKIE_NAME = "_msid_";
+    // 로컬 HttpSession 에 저장하는 token attribute
+    public static final String TOKEN_ATTR = "maxySessionToken";
+
+    static final String KEY_PREFIX = "maxy:session:";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RedisTemplate<String, String> redisStringTemplate;
+    private final boolean enabled;
+    private final long timeoutSeconds;
+    private final Cache<String, Lookup> nearCache;
+
+    private final LongAdder nearHit = new LongAdder();
+    private final LongAdder redisRead = new LongAdder();
+    private final LongAdder redisError = new LongAdder();
+
+    /**
+     * @param token     session token
+     * @param user      저장된 사용자, 없거나 만료되었으면 null
+     * @param available Redis 조회 성공 여부 (false 이면 user 가 null 이어도 로그아웃으로 보지 않음)
+     */
+    public record Lookup(String token, MaxyUser user, boolean available) {
+    }
+
+    public RedisSessionStore(
+            RedisTemplate<String, String> redisStringTemplate,
+            @Value("${maxy.session-store.redis.enabled:false}") boolean enabled,
+            @Value("${maxy.session-store.redis.timeout-seconds:43200}") long timeoutSeconds,
+            @Value("${maxy.session-store.redis.near-cache-ms:5000}") long nearCacheMs,
+            @Value("${maxy.session-store.redis.near-cache-size:10000}") long nearCacheSize
+    ) {
+        this.redisStringTemplate = redisStringTemplate;
+        this.enabled = enabled;
+        this.timeoutSeconds = timeoutSeconds;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheSize)
+                .expireAfterWrite(nearCacheMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 로그인 사용자 저장. 새 token 을 발급한다.
+     *
+     * @param request  {@link HttpServletRequest}
+     * @param response {@link HttpServletResponse}
+     * @param user     로그인 사용자
+     */
+    public void save(HttpServletRequest request, HttpServletResponse response, MaxyUser user) {
+        if (!enabled) {
+            return;
+        }
+        // 이전 token (정보 수정 등으로 다시 저장하는 경우) 은 제거
+        String previous = getToken(request);
+        if (previous != null) {
+            delete(previous);
+        }
+        String token = newToken();
+        try {
+            redisStringTemplate.opsForValue().set(KEY_PREFIX + token, JsonUtil.toJson(user), timeoutSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            // 로컬 session 으로는 계속 사용 가능
+            redisError.increment();
+            log.error("session store save failed: {}", e.getMessage());
+            return;
+        }
+        nearCache.put(token, new Lookup(token, user, true));
+        request.getSession().setAttribute(TOKEN_ATTR, token);
+
+        Cookie cookie = new Cookie(COOKIE_NAME, token);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setPath(request.getContextPath() + "/");
+        response.addCookie(cookie);
+    }
+
+    /**
+     * 로그인 사용자 정보가 바뀌었을 때 (메뉴 권한 등) 현재 token 의 값을 교체
+     *
+     * @param request {@link HttpServletRequest}
+     * @param user    로그인 사용자
+     */
+    public void update(HttpServletRequest request, MaxyUser user) {
+        String token = enabled ? getToken(request) : null;
+        if (token == null || user == null) {
+            return;
+        }
+        try {
+            redisStringTemplate.opsForValue().set(KEY_PREFIX + token, JsonUtil.toJson(user), timeoutSeconds, TimeUnit.SECONDS);
+            nearCache.put(token, new Lookup(token, user, true));
+        } catch (Exception e) {
+            redisError.increment();
+            log.error("session store update failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 요청 cookie 의 token 으로 사용자 조회
+     *
+     * @param request {@link HttpServletRequest}
+     * @return 조회 결과, cookie 가 없으면 null
+     */
+    public Lookup find(HttpServletRequest request) {
+        String token = getToken(request);
+        return token == null ? null : find(token);
+    }
+
+    Lookup find(String token) {
+        Lookup cached = nearCache.getIfPresent(token);
+        if (cached != null) {
+            nearHit.increment();
+            return cached;
+        }
+        redisRead.increment();
+        try {
+            String key = KEY_PREFIX + token;
+            String json = redisStringTemplate.opsForValue().get(key);
+            MaxyUser user = null;
+            if (json != null) {
+                user = JsonUtil.readValue(json, MaxyUser.class);
+                redisStringTemplate.expire(key, timeoutSeconds, TimeUnit.SECONDS);
+            }
+            Lookup lookup = new Lookup(token, user, true);
+            nearCache.put(token, lookup);
+            return lookup;
+        } catch (Exception e) {
+            // 장애 시에는 캐시하지 않고 다음 요청에서 다시 조회
+            redisError.increment();
+            log.warn("session store read failed: {}", e.getMessage());
+            return new Lookup(token, null, false);
+        }
+    }
+
+    /**
+     * 로그아웃. 다른 WAS 는 near-cache 가 만료된 후 로그아웃된다.
+     *
+     * @param request  {@link HttpServletRequest}
+     * @param response {@link HttpServletResponse}
+     */
+    public void remove(HttpServletRequest request, HttpServletResponse response) {
+        if (!enabled) {
+            return;
+        }
+        String token = getToken(request);
+        if (token != null) {
+            delete(token);
+        }
+        Cookie cookie = new Cookie(COOKIE_NAME, "");
+        cookie.setMaxAge(0);
+        cookie.setPath(request.getContextPath() + "/");
+        response.addCookie(cookie);
+    }
+
+    private void delete(String token) {
+        nearCache.invalidate(token);
+        try {
+            redisStringTemplate.delete(KEY_PREFIX + token);
+        } catch (Exception e) {
+            redisError.increment();
+            log.error("session store remove failed: {}", e.getMessage());
+        }
+    }
+
+    static String getToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("nearCacheSize", nearCache.estimatedSize());
+        result.put("nearHit", nearHit.sum());
+        result.put("redisRead", redisRead.sum());
+        result.put("redisError", redisError.sum());
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+package com.thinkm.common.config.session;
+
+import com.thinkm.common.code.CommonCode;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+
+/**
+ * {@link RedisSessionStore} 와 로컬 HttpSession 동기화 (SessionFilter 보다 먼저 실행)
+ * <pre>
+ * - 로컬 session 에 로그인 정보가 없으면 (다른 WAS 에서 로그인) Redis 의 사용자로 채운다.
+ * - Redis 에서 사라졌으면 (다른 WAS 에서 로그아웃 / 만료) 로컬 session 의 로그인 정보도 제거한다.
+ * - Redis 장애 시에는 로컬 session 을 그대로 사용한다.
+ * </pre>
+ */
+public class RedisSessionStoreFilter extends OncePerRequestFilter {
+
+    private final RedisSessionStore store;
+
+    public RedisSessionStoreFilter(RedisSessionStore store) {
+        this.store = store;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !store.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        RedisSessionStore.Lookup lookup = store.find(request);
+        if (lookup != null && lookup.available()) {
+            HttpSession local = request.getSession(false);
+            Object localToken = local == null ? null : local.getAttribute(RedisSessionStore.TOKEN_ATTR);
+            if (lookup.user() == null) {
+                if (local != null && lookup.token().equals(localToken)) {
+                    local.removeAttribute(CommonCode.loginUserKey());
+                    local.removeAttribute(RedisSessionStore.TOKEN_ATTR);
+                }
+            } else if (local == null
+                    || !lookup.token().equals(localToken)
+                    || local.getAttribute(CommonCode.loginUserKey()) == null) {
+                HttpSession session = request.getSession();
+                session.setAttribute(CommonCode.loginUserKey(), lookup.user());
+                session.setAttribute(RedisSessionStore.TOKEN_ATTR, lookup.token());
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
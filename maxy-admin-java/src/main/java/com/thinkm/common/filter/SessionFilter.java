@@ -1,5 +1,7 @@
 package com.thinkm.common.filter;
 
+import com.thinkm.common.code.CommonCode;
+import com.thinkm.common.util.MenuPermission;
 import com.thinkm.maxy.vo.MaxyUser;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.cors.CorsUtils;
@@ -9,7 +11,8 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Collection;
+import java.util.Set;
 import java.util.function.Predicate;
 
 @Slf4j
@@ -17,11 +20,24 @@ public class SessionFilter implements Filter {
 
     // filter 통과할 패턴
     private static final String[] whiteList = {"/ln/", "/cmm/", "/djemalschrlghk.maxy", "/djemalsqlqjsqusrud.maxy", "/health.maxy"};
+    // 운영 상태 조회 (/health/*.maxy) : 관리자 로그인 또는 monitor-ips 에서만 허용
+    private static final String STATS_PREFIX = "/health/";
     // filter 무시할 서블릿 명
     private static final String[] ignoreList = {"/main.maxy", "/um/modifyUserInfo.maxy"};
     // 로그아웃 시킬 서블릿
     private static final String LOGOUT_URL = "/ln/doLogout.maxy";
 
+    // 로그인 없이 상태 조회를 허용할 IP (Prometheus scraper 등, remoteAddr 과 정확히 일치)
+    private final Set<String> monitorIps;
+
+    public SessionFilter() {
+        this(Set.of());
+    }
+
+    public SessionFilter(Collection<String> monitorIps) {
+        this.monitorIps = Set.copyOf(monitorIps);
+    }
+
     @Override
     public void doFilter(
             ServletRequest request,
@@ -50,48 +66,38 @@ public class SessionFilter implements Filter {
 
         // 로그인 유저 검증
         MaxyUser user = MaxyUser.getMaxyUserFromSessionInfo(req);
+
+        // 상태 조회는 경로가 /health/ 로 시작하는 경우만 (메뉴 URL 중간의 /health/ 는 해당 없음)
+        if (requestURI.startsWith(req.getContextPath() + STATS_PREFIX)) {
+            if (monitorIps.contains(IP) || (user != null && CommonCode.YN_YES.equals(user.getAdminYn()))) {
+                chain.doFilter(request, response);
+            } else {
+                log.warn("[DENIED]: {}, [IP]: {}", requestURI, IP);
+                res.sendError(HttpServletResponse.SC_FORBIDDEN);
+            }
+            return;
+        }
+
         if (user != null) {
             if (!requestURI.contains("getSessionInfo.maxy")) {
                 log.debug("[USER]: {}, [IP]: {}, [URI]:{}", user.getUserNo(), IP, requestURI);
             }
 
-            // `//` -> `/`
-            requestURI = requestURI.replaceAll("//", "/");
-
-            // `/` 로 split
-            String[] uriArray = requestURI.split("/");
+            // 요청 URI 의 menuId (ex. /db/0100/... -> DB0100)
+            long menuKey = MenuPermission.menuKey(requestURI);
 
             // 정상적인 URL 요청
-            if (uriArray.length > 3) {
-                // make menuId (ex. DB0100)
-                String menuId = (uriArray[1] + uriArray[2]).toUpperCase();
-                boolean isPass = false;
-
-                // 유저가 가지고 있는 메뉴 권한 목록
-                List<String> menus = user.getMenuIdList();
-                // loginUser 가 가지고 있는 메뉴 권한 목록 순회
-                for (String menu : menus) {
-                    // 메뉴 권한 비교
-                    if (menuId.equals(menu)) {
-                        isPass = true;
-                        break;
-                    }
-                }
-                // 권한이 없는 경우
-                if (!isPass) {
+            if (menuKey != MenuPermission.NOT_MENU_URL) {
+                // 권한이 없는 경우 (로그인 시 만들어 둔 메뉴 권한과 비교)
+                if (!user.getMenuPermission().contains(menuKey)) {
                     log.warn("[DENIED]: {}", requestURI);
-                    StringBuilder b = new StringBuilder();
-                    menus.forEach(p -> {
-                        b.append(p);
-                        b.append(", ");
-                    });
-                    log.warn("[MENUID]: {}", b);
+                    log.warn("[MENUID]: {}", user.getMenuIdList());
 
                     // 로그인 페이지로 이동
                     res.sendRedirect(LOGOUT_URL + "?denied=menu.denied");
                     return;
                 }
-            } else if (Arrays.stream(ignoreList).noneMatch(Predicate.isEqual(requestURI))) {
+            } else if (Arrays.stream(ignoreList).noneMatch(Predicate.isEqual(requestURI.replaceAll("//", "/")))) {
                 // main 제외
                 // 정상적이지 않은 URL
                 log.error("Invalid URL Type.");
@@ -3,12 +3,8 @@ package com.thinkm.common.util;
 import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.extern.slf4j.Slf4j;
 
-import javax.servlet.http.HttpServletResponse;
-import java.io.IOException;
-import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.*;
@@ -271,6 +267,16 @@ public class CommonUtil {
         return "\"" + str + "\"";
     }
 
+    /**
+     * 개행 문자 제거 (CSV 따옴표 처리는 CsvWriter 에서 한다)
+     */
+    public static String removeLineBreak(String str) {
+        if (str == null || str.isEmpty()) {
+            return "";
+        }
+        return str.replace("\n", "").replace("\r", "");
+    }
+
     /**
      * 현재 날짜 기반으로 한 Copyright 문자열 반환
      *
@@ -322,25 +328,6 @@ public class CommonUtil {
         return null != v && !v.trim().isEmpty();
     }
 
-
-    public static void writeCsvFile(HttpServletResponse response,
-                                    StringBuilder sb,
-                                    OutputStream outputStream,
-                                    String fileName,
-                                    String userAgent) throws IOException {
-        response.setContentType("text/csv");
-        response.setHeader("Content-type", "text/csv; charset=UTF-8");
-        response.setHeader("Content-Disposition", "attachment; filename=" + fileName);
-
-        if (userAgent.contains("Macintosh")) {
-            outputStream.write(sb.toString().getBytes(StandardCharsets.UTF_8));
-        } else {
-            outputStream.write(sb.toString().getBytes("euc-kr"));
-        }
-        outputStream.flush();
-        sb.setLength(0);
-    }
-
     /**
      * 밀리초(ms)를 사람이 읽을 수 있는 형식으로 변환합니다.
      *
@@ -0,0 +1,190 @@
+package com.thinkm.common.util;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 를 OutputStream 으로 바로 인코딩해서 쓰는 writer
+ * <pre>
+ * - 전체 CSV 를 String / byte[] 로 만들지 않고 고정 크기 buffer 를 재사용해 내보낸다.
+ * - 버퍼가 차면 OutputStream 으로 flush 되므로 export 크기와 무관하게 메모리 사용량이 일정하다.
+ * </pre>
+ */
+public class CsvWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final Charset EUC_KR = Charset.forName("euc-kr");
+
+    private final Writer writer;
+    private final String newLine;
+    // row / StringBuilder 복사용 buffer (재사용)
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position = 0;
+    private long rowCount = 0;
+
+    public CsvWriter(OutputStream outputStream, Charset charset) {
+        this(outputStream, charset, System.lineSeparator());
+    }
+
+    public CsvWriter(OutputStream outputStream, Charset charset, String newLine) {
+        this.writer = new OutputStreamWriter(outputStream, charset);
+        this.newLine = newLine;
+    }
+
+    /**
+     * 다운로드 응답 헤더를 설정하고 writer 생성
+     * <pre>
+     * - Macintosh: UTF-8
+     * - 그 외: EUC-KR (Excel 기본 인코딩)
+     * </pre>
+     *
+     * @param response  HttpServletResponse
+     * @param fileName  파일명 (.csv)
+     * @param userAgent user-agent header
+     * @return CsvWriter
+     */
+    public static CsvWriter open(HttpServletResponse response, String fileName, String userAgent) throws IOException {
+        boolean mac = userAgent != null && userAgent.contains("Macintosh");
+        Charset charset = mac ? StandardCharsets.UTF_8 : EUC_KR;
+        setHeader(response, encodeFileName(fileName, mac));
+        return new CsvWriter(response.getOutputStream(), charset);
+    }
+
+    /**
+     * UTF-8 BOM 을 붙인 writer 생성 (인코딩과 관계없이 Excel 에서 UTF-8 로 열림)
+     */
+    public static CsvWriter openWithBom(HttpServletResponse response, String fileName, String userAgent) throws IOException {
+        boolean mac = userAgent != null && userAgent.contains("Macintosh");
+        setHeader(response, encodeFileName(fileName, mac));
+        OutputStream outputStream = response.getOutputStream();
+        outputStream.write(0xEF);
+        outputStream.write(0xBB);
+        outputStream.write(0xBF);
+        return new CsvWriter(outputStream, StandardCharsets.UTF_8);
+    }
+
+    private static void setHeader(HttpServletResponse response, String fileName) {
+        response.setContentType("text/csv");
+        response.setHeader("Content-type", "text/csv; charset=UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=" + fileName);
+    }
+
+    private static String encodeFileName(String fileName, boolean mac) {
+        if (!fileName.contains(".csv") || mac) {
+            return URLEncoder.encode(fileName, StandardCharsets.UTF_8);
+        }
+        return new String(fileName.getBytes(EUC_KR), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 한 행 쓰기. ',' '"' 개행이 포함된 값은 따옴표로 감싼다.
+     *
+     * @param cells 값 목록 (null 은 빈 값)
+     */
+    public CsvWriter writeRow(String... cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                write(',');
+            }
+            writeCell(cells[i]);
+        }
+        return newLine();
+    }
+
+    /**
+     * 이미 CSV 형식으로 만들어진 내용을 그대로 쓴다.
+     */
+    public CsvWriter write(CharSequence csv) throws IOException {
+        if (csv instanceof StringBuilder sb) {
+            // toString() 복사 없이 buffer 크기만큼 나눠서 복사
+            int length = sb.length();
+            for (int offset = 0; offset < length; ) {
+                if (position == buffer.length) {
+                    flushBuffer();
+                }
+                int count = Math.min(buffer.length - position, length - offset);
+                sb.getChars(offset, offset + count, buffer, position);
+                position += count;
+                offset += count;
+            }
+        } else {
+            for (int i = 0, length = csv.length(); i < length; i++) {
+                write(csv.charAt(i));
+            }
+        }
+        return this;
+    }
+
+    public CsvWriter newLine() throws IOException {
+        rowCount++;
+        for (int i = 0; i < newLine.length(); i++) {
+            write(newLine.charAt(i));
+        }
+        return this;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    private void writeCell(String cell) throws IOException {
+        if (cell == null || cell.isEmpty()) {
+            return;
+        }
+        if (!needsQuote(cell)) {
+            write(cell);
+            return;
+        }
+        write('"');
+        for (int i = 0; i < cell.length(); i++) {
+            char c = cell.charAt(i);
+            if (c == '"') {
+                write('"');
+            }
+            write(c);
+        }
+        write('"');
+    }
+
+    static boolean needsQuote(String cell) {
+        for (int i = 0; i < cell.length(); i++) {
+            char c = cell.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write(char c) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = c;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            writer.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    public void flush() throws IOException {
+        flushBuffer();
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        writer.close();
+    }
+}
@@ -1,18 +1,21 @@
 package com.thinkm.common.util;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.io.CountingInputStream;
 import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.code.ReturnCode;
-import com.thinkm.common.config.ElasticConfig;
+import com.thinkm.common.config.metrics.MaxyMetrics;
 import com.thinkm.common.exception.BadRequestException;
 import com.thinkm.common.exception.NotFoundException;
+import com.thinkm.common.util.query.QueryTemplate;
+import com.thinkm.common.util.query.QueryTemplateRegistry;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
 import org.apache.http.nio.entity.NStringEntity;
-import org.apache.http.util.EntityUtils;
+import org.apache.http.pool.PoolStats;
 import org.jetbrains.annotations.NotNull;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.get.GetRequest;
@@ -20,6 +23,8 @@ import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.get.MultiGetRequest;
 import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
@@ -27,6 +32,9 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.client.*;
 import org.opensearch.client.core.MainResponse;
+import org.opensearch.client.indices.GetIndexRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -36,7 +44,11 @@ import java.io.*;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.util.*;
-import java.util.regex.Matcher;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import static com.thinkm.common.util.Elastic.*;
 
@@ -87,11 +99,13 @@ import static com.thinkm.common.util.Elastic.*;
 @RequiredArgsConstructor
 public class ElasticClient {
     private final RestHighLevelClient esClient;
-    /* 문자열 모음 */
-    // Double Quotes
-    private final String DQ = "\"";
-    private final String SQ = "'";
-    /* 문자열 모음 끝 */
+    // esClient 와 connection pool 을 공유하는 low level client
+    private final RestClient esRestClient;
+    private final PoolingNHttpClientConnectionManager esConnectionManager;
+    private final QueryTemplateRegistry queryTemplateRegistry;
+    private final ElasticExecutor elasticExecutor;
+    private final SearchCoalescer searchCoalescer;
+    private final MaxyMetrics maxyMetrics;
 
     /**
      * 객체가 비어있는지 판단
@@ -152,22 +166,6 @@ public class ElasticClient {
         return request;
     }
 
-    private static String getResultFromInputStream(InputStream is) throws IOException {
-        // 시스템 별 개행 문자
-        String newLine = System.lineSeparator();
-        // InputStream 을 BufferedReader 로 읽어들임
-        BufferedReader reader = new BufferedReader(new InputStreamReader(is));
-        StringBuilder result = new StringBuilder();
-        // 라인별로 추가
-        for (String line; (line = reader.readLine()) != null; ) {
-            if (!result.isEmpty()) {
-                result.append(newLine);
-            }
-            result.append(line);
-        }
-        return result.toString();
-    }
-
     /**
      * 필수 입력값 valid
      *
@@ -211,6 +209,10 @@ public class ElasticClient {
                     Map groupby = (Map) aggregations.get(GROUPBY);
                     // result > aggregations > groupby > buckets
                     result.put(RES, groupby.get(BUCKETS));
+                    // composite 인 경우 다음 페이지 조회를 위한 after_key
+                    if (groupby.get(AFTER_KEY) != null) {
+                        result.put(AFTER_KEY, groupby.get(AFTER_KEY));
+                    }
                 } else {
                     // result > aggregations > "[AGGREGATION NAME]"
 
@@ -352,6 +354,8 @@ public class ElasticClient {
     @NotNull
     public List<Map<String, Object>> getListMap(SearchRequest searchRequest) {
         List<Map<String, Object>> result = new ArrayList<>();
+        // IndexRouter 로 지정한 일별 index 중 없는 index 가 있어도 조회
+        setIndicesOptions(searchRequest);
         try {
             SearchResponse response = esClient.search(searchRequest, RequestOptions.DEFAULT);
             for (SearchHit hit : response.getHits()) {
@@ -374,8 +378,7 @@ public class ElasticClient {
     public Map<String, Object> get(Elastic elastic, boolean logging) throws Exception {
         String query = "";
 
-        // Closable RestClient 선언
-        try (RestClient restClient = ElasticConfig.initRestClient()) {
+        try {
 
             // elastic 검증
             valid(elastic);
@@ -397,11 +400,9 @@ public class ElasticClient {
             // JSON String 을 JSON 으로 변환하여 HttpEntity 로 생성
             Request request = getRequestByQuery(elastic, query);
 
-            // Request 발송 및 Response 받아옴
-            Response response = restClient.performRequest(request);
-
-            // 결과값의 Entity 를 Map 으로 변환하여 반환
-            Map<String, Object> resultMap = stringToMap(EntityUtils.toString(response.getEntity()));
+            // Request 발송 및 Response 를 읽으면서 필요한 값만 Map 으로 변환하여 반환
+            Map<String, Object> resultMap = performRequest(request, "search", elastic.getQueryFile(), indexOf(elastic),
+                    ElasticResponseReader::read);
 
             // logging 하는 경우
             if (logging) {
@@ -455,7 +456,8 @@ public class ElasticClient {
             searchRequest.source(searchSourceBuilder);
 
             // 검색 실행
-            SearchResponse searchResponse = esClient.search(searchRequest, RequestOptions.DEFAULT);
+            SearchResponse searchResponse = timed("get", MaxyMetrics.caller(), MaxyMetrics.indexPattern(index),
+                    () -> esClient.search(searchRequest, RequestOptions.DEFAULT));
 
             if (logging) {
                 log.debug(searchRequest.toString());
@@ -489,7 +491,8 @@ public class ElasticClient {
             GetRequest getRequest = new GetRequest(index, id);
 
             // GET 요청 수행
-            GetResponse getResponse = esClient.get(getRequest, RequestOptions.DEFAULT);
+            GetResponse getResponse = timed("get", MaxyMetrics.caller(), MaxyMetrics.indexPattern(index),
+                    () -> esClient.get(getRequest, RequestOptions.DEFAULT));
 
             if (logging) {
                 log.debug(getRequest.toString());
@@ -509,10 +512,12 @@ public class ElasticClient {
     }
 
     public Map<String, Object> get(String[] indexes, String id) {
+        String family = MaxyMetrics.caller();
         for (String index : indexes) {
             try {
                 GetRequest getRequest = new GetRequest(index, id);
-                GetResponse getResponse = esClient.get(getRequest, RequestOptions.DEFAULT);
+                GetResponse getResponse = timed("get", family, MaxyMetrics.indexPattern(index),
+                        () -> esClient.get(getRequest, RequestOptions.DEFAULT));
 
                 if (getResponse.isExists()) {
                     return getResponse.getSource();
@@ -540,8 +545,7 @@ public class ElasticClient {
     public Map<String, Object> getRaw(Elastic elastic, boolean logging) throws Exception {
         String query = "";
 
-        // Closable RestClient 선언
-        try (RestClient restClient = ElasticConfig.initRestClient()) {
+        try {
 
             // elastic 검증
             valid(elastic);
@@ -554,13 +558,10 @@ public class ElasticClient {
 
             long s1 = System.currentTimeMillis();
             // Request 발송 및 Response 받아옴
-            Response response = restClient.performRequest(request);
+            Map<String, Object> resultMap = performRequest(request, "search", elastic.getQueryFile(), indexOf(elastic),
+                    ElasticResponseReader::readRaw);
             long e1 = System.currentTimeMillis();
 
-            String entityStr = EntityUtils.toString(response.getEntity());
-            Map<String, Object> resultMap = JsonUtil.readValue(entityStr, new TypeReference<>() {
-            });
-
             // logging 하는 경우
             if (logging) {
                 log.debug("[elastic]: {}", elastic);
@@ -606,6 +607,8 @@ public class ElasticClient {
     public List<Map<String, Object>> get(List<Elastic> elasticList, boolean logging) throws Exception {
         StringBuilder querys = new StringBuilder();
         List<String> keyList = new ArrayList<>();
+        Set<String> queryFiles = new TreeSet<>();
+        List<String> indices = new ArrayList<>();
         for (Elastic elastic : elasticList) {
             try {
                 validMulti(elastic);
@@ -617,6 +620,8 @@ public class ElasticClient {
                         .append(query)
                         .append("\n");
                 keyList.add(elastic.getKey());
+                queryFiles.add(elastic.getQueryFile());
+                indices.add(elastic.getIndex());
             } catch (Exception e) {
                 log.error(e.getMessage(), e);
             }
@@ -624,15 +629,13 @@ public class ElasticClient {
 
         Request request = getRequestByMultiQuery(querys.toString());
 
-        // Closable RestClient 선언
-        try (RestClient restClient = ElasticConfig.initRestClient()) {
+        try {
 
             long s1 = System.currentTimeMillis();
-            // Request 발송 및 Response 받아옴
-            Response response = restClient.performRequest(request);
+            // Request 발송 및 Response 를 Map 으로 변환하여 반환
+            Map<String, Object> resultMap = performRequest(request, "msearch", String.join(",", queryFiles),
+                    MaxyMetrics.indexPattern(indices.toArray(new String[0])), ElasticResponseReader::readMulti);
             long e1 = System.currentTimeMillis();
-            // 결과값의 Entity 를 Map 으로 변환하여 반환
-            Map<String, Object> resultMap = stringToMap(EntityUtils.toString(response.getEntity()), true);
 
             // logging 하는 경우
             if (logging) {
@@ -672,228 +675,14 @@ public class ElasticClient {
     }
 
     /**
-     * JSON 파일을 경로에서 가져와 String 으로 반환
-     *
-     * @param path ClassPath 하위의 json 파일 경로
-     * @return JSON String
-     */
-    private String getJsonFileToString(String path) throws Exception {
-        // ClassPath 에서 리소스를 InputStream 으로 가져옴
-        try (InputStream is = getClass().getClassLoader().getResourceAsStream(path)) {
-            if (is != null) {
-                return getResultFromInputStream(is);
-            } else {
-                throw new FileNotFoundException("JSON file [" + path + "] not found in the classpath.");
-            }
-        } catch (Exception e) {
-            log.error(e.getMessage(), e);
-            throw new Exception(e.getMessage());
-        }
-    }
-
-    /**
-     * JSON 파일에서 쿼리를 가져와 매개변수들을 매핑
+     * 컴파일된 쿼리 템플릿에 매개변수들을 매핑
      *
      * @param elastic {@link Elastic}
      * @return 만들어진 쿼리
      */
     private String makeQuery(Elastic elastic) throws Exception {
-        // JSON 파일 가져오기
-        String query = getJsonFileToString("elastic" + File.separator + elastic.getQueryFile());
-
-        // 개행 제거
-        query = query.replaceAll("\n", " ");
-
-        // 동적 쿼리 파라미터 맵
-        Map<String, Boolean> dynamicParams = elastic.getDynamicParams();
-        // 쿼리 파라미터 맵
-        Map<String, Object> queryParams = elastic.getQueryParams();
-
-        // 동적 쿼리 변환
-        if (dynamicParams != null) {
-            // 동적 쿼리 변환
-            query = convertToDynamicQuery(query, dynamicParams);
-        }
-
-        // 매개변수 치환
-        if (queryParams != null) {
-            query = applyParamToQuery(query, queryParams);
-        }
-
-        // _sql 쿼리일 경우 `""" """` 템플릿 형식을 `" "` 일반적인 String 형태로 변경
-        query = query.replaceAll("\"\"\"", "\"");
-
-        // TODO: injection 방지 코드 필요
-        return query;
-    }
-
-    /**
-     * 변수를 쿼리에 적용
-     *
-     * @param query       json 쿼리
-     * @param queryParams 쿼리 파라미터 맵
-     * @return 적용된 쿼리
-     */
-    private String applyParamToQuery(String query, Map<String, Object> queryParams) {
-        String sep = DQ;
-        if (queryParams.containsKey("_isSql") && (boolean) queryParams.get("_isSql")) {
-            sep = SQ;
-        }
-
-        // KeySet
-        Set<String> queryParamNameSet = queryParams.keySet();
-        for (String key : queryParamNameSet) {
-            // `#{PARAM}` 에 해당하는 값을 쿼리 파라미터에서 가져와 대치
-            String value;
-            Object param = queryParams.get(key);
-            try {
-                // _raw 로 시작하는 key 면 quote 없이 inject
-                if (key.startsWith("_raw") || AFTER_KEY.equalsIgnoreCase(key)) {
-                    value = String.valueOf(param);
-                } else {
-                    // double 로 parsing 이 되면 해당 값만 넣기
-                    Double.parseDouble(String.valueOf(param));
-                    value = sep + param + sep;
-                }
-            } catch (Exception ignore) {
-                if (param == null || "".equals(param)) {
-                    // 빈값이거나 null 이면 공백 넣기
-                    value = sep + sep;
-                } else {
-                    // double 로 parsing 이 되지 않으면 `" "` 로 감싸기
-                    value = sep + param + sep;
-                }
-            }
-            query = query.replaceAll("#\\{" + key + "}", Matcher.quoteReplacement(value));
-        }
-        return query;
-    }
-
-    /**
-     * 동적쿼리 치환
-     *
-     * @param query         json 쿼리
-     * @param dynamicParams 동적 쿼리 맵
-     * @return 적용된 쿼리
-     */
-    private String convertToDynamicQuery(String query, Map<String, Boolean> dynamicParams) throws Exception {
-        // KeySet
-        Set<String> dynamicParamNameSet = dynamicParams.keySet();
-        try {
-            for (String key : dynamicParamNameSet) {
-                // #[KEY]
-                String sKey = "#[" + key + "]";
-                // #[/KEY]
-                String eKey = "#[/" + key + "]";
-                // #\\[KEY]
-                String sKeyRgx = "#\\[" + key + "]";
-                // #\\[/KEY]
-                String eKeyRgx = "#\\[/" + key + "]";
-
-                // 바꿀 내용이 없으면 다음 키 검색
-                if (!query.contains(sKey) || !query.contains(eKey)) {
-                    continue;
-                }
-
-                if (dynamicParams.get(key)) {
-                    // dynamicParams 를 사용하는 경우
-                    query = query.replaceAll(sKeyRgx, "").replaceAll(eKeyRgx, "");
-                } else {
-                    // dynamicParams 를 사용하지 않는 경우
-                    while (query.contains(sKey) || query.contains(eKey)) {
-                        String tmp = query.substring(0, query.indexOf(sKey));
-                        tmp += query.substring(query.indexOf(eKey) + eKey.length());
-                        query = tmp;
-                    }
-                }
-            }
-            //noinspection RegExpRedundantEscape,RegExpUnnecessaryNonCapturingGroup
-            String removeKey = "\\#\\[(?:[\\s\\S]*?)\\](?:[\\s\\S]*?)\\#\\[\\/(?:[\\s\\S]*?)\\]";
-            query = query.replaceAll(removeKey, "");
-
-        } catch (Exception e) {
-            log.error("Dynamic Parameter Grammar Error. check the JSON.");
-            log.warn(query);
-            throw new Exception(e);
-        }
-        if (query.contains("#[")) {
-            log.warn("Query substitution was not done correctly.");
-            log.warn(dynamicParams.toString());
-            log.warn(query);
-        }
-        return query;
-    }
-
-    /**
-     * JSON String 형식의 값을 Map 으로 변환하여 반환
-     *
-     * @param str JSON String
-     * @return 결과 Map
-     */
-    private Map<String, Object> stringToMap(String str) {
-        return stringToMap(str, false);
-    }
-
-    /**
-     * JSON String 형식의 값을 Map 으로 변환하여 반환
-     *
-     * @param str JSON String
-     * @return 결과 Map
-     */
-    private Map<String, Object> stringToMap(String str, boolean raw) {
-        try {
-            // JSON 형식 String 을 Map 으로 변환
-            Map<String, Object> queryResult
-                    = JsonUtil.readValue(str, new TypeReference<>() {
-            });
-
-            if (raw) {
-                return queryResult;
-            } else {
-                // 필요한 값 추출하여 반환
-                return parser(queryResult);
-            }
-        } catch (Exception ignore) {
-            // JSON 파싱이 안되는 경우는 SQL 쿼리인 경우
-            return Collections.singletonMap(RES, stringToList(str));
-        }
-    }
-
-    /**
-     * 파이프 문자(|)로 구분되는 sql 쿼리 결과물을 List<Map> 으로 반환
-     *
-     * @param str 쿼리 결과물
-     * @return 리스트 맵
-     */
-    private List<?> stringToList(String str) {
-        List<Map<String, Object>> result = new ArrayList<>();
-        // | 간의 공백 제거
-        str = str.replaceAll("(\\s*\\|\\s*)", "|");
-        // 개행 전의 공백 제거
-        str = str.replaceAll("(\\s*?\\n)", "\n");
-
-        // 개행 단위로 split
-        String[] array = str.split("\n");
-        if (array.length < 3) {
-            return null;
-        }
-
-        // 첫 번째 라인: key ( | 로 split)
-        String[] keys = array[0].replaceAll("\\s", "").split("\\|");
-
-        // 두 번째 라인: separator (사용하지 않음)
-
-        // 세 번째 라인 ~ 끝까지: 데이터 ( | 로 split 하여 각각의 key 에 넣어 Map 으로 변환)
-        for (int i = 2; i < array.length; i++) {
-            Map<String, Object> tmpMap = new HashMap<>();
-
-            String[] data = array[i].split("\\|");
-            for (int j = 0; j < keys.length; j++) {
-                tmpMap.put(keys[j], data[j]);
-            }
-            result.add(tmpMap);
-        }
-        return result;
+        QueryTemplate template = queryTemplateRegistry.get(elastic.getQueryFile());
+        return template.render(elastic.getQueryParams(), elastic.getDynamicParams());
     }
 
     /**
@@ -987,7 +776,6 @@ public class ElasticClient {
     }
 
     public MainResponse info() throws Exception {
-        // Closable RestClient 선언
         try {
             // Elasticsearch 서버 정보 조회
             return esClient.info(RequestOptions.DEFAULT);
@@ -997,16 +785,134 @@ public class ElasticClient {
         }
     }
 
+    /**
+     * pattern 에 해당하는 실제 index 이름 조회
+     *
+     * @param patterns index pattern (ex. maxy_app_total_log_*)
+     * @return index 이름 목록
+     */
+    public Set<String> getIndexNames(String... patterns) throws IOException {
+        GetIndexRequest request = new GetIndexRequest(patterns)
+                .indicesOptions(IndicesOptions.lenientExpandOpen());
+        return new HashSet<>(Arrays.asList(timed("indices", MaxyMetrics.caller(), MaxyMetrics.indexPattern(patterns),
+                () -> esClient.indices().get(request, RequestOptions.DEFAULT)).getIndices()));
+    }
+
+    /**
+     * Point In Time 생성. PIT 를 지원하지 않거나 실패하면 null
+     *
+     * @param keepAlive PIT 유지 시간
+     * @param indices   대상 index
+     * @return PIT id
+     */
+    public String openPit(TimeValue keepAlive, String... indices) {
+        try {
+            CreatePitRequest request = new CreatePitRequest(keepAlive, true, indices);
+            request.setIndicesOptions(IndicesOptions.lenientExpandOpen());
+            return timed("pit", MaxyMetrics.caller(), MaxyMetrics.indexPattern(indices),
+                    () -> esClient.createPit(request, RequestOptions.DEFAULT)).getId();
+        } catch (Exception e) {
+            log.warn("create pit failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void closePit(String pitId) {
+        if (pitId == null) {
+            return;
+        }
+        try {
+            esClient.deletePit(new DeletePitRequest(pitId), RequestOptions.DEFAULT);
+        } catch (Exception e) {
+            // keepAlive 이후 자동 삭제됨
+            log.debug("delete pit failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * PIT 검색. PIT 요청은 index / indicesOptions 를 지정할 수 없고 결과가 요청마다 다르므로 coalesce 하지 않는다.
+     *
+     * @param searchRequest pointInTimeBuilder 가 설정된 SearchRequest
+     * @return SearchResponse
+     * @throws IOException PIT 만료 등 검색 실패
+     */
+    public SearchResponse searchPit(SearchRequest searchRequest) throws IOException {
+        return timed("search", MaxyMetrics.caller(), "pit", () -> esClient.search(searchRequest, RequestOptions.DEFAULT));
+    }
+
+    /**
+     * OpenSearch connection pool 상태 조회
+     *
+     * @return 전체 및 route 별 leased / pending / available / max, asyncRejected
+     */
+    public Map<String, Object> getPoolStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("total", poolStatsToMap(esConnectionManager.getTotalStats()));
+
+        Map<String, Object> routes = new LinkedHashMap<>();
+        esConnectionManager.getRoutes()
+                .forEach(route -> routes.put(route.getTargetHost().toHostString(),
+                        poolStatsToMap(esConnectionManager.getStats(route))));
+        result.put("routes", routes);
+        // async 응답 처리 pool 이 가득 차서 실패로 완료된 요청 수
+        result.put("asyncRejected", elasticExecutor.getRejectedCount());
+        return result;
+    }
+
+    private static Map<String, Object> poolStatsToMap(PoolStats stats) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        // 사용 중인 connection 수
+        result.put("leased", stats.getLeased());
+        // connection 획득을 대기 중인 요청 수
+        result.put("pending", stats.getPending());
+        // 재사용 가능한 idle connection 수
+        result.put("available", stats.getAvailable());
+        result.put("max", stats.getMax());
+        return result;
+    }
+
+    private static void setIndicesOptions(SearchRequest searchRequest) {
+        searchRequest.indicesOptions(IndicesOptions
+                .fromOptions(
+                        /* ignoreUnavailable */ true,
+                        /* allowNoIndices    */ true,
+                        /* expandToOpen      */ true,
+                        /* expandToClosed    */ false
+                ));
+    }
+
     public SearchResponse get(SearchRequest searchRequest, boolean logging) {
+        return get(searchRequest, null, logging);
+    }
+
+    public SearchResponse get(SearchRequest searchRequest) {
+        return get(searchRequest, null, false);
+    }
+
+    /**
+     * {@link SearchRequest} 요청. 동일한 요청이 진행 중이거나 family 캐시에 있으면 결과를 공유한다.
+     *
+     * @param searchRequest {@link SearchRequest}
+     * @param family        query family ({@link SearchCoalescer} 캐시 시간 설정 key, nullable)
+     * @return SearchResponse, 실패 시 null
+     */
+    public SearchResponse get(SearchRequest searchRequest, String family) {
+        return get(searchRequest, family, false);
+    }
+
+    public SearchResponse get(SearchRequest searchRequest, String family, boolean logging) {
+        setIndicesOptions(searchRequest);
+        String metricFamily = metricFamily(family);
+        return searchCoalescer.coalesce(searchRequest, family,
+                        () -> CompletableFuture.completedFuture(search(searchRequest, metricFamily, logging)))
+                .handle((response, e) -> e == null ? response : null)
+                .join();
+    }
+
+    private SearchResponse search(SearchRequest searchRequest, String family, boolean logging) {
         try {
-            searchRequest.indicesOptions(IndicesOptions
-                    .fromOptions(
-                            /* ignoreUnavailable */ true,
-                            /* allowNoIndices    */ true,
-                            /* expandToOpen      */ true,
-                            /* expandToClosed    */ false
-                    ));
-            SearchResponse response = esClient.search(searchRequest, RequestOptions.DEFAULT);
+            SearchResponse response = timed("search", family, MaxyMetrics.indexPattern(searchRequest.indices()),
+                    () -> esClient.search(searchRequest, RequestOptions.DEFAULT));
 
             if (logging) {
                 log.debug(searchRequest.toString());
@@ -1021,13 +927,180 @@ public class ElasticClient {
         }
     }
 
-    public SearchResponse get(SearchRequest searchRequest) {
-        return get(searchRequest, false);
+    /**
+     * {@link SearchRequest} 를 비동기로 요청
+     * <p>
+     * 응답은 I/O thread 가 아닌 {@link ElasticExecutor} 에서 완료되며,
+     * {@link ElasticExecutor#getTimeoutMs()} 가 지나면 TimeoutException 으로 완료된다.
+     * 동일한 요청이 진행 중이면 그 결과를 공유한다.
+     *
+     * @param searchRequest {@link SearchRequest}
+     * @return SearchResponse future
+     */
+    public CompletableFuture<SearchResponse> searchAsync(SearchRequest searchRequest) {
+        return searchAsync(searchRequest, null);
+    }
+
+    public CompletableFuture<SearchResponse> searchAsync(SearchRequest searchRequest, String family) {
+        setIndicesOptions(searchRequest);
+        String metricFamily = metricFamily(family);
+        return searchCoalescer.coalesce(searchRequest, family, () -> sendAsync(searchRequest, metricFamily));
+    }
+
+    /**
+     * @param metricFamily metric 의 family tag ({@link #metricFamily})
+     */
+    CompletableFuture<SearchResponse> sendAsync(SearchRequest searchRequest, String metricFamily) {
+        MaxyMetrics.Sample sample = maxyMetrics.start(MaxyMetrics.ELASTIC,
+                "op", "search", "family", metricFamily, "index", MaxyMetrics.indexPattern(searchRequest.indices()));
+        CompletableFuture<SearchResponse> future = new CompletableFuture<>();
+        Cancellable cancellable = esClient.searchAsync(searchRequest, RequestOptions.DEFAULT, ActionListener.wrap(
+                response -> elasticExecutor.execute(future, () -> future.complete(response)),
+                e -> {
+                    log.error(e.getMessage(), e);
+                    log.warn(searchRequest.toString());
+                    future.completeExceptionally(e);
+                }));
+        future.whenComplete((response, e) -> sample.stop(e));
+        return abortOnCancel(future, cancellable);
+    }
+
+    /**
+     * 여러 {@link SearchRequest} 를 하나의 _msearch 로 보내는 batch 생성
+     *
+     * @return {@link SearchBatch}
+     */
+    public SearchBatch newBatch() {
+        return new SearchBatch(this);
+    }
+
+    CompletableFuture<SearchResponse> coalesce(SearchRequest searchRequest, String family,
+                                               Supplier<CompletableFuture<SearchResponse>> loader) {
+        setIndicesOptions(searchRequest);
+        return searchCoalescer.coalesce(searchRequest, family, loader);
+    }
+
+    /**
+     * @param metricFamilies 요청별 metric family tag. 각 요청의 시간은 _msearch 전체 시간으로 기록한다.
+     */
+    CompletableFuture<MultiSearchResponse> msearchAsync(MultiSearchRequest searchRequest, List<String> metricFamilies) {
+        searchRequest.requests().forEach(ElasticClient::setIndicesOptions);
+        long start = System.nanoTime();
+        CompletableFuture<MultiSearchResponse> future = new CompletableFuture<>();
+        Cancellable cancellable = esClient.msearchAsync(searchRequest, RequestOptions.DEFAULT, ActionListener.wrap(
+                response -> elasticExecutor.execute(future, () -> future.complete(response)),
+                e -> {
+                    log.error(e.getMessage(), e);
+                    future.completeExceptionally(e);
+                }));
+        future.whenComplete((response, e) -> {
+            List<SearchRequest> requests = searchRequest.requests();
+            for (int i = 0; i < requests.size(); i++) {
+                String outcome = MaxyMetrics.outcome(e);
+                if (e == null && i < response.getResponses().length && response.getResponses()[i].isFailure()) {
+                    outcome = MaxyMetrics.ERROR;
+                }
+                maxyMetrics.recordTime(MaxyMetrics.ELASTIC, start,
+                        "op", "msearch",
+                        "family", i < metricFamilies.size() ? metricFamilies.get(i) : "unknown",
+                        "index", MaxyMetrics.indexPattern(requests.get(i).indices()),
+                        "outcome", outcome);
+            }
+        });
+        return abortOnCancel(future, cancellable);
+    }
+
+    /**
+     * metric 의 family tag. 지정된 family 가 없으면 호출한 업무 method (ex. DashboardService.getAllAnalysisData)
+     * <p>
+     * 비동기 요청은 응답 thread 에서 호출자를 알 수 없으므로 요청 thread 에서 미리 구한다.
+     */
+    static String metricFamily(String family) {
+        return family != null ? family : MaxyMetrics.caller();
+    }
+
+    /**
+     * JSON Query 를 비동기로 요청. 결과는 {@link #get(Elastic)} 과 같은 형태
+     *
+     * @param elastic {method, endpoint, queryFile, requestParams, queryParams}
+     * @return 결과 Map future
+     */
+    public CompletableFuture<Map<String, Object>> performRequestAsync(Elastic elastic) {
+        CompletableFuture<Map<String, Object>> future = new CompletableFuture<>();
+        String index = indexOf(elastic);
+        MaxyMetrics.Sample sample = maxyMetrics.start(MaxyMetrics.ELASTIC,
+                "op", "search", "family", elastic.getQueryFile(), "index", index);
+        Cancellable cancellable = null;
+        try {
+            valid(elastic);
+            Request request = getRequestByQuery(elastic, makeQuery(elastic));
+            cancellable = esRestClient.performRequestAsync(request, new ResponseListener() {
+                @Override
+                public void onSuccess(Response response) {
+                    // 응답 parsing 은 I/O thread 가 아닌 pool 에서 수행
+                    elasticExecutor.execute(future, () -> {
+                        try (CountingInputStream is = new CountingInputStream(response.getEntity().getContent())) {
+                            future.complete(ElasticResponseReader.read(is));
+                            maxyMetrics.recordSize(MaxyMetrics.ELASTIC_RESPONSE, MaxyMetrics.BYTES, is.getCount(),
+                                    "op", "search", "family", elastic.getQueryFile(), "index", index);
+                        } catch (Exception e) {
+                            future.completeExceptionally(e);
+                        }
+                    });
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.error(e.getMessage(), e);
+                    log.debug(elastic.toString());
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            future.completeExceptionally(e);
+        }
+        future.whenComplete((result, e) -> sample.stop(e));
+        return abortOnCancel(future, cancellable);
+    }
+
+    /**
+     * timeout 을 걸고, timeout 이나 cancel 로 끝나면 진행 중인 HTTP 요청도 중단한다. (connection 반환)
+     * <p>
+     * 반환된 future 를 cancel 하면 요청이 중단되도록 원래 future 를 반환한다.
+     *
+     * @param cancellable 요청을 보내지 못한 경우 null
+     */
+    private <T> CompletableFuture<T> abortOnCancel(CompletableFuture<T> future, Cancellable cancellable) {
+        future.orTimeout(elasticExecutor.getTimeoutMs(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, e) -> {
+                    if (cancellable != null && (e instanceof TimeoutException || e instanceof CancellationException)) {
+                        cancellable.cancel();
+                    }
+                });
+        return future;
+    }
+
+    /**
+     * 비동기 요청 결과를 기다림. 실패하거나 시간이 초과되면 fallback 반환
+     *
+     * @param future   {@link #searchAsync}, {@link #performRequestAsync} 의 결과
+     * @param fallback 실패 시 반환 값
+     * @return 결과 또는 fallback
+     */
+    public <T> T join(CompletableFuture<T> future, T fallback) {
+        return elasticExecutor.join(future, fallback);
     }
 
     public MultiSearchResponse get(MultiSearchRequest searchRequest, boolean logging) {
+        // 날짜별 index 로 routing 된 요청은 없는 index 가 있을 수 있으므로 항목마다 적용
+        searchRequest.requests().forEach(ElasticClient::setIndicesOptions);
         try {
-            MultiSearchResponse response = esClient.msearch(searchRequest, RequestOptions.DEFAULT);
+            String index = MaxyMetrics.indexPattern(searchRequest.requests().stream()
+                    .flatMap(r -> Arrays.stream(r.indices()))
+                    .toArray(String[]::new));
+            MultiSearchResponse response = timed("msearch", MaxyMetrics.caller(), index,
+                    () -> esClient.msearch(searchRequest, RequestOptions.DEFAULT));
 
             if (logging) {
                 log.debug(searchRequest.toString());
@@ -1048,7 +1121,8 @@ public class ElasticClient {
 
     public void add(IndexRequest indexRequest) {
         try {
-            esClient.index(indexRequest, RequestOptions.DEFAULT);
+            timed("index", MaxyMetrics.caller(), MaxyMetrics.indexPattern(indexRequest.index()),
+                    () -> esClient.index(indexRequest, RequestOptions.DEFAULT));
         } catch (IOException e) {
             log.error("add fail: {}: {}", indexRequest.toString(), e.getMessage(), e);
         }
@@ -1056,7 +1130,8 @@ public class ElasticClient {
 
     public void delete(DeleteRequest deleteRequest) {
         try {
-            esClient.delete(deleteRequest, RequestOptions.DEFAULT);
+            timed("delete", MaxyMetrics.caller(), MaxyMetrics.indexPattern(deleteRequest.index()),
+                    () -> esClient.delete(deleteRequest, RequestOptions.DEFAULT));
         } catch (IOException e) {
             log.error("delete fail: {}: {}", deleteRequest.toString(), e.getMessage(), e);
         }
@@ -1064,12 +1139,69 @@ public class ElasticClient {
 
     public MultiGetResponse mget(MultiGetRequest multiGetRequest) {
         try {
-            return esClient.mget(multiGetRequest, RequestOptions.DEFAULT);
+            String index = MaxyMetrics.indexPattern(multiGetRequest.getItems().stream()
+                    .map(MultiGetRequest.Item::index)
+                    .toArray(String[]::new));
+            return timed("mget", MaxyMetrics.caller(), index, () -> esClient.mget(multiGetRequest, RequestOptions.DEFAULT));
         } catch (IOException e) {
             log.error(e.getMessage(), e);
             log.warn(multiGetRequest.toString());
             return null;
         }
     }
+
+    @FunctionalInterface
+    private interface ElasticCall<T> {
+        T call() throws IOException;
+    }
+
+    /**
+     * OpenSearch 호출 시간을 op / family / index / outcome tag 로 기록
+     */
+    private <T> T timed(String op, String family, String index, ElasticCall<T> call) throws IOException {
+        MaxyMetrics.Sample sample = maxyMetrics.start(MaxyMetrics.ELASTIC, "op", op, "family", family, "index", index);
+        try {
+            return sample.success(call.call());
+        } catch (IOException | RuntimeException e) {
+            sample.stop(e);
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseReader {
+        Map<String, Object> read(InputStream content) throws IOException;
+    }
+
+    /**
+     * low level client 요청. 응답을 읽는 시간까지 기록하고 응답 크기를 bytes distribution 으로 기록한다.
+     *
+     * @param reader {@link ElasticResponseReader} 의 read / readRaw / readMulti
+     */
+    private Map<String, Object> performRequest(Request request, String op, String family, String index,
+                                               ResponseReader reader) throws IOException {
+        return timed(op, family, index, () -> {
+            Response response = esRestClient.performRequest(request);
+            try (CountingInputStream is = new CountingInputStream(response.getEntity().getContent())) {
+                Map<String, Object> resultMap = reader.read(is);
+                maxyMetrics.recordSize(MaxyMetrics.ELASTIC_RESPONSE, MaxyMetrics.BYTES, is.getCount(),
+                        "op", op, "family", family, "index", index);
+                return resultMap;
+            }
+        });
+    }
+
+    /**
+     * {@link Elastic} 의 index pattern. index 가 없으면 endpoint 의 첫 경로
+     */
+    private static String indexOf(Elastic elastic) {
+        String index = elastic.getIndex();
+        if ((index == null || index.isBlank()) && elastic.getEndpoint() != null) {
+            String endpoint = elastic.getEndpoint().startsWith("/") ? elastic.getEndpoint().substring(1) : elastic.getEndpoint();
+            int slash = endpoint.indexOf('/');
+            index = slash > 0 ? endpoint.substring(0, slash) : endpoint;
+        }
+        return MaxyMetrics.indexPattern(index);
+    }
 }
 
@@ -0,0 +1,132 @@
+package com.thinkm.common.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OpenSearch 비동기 요청 결과 처리 및 fan-out 전용 thread pool
+ * <p>
+ * common ForkJoin pool 이나 Tomcat request thread 와 분리하기 위해 별도의 bounded pool 을 사용한다.
+ * 큐가 가득 찬 경우 호출한 thread (HTTP I/O reactor 일 수 있음) 에서 실행하지 않고 거부한다. (AbortPolicy)
+ * <p>
+ * Executor bean 으로 등록하면 Spring 의 기본 @Async executor 를 대체하므로 bean 으로 노출하지 않는다.
+ */
+@Slf4j
+@Component
+public class ElasticExecutor {
+
+    @Value("${spring.elasticsearch.rest.async.core-size:8}")
+    private int coreSize;
+    @Value("${spring.elasticsearch.rest.async.max-size:32}")
+    private int maxSize;
+    @Value("${spring.elasticsearch.rest.async.queue-capacity:256}")
+    private int queueCapacity;
+    /**
+     * fan-out 된 요청 하나를 기다리는 최대 시간 (ms)
+     */
+    @Getter
+    @Value("${spring.elasticsearch.rest.async.timeout-ms:30000}")
+    private long timeoutMs;
+
+    @Getter
+    private ThreadPoolExecutor executor;
+
+    // pool 이 가득 차서 거부된 작업 수
+    private final LongAdder rejectedCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                coreSize,
+                Math.max(coreSize, maxSize),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "elastic-async-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("OpenSearch async executor: coreSize={}, maxSize={}, queueCapacity={}, timeoutMs={}",
+                coreSize, executor.getMaximumPoolSize(), queueCapacity, timeoutMs);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * I/O thread 에서 받은 응답의 후속 처리를 pool 에서 실행. pool 이 가득 차면 future 를 실패로 완료한다.
+     *
+     * @param future 처리 결과를 받을 future
+     * @param task   future 를 완료하는 작업
+     */
+    public void execute(CompletableFuture<?> future, Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("OpenSearch async executor rejected: active={}, queue={}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            future.completeExceptionally(e);
+        }
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 기본 timeout 까지 결과를 기다리고, 실패하거나 시간이 초과되면 fallback 반환
+     *
+     * @param future   결과 future
+     * @param fallback 실패 시 반환 값
+     * @return 결과 또는 fallback
+     */
+    public <T> T join(CompletableFuture<T> future, T fallback) {
+        return join(future, timeoutMs, fallback);
+    }
+
+    /**
+     * deadline 까지 결과를 기다리고, 실패하거나 시간이 초과되면 fallback 반환
+     *
+     * @param future    결과 future
+     * @param timeoutMs 최대 대기 시간 (ms)
+     * @param fallback  실패 시 반환 값
+     * @return 결과 또는 fallback
+     */
+    public <T> T join(CompletableFuture<T> future, long timeoutMs, T fallback) {
+        try {
+            T result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            return result == null ? fallback : result;
+        } catch (TimeoutException e) {
+            // 진행 중인 HTTP 요청도 중단 (ElasticClient 의 async 요청)
+            future.cancel(true);
+            log.warn("OpenSearch async request timeout: {}ms", timeoutMs);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("OpenSearch async request failed: {}", e.getCause().toString());
+        }
+        return fallback;
+    }
+}
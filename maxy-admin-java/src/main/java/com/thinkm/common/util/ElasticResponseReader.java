@@ -0,0 +1,266 @@
+package com.thinkm.common.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static com.thinkm.common.util.Elastic.*;
+
+/**
+ * OpenSearch 응답 InputStream 을 streaming 으로 읽어 {@link ElasticClient#parser(Map)} 가 사용하는 형태로 변환
+ * <p>
+ * 응답 전체를 String 으로 읽은 뒤 Map 으로 변환하지 않고, token 단위로 읽으면서 결과에 필요한 값만 보관한다.
+ * <pre>
+ * hits.hits[]       : _id, _source, fields 만 보관 (_index, _score, sort 등은 skip)
+ * aggregations.{n}  : buckets, value(s), after_key, doc_count_error_upper_bound, sum_other_doc_count 만 보관
+ * 그 외 최상위 필드 : 그대로 보관 (count, took 등)
+ * </pre>
+ * _msearch 응답은 responses[] 의 각 응답을 같은 기준으로 추출한다. ({@link #readMulti})
+ * JSON 이 아닌 응답(format=txt 의 SQL 결과)은 파이프(|) 구분 텍스트로 간주하여 라인 단위로 읽는다.
+ */
+@Slf4j
+@UtilityClass
+public class ElasticResponseReader {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<Object> OBJECT_TYPE = new TypeReference<>() {
+    };
+    private static final Set<String> AGGREGATION_FIELDS = Set.of(
+            BUCKETS, VALUE, VALUES, AFTER_KEY, DOC_COUNT_ERROR_UPPER_BOUND, SUM_OTHER_DOC_COUNT);
+
+    /**
+     * 응답을 읽어 필요한 값만 추출한 Map 반환
+     *
+     * @param content 응답 InputStream
+     * @return 추출 처리된 Map
+     */
+    public static Map<String, Object> read(InputStream content) throws IOException {
+        BufferedInputStream is = new BufferedInputStream(content);
+        if (!isJson(is)) {
+            // JSON 이 아닌 경우는 SQL 쿼리인 경우
+            return Collections.singletonMap(RES, readPipeText(is));
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(is)) {
+            return ElasticClient.parser(readTopLevel(parser));
+        }
+    }
+
+    /**
+     * _msearch 응답을 읽어 responses[] 의 각 응답에서 필요한 값만 추출
+     * ({@link ElasticClient#parser(Map)} 는 호출하는 쪽에서 응답별로 적용)
+     *
+     * @param content 응답 InputStream
+     * @return {responses: [추출된 응답 Map, ...], took, ...}
+     */
+    public static Map<String, Object> readMulti(InputStream content) throws IOException {
+        Map<String, Object> result = new HashMap<>();
+        try (JsonParser parser = JsonUtil.createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return result;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("responses".equals(name) && token == JsonToken.START_ARRAY) {
+                    List<Map<String, Object>> responses = new ArrayList<>();
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        responses.add(readResponse(parser));
+                    }
+                    result.put(name, responses);
+                } else {
+                    result.put(name, JsonUtil.readValue(parser, OBJECT_TYPE));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 응답을 가공하지 않고 Map 으로 반환 (String 으로 읽지 않음)
+     *
+     * @param content 응답 InputStream
+     * @return 응답 Map
+     */
+    public static Map<String, Object> readRaw(InputStream content) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(content)) {
+            if (parser.nextToken() == null) {
+                return new HashMap<>();
+            }
+            return JsonUtil.readValue(parser, MAP_TYPE);
+        }
+    }
+
+    /**
+     * 첫 번째 공백이 아닌 문자가 `{` 인지 확인
+     */
+    private static boolean isJson(BufferedInputStream is) throws IOException {
+        is.mark(1024);
+        try {
+            for (int i = 0; i < 1024; i++) {
+                int c = is.read();
+                if (c == -1) {
+                    return false;
+                }
+                if (!Character.isWhitespace(c)) {
+                    return c == '{';
+                }
+            }
+            return false;
+        } finally {
+            is.reset();
+        }
+    }
+
+    private static Map<String, Object> readTopLevel(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return new HashMap<>();
+        }
+        return readResponse(parser);
+    }
+
+    /**
+     * START_OBJECT 다음부터 응답 객체 하나를 읽음
+     */
+    private static Map<String, Object> readResponse(JsonParser parser) throws IOException {
+        Map<String, Object> result = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (HITS.equals(name) && token == JsonToken.START_OBJECT) {
+                result.put(HITS, readHits(parser));
+            } else if (AGGREGATIONS.equals(name) && token == JsonToken.START_OBJECT) {
+                result.put(AGGREGATIONS, readAggregations(parser));
+            } else {
+                result.put(name, JsonUtil.readValue(parser, OBJECT_TYPE));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * hits 객체 읽기. hits.hits 의 각 요소는 _id, _source, fields 만 보관
+     */
+    private static Map<String, Object> readHits(JsonParser parser) throws IOException {
+        Map<String, Object> hits = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (HITS.equals(name) && token == JsonToken.START_ARRAY) {
+                List<Map<String, Object>> list = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    list.add(readHit(parser));
+                }
+                hits.put(HITS, list);
+            } else {
+                hits.put(name, JsonUtil.readValue(parser, OBJECT_TYPE));
+            }
+        }
+        return hits;
+    }
+
+    private static Map<String, Object> readHit(JsonParser parser) throws IOException {
+        Map<String, Object> hit = new HashMap<>(4);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case _ID -> hit.put(_ID, parser.getValueAsString());
+                case SOURCE, FIELDS -> hit.put(name, JsonUtil.readValue(parser, MAP_TYPE));
+                default -> parser.skipChildren();
+            }
+        }
+        return hit;
+    }
+
+    /**
+     * aggregations 객체 읽기. 각 aggregation 은 결과에 사용하는 값만 보관
+     */
+    private static Map<String, Object> readAggregations(JsonParser parser) throws IOException {
+        Map<String, Object> aggregations = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String aggregationName = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                aggregations.put(aggregationName, JsonUtil.readValue(parser, OBJECT_TYPE));
+                continue;
+            }
+            Map<String, Object> aggregation = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if (AGGREGATION_FIELDS.contains(name)) {
+                    aggregation.put(name, JsonUtil.readValue(parser, OBJECT_TYPE));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            aggregations.put(aggregationName, aggregation);
+        }
+        return aggregations;
+    }
+
+    /**
+     * 파이프 문자(|)로 구분되는 sql 쿼리 결과물을 List<Map> 으로 반환
+     * <pre>
+     * 첫 번째 라인        : key
+     * 두 번째 라인        : separator (사용하지 않음)
+     * 세 번째 라인 ~ 끝까지 : 데이터
+     * </pre>
+     *
+     * @param is 쿼리 결과물
+     * @return 리스트 맵, 데이터 라인이 없으면 null
+     */
+    static List<Map<String, Object>> readPipeText(InputStream is) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        String separator = reader.readLine();
+        if (header == null || separator == null) {
+            return null;
+        }
+
+        String[] keys = splitPipe(header);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keys[i].replaceAll("\\s", "");
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (String line; (line = reader.readLine()) != null; ) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] data = splitPipe(line);
+            Map<String, Object> tmpMap = new HashMap<>();
+            for (int j = 0; j < keys.length; j++) {
+                tmpMap.put(keys[j], j < data.length ? data[j] : null);
+            }
+            result.add(tmpMap);
+        }
+        return result.isEmpty() ? null : result;
+    }
+
+    /**
+     * `|` 로 split 하면서 각 값의 앞뒤 공백 제거
+     */
+    private static String[] splitPipe(String line) {
+        List<String> cells = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= line.length(); i++) {
+            if (i == line.length() || line.charAt(i) == '|') {
+                cells.add(line.substring(start, i).strip());
+                start = i + 1;
+            }
+        }
+        return cells.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,140 @@
+package com.thinkm.common.util;
+
+import com.thinkm.common.code.ElasticIndex;
+import com.thinkm.maxy.domain.front.common.RangeSearchCondition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 조회 기간에 해당하는 index 목록 생성
+ * <pre>
+ * - {@link ElasticIndex#getIndicesForDateRange} 로 기간에 해당하는 일/월 index 만 조회 ("index*" 전체 조회 방지)
+ * - 주기적으로 조회한 실제 index 목록에 없는 index 는 제외
+ *   (조회 이후 생성되었을 수 있는 당일 이후 index 는 유지)
+ * - 기간이 길어 index 수가 max-fan-out 을 넘으면 "index*" 사용
+ * </pre>
+ * query factory 가 static 이므로 라우팅은 static method 로 제공하고, bean 은 index 목록 갱신만 담당한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexRouter {
+
+    private static volatile int maxFanOut = 62;
+    private static volatile Existing existing = null;
+
+    private final ElasticClient elasticClient;
+
+    @Value("${maxy.index-router.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 실제 존재하는 index 목록과 조회 시점의 날짜
+     */
+    record Existing(Set<String> indices, LocalDate refreshedAt) {
+    }
+
+    @Value("${maxy.index-router.max-fan-out:62}")
+    public void setMaxFanOut(int value) {
+        maxFanOut = value;
+    }
+
+    @Scheduled(initialDelay = 5_000L, fixedDelayString = "${maxy.index-router.refresh-ms:300000}")
+    public void refresh() {
+        if (!enabled) {
+            existing = null;
+            return;
+        }
+        List<String> patterns = new ArrayList<>();
+        for (ElasticIndex index : ElasticIndex.values()) {
+            if (!index.getDateType().isEmpty()) {
+                patterns.add(index.getIndex() + "*");
+            }
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            update(elasticClient.getIndexNames(patterns.toArray(new String[0])), today);
+        } catch (Exception e) {
+            // 조회 실패 시 기존 목록 유지
+            log.warn("index list refresh failed: {}", e.getMessage());
+        }
+    }
+
+    static void update(Set<String> indices, LocalDate refreshedAt) {
+        existing = indices == null ? null : new Existing(Set.copyOf(indices), refreshedAt);
+    }
+
+    /**
+     * 조회 기간의 index 목록
+     *
+     * @param index {@link ElasticIndex}
+     * @param from  시작 시간 (ms)
+     * @param to    종료 시간 (ms)
+     * @return index 목록
+     */
+    public static String[] route(ElasticIndex index, long from, long to) {
+        String[] indices = ElasticIndex.getIndicesForDateRange(index, Math.min(from, to), Math.max(from, to));
+        if (index.getDateType().isEmpty()) {
+            return indices;
+        }
+        if (indices.length > maxFanOut) {
+            return new String[]{index.getIndex() + "*"};
+        }
+
+        Existing current = existing;
+        if (current == null) {
+            return indices;
+        }
+
+        // 마지막 조회일 이후의 index 는 목록에 없어도 생성되었을 수 있으므로 유지
+        String recent = index.getIndex() + current.refreshedAt().format(DateTimeFormatter.ofPattern(index.getDateType()));
+        List<String> result = new ArrayList<>(indices.length);
+        for (String name : indices) {
+            if (current.indices().contains(name) || name.compareTo(recent) >= 0) {
+                result.add(name);
+            }
+        }
+        // 빈 index 목록은 전체 index 조회가 되므로 원래 목록 반환 (없는 index 는 무시됨)
+        return result.isEmpty() ? indices : result.toArray(new String[0]);
+    }
+
+    /**
+     * 기간이 없으면 (from / to 가 null) 전체 index 조회
+     */
+    public static String[] routeOrAll(ElasticIndex index, Long from, Long to) {
+        if (from == null || to == null) {
+            return index.getDateType().isEmpty()
+                    ? new String[]{index.getIndex()}
+                    : new String[]{index.getIndex() + "*"};
+        }
+        return route(index, from.longValue(), to.longValue());
+    }
+
+    public static String[] route(ElasticIndex index, RangeSearchCondition range) {
+        return route(index, range.from(), range.to());
+    }
+
+    /**
+     * 단일 시점의 index 목록
+     */
+    public static String[] route(ElasticIndex index, long timestamp) {
+        return route(index, timestamp, timestamp);
+    }
+
+    public Map<String, Object> getStats() {
+        Existing current = existing;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("maxFanOut", maxFanOut);
+        result.put("indices", current == null ? 0 : current.indices().size());
+        result.put("refreshedAt", current == null ? null : current.refreshedAt().toString());
+        return result;
+    }
+}
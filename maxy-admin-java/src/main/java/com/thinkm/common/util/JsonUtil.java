@@ -1,6 +1,8 @@
 package com.thinkm.common.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -12,7 +14,11 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import lombok.experimental.UtilityClass;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.util.Map;
 
@@ -78,6 +84,10 @@ public class JsonUtil {
         }
     }
 
+    public static JsonNode readTree(InputStream content) throws IOException {
+        return MAPPER.readTree(content);
+    }
+
     public static <T> T readValue(String content, TypeReference<T> valueTypeRef) {
         try {
             return MAPPER.readValue(content, valueTypeRef);
@@ -94,6 +104,45 @@ public class JsonUtil {
         }
     }
 
+    /**
+     * InputStream 을 token 단위로 읽는 streaming parser 생성
+     */
+    public static JsonParser createParser(InputStream content) throws IOException {
+        return MAPPER.createParser(content);
+    }
+
+    /**
+     * Reader 를 token 단위로 읽는 streaming parser 생성
+     */
+    public static JsonParser createParser(Reader content) throws IOException {
+        return MAPPER.createParser(content);
+    }
+
+    public static JsonParser createParser(String content) throws IOException {
+        return MAPPER.createParser(content);
+    }
+
+    /**
+     * OutputStream 에 바로 쓰는 streaming generator 생성
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return MAPPER.getFactory().createGenerator(out);
+    }
+
+    /**
+     * Writer 에 바로 쓰는 streaming generator 생성
+     */
+    public static JsonGenerator createGenerator(Writer out) throws IOException {
+        return MAPPER.getFactory().createGenerator(out);
+    }
+
+    /**
+     * streaming parser 의 현재 token 부터 하나의 값을 읽음
+     */
+    public static <T> T readValue(JsonParser parser, TypeReference<T> valueTypeRef) throws IOException {
+        return MAPPER.readValue(parser, valueTypeRef);
+    }
+
     public static Map<String, Object> readMap(String content) {
         try {
             return MAPPER.readValue(content, MAP_TYPE);
@@ -0,0 +1,180 @@
+package com.thinkm.common.util;
+
+import java.util.Collection;
+
+/**
+ * 사용자 메뉴 권한 (menuId 집합)
+ * <pre>
+ * - menuId (영문/숫자 10자 이하, 대소문자 구분 없음) 를 long key 로 바꿔 open addressing table 에 저장한다.
+ * - 요청 URI 에서 바로 key 를 계산하므로 권한 확인 시 문자열 생성이나 목록 순회가 없다.
+ * </pre>
+ * 생성 후에는 읽기만 하므로 여러 thread 에서 공유해도 된다.
+ */
+public final class MenuPermission {
+
+    /**
+     * menu URL 형식이 아님 (/{menu}/{sub}/{servlet} 미만)
+     */
+    public static final long NOT_MENU_URL = -2L;
+    /**
+     * key 로 바꿀 수 없는 menuId (허용되지 않는 문자 또는 길이 초과)
+     */
+    public static final long INVALID = -1L;
+
+    public static final MenuPermission EMPTY = new MenuPermission(new long[8], 0);
+
+    private static final int MAX_LENGTH = 10;
+    private static final int BITS = 6;
+
+    // 0 은 빈 칸
+    private final long[] table;
+    private final int mask;
+    private final int size;
+
+    private MenuPermission(long[] table, int size) {
+        this.table = table;
+        this.mask = table.length - 1;
+        this.size = size;
+    }
+
+    /**
+     * @param menuIds menuId 목록 (ex. DB0100)
+     * @return MenuPermission
+     */
+    public static MenuPermission of(Collection<String> menuIds) {
+        if (menuIds == null || menuIds.isEmpty()) {
+            return EMPTY;
+        }
+        int capacity = 8;
+        while (capacity < menuIds.size() * 2) {
+            capacity <<= 1;
+        }
+        long[] table = new long[capacity];
+        int size = 0;
+        for (String menuId : menuIds) {
+            long key = key(menuId);
+            if (key > 0 && insert(table, key)) {
+                size++;
+            }
+        }
+        return new MenuPermission(table, size);
+    }
+
+    private static boolean insert(long[] table, long key) {
+        int mask = table.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            if (table[i] == key) {
+                return false;
+            }
+            if (table[i] == 0) {
+                table[i] = key;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param key {@link #key} 또는 {@link #menuKey} 의 결과
+     * @return 권한 여부
+     */
+    public boolean contains(long key) {
+        if (key <= 0) {
+            return false;
+        }
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            long value = table[i];
+            if (value == key) {
+                return true;
+            }
+            if (value == 0) {
+                return false;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * menuId 를 key 로 변환
+     *
+     * @param menuId menuId
+     * @return key, 변환할 수 없으면 {@link #INVALID}
+     */
+    public static long key(CharSequence menuId) {
+        if (menuId == null || menuId.length() == 0 || menuId.length() > MAX_LENGTH) {
+            return INVALID;
+        }
+        long key = 0;
+        for (int i = 0; i < menuId.length(); i++) {
+            int code = code(menuId.charAt(i));
+            if (code < 0) {
+                return INVALID;
+            }
+            key = (key << BITS) | code;
+        }
+        return key;
+    }
+
+    /**
+     * 요청 URI 의 menuId key. 첫 번째와 두 번째 경로를 이어 붙인 값이 menuId 이다.
+     * <pre>
+     * /db/0100/getList.maxy -> DB0100
+     * </pre>
+     * 연속된 '/' 는 하나로 본다.
+     *
+     * @param uri 요청 URI
+     * @return key, 경로가 3단계 미만이면 {@link #NOT_MENU_URL}, 변환할 수 없으면 {@link #INVALID}
+     */
+    public static long menuKey(String uri) {
+        long key = 0;
+        int length = 0;
+        boolean valid = true;
+        int segments = 0;
+        boolean inSegment = false;
+        for (int i = 0; i < uri.length(); i++) {
+            char c = uri.charAt(i);
+            if (c == '/') {
+                inSegment = false;
+                continue;
+            }
+            if (!inSegment) {
+                inSegment = true;
+                if (++segments >= 3) {
+                    return valid && length > 0 ? key : INVALID;
+                }
+            }
+            if (!valid) {
+                continue;
+            }
+            int code = code(c);
+            if (code < 0 || ++length > MAX_LENGTH) {
+                valid = false;
+                continue;
+            }
+            key = (key << BITS) | code;
+        }
+        return NOT_MENU_URL;
+    }
+
+    /**
+     * 0-9: 1~10, A-Z / a-z: 11~36, 그 외: -1
+     */
+    private static int code(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 11;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 11;
+        }
+        return -1;
+    }
+
+    private static int slot(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+}
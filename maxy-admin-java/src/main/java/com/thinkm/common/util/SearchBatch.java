@@ -0,0 +1,142 @@
+package com.thinkm.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 한 요청 안에서 서로 독립적인 {@link SearchRequest} 를 모아 하나의 _msearch 로 보낸다.
+ * <pre>
+ * - add() 로 모은 요청은 execute() (또는 close()) 시점에 한 번에 전송하고, 응답은 각 future 로 나눠준다.
+ * - 일부 요청이 실패해도 해당 future 만 실패로 완료된다.
+ * - 동일한 요청이 진행 중이거나 캐시되어 있으면 {@link SearchCoalescer} 결과를 공유하고 batch 에 넣지 않는다.
+ * - 모인 요청이 하나이면 _msearch 대신 일반 검색으로 보낸다.
+ * </pre>
+ * 요청 thread 하나에서만 사용한다.
+ * <pre>
+ * try (SearchBatch batch = client.newBatch()) {
+ *     a = batch.add(requestA);
+ *     b = batch.add(requestB);
+ * }
+ * client.join(a, null);
+ * </pre>
+ */
+@Slf4j
+public class SearchBatch implements AutoCloseable {
+
+    private final ElasticClient client;
+    private final List<SearchRequest> requests = new ArrayList<>();
+    // 요청별 metric family tag (add 한 thread 에서 구함)
+    private final List<String> metricFamilies = new ArrayList<>();
+    private final List<CompletableFuture<SearchResponse>> futures = new ArrayList<>();
+    private boolean executed;
+
+    SearchBatch(ElasticClient client) {
+        this.client = client;
+    }
+
+    public CompletableFuture<SearchResponse> add(SearchRequest searchRequest) {
+        return add(searchRequest, null);
+    }
+
+    /**
+     * @param searchRequest {@link SearchRequest}
+     * @param family        query family ({@link SearchCoalescer} 캐시 시간 설정 key, nullable)
+     * @return execute() 후 완료되는 SearchResponse future
+     */
+    public CompletableFuture<SearchResponse> add(SearchRequest searchRequest, String family) {
+        if (executed) {
+            throw new IllegalStateException("search batch already executed");
+        }
+        return client.coalesce(searchRequest, family, () -> {
+            CompletableFuture<SearchResponse> future = new CompletableFuture<>();
+            requests.add(searchRequest);
+            metricFamilies.add(ElasticClient.metricFamily(family));
+            futures.add(future);
+            return future;
+        });
+    }
+
+    /**
+     * 모인 요청 전송. 응답을 기다리지 않는다.
+     */
+    public void execute() {
+        if (executed) {
+            return;
+        }
+        executed = true;
+        if (requests.isEmpty()) {
+            return;
+        }
+        if (requests.size() == 1) {
+            forward(client.sendAsync(requests.get(0), metricFamilies.get(0)), futures.get(0));
+            return;
+        }
+
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+        requests.forEach(multiSearchRequest::add);
+        CompletableFuture<MultiSearchResponse> response;
+        try {
+            response = client.msearchAsync(multiSearchRequest, metricFamilies);
+        } catch (RuntimeException e) {
+            futures.forEach(f -> f.completeExceptionally(e));
+            return;
+        }
+        response.whenComplete((multiSearchResponse, e) -> {
+            if (e != null) {
+                futures.forEach(f -> f.completeExceptionally(e));
+            } else {
+                dispatch(multiSearchResponse, requests, futures);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        execute();
+    }
+
+    public int size() {
+        return requests.size();
+    }
+
+    /**
+     * _msearch 응답을 순서대로 각 future 에 전달
+     */
+    static void dispatch(MultiSearchResponse response,
+                         List<SearchRequest> requests,
+                         List<CompletableFuture<SearchResponse>> futures) {
+        MultiSearchResponse.Item[] items = response.getResponses();
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<SearchResponse> future = futures.get(i);
+            if (i >= items.length) {
+                future.completeExceptionally(new IllegalStateException("missing msearch response: " + i));
+                continue;
+            }
+            MultiSearchResponse.Item item = items[i];
+            if (item.isFailure()) {
+                log.error("msearch item failed: {}", item.getFailureMessage());
+                log.warn(requests.get(i).toString());
+                future.completeExceptionally(item.getFailure());
+            } else {
+                future.complete(item.getResponse());
+            }
+        }
+    }
+
+    private static void forward(CompletableFuture<SearchResponse> from, CompletableFuture<SearchResponse> to) {
+        from.whenComplete((response, e) -> {
+            if (e != null) {
+                to.completeExceptionally(e);
+            } else {
+                to.complete(response);
+            }
+        });
+    }
+}
@@ -0,0 +1,191 @@
+package com.thinkm.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 {@link SearchRequest} 의 동시 요청을 하나로 합치는 single-flight 계층
+ * <p>
+ * 요청 key 는 index 목록 + routing/preference + 직렬화된 request body 이다.
+ * <pre>
+ * - 같은 key 의 요청이 진행 중이면 새로 요청하지 않고 진행 중인 future 를 공유한다. (coalesce)
+ * - query family 별로 결과 캐시 시간(ms)을 설정하면 그 시간 동안 결과를 재사용한다. (hit)
+ *   spring.elasticsearch.rest.coalesce.cache-ttl-ms        : 기본 캐시 시간 (0 이면 캐시하지 않음)
+ *   spring.elasticsearch.rest.coalesce.family-cache-ttl-ms : family 별 캐시 시간 (ex. ccu:3000,logTrend:2000)
+ *   spring.elasticsearch.rest.coalesce.hit-families        : hit 를 반환해도 공유하는 family (ex. ccu)
+ * </pre>
+ * 공유된 SearchResponse 는 여러 요청에서 함께 읽는다. hit 의 getSourceAsMap() 은 수정 가능한 map 을 그대로 돌려주고
+ * 호출하는 쪽에서 값을 바꾸는 경우가 있으므로 hit 를 반환하지 않는 aggregation 전용 요청 (size 0) 과
+ * hit 를 읽기만 하는 것이 확인된 hit-families 만 공유한다.
+ */
+@Slf4j
+@Component
+public class SearchCoalescer {
+
+    // 캐시 정리를 시작할 entry 수
+    private static final int SWEEP_THRESHOLD = 1000;
+
+    private final Map<String, CompletableFuture<SearchResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+    private final Map<String, Long> familyTtlMap = new HashMap<>();
+    private final Set<String> hitFamilies = new HashSet<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder coalesceCount = new LongAdder();
+    private final LongAdder bypassCount = new LongAdder();
+
+    @Value("${spring.elasticsearch.rest.coalesce.enabled:true}")
+    private boolean enabled;
+    @Value("${spring.elasticsearch.rest.coalesce.cache-ttl-ms:0}")
+    private long defaultTtlMs;
+    @Value("${spring.elasticsearch.rest.coalesce.family-cache-ttl-ms:}")
+    private String familyTtlStr;
+    @Value("${spring.elasticsearch.rest.coalesce.hit-families:}")
+    private String hitFamiliesStr;
+
+    @PostConstruct
+    public void init() {
+        if (hitFamiliesStr != null && !hitFamiliesStr.isBlank()) {
+            for (String family : hitFamiliesStr.split("\\s*,\\s*")) {
+                hitFamilies.add(family.trim());
+            }
+        }
+        if (familyTtlStr == null || familyTtlStr.isBlank()) {
+            return;
+        }
+        for (String item : familyTtlStr.split("\\s*,\\s*")) {
+            String[] parts = item.split(":");
+            if (parts.length != 2) {
+                log.warn("invalid family-cache-ttl-ms: {}", item);
+                continue;
+            }
+            familyTtlMap.put(parts[0].trim(), Long.parseLong(parts[1].trim()));
+        }
+        log.info("search coalesce cache ttl: default={}ms, family={}, hit-families={}", defaultTtlMs, familyTtlMap, hitFamilies);
+    }
+
+    /**
+     * 동일한 요청이 진행 중이거나 캐시되어 있으면 그 결과를 공유하고, 없으면 loader 로 요청한다.
+     *
+     * @param searchRequest 요청 (key 생성용)
+     * @param family        query family (nullable, 캐시 시간 결정용)
+     * @param loader        실제 요청을 수행하는 supplier
+     * @return 결과 future
+     */
+    public CompletableFuture<SearchResponse> coalesce(SearchRequest searchRequest,
+                                                      String family,
+                                                      Supplier<CompletableFuture<SearchResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        if (!isShareable(searchRequest) && (family == null || !hitFamilies.contains(family))) {
+            bypassCount.increment();
+            return loader.get();
+        }
+
+        String key = makeKey(searchRequest);
+        long ttl = family == null ? defaultTtlMs : familyTtlMap.getOrDefault(family, defaultTtlMs);
+
+        if (ttl > 0) {
+            CachedResponse cached = cache.get(key);
+            if (cached != null) {
+                if (cached.expireAt() > System.currentTimeMillis()) {
+                    hitCount.increment();
+                    return CompletableFuture.completedFuture(cached.response());
+                }
+                cache.remove(key, cached);
+            }
+        }
+
+        CompletableFuture<SearchResponse> future = new CompletableFuture<>();
+        CompletableFuture<SearchResponse> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesceCount.increment();
+            // 한 호출자의 cancel 이 공유하는 다른 호출자에게 전파되지 않도록 copy 반환
+            return existing.copy();
+        }
+
+        missCount.increment();
+        CompletableFuture<SearchResponse> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        loaded.whenComplete((response, e) -> {
+            if (e == null && response != null && ttl > 0) {
+                putCache(key, new CachedResponse(response, System.currentTimeMillis() + ttl));
+            }
+            inFlight.remove(key, future);
+            if (e != null) {
+                future.completeExceptionally(e);
+            } else {
+                future.complete(response);
+            }
+        });
+        return future.copy();
+    }
+
+    /**
+     * hit 를 반환하지 않는 요청 (size 0) 인지 확인
+     */
+    static boolean isShareable(SearchRequest searchRequest) {
+        return searchRequest.source() != null && searchRequest.source().size() == 0;
+    }
+
+    private void putCache(String key, CachedResponse cachedResponse) {
+        if (cache.size() >= SWEEP_THRESHOLD) {
+            long now = System.currentTimeMillis();
+            cache.values().removeIf(c -> c.expireAt() <= now);
+        }
+        cache.put(key, cachedResponse);
+    }
+
+    private static String makeKey(SearchRequest searchRequest) {
+        StringBuilder key = new StringBuilder();
+        key.append(String.join(",", searchRequest.indices()))
+                .append('|').append(searchRequest.routing())
+                .append('|').append(searchRequest.preference())
+                .append('|').append(searchRequest.indicesOptions())
+                .append('|').append(searchRequest.source());
+        return key.toString();
+    }
+
+    /**
+     * hit / miss / coalesce 카운터 조회
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        // 캐시된 결과를 사용한 수
+        result.put("hit", hitCount.sum());
+        // 실제 요청한 수
+        result.put("miss", missCount.sum());
+        // 진행 중인 요청에 합쳐진 수
+        result.put("coalesce", coalesceCount.sum());
+        // hit 를 반환하여 공유하지 않은 수
+        result.put("bypass", bypassCount.sum());
+        result.put("inFlight", inFlight.size());
+        result.put("cached", cache.size());
+        return result;
+    }
+
+    private record CachedResponse(SearchResponse response, long expireAt) {
+    }
+}
@@ -5,13 +5,14 @@ import com.thinkm.maxy.dto.app.dsym.SymbolicationItemDto;
 import com.thinkm.maxy.dto.app.dsym.SymbolicationResponseDto;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -34,6 +35,48 @@ public class SymbolicationUtil {
     private static final String CLI_PATH_MAC_INTEL = "cli/dsym/maxy_symbolication-x86_64-apple-darwin";
     private static final String CLI_PATH_WINDOWS = "cli/dsym/maxy_symbolication-x86_64-pc-windows-gnu.exe";
 
+    // CLI 실행 제한
+    private static final long CLI_TIMEOUT_SECONDS = 30;
+    private static final int MAX_OUTPUT_CHARS = 32 * 1024 * 1024;
+    private static final int MAX_ERROR_CHARS = 64 * 1024;
+
+    /**
+     * CLI stdout / stderr 읽기용 thread pool
+     */
+    private static final ExecutorService STREAM_READER = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "symbolication-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final LongAdder SPAWN_COUNT = new LongAdder();
+
+    /**
+     * 심볼화 대상 frame
+     *
+     * @param binaryName       바이너리 이름
+     * @param loadMemory       바이너리 로드 주소
+     * @param address          크래시 주소
+     * @param stackFrameNumber 스택 프레임 번호 (첫라인 충돌 주소는 "-")
+     */
+    public record CrashFrame(String binaryName, String loadMemory, String address, String stackFrameNumber) {
+    }
+
+    /**
+     * CLI 에 넘기는 바이너리/로드 주소 별 frame 묶음. traces 는 {address, stackFrameNumber}
+     */
+    public record FrameGroup(String binaryName, String loadMemory, List<String[]> traces) {
+    }
+
+    /**
+     * CLI 실행 결과
+     */
+    public record CliResult(int exitCode, String output, String error, boolean timeout) {
+    }
+
+    private record BoundedOutput(String text, boolean truncated) {
+    }
+
     /**
      * OS와 아키텍처에 따라 적절한 CLI 리소스 경로를 결정
      *
@@ -76,52 +119,22 @@ public class SymbolicationUtil {
      * @returns AppInfoResponse
      */
     public AppInfoResponseDto getAppInfo(String dsymPath) {
-        Process process = null;
-        BufferedReader outputReader = null;
-        BufferedReader errorReader = null;
-
         try {
             // CLI 경로 결정 및 추출
             String resourcePath = determineCliResourcePath();
             String cliPath = extractCliToolToTempFile(resourcePath);
 
-            ProcessBuilder pb = new ProcessBuilder(cliPath, "-d", dsymPath, "-i");
-            pb.redirectErrorStream(false); // 에러 스트림을 별도로 처리
-            process = pb.start();
-
-            // 출력 스트림 읽기
-            outputReader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-            StringBuilder output = new StringBuilder();
-            String line;
-
-            while ((line = outputReader.readLine()) != null) {
-                output.append(line).append("\n");
+            CliResult result = runCli(List.of(cliPath, "-d", dsymPath, "-i"));
+            if (result.timeout()) {
+                return new AppInfoResponseDto(500, "CLI 프로세스 타임아웃 (" + CLI_TIMEOUT_SECONDS + "초)");
             }
-
-            // 에러 스트림 읽기
-            errorReader = new BufferedReader(new InputStreamReader(process.getErrorStream()));
-            StringBuilder errorOutput = new StringBuilder();
-            while ((line = errorReader.readLine()) != null) {
-                errorOutput.append(line).append("\n");
-            }
-
-            // 프로세스 완료 대기 (30초 타임아웃)
-            boolean finished = process.waitFor(30, TimeUnit.SECONDS);
-
-            if (!finished) {
-                // 타임아웃 발생 시 프로세스 강제 종료
-                process.destroyForcibly();
-                return new AppInfoResponseDto(500, "CLI 프로세스 타임아웃 (30초)");
-            }
-
-            int exitCode = process.exitValue();
-            if (exitCode != 0) {
-                String errorMessage = errorOutput.length() > 0 ? errorOutput.toString().trim() : "CLI 프로세스 실행 실패";
-                return new AppInfoResponseDto(500, "CLI 프로세스 실행 실패 (exit code: " + exitCode + "): " + errorMessage);
+            if (result.exitCode() != 0) {
+                String errorMessage = !result.error().isEmpty() ? result.error() : "CLI 프로세스 실행 실패";
+                return new AppInfoResponseDto(500, "CLI 프로세스 실행 실패 (exit code: " + result.exitCode() + "): " + errorMessage);
             }
 
             // JSON 응답 파싱
-            String jsonResponse = output.toString().trim();
+            String jsonResponse = result.output();
             if (jsonResponse.isEmpty()) {
                 return new AppInfoResponseDto(500, "CLI 프로세스에서 응답을 받지 못했습니다");
             }
@@ -130,17 +143,6 @@ public class SymbolicationUtil {
 
         } catch (Exception e) {
             return new AppInfoResponseDto(500, "CLI 실행 중 오류 발생: " + e.getMessage());
-        } finally {
-            // 리소스 정리
-            try {
-                if (outputReader != null) outputReader.close();
-                if (errorReader != null) errorReader.close();
-                if (process != null && process.isAlive()) {
-                    process.destroyForcibly();
-                }
-            } catch (Exception e) {
-                // 정리 중 오류는 무시
-            }
         }
     }
 
@@ -153,104 +155,183 @@ public class SymbolicationUtil {
      */
     public SymbolicationResponseDto getSymbolication(String dsymPath, String crashLog, String appName) {
         try {
-            // CLI 경로 결정 및 추출
-            String resourcePath = determineCliResourcePath();
-            String cliPath = extractCliToolToTempFile(resourcePath);
+            Map<String, FrameGroup> groups = new LinkedHashMap<>();
+            for (CrashFrame frame : parseCrashFrames(crashLog, appName)) {
+                groups.computeIfAbsent(frame.binaryName(),
+                                k -> new FrameGroup(frame.binaryName(), frame.loadMemory(), new ArrayList<>()))
+                        .traces().add(new String[]{frame.address(), frame.stackFrameNumber()});
+            }
+            return symbolicateGroups(dsymPath, new ArrayList<>(groups.values()));
+        } catch (Exception e) {
+            return new SymbolicationResponseDto(500, "CLI 실행 중 오류 발생: " + e.getMessage());
+        }
+    }
 
-            List<String> crashLines = Arrays.asList(crashLog.split("\n"));
-            List<String[]> allThreadTraces = extractAllThreadTraces(crashLines, appName);
-            String reasonAddress = extractReasonAddress(crashLines);
-            Map<String, String> binaryImages = extractBinaryImages(crashLines);
+    /**
+     * Crash log 에서 심볼화 대상 frame 추출
+     * 첫라인 충돌 주소(stackFrameNumber "-")를 먼저 넣고 나머지는 바이너리 별로 묶은 순서로 반환
+     *
+     * @param crashLog Crash log
+     * @param appName  DSYM app Name
+     * @return 심볼화 대상 frame 목록
+     */
+    public List<CrashFrame> parseCrashFrames(String crashLog, String appName) {
+        List<String> crashLines = Arrays.asList(crashLog.split("\n"));
+        List<String[]> allThreadTraces = extractAllThreadTraces(crashLines, appName);
+        String reasonAddress = extractReasonAddress(crashLines);
+        Map<String, String> binaryImages = extractBinaryImages(crashLines);
 
-            Map<String, List<String[]>> groupedTraces = new LinkedHashMap<>();
+        Map<String, List<String[]>> groupedTraces = new LinkedHashMap<>();
 
-            if (!"NotFound".equals(reasonAddress)) {
-                groupedTraces.computeIfAbsent(appName, k -> new ArrayList<>())
-                        .add(new String[]{reasonAddress, "-"});
-            }
+        if (!"NotFound".equals(reasonAddress)) {
+            groupedTraces.computeIfAbsent(appName, k -> new ArrayList<>())
+                    .add(new String[]{reasonAddress, "-"});
+        }
 
-            for (String[] trace : allThreadTraces) {
-                String binaryName = trace[2];
-                groupedTraces.computeIfAbsent(binaryName, k -> new ArrayList<>())
-                        .add(new String[]{trace[0], trace[1]});
+        for (String[] trace : allThreadTraces) {
+            String binaryName = trace[2];
+            groupedTraces.computeIfAbsent(binaryName, k -> new ArrayList<>())
+                    .add(new String[]{trace[0], trace[1]});
+        }
+
+        List<CrashFrame> frames = new ArrayList<>();
+        for (Map.Entry<String, List<String[]>> entry : groupedTraces.entrySet()) {
+            String loadMemory = binaryImages.getOrDefault(entry.getKey(), "0x0");
+            for (String[] trace : entry.getValue()) {
+                frames.add(new CrashFrame(entry.getKey(), loadMemory, trace[0], trace[1]));
             }
+        }
+        return frames;
+    }
+
+    /**
+     * frame 묶음을 CLI 1회 실행으로 심볼화
+     * 여러 crash 의 frame 을 한 번에 넘길 수 있도록 같은 바이너리라도 로드 주소가 다르면 별도 묶음으로 전달한다.
+     *
+     * @param dsymPath DSYM 파일
+     * @param groups   바이너리/로드 주소 별 frame 묶음
+     * @return SymbolicationResponse
+     */
+    public SymbolicationResponseDto symbolicateGroups(String dsymPath, List<FrameGroup> groups) {
+        try {
+            // CLI 경로 결정 및 추출
+            String resourcePath = determineCliResourcePath();
+            String cliPath = extractCliToolToTempFile(resourcePath);
 
-            String jsonInput = createArgsByJson(groupedTraces, binaryImages);
+            String jsonInput = createArgsByJson(groups);
 
             // 이스케이프 처리 @@ Windows에서만 실행 @@
             if (System.getProperty("os.name").toLowerCase().contains("windows")) {
                 jsonInput = escapeJson(jsonInput);
             }
 
-            ProcessBuilder pb = new ProcessBuilder(
-                    cliPath,
-                    "-d", dsymPath,
-                    "-j", jsonInput
-            );
-            pb.redirectErrorStream(false); // 에러 스트림을 별도로 처리
-            Process process = pb.start();
-
-            BufferedReader outputReader = null;
-            BufferedReader errorReader = null;
+            CliResult result = runCli(List.of(cliPath, "-d", dsymPath, "-j", jsonInput));
+            if (result.timeout()) {
+                return new SymbolicationResponseDto(500, "CLI 프로세스 타임아웃 (" + CLI_TIMEOUT_SECONDS + "초)");
+            }
+            if (result.exitCode() != 0) {
+                String errorMessage = !result.error().isEmpty() ? result.error() : "CLI 프로세스 실행 실패";
+                return new SymbolicationResponseDto(500, "CLI 프로세스 실행 실패 (exit code: " + result.exitCode() + "): " + errorMessage);
+            }
 
-            try {
-                // 출력 스트림 읽기
-                outputReader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-                StringBuilder output = new StringBuilder();
-                String line;
+            String jsonResponse = result.output();
+            if (jsonResponse.isEmpty()) {
+                return new SymbolicationResponseDto(500, "CLI 프로세스에서 응답을 받지 못했습니다");
+            }
 
-                while ((line = outputReader.readLine()) != null) {
-                    output.append(line).append("\n");
-                }
+            return parseSymbolicationResponse(jsonResponse);
 
-                // 에러 스트림 읽기
-                errorReader = new BufferedReader(new InputStreamReader(process.getErrorStream()));
-                StringBuilder errorOutput = new StringBuilder();
-                while ((line = errorReader.readLine()) != null) {
-                    errorOutput.append(line).append("\n");
-                }
+        } catch (Exception e) {
+            return new SymbolicationResponseDto(500, "CLI 실행 중 오류 발생: " + e.getMessage());
+        }
+    }
 
-                // 프로세스 완료 대기 (30초 타임아웃)
-                boolean finished = process.waitFor(30, TimeUnit.SECONDS);
+    /**
+     * CLI 실행
+     * stdout / stderr 를 별도 thread 에서 동시에 읽어 한쪽 pipe 가 가득 차서 멈추는 일이 없도록 하고,
+     * 각 출력은 최대 크기까지만 보관한다. (초과분은 읽어서 버림)
+     *
+     * @param command 실행 명령
+     * @return CliResult
+     */
+    public static CliResult runCli(List<String> command) throws IOException, InterruptedException {
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.redirectErrorStream(false); // 에러 스트림을 별도로 처리
+        Process process = pb.start();
+        SPAWN_COUNT.increment();
+
+        // waitFor 와 출력 읽기를 합쳐 CLI_TIMEOUT_SECONDS 안에 끝나야 함
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(CLI_TIMEOUT_SECONDS);
+        Future<BoundedOutput> output = null;
+        Future<BoundedOutput> error = null;
+        try {
+            output = STREAM_READER.submit(() -> readBounded(process.getInputStream(), MAX_OUTPUT_CHARS));
+            error = STREAM_READER.submit(() -> readBounded(process.getErrorStream(), MAX_ERROR_CHARS));
 
-                if (!finished) {
-                    // 타임아웃 발생 시 프로세스 강제 종료
-                    process.destroyForcibly();
-                    return new SymbolicationResponseDto(500, "CLI 프로세스 타임아웃 (30초)");
-                }
+            // 프로세스 완료 대기 (타임아웃)
+            boolean finished = process.waitFor(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+            if (!finished) {
+                // 타임아웃 발생 시 프로세스 강제 종료
+                process.destroyForcibly();
+                return new CliResult(-1, "", "", true);
+            }
 
-                int exitCode = process.exitValue();
-                if (exitCode != 0) {
-                    String errorMessage = errorOutput.length() > 0 ? errorOutput.toString().trim() : "CLI 프로세스 실행 실패";
-                    return new SymbolicationResponseDto(500, "CLI 프로세스 실행 실패 (exit code: " + exitCode + "): " + errorMessage);
-                }
+            // 프로세스 종료 후에는 pipe 가 닫히므로 남은 출력만 읽고 끝남
+            BoundedOutput out = output.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+            BoundedOutput err = error.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+            if (out.truncated()) {
+                return new CliResult(-1, "", "CLI 출력이 최대 크기(" + MAX_OUTPUT_CHARS + ")를 초과했습니다", false);
+            }
+            return new CliResult(process.exitValue(), out.text().trim(), err.text().trim(), false);
+        } catch (TimeoutException e) {
+            // 자식 프로세스가 pipe 를 잡고 있어 출력이 끝나지 않는 경우
+            return new CliResult(-1, "", "", true);
+        } catch (ExecutionException e) {
+            throw new IOException("CLI 출력 읽기 실패: " + e.getMessage(), e);
+        } finally {
+            // 리소스 정리
+            if (process.isAlive()) {
+                process.destroyForcibly();
+            }
+            if (output != null) {
+                output.cancel(true);
+                error.cancel(true);
+            }
+        }
+    }
 
-                String jsonResponse = output.toString().trim();
+    private static long remainingNanos(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
 
-                if (jsonResponse.isEmpty()) {
-                    return new SymbolicationResponseDto(500, "CLI 프로세스에서 응답을 받지 못했습니다");
+    /**
+     * stream 을 끝까지 읽되 maxChars 까지만 보관
+     */
+    private static BoundedOutput readBounded(InputStream in, int maxChars) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        boolean truncated = false;
+        char[] buffer = new char[8192];
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            int n;
+            while ((n = reader.read(buffer)) != -1) {
+                int remain = maxChars - sb.length();
+                if (n > remain) {
+                    truncated = true;
                 }
-
-                return parseSymbolicationResponse(jsonResponse);
-
-            } finally {
-                // 리소스 정리
-                try {
-                    if (outputReader != null) outputReader.close();
-                    if (errorReader != null) errorReader.close();
-                    if (process != null && process.isAlive()) {
-                        process.destroyForcibly();
-                    }
-                } catch (Exception cleanupException) {
-                    // 정리 중 오류는 무시
+                if (remain > 0) {
+                    sb.append(buffer, 0, Math.min(n, remain));
                 }
             }
-
-        } catch (Exception e) {
-            return new SymbolicationResponseDto(500, "CLI 실행 중 오류 발생: " + e.getMessage());
         }
+        return new BoundedOutput(sb.toString(), truncated);
     }
 
+    /**
+     * 지금까지 실행한 CLI 프로세스 수
+     */
+    public static long getSpawnCount() {
+        return SPAWN_COUNT.sum();
+    }
 
     /**
      * DSYM 파일 App 정보 응답 추출
@@ -400,28 +481,26 @@ public class SymbolicationUtil {
 
     /**
      * Cli 애플리케이션에 넘기는 json 인자 생성
-     * @param groupedTraces 충돌 주소
-     * @param binaryImages 로드 주소
+     * @param groups 바이너리/로드 주소 별 충돌 주소
      * @return String 형식의 json 파라미터
      */
-    private String createArgsByJson(Map<String, List<String[]>> groupedTraces, Map<String, String> binaryImages) {
+    private String createArgsByJson(List<FrameGroup> groups) {
         StringBuilder jsonBuilder = new StringBuilder();
         jsonBuilder.append("[");
 
         boolean firstBinary = true;
-        for (Map.Entry<String, List<String[]>> entry : groupedTraces.entrySet()) {
+        for (FrameGroup group : groups) {
             if (!firstBinary) {
                 jsonBuilder.append(",");
             }
             firstBinary = false;
 
-            String binaryName = entry.getKey();
-            List<String[]> traces = entry.getValue();
+            List<String[]> traces = group.traces();
 
             jsonBuilder.append("{");
-            jsonBuilder.append("\"appName\": \"").append(binaryName).append("\",");
+            jsonBuilder.append("\"appName\": \"").append(group.binaryName()).append("\",");
 
-            String loadMemory = binaryImages.get(binaryName);
+            String loadMemory = group.loadMemory();
             if (loadMemory == null) {
                 loadMemory = "0x0";
             }
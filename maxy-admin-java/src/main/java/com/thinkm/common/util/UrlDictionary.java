@@ -0,0 +1,249 @@
+package com.thinkm.common.util;
+
+import com.thinkm.common.code.ElasticIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.ParsedComposite;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * app 별 URL (keyword) 사전으로 부분 문자열 검색을 terms 쿼리로 바꾼다.
+ * <pre>
+ * - leading wildcard ("*text*") 는 OpenSearch 의 term 사전 전체를 훑기 때문에 대신
+ *   사전에서 text 를 포함하는 값을 찾아 terms 쿼리로 조회한다.
+ * - 사전은 처음 사용된 (index, field, packageNm, serverType) 별로 최근 window-days 의 값을
+ *   composite terms 집계로 적재하고, 이후 마지막 갱신 시점부터의 값만 추가로 조회한다.
+ * - 마지막 갱신 이후 (ingest-lag 포함) 의 문서는 시간 조건을 붙인 wildcard 로 함께 조회한다.
+ * - 사전이 없거나, 조회 기간이 사전 범위를 벗어나거나, 일치하는 값이 max-terms 를 넘으면 wildcard 를 그대로 사용한다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UrlDictionary {
+
+    private static final int AGG_PAGE_SIZE = 1000;
+
+    private final ElasticClient elasticClient;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder resolved = new LongAdder();
+    private final LongAdder broad = new LongAdder();
+    private final LongAdder fallback = new LongAdder();
+
+    @Value("${maxy.url-dictionary.enabled:true}")
+    private boolean enabled;
+    @Value("${maxy.url-dictionary.window-days:7}")
+    private int windowDays;
+    // app 별 최대 값 개수 (넘으면 사전을 사용하지 않음)
+    @Value("${maxy.url-dictionary.max-size:50000}")
+    private int maxSize;
+    // terms 쿼리로 바꿀 최대 값 개수
+    @Value("${maxy.url-dictionary.max-terms:1024}")
+    private int maxTerms;
+    // 수집 지연 (갱신 시점보다 이 시간만큼 이전까지만 사전에 반영된 것으로 본다)
+    @Value("${maxy.url-dictionary.ingest-lag-ms:300000}")
+    private long ingestLagMs;
+    // 이 시간 동안 사용되지 않은 사전은 제거
+    @Value("${maxy.url-dictionary.idle-hours:24}")
+    private long idleHours;
+
+    /**
+     * 사전 단위
+     *
+     * @param index      조회 index
+     * @param timeField  index 의 시간 필드
+     * @param field      keyword 필드 (ex. reqUrl.raw)
+     * @param packageNm  packageNm
+     * @param serverType serverType
+     */
+    public record Key(ElasticIndex index, String timeField, String field, String packageNm, String serverType) {
+    }
+
+    /**
+     * @param values      사전 값
+     * @param index       values 의 3-gram index
+     * @param coveredFrom 사전에 반영된 기간 시작 (ms)
+     * @param coveredTo   사전에 반영된 기간 끝 (ms)
+     * @param overflow    max-size 초과 여부
+     */
+    record Dictionary(Set<String> values, UrlSearchIndex index, long coveredFrom, long coveredTo, boolean overflow) {
+    }
+
+    static final class Entry {
+        volatile Dictionary dictionary;
+        volatile long lastUsed = System.currentTimeMillis();
+    }
+
+    /**
+     * field 가 text 를 포함하는 문서 조회 조건
+     *
+     * @param key  사전 단위
+     * @param text 검색어
+     * @param from 조회 시작 (ms)
+     * @param to   조회 끝 (ms)
+     * @return terms (+ 최근 문서 wildcard) 쿼리, 사전을 사용할 수 없으면 wildcard 쿼리
+     */
+    public QueryBuilder containsQuery(Key key, String text, Long from, Long to) {
+        QueryBuilder wildcard = QueryBuilders.wildcardQuery(key.field(), "*" + text + "*");
+        // 검색어에 wildcard 문자가 있으면 사전 검색과 의미가 달라짐
+        if (!enabled || text.indexOf('*') >= 0 || text.indexOf('?') >= 0) {
+            return wildcard;
+        }
+
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        entry.lastUsed = System.currentTimeMillis();
+        Dictionary dictionary = entry.dictionary;
+        if (dictionary == null || dictionary.overflow() || from == null || from < dictionary.coveredFrom()) {
+            fallback.increment();
+            return wildcard;
+        }
+
+        List<String> matches = dictionary.index().search(text, maxTerms);
+        if (matches.size() > maxTerms) {
+            broad.increment();
+            return wildcard;
+        }
+        resolved.increment();
+
+        BoolQueryBuilder query = QueryBuilders.boolQuery()
+                .should(QueryBuilders.termsQuery(key.field(), matches));
+        if (to == null || to > dictionary.coveredTo()) {
+            // 마지막 갱신 이후 새로 생긴 값
+            query.should(QueryBuilders.boolQuery()
+                    .filter(QueryBuilders.rangeQuery(key.timeField()).gt(dictionary.coveredTo()))
+                    .filter(wildcard));
+        }
+        return query.minimumShouldMatch(1);
+    }
+
+    /**
+     * 사용 중인 사전 갱신
+     */
+    @Scheduled(initialDelay = 30_000L, fixedDelayString = "${maxy.url-dictionary.refresh-ms:60000}")
+    public void refresh() {
+        if (!enabled) {
+            entries.clear();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> now - e.getValue().lastUsed > TimeUnit.HOURS.toMillis(idleHours));
+        entries.forEach((key, entry) -> {
+            try {
+                entry.dictionary = load(key, entry.dictionary, now);
+            } catch (Exception e) {
+                // 실패 시 기존 사전 유지
+                log.warn("url dictionary refresh failed {}: {}", key, e.getMessage());
+            }
+        });
+    }
+
+    Dictionary load(Key key, Dictionary current, long now) throws Exception {
+        long window = TimeUnit.DAYS.toMillis(windowDays);
+        long coveredTo = now - ingestLagMs;
+
+        // 처음이거나 너무 오래된 사전은 다시 적재
+        if (current == null || current.coveredFrom() < now - 2 * window) {
+            long coveredFrom = now - window;
+            Set<String> values = collect(key, coveredFrom, now);
+            if (values.size() > maxSize) {
+                return new Dictionary(Collections.emptySet(), UrlSearchIndex.EMPTY, coveredFrom, coveredTo, true);
+            }
+            return new Dictionary(values, new UrlSearchIndex(values), coveredFrom, coveredTo, false);
+        }
+        if (current.overflow()) {
+            return current;
+        }
+
+        // 마지막 반영 시점부터의 값만 추가
+        Set<String> found = collect(key, current.coveredTo(), now);
+        found.removeAll(current.values());
+        if (found.isEmpty()) {
+            return new Dictionary(current.values(), current.index(), current.coveredFrom(), coveredTo, false);
+        }
+        Set<String> values = new HashSet<>(current.values());
+        values.addAll(found);
+        if (values.size() > maxSize) {
+            return new Dictionary(Collections.emptySet(), UrlSearchIndex.EMPTY, current.coveredFrom(), coveredTo, true);
+        }
+        return new Dictionary(values, new UrlSearchIndex(values), current.coveredFrom(), coveredTo, false);
+    }
+
+    /**
+     * 기간 내 field 값 목록 (max-size 를 넘으면 중단)
+     */
+    private Set<String> collect(Key key, long from, long to) throws Exception {
+        BoolQueryBuilder boolQuery = Elastic.makeBoolQueryByAppInfo(key.packageNm(), key.serverType(), null);
+        boolQuery.filter(QueryBuilders.rangeQuery(key.timeField()).gte(from).lte(to).timeZone("Z"));
+        String[] indices = IndexRouter.route(key.index(), from, to);
+
+        Set<String> values = new HashSet<>();
+        Map<String, Object> afterKey = null;
+        while (values.size() <= maxSize) {
+            CompositeAggregationBuilder composite = AggregationBuilders
+                    .composite(Elastic.RES, List.of(new TermsValuesSourceBuilder(Elastic.RES).field(key.field())))
+                    .size(AGG_PAGE_SIZE);
+            if (afterKey != null) {
+                composite.aggregateAfter(afterKey);
+            }
+            SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+                    .query(boolQuery)
+                    .size(0)
+                    .aggregation(composite);
+            SearchResponse response = elasticClient.get(new SearchRequest(indices).source(searchSourceBuilder));
+            if (response == null || response.getAggregations() == null) {
+                break;
+            }
+            ParsedComposite parsed = response.getAggregations().get(Elastic.RES);
+            for (ParsedComposite.ParsedBucket bucket : parsed.getBuckets()) {
+                values.add(String.valueOf(bucket.getKey().get(Elastic.RES)));
+            }
+            afterKey = parsed.afterKey();
+            if (afterKey == null || parsed.getBuckets().size() < AGG_PAGE_SIZE) {
+                break;
+            }
+        }
+        return values;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("resolved", resolved.sum());
+        result.put("broad", broad.sum());
+        result.put("fallback", fallback.sum());
+
+        List<Map<String, Object>> dictionaries = new ArrayList<>();
+        entries.forEach((key, entry) -> {
+            Dictionary dictionary = entry.dictionary;
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("index", key.index().getIndex());
+            item.put("field", key.field());
+            item.put("packageNm", key.packageNm());
+            item.put("serverType", key.serverType());
+            item.put("size", dictionary == null ? null : dictionary.index().size());
+            item.put("overflow", dictionary != null && dictionary.overflow());
+            item.put("coveredTo", dictionary == null ? null : dictionary.coveredTo());
+            dictionaries.add(item);
+        });
+        result.put("dictionaries", dictionaries);
+        return result;
+    }
+}
@@ -0,0 +1,100 @@
+package com.thinkm.common.util;
+
+import java.util.*;
+
+/**
+ * URL 부분 문자열 검색용 3-gram index
+ * <pre>
+ * - 값의 3-gram -> 값 번호 목록
+ * - 검색어의 3-gram 중 목록이 가장 짧은 것만 후보로 보고 contains 로 확인
+ * - 3글자 미만 검색어는 전체 값을 순회
+ * - keyword wildcard 와 같도록 대소문자를 구분한다.
+ * </pre>
+ * 생성 후에는 읽기만 하므로 여러 thread 에서 공유해도 된다.
+ */
+final class UrlSearchIndex {
+
+    static final UrlSearchIndex EMPTY = new UrlSearchIndex(Collections.emptyList());
+
+    private static final int GRAM = 3;
+    private static final int[] NONE = new int[0];
+
+    private final String[] values;
+    // 3-gram -> 값 번호 (오름차순)
+    private final Map<String, int[]> postings;
+
+    UrlSearchIndex(Collection<String> source) {
+        values = source.toArray(new String[0]);
+
+        Map<String, int[]> grams = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i];
+            // 같은 값에서 반복되는 3-gram 은 한 번만 추가
+            Set<String> seen = new HashSet<>();
+            for (int start = 0; start + GRAM <= value.length(); start++) {
+                String gram = value.substring(start, start + GRAM);
+                if (!seen.add(gram)) {
+                    continue;
+                }
+                int count = counts.merge(gram, 1, Integer::sum);
+                int[] posting = grams.get(gram);
+                if (posting == null) {
+                    posting = new int[4];
+                } else if (posting.length < count) {
+                    posting = Arrays.copyOf(posting, posting.length * 2);
+                }
+                posting[count - 1] = i;
+                grams.put(gram, posting);
+            }
+        }
+
+        postings = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, posting) -> postings.put(gram, Arrays.copyOf(posting, counts.get(gram))));
+    }
+
+    /**
+     * text 를 포함하는 값 목록
+     *
+     * @param text  검색어
+     * @param limit 최대 개수. 넘으면 limit + 1 개까지만 반환한다.
+     * @return 값 목록
+     */
+    List<String> search(String text, int limit) {
+        List<String> result = new ArrayList<>();
+        if (text.length() < GRAM) {
+            for (String value : values) {
+                if (value.contains(text) && add(result, value, limit)) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        int[] candidates = null;
+        for (int start = 0; start + GRAM <= text.length(); start++) {
+            int[] posting = postings.getOrDefault(text.substring(start, start + GRAM), NONE);
+            if (candidates == null || posting.length < candidates.length) {
+                candidates = posting;
+            }
+            if (candidates.length == 0) {
+                return result;
+            }
+        }
+        for (int i : candidates) {
+            if (values[i].contains(text) && add(result, values[i], limit)) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static boolean add(List<String> result, String value, int limit) {
+        result.add(value);
+        return result.size() > limit;
+    }
+
+    int size() {
+        return values.length;
+    }
+}
@@ -0,0 +1,228 @@
+package com.thinkm.common.util.query;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.thinkm.common.util.Elastic.AFTER_KEY;
+
+/**
+ * elastic/*.json 쿼리 파일을 미리 컴파일한 템플릿
+ * <p>
+ * 쿼리 파일을 literal / param(`#{KEY}`) / 동적 블록(`#[KEY]...#[/KEY]`) segment 로 한 번만 분해해두고,
+ * 요청 시에는 segment 를 순서대로 한 번만 순회하며 쿼리를 만든다.
+ * <p>
+ * - param 치환 규칙 (기존 ElasticClient.applyParamToQuery 와 동일)
+ * <pre>
+ * `_raw` 로 시작하는 key, after_key : 값을 그대로 삽입
+ * 그 외                                : quote 로 감싸고 JSON escape 하여 삽입 (null, 빈값은 "")
+ * queryParams 에 없는 key             : `#{KEY}` 그대로 남김
+ * </pre>
+ * - 동적 블록 규칙
+ * <pre>
+ * dynamicParams 의 값이 true 인 블록만 포함, 나머지(false, 미지정)는 제거
+ * </pre>
+ */
+@Slf4j
+public class QueryTemplate {
+
+    private static final String PARAM_START = "#{";
+    private static final String PARAM_END = "}";
+    private static final String BLOCK_START = "#[";
+    private static final String BLOCK_CLOSE = "#[/";
+    private static final String BLOCK_END = "]";
+    private static final String SQL_FLAG = "_isSql";
+    private static final String RAW_PREFIX = "_raw";
+
+    // 렌더링 시 재사용할 buffer
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+    // 재사용할 buffer 의 최대 크기. 이보다 커지면 새로 할당한다.
+    private static final int MAX_BUFFER_SIZE = 256 * 1024;
+
+    @Getter
+    private final String path;
+    private final List<Segment> segments;
+
+    private QueryTemplate(String path, List<Segment> segments) {
+        this.path = path;
+        this.segments = segments;
+    }
+
+    /**
+     * 쿼리 파일 내용을 segment 로 분해
+     *
+     * @param path   쿼리 파일 경로 (로그용)
+     * @param source 쿼리 파일 내용
+     * @return 컴파일된 템플릿
+     */
+    public static QueryTemplate compile(String path, String source) {
+        // 개행 제거, _sql 쿼리의 `""" """` 템플릿 형식을 `" "` 으로 변경
+        String query = source.replace("\n", " ").replace("\"\"\"", "\"");
+
+        List<Segment> root = new ArrayList<>();
+        List<Segment> current = root;
+        String blockName = null;
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        int len = query.length();
+        while (i < len) {
+            if (query.startsWith(PARAM_START, i)) {
+                int end = query.indexOf(PARAM_END, i + PARAM_START.length());
+                if (end > 0) {
+                    flushLiteral(literal, current);
+                    current.add(new Param(query.substring(i + PARAM_START.length(), end)));
+                    i = end + PARAM_END.length();
+                    continue;
+                }
+            } else if (query.startsWith(BLOCK_CLOSE, i)) {
+                int end = query.indexOf(BLOCK_END, i + BLOCK_CLOSE.length());
+                if (end > 0 && blockName != null) {
+                    String closeName = query.substring(i + BLOCK_CLOSE.length(), end);
+                    if (!blockName.equals(closeName)) {
+                        log.warn("Dynamic Parameter Grammar Error. [{}] #[{}] closed by #[/{}]", path, blockName, closeName);
+                    }
+                    flushLiteral(literal, current);
+                    root.add(new Block(blockName, Collections.unmodifiableList(current)));
+                    current = root;
+                    blockName = null;
+                    i = end + BLOCK_END.length();
+                    continue;
+                }
+            } else if (query.startsWith(BLOCK_START, i)) {
+                int end = query.indexOf(BLOCK_END, i + BLOCK_START.length());
+                if (end > 0 && blockName == null) {
+                    flushLiteral(literal, current);
+                    blockName = query.substring(i + BLOCK_START.length(), end);
+                    current = new ArrayList<>();
+                    i = end + BLOCK_END.length();
+                    continue;
+                }
+            }
+            literal.append(query.charAt(i));
+            i++;
+        }
+
+        if (blockName != null) {
+            // 닫히지 않은 블록은 블록 밖 내용으로 취급
+            log.warn("Dynamic Parameter Grammar Error. [{}] #[{}] is not closed", path, blockName);
+            root.add(new Literal(BLOCK_START + blockName + BLOCK_END));
+            root.addAll(current);
+        }
+        flushLiteral(literal, root);
+
+        return new QueryTemplate(path, Collections.unmodifiableList(root));
+    }
+
+    private static void flushLiteral(StringBuilder literal, List<Segment> segments) {
+        if (!literal.isEmpty()) {
+            segments.add(new Literal(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    /**
+     * 쿼리 파라미터를 적용하여 쿼리 생성
+     *
+     * @param queryParams   쿼리 파라미터 맵 (nullable)
+     * @param dynamicParams 동적 쿼리 맵 (nullable)
+     * @return 완성된 쿼리
+     */
+    public String render(Map<String, Object> queryParams, Map<String, Boolean> dynamicParams) {
+        char sep = '"';
+        if (queryParams != null && Boolean.TRUE.equals(queryParams.get(SQL_FLAG))) {
+            sep = '\'';
+        }
+
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        try {
+            for (Segment segment : segments) {
+                if (segment instanceof Block block) {
+                    if (dynamicParams != null && Boolean.TRUE.equals(dynamicParams.get(block.name()))) {
+                        for (Segment child : block.children()) {
+                            append(sb, child, queryParams, sep);
+                        }
+                    }
+                } else {
+                    append(sb, segment, queryParams, sep);
+                }
+            }
+            return sb.toString();
+        } finally {
+            if (sb.capacity() > MAX_BUFFER_SIZE) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    private static void append(StringBuilder sb, Segment segment, Map<String, Object> queryParams, char sep) {
+        if (segment instanceof Literal literal) {
+            sb.append(literal.text());
+            return;
+        }
+
+        String name = ((Param) segment).name();
+        if (queryParams == null || !queryParams.containsKey(name)) {
+            // 치환할 값이 없으면 그대로 둠
+            sb.append(PARAM_START).append(name).append(PARAM_END);
+            return;
+        }
+
+        Object param = queryParams.get(name);
+        if (name.startsWith(RAW_PREFIX) || AFTER_KEY.equalsIgnoreCase(name)) {
+            // _raw 로 시작하는 key 면 quote 없이 inject
+            sb.append(param);
+            return;
+        }
+
+        sb.append(sep);
+        if (param != null) {
+            appendEscaped(sb, String.valueOf(param), sep);
+        }
+        sb.append(sep);
+    }
+
+    /**
+     * JSON string 안에 들어갈 값을 escape 하여 추가.
+     * sql 쿼리(`'` 로 감싸는 경우)는 `'` 도 `''` 로 escape 한다.
+     */
+    static void appendEscaped(StringBuilder sb, String value, char sep) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                case '\'' -> sb.append(sep == '\'' ? "''" : "'");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private sealed interface Segment permits Literal, Param, Block {
+    }
+
+    private record Literal(String text) implements Segment {
+    }
+
+    private record Param(String name) implements Segment {
+    }
+
+    private record Block(String name, List<Segment> children) implements Segment {
+    }
+}
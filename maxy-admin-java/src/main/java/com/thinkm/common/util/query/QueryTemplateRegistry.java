@@ -0,0 +1,74 @@
+package com.thinkm.common.util.query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * classpath 의 elastic/** 쿼리 파일을 {@link QueryTemplate} 으로 컴파일하여 보관
+ * <p>
+ * 기동 시 전체 쿼리 파일을 컴파일하고, 이후 요청에서는 컴파일된 템플릿만 사용한다.
+ */
+@Slf4j
+@Component
+public class QueryTemplateRegistry {
+
+    private static final String BASE_DIR = "elastic/";
+
+    // key: elastic/ 하위 경로 (ex. db/device/user-count-by-all.json)
+    private final Map<String, QueryTemplate> templates = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        long s1 = System.currentTimeMillis();
+        try {
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+            for (Resource resource : resolver.getResources("classpath*:" + BASE_DIR + "**/*.json")) {
+                String url = resource.getURL().toString();
+                String path = url.substring(url.lastIndexOf(BASE_DIR) + BASE_DIR.length());
+                try (InputStream is = resource.getInputStream()) {
+                    templates.put(path, QueryTemplate.compile(path, new String(is.readAllBytes(), StandardCharsets.UTF_8)));
+                }
+            }
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+        log.info("query templates compiled: {} ({}ms)", templates.size(), System.currentTimeMillis() - s1);
+    }
+
+    /**
+     * 컴파일된 쿼리 템플릿 조회. 기동 시 로드되지 않은 파일은 classpath 에서 읽어 컴파일한다.
+     *
+     * @param queryFile elastic/ 하위 쿼리 파일 경로
+     * @return {@link QueryTemplate}
+     */
+    public QueryTemplate get(String queryFile) throws IOException {
+        QueryTemplate template = templates.get(queryFile);
+        if (template != null) {
+            return template;
+        }
+
+        String path = BASE_DIR + queryFile;
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream(path)) {
+            if (is == null) {
+                throw new FileNotFoundException("JSON file [" + path + "] not found in the classpath.");
+            }
+            template = QueryTemplate.compile(queryFile, new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        templates.put(queryFile, template);
+        return template;
+    }
+
+    public int size() {
+        return templates.size();
+    }
+}
@@ -0,0 +1,145 @@
+package com.thinkm.common.util.retrace;
+
+import java.util.*;
+
+/**
+ * Arxan 난독화 rule (난독화 문자열 -> 원본 문자열) 을 trie 로 compile 한 치환기
+ * <p>
+ * 문자열을 앞에서부터 한 번만 읽으면서 각 위치에서 가장 긴 rule 을 찾아 치환한다. (leftmost-longest)
+ * 위치마다 trie 를 따라가는 길이는 가장 긴 rule 길이를 넘지 않으므로 rule 수와 관계없이
+ * 문자열 길이에 비례하는 시간으로 처리된다.
+ * <p>
+ * compile 이후에는 읽기만 하므로 여러 thread 에서 공유해도 된다.
+ */
+public final class ArxanMatcher {
+
+    private final Node root;
+    private final int ruleCount;
+
+    private ArxanMatcher(Node root, int ruleCount) {
+        this.root = root;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * rule 목록 compile. 같은 난독화 문자열이 여러 번 있으면 먼저 나온 rule 을 사용한다.
+     *
+     * @param rules {난독화 문자열: 원본 문자열} 목록
+     * @return ArxanMatcher
+     */
+    public static ArxanMatcher compile(List<Map<String, String>> rules) {
+        BuildNode buildRoot = new BuildNode();
+        int count = 0;
+        for (Map<String, String> rule : rules) {
+            for (Map.Entry<String, String> entry : rule.entrySet()) {
+                String key = entry.getKey();
+                if (key == null || key.isEmpty() || entry.getValue() == null) {
+                    continue;
+                }
+                BuildNode node = buildRoot;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+                }
+                if (node.replacement == null) {
+                    node.replacement = entry.getValue();
+                    count++;
+                }
+            }
+        }
+        return new ArxanMatcher(buildRoot.freeze(), count);
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * rule 에 해당하는 문자열을 모두 원본 문자열로 치환
+     *
+     * @param text 난독화 문자열
+     * @return 치환된 문자열, 치환할 것이 없으면 text 그대로
+     */
+    public String replace(String text) {
+        if (text == null || text.isEmpty() || ruleCount == 0) {
+            return text;
+        }
+
+        StringBuilder sb = null;
+        int length = text.length();
+        int copied = 0;
+        int i = 0;
+        while (i < length) {
+            // i 에서 시작하는 가장 긴 rule 탐색
+            Node node = root;
+            String replacement = null;
+            int matchEnd = -1;
+            for (int j = i; j < length; j++) {
+                node = node.child(text.charAt(j));
+                if (node == null) {
+                    break;
+                }
+                if (node.replacement != null) {
+                    replacement = node.replacement;
+                    matchEnd = j + 1;
+                }
+            }
+
+            if (replacement == null) {
+                i++;
+                continue;
+            }
+
+            if (sb == null) {
+                sb = new StringBuilder(length + 64);
+            }
+            sb.append(text, copied, i).append(replacement);
+            i = matchEnd;
+            copied = matchEnd;
+        }
+
+        if (sb == null) {
+            return text;
+        }
+        return sb.append(text, copied, length).toString();
+    }
+
+    /**
+     * 조회용 node. 자식은 문자 순으로 정렬된 배열에서 binary search
+     */
+    private static final class Node {
+        private final char[] labels;
+        private final Node[] children;
+        private final String replacement;
+
+        private Node(char[] labels, Node[] children, String replacement) {
+            this.labels = labels;
+            this.children = children;
+            this.replacement = replacement;
+        }
+
+        Node child(char c) {
+            int idx = Arrays.binarySearch(labels, c);
+            return idx >= 0 ? children[idx] : null;
+        }
+    }
+
+    /**
+     * compile 중에만 사용하는 node
+     */
+    private static final class BuildNode {
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private String replacement;
+
+        Node freeze() {
+            char[] labels = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuildNode> entry : children.entrySet()) {
+                labels[i] = entry.getKey();
+                nodes[i] = entry.getValue().freeze();
+                i++;
+            }
+            return new Node(labels, nodes, replacement);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.thinkm.common.util.retrace;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import proguard.obfuscate.MappingReader;
+import proguard.retrace.FrameRemapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ProGuard mapping 파일을 읽은 {@link FrameRemapper} 캐시
+ * <pre>
+ * - key: mapping 파일 절대 경로, 파일 크기/수정 시간이 바뀌면 다시 읽는다.
+ * - 추정 heap 크기(파일 크기 * weight-factor) 합계가 max-weight-mb 를 넘으면 오래 사용하지 않은 것부터 제거 (LRU)
+ * - 같은 파일을 동시에 읽으려 하면 먼저 시작한 load 결과를 공유한다.
+ * </pre>
+ * FrameRemapper 는 load 이후에는 읽기만 하므로 여러 thread 에서 공유해도 된다.
+ */
+@Slf4j
+@Component
+public class FrameRemapperCache {
+
+    // accessOrder=true 로 LRU 순서 유지, this 로 동기화
+    private final LinkedHashMap<String, Entry> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<FrameRemapper>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictCount = new LongAdder();
+    private final LongAdder loadTimeMs = new LongAdder();
+    private volatile long lastLoadTimeMs;
+    private long totalWeight;
+
+    @Value("${maxy.retrace.cache.max-weight-mb:1024}")
+    private long maxWeightMb;
+    // mapping 파일 크기 대비 FrameRemapper heap 사용량 추정 배수
+    @Value("${maxy.retrace.cache.weight-factor:3}")
+    private int weightFactor;
+
+    /**
+     * mapping 파일의 FrameRemapper 조회, 없으면 읽어서 캐시한다.
+     *
+     * @param mappingFile ProGuard mapping 파일
+     * @return FrameRemapper
+     */
+    public FrameRemapper get(File mappingFile) throws IOException {
+        String key = mappingFile.getAbsolutePath();
+        long length = mappingFile.length();
+        long lastModified = mappingFile.lastModified();
+
+        synchronized (this) {
+            Entry entry = cache.get(key);
+            if (entry != null && entry.length() == length && entry.lastModified() == lastModified) {
+                hitCount.increment();
+                return entry.mapper();
+            }
+        }
+
+        CompletableFuture<FrameRemapper> future = new CompletableFuture<>();
+        CompletableFuture<FrameRemapper> existing = loading.putIfAbsent(key, future);
+        if (existing != null) {
+            hitCount.increment();
+            return await(existing);
+        }
+
+        missCount.increment();
+        try {
+            FrameRemapper mapper = load(mappingFile);
+            put(key, new Entry(mapper, length, lastModified, length * weightFactor));
+            future.complete(mapper);
+            return mapper;
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * mapping 파일을 미리 읽어둔다. (mapping 파일 등록 시)
+     */
+    @Async
+    public void warm(File mappingFile) {
+        try {
+            get(mappingFile);
+        } catch (Exception e) {
+            log.error("retrace cache warm error: {}, {}", mappingFile, e.getMessage(), e);
+        }
+    }
+
+    public synchronized void invalidate(String filePath) {
+        Entry entry = cache.remove(new File(filePath).getAbsolutePath());
+        if (entry != null) {
+            totalWeight -= entry.weight();
+        }
+    }
+
+    private FrameRemapper load(File mappingFile) throws IOException {
+        long s = System.currentTimeMillis();
+        FrameRemapper mapper = new FrameRemapper();
+        new MappingReader(mappingFile).pump(mapper);
+
+        long elapsed = System.currentTimeMillis() - s;
+        loadTimeMs.add(elapsed);
+        lastLoadTimeMs = elapsed;
+        log.info("[RETRACE] load mapping: {} ({} bytes) {}ms", mappingFile, mappingFile.length(), elapsed);
+        return mapper;
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        Entry old = cache.put(key, entry);
+        if (old != null) {
+            totalWeight -= old.weight();
+        }
+        totalWeight += entry.weight();
+
+        long maxWeight = maxWeightMb * 1024 * 1024;
+        Iterator<Map.Entry<String, Entry>> it = cache.entrySet().iterator();
+        // 방금 넣은 entry 는 하나만 남더라도 유지한다.
+        while (totalWeight > maxWeight && cache.size() > 1 && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            totalWeight -= eldest.getValue().weight();
+            it.remove();
+            evictCount.increment();
+            log.info("[RETRACE] evict mapping: {}", eldest.getKey());
+        }
+    }
+
+    private static FrameRemapper await(CompletableFuture<FrameRemapper> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new UncheckedIOException(new IOException(e.getCause()));
+        }
+    }
+
+    /**
+     * hit / miss / load 시간 등 캐시 상태 조회
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hit", hitCount.sum());
+        result.put("miss", missCount.sum());
+        result.put("evict", evictCount.sum());
+        result.put("loadTimeMs", loadTimeMs.sum());
+        result.put("lastLoadTimeMs", lastLoadTimeMs);
+        result.put("entries", cache.size());
+        result.put("weightBytes", totalWeight);
+        result.put("maxWeightBytes", maxWeightMb * 1024 * 1024);
+        return result;
+    }
+
+    private record Entry(FrameRemapper mapper, long length, long lastModified, long weight) {
+    }
+}
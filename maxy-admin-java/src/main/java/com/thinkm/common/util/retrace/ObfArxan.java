@@ -7,9 +7,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.Resource;
-import java.util.List;
-import java.util.Map;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Component
@@ -28,23 +25,17 @@ public class ObfArxan {
      */
     protected String retrace(ReTraceInfo info, String obfuscatedString) {
         try {
-            List<Map<String, String>> list = retraceRepository.getRULE_MAP().get(info.key());
+            // 룰과 같은 snapshot 에서 compile 된 치환기
+            ArxanMatcher matcher = retraceRepository.getARXAN_MATCHER_MAP().get(info.key());
             // 난독화 정보가 없으면 기존 string 을 반환
-            if (list == null || list.isEmpty()) {
+            if (matcher == null || matcher.getRuleCount() == 0) {
                 return obfuscatedString;
             }
 
             long s1 = System.currentTimeMillis();
 
-            String retracedString = obfuscatedString;
-            // 난독화 룰을 순차적으로 읽어들여 replace
-            // 순차적으로 읽어야하는 이유는 rule list 를 넣을 때
-            // key 문자열 길이의 desc 로 sort 했기 때문
-            for (Map<String, String> map : list) {
-                for (String str : map.keySet()) {
-                    retracedString = obfuscatedString.replaceAll(Pattern.quote(str), map.get(str));
-                }
-            }
+            // 모든 rule 을 한 번에 적용하여 가장 긴 난독화 문자열부터 치환
+            String retracedString = matcher.replace(obfuscatedString);
             log.info("[RETRACE]: " + (System.currentTimeMillis() - s1) + " ms");
             return retracedString;
         } catch (Exception e) {
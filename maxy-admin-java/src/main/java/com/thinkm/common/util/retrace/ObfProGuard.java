@@ -5,7 +5,6 @@ import com.thinkm.maxy.vo.ReTraceInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import proguard.obfuscate.MappingReader;
 import proguard.retrace.FrameInfo;
 import proguard.retrace.FramePattern;
 import proguard.retrace.FrameRemapper;
@@ -76,26 +75,22 @@ public class ObfProGuard {
             "(?:" + REGULAR_EXPRESSION_ANDROID_NATIVE + ")|" +
             "(?:" + REGULAR_EXPRESSION_THROW + ")";
 
+    // FramePattern 은 parse/format 시 matcher 를 새로 만들기 때문에 공유해도 된다.
+    private static final FramePattern PATTERN1 = new FramePattern(REGULAR_EXPRESSION, false);
+    private static final FramePattern PATTERN2 = new FramePattern(REGULAR_EXPRESSION2, false);
+    private static final FramePattern PATTERN3 = new FramePattern(REGULAR_EXPRESSION3, false);
+
     @Resource
     private final RetraceRepository retraceRepository;
+    @Resource
+    private final FrameRemapperCache frameRemapperCache;
 
     /**
      * De-obfuscates a given stack trace.
      */
     private String retrace(File mappingFile, LineNumberReader stackTraceReader) throws IOException {
-        // Create a pattern for stack frames.
-        // The settings.
-        boolean verbose = false;
-        FramePattern pattern1 = new FramePattern(REGULAR_EXPRESSION, verbose);
-        FramePattern pattern2 = new FramePattern(REGULAR_EXPRESSION2, verbose);
-        FramePattern pattern3 = new FramePattern(REGULAR_EXPRESSION3, verbose);
-
-        // Create a remapper.
-        FrameRemapper mapper = new FrameRemapper();
-
-        // Read the mapping file.
-        MappingReader mappingReader = new MappingReader(mappingFile);
-        mappingReader.pump(mapper);
+        // Get the remapper of the mapping file (cached).
+        FrameRemapper mapper = frameRemapperCache.get(mappingFile);
 
         StringBuilder builder = new StringBuilder();
         // Read and process the lines of the stack trace.
@@ -107,17 +102,17 @@ public class ObfProGuard {
             }
 
             // Try to match it against the regular expression.
-            FrameInfo obfuscatedFrame1 = pattern1.parse(obfuscatedLine);
-            FrameInfo obfuscatedFrame2 = pattern2.parse(obfuscatedLine);
-            FrameInfo obfuscatedFrame3 = pattern3.parse(obfuscatedLine);
+            FrameInfo obfuscatedFrame1 = PATTERN1.parse(obfuscatedLine);
+            FrameInfo obfuscatedFrame2 = PATTERN2.parse(obfuscatedLine);
+            FrameInfo obfuscatedFrame3 = PATTERN3.parse(obfuscatedLine);
 
-            String deobf = handle(obfuscatedFrame1, mapper, pattern1, obfuscatedLine);
+            String deobf = handle(obfuscatedFrame1, mapper, PATTERN1, obfuscatedLine);
             // DIRTY FIX:
             // I have to execute it two times because recent Java stacktraces may have multiple fields/methods in the same line.
             // For example: java.lang.NullPointerException: Cannot invoke "com.example.Foo.bar.foo(int)" because the return value of "com.example.Foo.bar.foo2()" is null
-            deobf = handle(obfuscatedFrame2, mapper, pattern2, deobf);
+            deobf = handle(obfuscatedFrame2, mapper, PATTERN2, deobf);
             // Handle Android native stack trace format
-            deobf = handle(obfuscatedFrame3, mapper, pattern3, deobf);
+            deobf = handle(obfuscatedFrame3, mapper, PATTERN3, deobf);
 
             builder.append(deobf).append("\n");
         }
@@ -1,12 +1,22 @@
 package com.thinkm.common.util.retrace;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.thinkm.maxy.repository.RetraceRepository;
 import com.thinkm.maxy.vo.ReTraceInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @Component
@@ -21,6 +31,52 @@ public class ReTrace {
     @Resource
     private final ObfArxan obfArxan;
 
+    @Value("${maxy.retrace.batch.threads:4}")
+    private int batchThreads;
+    @Value("${maxy.retrace.batch.cache-size:2000}")
+    private long batchCacheSize;
+    @Value("${maxy.retrace.batch.cache-expire-minutes:10}")
+    private long batchCacheExpireMinutes;
+
+    private ThreadPoolExecutor executor;
+    // 최근 retrace 결과 (다음 page 조회 시 재사용)
+    private Cache<StackKey, String> resultCache;
+
+    private final LongAdder batchItems = new LongAdder();
+    private final LongAdder batchDistinct = new LongAdder();
+    private final LongAdder batchCacheHits = new LongAdder();
+
+    /**
+     * @param version  룰 version (룰이 바뀌면 이전 결과는 사용하지 않음)
+     * @param infoKey  {@link ReTraceInfo#key()}
+     * @param original 난독화 문자열
+     */
+    record StackKey(long version, String infoKey, String original) {
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        int threads = Math.max(1, batchThreads);
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 64),
+                r -> {
+                    Thread t = new Thread(r, "retrace-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        resultCache = Caffeine.newBuilder()
+                .maximumSize(batchCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(batchCacheExpireMinutes))
+                .build();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
     public String convert(ReTraceInfo info, String obfuscatedString) {
         try {
             return switch (repository.getOBF_TYPE_MAP().get(info.key())) {
@@ -31,4 +87,75 @@ public class ReTrace {
             return obfuscatedString;
         }
     }
+
+    /**
+     * 목록의 field 값을 한 번에 retrace
+     * <pre>
+     * - (ReTraceInfo key, 난독화 문자열) 이 같은 item 은 한 번만 retrace 하고 결과를 나눠 쓴다.
+     * - 서로 다른 문자열은 retrace pool 에서 병렬로 처리
+     * - 최근 결과는 cache 하여 다음 page 조회에서 재사용
+     * </pre>
+     *
+     * @param items 조회 결과 목록 (packageNm, serverType, osType, appVer, appBuildNum 포함)
+     * @param field retrace 할 field (ex. logName)
+     */
+    public void convertAll(List<Map<String, Object>> items, String field) {
+        long version = repository.getVersion();
+        // 같은 stack 을 가진 item 묶음
+        Map<StackKey, List<Map<String, Object>>> groups = new LinkedHashMap<>();
+        Map<StackKey, ReTraceInfo> infos = new HashMap<>();
+        for (Map<String, Object> item : items) {
+            ReTraceInfo info = ReTraceInfo.fromMap(item);
+            if (info == null) {
+                continue;
+            }
+            StackKey key = new StackKey(version, info.key(), String.valueOf(item.get(field)));
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+            infos.putIfAbsent(key, info);
+        }
+        batchItems.add(items.size());
+        batchDistinct.add(groups.size());
+
+        Map<StackKey, Future<String>> futures = new HashMap<>();
+        Map<StackKey, String> results = new HashMap<>();
+        for (StackKey key : groups.keySet()) {
+            String cached = resultCache.getIfPresent(key);
+            if (cached != null) {
+                batchCacheHits.increment();
+                results.put(key, cached);
+            } else {
+                futures.put(key, executor.submit(() -> convert(infos.get(key), key.original())));
+            }
+        }
+        futures.forEach((key, future) -> {
+            String result;
+            try {
+                result = future.get();
+                resultCache.put(key, result);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result = key.original();
+            } catch (ExecutionException e) {
+                result = key.original();
+            }
+            results.put(key, result);
+        });
+
+        groups.forEach((key, list) -> {
+            String result = results.get(key);
+            for (Map<String, Object> item : list) {
+                item.put(field, result);
+            }
+        });
+    }
+
+    public Map<String, Object> getBatchStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("items", batchItems.sum());
+        result.put("distinct", batchDistinct.sum());
+        result.put("cacheHits", batchCacheHits.sum());
+        result.put("cacheSize", resultCache.estimatedSize());
+        result.put("queueSize", executor.getQueue().size());
+        return result;
+    }
 }
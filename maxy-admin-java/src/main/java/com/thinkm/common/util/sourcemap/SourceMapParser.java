@@ -2,11 +2,13 @@ package com.thinkm.common.util.sourcemap;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.thinkm.common.util.JsonUtil;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -14,6 +16,8 @@ public final class SourceMapParser {
 
     private static final String BASE64_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
     private static final int[] BASE64_MAP = new int[128];
+    // segment 에 값이 없음
+    static final int NONE = -1;
 
     static {
         Arrays.fill(BASE64_MAP, -1);
@@ -26,8 +30,14 @@ public final class SourceMapParser {
     }
 
     public static ParsedSourceMap parse(String json) throws IOException {
-        JsonNode root = JsonUtil.readTree(json);
+        return parse(JsonUtil.readTree(json));
+    }
+
+    public static ParsedSourceMap parse(InputStream json) throws IOException {
+        return parse(JsonUtil.readTree(json));
+    }
 
+    private static ParsedSourceMap parse(JsonNode root) {
         if (root.has("sections")) {
             throw new IllegalArgumentException("Indexed source maps (sections) are not supported.");
         }
@@ -39,18 +49,15 @@ public final class SourceMapParser {
                 ? readStringArray(root.get("sourcesContent"))
                 : null;
 
-        List<List<Segment>> lines = parseMappings(mappings);
-
-        ParsedSourceMap parsed = new ParsedSourceMap();
-        parsed.setVersion(root.path("version").asInt());
-        parsed.setFile(optText(root, "file"));
-        parsed.setSourceRoot(optText(root, "sourceRoot"));
-        parsed.setSources(sources);
-        parsed.setNames(names);
-        parsed.setSourcesContent(sourcesContent);
-        parsed.setLines(lines);
-
-        return parsed;
+        return new ParsedSourceMap(
+                root.path("version").asInt(),
+                optText(root, "file"),
+                optText(root, "sourceRoot"),
+                sources,
+                names,
+                sourcesContent,
+                parseMappings(mappings)
+        );
     }
 
     private static String optText(JsonNode node, String field) {
@@ -69,10 +76,35 @@ public final class SourceMapParser {
         return list;
     }
 
-    private static List<List<Segment>> parseMappings(String mappings) {
-        List<List<Segment>> lines = new ArrayList<>();
+    static MappingIndex parseMappings(String mappings) {
+        // 1) segment / line 수를 먼저 세어 배열을 한 번에 할당
+        int segmentCount = 0;
+        int lineCount = 1;
+        boolean inSegment = false;
+        for (int i = 0; i < mappings.length(); i++) {
+            char ch = mappings.charAt(i);
+            if (ch == ';') {
+                lineCount++;
+                inSegment = false;
+            } else if (ch == ',') {
+                inSegment = false;
+            } else if (!inSegment) {
+                segmentCount++;
+                inSegment = true;
+            }
+        }
+
+        int[] lineOffsets = new int[lineCount + 1];
+        int[] genColumns = new int[segmentCount];
+        int[] sources = new int[segmentCount];
+        int[] origLines = new int[segmentCount];
+        int[] origColumns = new int[segmentCount];
+        int[] names = new int[segmentCount];
+
+        // 2) VLQ decode (segment 별 객체 할당 없음)
+        VlqDecoder decoder = new VlqDecoder(mappings);
         int generatedLine = 0;
-        int index = 0;
+        int seg = 0;
 
         int prevGenCol = 0;
         int prevSrc = 0;
@@ -80,175 +112,86 @@ public final class SourceMapParser {
         int prevOrigCol = 0;
         int prevName = 0;
 
-        while (index < mappings.length()) {
-            char ch = mappings.charAt(index);
+        while (decoder.hasMore()) {
+            char ch = decoder.peek();
 
             if (ch == ';') {
                 generatedLine++;
-                index++;
+                lineOffsets[generatedLine] = seg;
+                decoder.skip();
                 prevGenCol = 0;
-                prevSrc = 0;
-                prevOrigLine = 0;
-                prevOrigCol = 0;
-                prevName = 0;
                 continue;
             }
 
             if (ch == ',') {
-                index++;
+                decoder.skip();
                 continue;
             }
 
-            Segment seg = new Segment();
-
-            VLQResult r = decodeVLQ(mappings, index);
-            prevGenCol += r.value();
-            seg.setGeneratedColumn(prevGenCol);
-            index = r.nextIndex();
+            prevGenCol += decoder.next();
+            genColumns[seg] = prevGenCol;
+            sources[seg] = NONE;
+            origLines[seg] = NONE;
+            origColumns[seg] = NONE;
+            names[seg] = NONE;
 
-            if (index >= mappings.length()
-                || mappings.charAt(index) == ','
-                || mappings.charAt(index) == ';') {
-                addSegment(lines, generatedLine, seg);
+            if (decoder.atSegmentEnd()) {
+                seg++;
                 continue;
             }
 
-            r = decodeVLQ(mappings, index);
-            prevSrc += r.value();
-            seg.setSource(prevSrc);
-            index = r.nextIndex();
-
-            r = decodeVLQ(mappings, index);
-            prevOrigLine += r.value();
-            seg.setOriginalLine(prevOrigLine);
-            index = r.nextIndex();
-
-            r = decodeVLQ(mappings, index);
-            prevOrigCol += r.value();
-            seg.setOriginalColumn(prevOrigCol);
-            index = r.nextIndex();
-
-            if (index < mappings.length()
-                && mappings.charAt(index) != ','
-                && mappings.charAt(index) != ';') {
-                r = decodeVLQ(mappings, index);
-                prevName += r.value();
-                seg.setName(prevName);
-                index = r.nextIndex();
-            }
+            prevSrc += decoder.next();
+            sources[seg] = prevSrc;
+            prevOrigLine += decoder.next();
+            origLines[seg] = prevOrigLine;
+            prevOrigCol += decoder.next();
+            origColumns[seg] = prevOrigCol;
 
-            addSegment(lines, generatedLine, seg);
-        }
-
-        for (List<Segment> arr : lines) {
-            if (arr != null && !arr.isEmpty()) {
-                arr.sort(Comparator.comparingInt(Segment::getGeneratedColumn));
+            if (!decoder.atSegmentEnd()) {
+                prevName += decoder.next();
+                names[seg] = prevName;
             }
+            seg++;
         }
+        lineOffsets[lineCount] = seg;
 
-        return lines;
-    }
-
-    private static void addSegment(List<List<Segment>> lines, int line, Segment seg) {
-        while (lines.size() <= line) {
-            lines.add(null);
-        }
-        List<Segment> row = lines.get(line);
-        if (row == null) {
-            row = new ArrayList<>();
-            lines.set(line, row);
+        MappingIndex index = new MappingIndex(lineOffsets, genColumns, sources, origLines, origColumns, names);
+        for (int line = 0; line < lineCount; line++) {
+            index.sortLine(line);
         }
-        row.add(seg);
-    }
-
-    private static VLQResult decodeVLQ(String str, int indexRef) {
-        int result = 0;
-        int shift = 0;
-        boolean continuation;
-        int index = indexRef;
-
-        do {
-            if (index >= str.length()) {
-                throw new IllegalArgumentException("Unexpected end of VLQ sequence");
-            }
-            char ch = str.charAt(index++);
-            if (ch >= BASE64_MAP.length || BASE64_MAP[ch] < 0) {
-                throw new IllegalArgumentException("Invalid VLQ character: " + ch);
-            }
-            int digit = BASE64_MAP[ch];
-            continuation = (digit & 32) != 0;
-            digit &= 31;
-            result += digit << shift;
-            shift += 5;
-        } while (continuation);
-
-        boolean negate = (result & 1) == 1;
-        result >>= 1;
-        return new VLQResult(negate ? -result : result, index);
+        return index;
     }
 
     public static OriginalPosition originalPositionFor(ParsedSourceMap parsed, int line1, int column1) {
         int line = line1 - 1;
         int column = column1 - 1;
 
-        if (line < 0 || line >= parsed.getLines().size()) {
-            return null;
-        }
-
-        List<Segment> segments = parsed.getLines().get(line);
-        if (segments == null || segments.isEmpty()) {
+        MappingIndex index = parsed.getMappings();
+        int seg = index.find(line, column);
+        if (seg < 0) {
             return null;
         }
 
-        Segment seg = getSegment(segments, column);
-        if (seg.getSource() == null) {
+        int sourceIndex = index.sources[seg];
+        if (sourceIndex == NONE) {
             return null;
         }
 
-        String source = resolveSource(parsed, seg.getSource());
-        int origLine = seg.getOriginalLine() != null ? seg.getOriginalLine() + 1 : 1;
-        int origCol = seg.getOriginalColumn() != null ? seg.getOriginalColumn() + 1 : 1;
-        String name = seg.getName() != null && seg.getName() < parsed.getNames().size()
-                ? parsed.getNames().get(seg.getName())
+        String source = resolveSource(parsed, sourceIndex);
+        int origLine = index.origLines[seg] != NONE ? index.origLines[seg] + 1 : 1;
+        int origCol = index.origColumns[seg] != NONE ? index.origColumns[seg] + 1 : 1;
+        int nameIndex = index.names[seg];
+        String name = nameIndex != NONE && nameIndex < parsed.getNames().size()
+                ? parsed.getNames().get(nameIndex)
                 : null;
 
         String snippet = null;
-        if (parsed.getSourcesContent() != null
-            && seg.getSource() < parsed.getSourcesContent().size()) {
-            String text = parsed.getSourcesContent().get(seg.getSource());
-            if (text != null) {
-                snippet = codeFrame(text, origLine, origCol, 3);
-            }
-        }
-
-        return new OriginalPosition(source, origLine, origCol, name, seg.getSource(), snippet);
-    }
-
-    private static Segment getSegment(List<Segment> segments, int column) {
-        int lo = 0;
-        int hi = segments.size() - 1;
-        int idx = -1;
-
-        while (lo <= hi) {
-            int mid = (lo + hi) >>> 1;
-            int gc = segments.get(mid).getGeneratedColumn();
-            if (gc == column) {
-                idx = mid;
-                break;
-            }
-            if (gc < column) {
-                idx = mid;
-                lo = mid + 1;
-            } else {
-                hi = mid - 1;
-            }
+        String[] sourceLines = parsed.getSourceLines(sourceIndex);
+        if (sourceLines != null) {
+            snippet = codeFrame(sourceLines, origLine, origCol, 3);
         }
 
-        if (idx == -1) {
-            idx = 0;
-        }
-
-        return segments.get(idx);
+        return new OriginalPosition(source, origLine, origCol, name, sourceIndex, snippet);
     }
 
     private static String resolveSource(ParsedSourceMap parsed, int sourceIndex) {
@@ -340,7 +283,10 @@ public final class SourceMapParser {
 
 
     public static String codeFrame(String text, int line1, int column1, int contextLines) {
-        String[] lines = text.split("\\R");
+        return codeFrame(text.split("\\R"), line1, column1, contextLines);
+    }
+
+    public static String codeFrame(String[] lines, int line1, int column1, int contextLines) {
         int idx = line1 - 1;
         int from = Math.max(0, idx - contextLines);
         int to = Math.min(lines.length, idx + contextLines + 1);
@@ -364,9 +310,6 @@ public final class SourceMapParser {
         return sb.toString();
     }
 
-    private record VLQResult(int value, int nextIndex) {
-    }
-
     private static String normalizeFrameFile(String file) {
         if (file == null) {
             return "";
@@ -404,27 +347,246 @@ public final class SourceMapParser {
                 || candidate.contains(".tsx");
     }
 
-    @Setter
     @Getter
     public static final class ParsedSourceMap {
-        private int version;
-        private String file;
-        private String sourceRoot;
-        private List<String> sources;
-        private List<String> names;
-        private List<String> sourcesContent;
-        private List<List<Segment>> lines;
+        private final int version;
+        private final String file;
+        private final String sourceRoot;
+        private final List<String> sources;
+        private final List<String> names;
+        private final List<String> sourcesContent;
+        private final MappingIndex mappings;
+        // snippet 요청 시에만 sourcesContent 를 line 단위로 나눠서 보관
+        @Getter(AccessLevel.NONE)
+        private final AtomicReferenceArray<String[]> sourceLines;
+
+        ParsedSourceMap(int version, String file, String sourceRoot,
+                        List<String> sources, List<String> names, List<String> sourcesContent,
+                        MappingIndex mappings) {
+            this.version = version;
+            this.file = file;
+            this.sourceRoot = sourceRoot;
+            this.sources = sources;
+            this.names = names;
+            this.sourcesContent = sourcesContent;
+            this.mappings = mappings;
+            this.sourceLines = new AtomicReferenceArray<>(sourcesContent != null ? sourcesContent.size() : 0);
+        }
+
+        /**
+         * sourcesContent 의 line 목록. 처음 요청될 때 나눈다.
+         *
+         * @return 없으면 null
+         */
+        public String[] getSourceLines(int sourceIndex) {
+            if (sourceIndex < 0 || sourceIndex >= sourceLines.length()) {
+                return null;
+            }
+            String[] lines = sourceLines.get(sourceIndex);
+            if (lines == null) {
+                String text = sourcesContent.get(sourceIndex);
+                if (text == null) {
+                    return null;
+                }
+                lines = text.split("\\R");
+                sourceLines.compareAndSet(sourceIndex, null, lines);
+            }
+            return lines;
+        }
+
+        /**
+         * 추정 heap 사용량 (byte)
+         */
+        public long estimatedBytes() {
+            long bytes = mappings.estimatedBytes();
+            bytes += estimateStrings(sources) + estimateStrings(names) + estimateStrings(sourcesContent);
+            return bytes;
+        }
 
+        private static long estimateStrings(List<String> list) {
+            if (list == null) {
+                return 0;
+            }
+            long bytes = 0;
+            for (String str : list) {
+                // String header + byte[] (Latin1 기준)
+                bytes += 40 + (str != null ? str.length() : 0);
+            }
+            return bytes;
+        }
     }
 
-    @Setter
-    @Getter
-    public static final class Segment {
-        private int generatedColumn;
-        private Integer source;
-        private Integer originalLine;
-        private Integer originalColumn;
-        private Integer name;
+    /**
+     * mappings 를 column 별 int 배열로 보관하는 index
+     * <pre>
+     * - lineOffsets[line] ~ lineOffsets[line + 1] : generated line 의 segment 범위
+     * - 각 segment 의 값은 같은 index 의 genColumns / sources / origLines / origColumns / names
+     * - 값이 없으면 {@link #NONE}
+     * </pre>
+     */
+    public static final class MappingIndex {
+        private final int[] lineOffsets;
+        private final int[] genColumns;
+        private final int[] sources;
+        private final int[] origLines;
+        private final int[] origColumns;
+        private final int[] names;
+
+        MappingIndex(int[] lineOffsets, int[] genColumns, int[] sources,
+                     int[] origLines, int[] origColumns, int[] names) {
+            this.lineOffsets = lineOffsets;
+            this.genColumns = genColumns;
+            this.sources = sources;
+            this.origLines = origLines;
+            this.origColumns = origColumns;
+            this.names = names;
+        }
+
+        public int lineCount() {
+            return lineOffsets.length - 1;
+        }
+
+        public int segmentCount() {
+            return genColumns.length;
+        }
+
+        /**
+         * generated line/column(0 부터 시작) 에 해당하는 segment 위치
+         * <p>
+         * column 이하인 마지막 segment, 없으면 line 의 첫 segment
+         *
+         * @return segment 위치, line 에 segment 가 없으면 -1
+         */
+        int find(int line, int column) {
+            if (line < 0 || line >= lineCount()) {
+                return -1;
+            }
+            int from = lineOffsets[line];
+            int to = lineOffsets[line + 1];
+            if (from == to) {
+                return -1;
+            }
+
+            int lo = from;
+            int hi = to - 1;
+            int idx = -1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int gc = genColumns[mid];
+                if (gc == column) {
+                    return mid;
+                }
+                if (gc < column) {
+                    idx = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return idx == -1 ? from : idx;
+        }
+
+        /**
+         * line 내 segment 를 generated column 순으로 정렬 (대부분 이미 정렬되어 있음)
+         */
+        void sortLine(int line) {
+            int from = lineOffsets[line];
+            int to = lineOffsets[line + 1];
+            boolean sorted = true;
+            for (int i = from + 1; i < to; i++) {
+                if (genColumns[i - 1] > genColumns[i]) {
+                    sorted = false;
+                    break;
+                }
+            }
+            if (sorted) {
+                return;
+            }
+
+            // (column, 원래 위치) 를 long 하나로 묶어 정렬 (같은 column 은 원래 순서 유지)
+            int size = to - from;
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = ((long) genColumns[from + i] << 32) | i;
+            }
+            Arrays.sort(keys);
+            permute(genColumns, from, keys);
+            permute(sources, from, keys);
+            permute(origLines, from, keys);
+            permute(origColumns, from, keys);
+            permute(names, from, keys);
+        }
+
+        private static void permute(int[] arr, int from, long[] keys) {
+            int[] tmp = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                tmp[i] = arr[from + (int) keys[i]];
+            }
+            System.arraycopy(tmp, 0, arr, from, tmp.length);
+        }
+
+        long estimatedBytes() {
+            // int[] 6개 (header 16 byte)
+            return 6 * 16L + 4L * (lineOffsets.length + 5L * genColumns.length);
+        }
+    }
+
+    /**
+     * mappings 문자열을 순서대로 읽는 VLQ decoder. 값마다 객체를 만들지 않는다.
+     */
+    private static final class VlqDecoder {
+        private final String str;
+        private final int length;
+        private int index;
+
+        VlqDecoder(String str) {
+            this.str = str;
+            this.length = str.length();
+        }
+
+        boolean hasMore() {
+            return index < length;
+        }
 
+        char peek() {
+            return str.charAt(index);
+        }
+
+        void skip() {
+            index++;
+        }
+
+        boolean atSegmentEnd() {
+            if (index >= length) {
+                return true;
+            }
+            char ch = str.charAt(index);
+            return ch == ',' || ch == ';';
+        }
+
+        int next() {
+            int result = 0;
+            int shift = 0;
+            boolean continuation;
+
+            do {
+                if (index >= length) {
+                    throw new IllegalArgumentException("Unexpected end of VLQ sequence");
+                }
+                char ch = str.charAt(index++);
+                if (ch >= BASE64_MAP.length || BASE64_MAP[ch] < 0) {
+                    throw new IllegalArgumentException("Invalid VLQ character: " + ch);
+                }
+                int digit = BASE64_MAP[ch];
+                continuation = (digit & 32) != 0;
+                digit &= 31;
+                result += digit << shift;
+                shift += 5;
+            } while (continuation);
+
+            boolean negate = (result & 1) == 1;
+            result >>= 1;
+            return negate ? -result : result;
+        }
     }
 }
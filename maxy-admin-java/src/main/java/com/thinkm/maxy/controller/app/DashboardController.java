@@ -227,10 +227,10 @@ public class DashboardController {
 
             boolQuery.filter(QueryBuilders.termsQuery(Elastic.logType, MaxyLogType.NETWORK_TYPES_SET));
 
-            Map<String, Long> topBotMap = performanceAnalysisService.getResponseTopBot(boolQuery);
+            Map<String, Long> topBotMap = performanceAnalysisService.getResponseTopBot(boolQuery, from, to);
 
             // Response Chart 데이터 조회
-            Map<Integer, Integer> chartData = performanceAnalysisService.getResponseTimeData(boolQuery, topBotMap);
+            Map<Integer, Integer> chartData = performanceAnalysisService.getResponseTimeData(boolQuery, topBotMap, from, to);
 
             resultMap.put("detail", topBotMap);
             resultMap.put("chartData", chartData);
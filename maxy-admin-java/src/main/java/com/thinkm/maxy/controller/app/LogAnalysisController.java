@@ -11,6 +11,7 @@ import com.thinkm.maxy.service.common.CommonService;
 import com.thinkm.maxy.service.app.DsymService;
 import com.thinkm.maxy.service.app.LogAnalysisService;
 import com.thinkm.maxy.service.app.PageService;
+import com.thinkm.maxy.service.app.SymbolicationService;
 import com.thinkm.maxy.vo.AppInfoVO;
 import com.thinkm.maxy.vo.DsymFileInfoVO;
 import com.thinkm.maxy.vo.LogRequestVO;
@@ -56,6 +57,12 @@ public class LogAnalysisController {
     @Resource
     private final DsymService dsymService;
 
+    @Resource
+    private final SymbolicationService symbolicationService;
+
+    // 한 번에 심볼리케이션할 crash 최대 수
+    private static final int MAX_SYMBOLICATE_CRASHES = 200;
+
     // UserID 마스킹 여부
     @Value("${maxy.userid-masking:false}")
     private boolean userIdMasking;
@@ -281,13 +288,10 @@ public class LogAnalysisController {
             HttpServletRequest request,
             HttpServletResponse response
     ) {
-        List<Map<String, Object>> logMap = new ArrayList<>();
         try {
             String logTypes = vo.getSearchLogType().get(0);
             List<String> logTypeList = new ArrayList<>(Arrays.asList(logTypes.split(",")));
-            if (!logTypeList.isEmpty()) {
-                vo.setSearchLogType(logTypeList);
-            }
+            vo.setSearchLogType(logTypeList);
 
             if (vo.getOsVerListStr() != null) {
                 // osVerList 변환
@@ -295,26 +299,20 @@ public class LogAnalysisController {
                 });
                 vo.setOsVerList(osVerList);
             }
-
-            if (!logTypeList.isEmpty()) {
-                logMap = logAnalysisService.getRealTimeLogList(vo);
-                // csv 목록 reqUrl alias 변환
-                if (logMap != null && !logMap.isEmpty()) {
-                    logMap.stream().parallel().forEach(this::switchReqUrltoAlias);
-                }
-            }
         } catch (Exception e) {
             log.error(e.getMessage(), e);
+            // 조건 변환 실패 시 header 만 내려준다
+            vo.setSearchLogType(Collections.emptyList());
         }
 
         try {
-            logAnalysisService.downloadRealTimeLogList(logMap, request, response, vo);
+            // csv 목록 reqUrl alias 변환은 행 단위로 처리
+            logAnalysisService.downloadRealTimeLogList(vo, this::switchReqUrltoAlias, request, response);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
         }
     }
 
-
     private void switchReqUrltoAlias(Map<String, Object> log) {
         long logType;
         if (log != null) {
@@ -402,24 +400,11 @@ public class LogAnalysisController {
             // 필수 정보가 모두 있는 경우에만 DB 조회
             if (packageNm != null && serverType != null && osType != null && appVer != null && appBuildNum != null) {
                 try {
-                    // DsymFileInfoVO 생성 및 조회 조건 설정
-                    DsymFileInfoVO queryVO = DsymFileInfoVO.builder()
-                            .packageNm(packageNm)
-                            .serverType(serverType)
-                            .osType(osType)
-                            .appVer(appVer)
-                            .appBuildNum(appBuildNum)
-                            .build();
-
                     // DB에서 DSYM 파일 정보 조회
-                    DsymFileInfoVO dsymFileInfo = dsymService.getExistingDsymFileInfo(queryVO);
+                    DsymFileInfoVO dsymFileInfo = getDsymFileInfo(stackTraceData);
 
                     if (dsymFileInfo != null) {
-                        SymbolicationUtil util = new SymbolicationUtil();
-                        Path dsymPath = Paths.get(dsymFileInfo.getFilePath()).resolve(dsymFileInfo.getFileName());
-                        String dsymPathString = dsymPath.toString();
-
-                        SymbolicationResponseDto symbolData = util.getSymbolication(dsymPathString, (String) stackTraceData.get(Elastic.content), dsymFileInfo.getAppName());
+                        SymbolicationResponseDto symbolData = symbolicationService.symbolicate(dsymPath(dsymFileInfo), (String) stackTraceData.get(Elastic.content), dsymFileInfo.getAppName());
 
                         result.put("symbolData", symbolData);
                     } else {
@@ -437,4 +422,77 @@ public class LogAnalysisController {
 
         return ResponseEntity.ok().body(result);
     }
+
+    /**
+     * 로그 목록의 iOS crash 를 미리 심볼리케이션 (같은 dSYM 의 crash 는 CLI 1회로 처리하여 cache 에 저장)
+     * <p>
+     * 이후 {@link #getStackTrace} 는 cache 된 결과를 사용한다.
+     *
+     * @param docIds crash 로그 doc id 목록
+     * @return crashes: 대상 crash 수, dsyms: 심볼리케이션한 dSYM 수
+     */
+    @Operation(summary = "Crash 목록 심볼리케이션",
+            description = "로그 목록의 iOS Crash 를 dSYM 별로 모아 한 번에 심볼리케이션합니다.",
+            security = @SecurityRequirement(name = "JSESSIONID"))
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "심볼리케이션한 Crash 수를 반환합니다."))
+    @PostMapping(value = "/0000/symbolicateCrashList.maxy")
+    public ResponseEntity<?> symbolicateCrashList(@RequestBody List<String> docIds) {
+        if (docIds == null || docIds.isEmpty()) {
+            throw new BadRequestException(ReturnCode.ERR_EMPTY_PARAMS);
+        }
+        if (docIds.size() > MAX_SYMBOLICATE_CRASHES) {
+            docIds = docIds.subList(0, MAX_SYMBOLICATE_CRASHES);
+        }
+
+        // dSYM 조회 조건 별로 crash 묶기
+        Map<List<Object>, List<Map<String, Object>>> byBuild = new LinkedHashMap<>();
+        for (Map<String, Object> crash : logAnalysisService.getIosCrashContents(docIds)) {
+            List<Object> build = Arrays.asList(crash.get(Elastic.packageNm), crash.get(Elastic.serverType),
+                    crash.get(Elastic.osType), crash.get(Elastic.appVer), crash.get(Elastic.appBuildNum));
+            if (!build.contains(null) && crash.get(Elastic.content) != null) {
+                byBuild.computeIfAbsent(build, k -> new ArrayList<>()).add(crash);
+            }
+        }
+
+        int crashes = 0;
+        int dsyms = 0;
+        for (List<Map<String, Object>> list : byBuild.values()) {
+            try {
+                DsymFileInfoVO dsymFileInfo = getDsymFileInfo(list.get(0));
+                if (dsymFileInfo == null) {
+                    continue;
+                }
+                List<String> crashLogs = list.stream().map(c -> (String) c.get(Elastic.content)).toList();
+                symbolicationService.symbolicate(dsymPath(dsymFileInfo), dsymFileInfo.getAppName(), crashLogs);
+                crashes += crashLogs.size();
+                dsyms++;
+            } catch (Exception e) {
+                log.error("Crash 목록 심볼리케이션 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("crashes", crashes);
+        result.put("dsyms", dsyms);
+        return ResponseEntity.ok().body(result);
+    }
+
+    /**
+     * crash 정보 (packageNm, serverType, osType, appVer, appBuildNum) 의 DSYM 파일 정보
+     */
+    private DsymFileInfoVO getDsymFileInfo(Map<String, Object> crash) {
+        DsymFileInfoVO queryVO = DsymFileInfoVO.builder()
+                .packageNm((String) crash.get(Elastic.packageNm))
+                .serverType((String) crash.get(Elastic.serverType))
+                .osType((String) crash.get(Elastic.osType))
+                .appVer((String) crash.get(Elastic.appVer))
+                .appBuildNum((String) crash.get(Elastic.appBuildNum))
+                .build();
+        return dsymService.getExistingDsymFileInfo(queryVO);
+    }
+
+    private static String dsymPath(DsymFileInfoVO dsymFileInfo) {
+        Path dsymPath = Paths.get(dsymFileInfo.getFilePath()).resolve(dsymFileInfo.getFileName());
+        return dsymPath.toString();
+    }
 }
@@ -131,6 +131,29 @@ public class UserAnalyticsController {
         return ResponseEntity.ok(resultMap);
     }
 
+    @Operation(summary = "페이지 플로우 paging 조회",
+            description = "검색 조건에 맞는 사용자 페이지 플로우를 flowSize 개씩 조회합니다. 응답의 cursor 로 다음 플로우를 조회합니다.",
+            security = @SecurityRequirement(name = "JSESSIONID"))
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "페이지 플로우 목록과 다음 조회 cursor 를 반환합니다."))
+    @PostMapping(value = "/ua/0000/getPageFlowPage.maxy")
+    public ResponseEntity<?> getPageFlowPage(PageLogVO vo) {
+        if ("multiple".equals(vo.getSearchType())) {
+            ValidUtil.isValidParams(ReturnCode.ERR_EMPTY_PARAMS,
+                    vo.getPackageNm(), vo.getServerType(), vo.getSearchType());
+            if (vo.getSearchValues() == null || vo.getSearchValues().isEmpty()) {
+                throw new BadRequestException(ReturnCode.ERR_EMPTY_PARAMS);
+            }
+        } else {
+            ValidUtil.isValidParams(ReturnCode.ERR_EMPTY_PARAMS,
+                    vo.getPackageNm(), vo.getServerType(), vo.getSearchType(), vo.getSearchValue());
+        }
+        if (vo.getFrom() == null || vo.getTo() == null) {
+            throw new BadRequestException(ReturnCode.ERR_EMPTY_PARAMS);
+        }
+
+        return ResponseEntity.ok(userAnalyticsService.getUserFlowPage(vo));
+    }
+
     @Operation(summary = "페이지별 로그 목록 조회",
             description = "페이지 범위 내 로그 목록을 조회합니다.",
             security = @SecurityRequirement(name = "JSESSIONID"))
@@ -225,7 +225,7 @@ public class AdminController {
 
         // update 된 권한 갱신
         MaxyUser user = MaxyUser.getMaxyUserFromSessionInfo(request);
-        userService.refreshMenuRole(user);
+        userService.refreshMenuRole(request, user);
 
         List<MenuVO> menuList = menuService.getAllMenuList();
 
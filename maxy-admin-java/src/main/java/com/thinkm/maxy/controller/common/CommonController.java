@@ -1,8 +1,23 @@
 package com.thinkm.maxy.controller.common;
 
+import com.thinkm.common.config.audit.AuditLogWriter;
 import com.thinkm.common.config.audit.AuditType;
 import com.thinkm.common.config.audit.Auditable;
+import com.thinkm.common.config.metrics.MaxyMetrics;
+import com.thinkm.common.config.session.RedisSessionStore;
+import com.thinkm.common.util.ElasticClient;
+import com.thinkm.common.util.IndexRouter;
+import com.thinkm.common.util.SearchCoalescer;
+import com.thinkm.common.util.UrlDictionary;
+import com.thinkm.common.util.retrace.FrameRemapperCache;
+import com.thinkm.common.util.retrace.ReTrace;
 import com.thinkm.common.util.sourcemap.StackMappingResult;
+import com.thinkm.maxy.repository.AppInfoRepository;
+import com.thinkm.maxy.repository.PageRepository;
+import com.thinkm.maxy.repository.RetraceRepository;
+import com.thinkm.maxy.service.app.ScheduledReportService;
+import com.thinkm.maxy.service.app.SymbolicationService;
+import com.thinkm.maxy.service.common.SessionInfoService;
 import com.thinkm.maxy.service.common.SourceMapService;
 import com.thinkm.maxy.service.common.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,14 +25,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -26,6 +44,21 @@ public class CommonController {
 
     private final UserService userService;
     private final SourceMapService sourceMapService;
+    private final ElasticClient elasticClient;
+    private final SearchCoalescer searchCoalescer;
+    private final FrameRemapperCache frameRemapperCache;
+    private final ReTrace reTrace;
+    private final ScheduledReportService scheduledReportService;
+    private final SymbolicationService symbolicationService;
+    private final RetraceRepository retraceRepository;
+    private final AppInfoRepository appInfoRepository;
+    private final PageRepository pageRepository;
+    private final IndexRouter indexRouter;
+    private final AuditLogWriter auditLogWriter;
+    private final UrlDictionary urlDictionary;
+    private final SessionInfoService sessionInfoService;
+    private final RedisSessionStore redisSessionStore;
+    private final MaxyMetrics maxyMetrics;
 
     /**
      * Admin 패스워드 틀린 횟수 초기화
@@ -89,6 +122,52 @@ public class CommonController {
         return "ok";
     }
 
+    /**
+     * 운영 상태 조회 component 등록
+     */
+    @PostConstruct
+    public void registerStats() {
+        maxyMetrics.register("elastic.pool", elasticClient::getPoolStats);
+        maxyMetrics.register("elastic.coalesce", searchCoalescer::getStats);
+        maxyMetrics.register("retrace.cache", frameRemapperCache::getStats);
+        maxyMetrics.register("retrace.batch", reTrace::getBatchStats);
+        maxyMetrics.register("sourcemap.cache", sourceMapService::getCacheStats);
+        maxyMetrics.register("scheduled-report", scheduledReportService::getLastRunStats);
+        maxyMetrics.register("symbolication", symbolicationService::getStats);
+        maxyMetrics.register("repository.retrace", retraceRepository::getSnapshotInfo);
+        maxyMetrics.register("repository.app-info", appInfoRepository::getSnapshotInfo);
+        maxyMetrics.register("repository.page", pageRepository::getSnapshotInfo);
+        maxyMetrics.register("index-router", indexRouter::getStats);
+        maxyMetrics.register("audit-log", auditLogWriter::getStats);
+        maxyMetrics.register("url-dictionary", urlDictionary::getStats);
+        maxyMetrics.register("session.info", sessionInfoService::getStats);
+        maxyMetrics.register("session.store", redisSessionStore::getStats);
+    }
+
+    /**
+     * OpenSearch / Redis / DB / FileDB / PDF 호출 metric (Prometheus text format)
+     */
+    @Operation(summary = "Prometheus Metric",
+            description = "OpenSearch, Redis, MyBatis, FileDB, PDF 호출의 latency / payload 크기 histogram 을 Prometheus text format 으로 반환합니다.")
+    @GetMapping(value = "/health/prometheus.maxy")
+    public ResponseEntity<String> prometheus() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/plain; version=0.0.4; charset=utf-8"))
+                .body(maxyMetrics.scrape());
+    }
+
+    /**
+     * 운영 상태 조회 (connection pool, cache, repository 등 component 별 상태와 metric 요약)
+     */
+    @Operation(summary = "운영 상태",
+            description = "connection pool, cache, repository snapshot 등 component 별 상태와 호출 metric 요약을 반환합니다.")
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "component 이름을 key 로 한 상태 Map 을 반환합니다."))
+    @GetMapping(value = "/health/metrics.maxy")
+    public ResponseEntity<?> metrics(@RequestParam(required = false) String component) {
+        Map<String, Object> result = maxyMetrics.snapshot(component);
+        return ResponseEntity.ok().body(result);
+    }
+
     @GetMapping("/test")
     public ResponseEntity<?> test(@RequestParam String value) throws IOException {
         if (value != null && value.equalsIgnoreCase("1")) {
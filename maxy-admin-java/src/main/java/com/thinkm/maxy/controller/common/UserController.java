@@ -1,22 +1,20 @@
 package com.thinkm.maxy.controller.common;
 
 import com.thinkm.common.code.CommonCode;
-import com.thinkm.common.code.MaxyLogType;
 import com.thinkm.common.code.ReturnCode;
-import com.thinkm.common.code.ServerTypeCode;
 import com.thinkm.common.config.audit.AuditType;
 import com.thinkm.common.config.audit.Auditable;
+import com.thinkm.common.config.session.RedisSessionStore;
 import com.thinkm.common.exception.AuthException;
 import com.thinkm.common.exception.NoMailInfoException;
 import com.thinkm.common.util.CommonUtil;
 import com.thinkm.common.util.RSAUtil;
 import com.thinkm.common.util.ValidUtil;
 import com.thinkm.maxy.dto.otp.OtpResponseDto;
-import com.thinkm.maxy.repository.ModelRepository;
 import com.thinkm.maxy.repository.PageRepository;
-import com.thinkm.maxy.service.app.LogAnalysisService;
 import com.thinkm.maxy.service.common.MailService;
 import com.thinkm.maxy.service.common.OtpService;
+import com.thinkm.maxy.service.common.SessionInfoService;
 import com.thinkm.maxy.service.common.UserService;
 import com.thinkm.maxy.vo.MaxyUser;
 import com.thinkm.maxy.vo.UserVO;
@@ -31,6 +29,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.ModelAndView;
@@ -40,7 +42,6 @@ import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -52,11 +53,11 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
-    private final LogAnalysisService logAnalysisService;
     private final MailService mailService;
     private final PageRepository pageRepository;
-    private final ModelRepository modelRepository;
     private final OtpService otpService;
+    private final SessionInfoService sessionInfoService;
+    private final RedisSessionStore redisSessionStore;
 
     private final RSAUtil rsaUtil = new RSAUtil();
 
@@ -78,6 +79,7 @@ public class UserController {
 
         // 로그인 유저 정보 삭제
         request.getSession().setAttribute(CommonCode.loginUserKey(), null);
+        redisSessionStore.remove(request, response);
 
         // 쿠키 비우기
         Cookie cookie = new Cookie(CommonCode.COOKIE_NAME.getValue(), "");
@@ -195,6 +197,7 @@ public class UserController {
         ModelAndView mv = new ModelAndView("/common/goLoginPage");
 
         // 기존 세션 정보 제거
+        redisSessionStore.remove(request, response);
         request.getSession().invalidate();
 
         // 쿠키 삭제
@@ -295,7 +298,7 @@ public class UserController {
     }
 
     /**
-     * Session AppInfo 조회
+     * Session AppInfo 조회. 응답에 ETag 를 붙이고 If-None-Match 가 같으면 304 반환
      *
      * @param appType 앱 타입
      * @return appInfo
@@ -303,7 +306,10 @@ public class UserController {
     @Operation(summary = "세션 정보 조회",
             description = "로그인 사용자의 앱/패키지 정보를 최신화하여 반환합니다.",
             security = @SecurityRequirement(name = "JSESSIONID"))
-    @ApiResponses(@ApiResponse(responseCode = "200", description = "세션 기반 앱 정보를 반환합니다."))
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "세션 기반 앱 정보를 반환합니다."),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 와 내용이 같으면 본문 없이 반환합니다.")
+    })
     @RequestMapping(value = "/getSessionInfo.maxy")
     public ResponseEntity<?> getSessionInfo(HttpServletRequest request,
                                             @RequestParam(value = "appType", required = false) String appType) {
@@ -314,20 +320,22 @@ public class UserController {
 
         MaxyUser maxyUser = (MaxyUser) session;
         long s1 = System.currentTimeMillis();
-        userService.refreshAppInfo(maxyUser, appType);
-        log.debug("refreshAppInfo: {}ms", System.currentTimeMillis() - s1);
-
-        Map<String, Object> result = Map.ofEntries(
-                Map.entry("deviceModelList", modelRepository.getModelInfo()),
-                Map.entry("logDictionary", MaxyLogType.toMap()),
-                Map.entry("logTypeSet", logAnalysisService.getAllLogTypes()),
-                Map.entry("alias", pageRepository.getPageAlias()),
-                Map.entry("serverType", ServerTypeCode.getAll()),
-                Map.entry("appInfoData", maxyUser.getAppInfo()),
-                Map.entry("packageOrder", new ArrayList<>(maxyUser.getAppInfo().keySet()))
-        );
-
-        return ResponseEntity.ok(result);
+        SessionInfoService.Payload payload = sessionInfoService.getSessionInfo(maxyUser, appType);
+        log.debug("getSessionInfo: {}ms", System.currentTimeMillis() - s1);
+
+        // 클라이언트가 같은 내용을 가지고 있으면 본문 없이 304
+        if (payload.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            sessionInfoService.countNotModified();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(payload.etag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(payload.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(payload.body());
     }
 
     /**
@@ -274,10 +274,7 @@ public class FrontDashboardController {
                 .filter(v -> v > 0)
                 .orElseThrow(() -> new NotFoundException(ReturnCode.ERR_NOT_FOUND_DOC));
 
-        SessionDetailResponseDto.Vital vital = frontDashboardService.getSessionVitalInfo(dto, from);
-        List<SessionDetailResponseDto.PageInfo> pageInfoList = frontDashboardService.getSessionPageInfo(dto, from);
-        List<SessionDetailResponseDto.EventInfo> eventInfoList = frontDashboardService.getSessionEventInfo(dto, from);
-        return ResponseEntity.ok(new SessionDetailResponseDto(result, vital, pageInfoList, eventInfoList));
+        return ResponseEntity.ok(frontDashboardService.getSessionDetail(dto, result, from));
     }
 
     @Operation(summary = "사용자 목록", description = "사용자 리스트 반환")
@@ -69,7 +69,7 @@ public class FrontSessionReplayController {
 
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .contentType(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_NDJSON)
                 .body(stream);
     }
 
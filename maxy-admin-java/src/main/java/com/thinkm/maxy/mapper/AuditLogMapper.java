@@ -9,5 +9,7 @@ import java.util.List;
 public interface AuditLogMapper {
     void insertAuditLog(AuditLog auditLog);
 
+    void insertAuditLogList(List<AuditLog> list);
+
     List<AuditLog> selectAuditLogList(AuditLog of);
 }
@@ -19,5 +19,9 @@ public interface ObfuscationMapper {
 
     List<ObfuscationVO> selectAllObfuscationRuleList();
 
+    List<ObfuscationVO> selectAppObfuscationRuleInfoList(ObfuscationVO vo);
+
+    List<ObfuscationVO> selectAppObfuscationRuleList(ObfuscationVO vo);
+
     int countObfuscationRuleInfoList(ObfuscationVO vo);
 }
@@ -10,6 +10,8 @@ public interface PageMapper {
 
     List<PagesVO> selectPageAliasList();
 
+    List<PagesVO> selectAppPageAliasList(PagesVO vo);
+
     List<PagesVO> selectAllPageList(PagesVO vo);
 
     void replacePageInfoByCsvFile(PagesVO vo);
@@ -1,26 +1,45 @@
 package com.thinkm.maxy.repository;
 
 import com.thinkm.maxy.vo.PackageVO;
-import lombok.Getter;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-@Getter
 @Component
 public class AppInfoRepository {
-    private final Map<String, String> appInfo = new HashMap<>();
 
-    public void update(List<PackageVO> list) {
-        appInfo.clear();
+    // {packageNm: {serverType: displayNm}}
+    private volatile Snapshot<Map<String, Map<String, String>>> snapshot = Snapshot.initial(Collections.emptyMap());
+
+    public synchronized void update(List<PackageVO> list) {
+        Map<String, Map<String, String>> appInfo = new HashMap<>();
         for (PackageVO info : list) {
-            appInfo.put(info.getPackageNm() + ":"+ info.getServerType(), info.getDisplayNm());
+            appInfo.computeIfAbsent(info.getPackageNm(), k -> new HashMap<>())
+                    .put(info.getServerType(), info.getDisplayNm());
         }
+        appInfo.replaceAll((k, v) -> Collections.unmodifiableMap(v));
+        snapshot = snapshot.next(Collections.unmodifiableMap(appInfo));
     }
 
     public String get(String packageNm, String serverType) {
-        return appInfo.get(packageNm + ":" + serverType);
+        Map<String, String> serverTypeMap = snapshot.data().get(packageNm);
+        return serverTypeMap == null ? null : serverTypeMap.get(serverType);
+    }
+
+    /**
+     * app 정보가 교체될 때마다 증가하는 version
+     */
+    public long getVersion() {
+        return snapshot.version();
+    }
+
+    public Map<String, Object> getSnapshotInfo() {
+        Snapshot<Map<String, Map<String, String>>> current = snapshot;
+        Map<String, Object> result = current.info();
+        result.put("packages", current.data().size());
+        return result;
     }
 }
@@ -1,11 +1,11 @@
 package com.thinkm.maxy.repository;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -17,6 +17,28 @@ public class ModelRepository {
     private String modelInfoJson;
     private Map<String, Map<String, String>> modelInfo;
 
+    // modelInfo 로 만든 검색 index
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile ModelSearchIndex searchIndex = ModelSearchIndex.EMPTY;
+
+    // modelInfo 가 교체될 때마다 증가
+    @Setter(AccessLevel.NONE)
+    private volatile long version;
+
+    /**
+     * Model 정보 교체. 검색 index 도 함께 다시 만든다.
+     *
+     * @param modelInfo {Identifier: {nameKo, nameEn}}
+     */
+    public synchronized void setModelInfo(Map<String, Map<String, String>> modelInfo) {
+        ModelSearchIndex index = new ModelSearchIndex(modelInfo);
+        this.modelInfo = modelInfo;
+        this.searchIndex = index;
+        this.version++;
+        log.debug("model search index. models: {}", index.size());
+    }
+
     /**
      * Model Name 으로 Model Identifier 목록 검색
      *
@@ -24,24 +46,10 @@ public class ModelRepository {
      * @return Identifier set
      */
     public Set<String> search(String model) {
-        Set<String> result = new HashSet<>();
-        // 표준화 처리
-        String modelStr = model.toLowerCase().replaceAll("\\s+", "");
-        for (Map.Entry<String, Map<String, String>> entry : modelInfo.entrySet()) {
-            Map<String, String> map = entry.getValue();
-            if (map == null) continue;
-
-            // 한글/영문에 대한 표준화 처리
-            String nameKo = map.get("nameKo").toLowerCase().replaceAll("\\s+", "");
-            String nameEn = map.get("nameEn").toLowerCase().replaceAll("\\s+", "");
-
-            // 표준화 된 데이터 끼리의 검색
-            if (nameKo.contains(modelStr) || nameEn.contains(modelStr)) {
-                result.add(entry.getKey());
-            }
-        }
+        // 표준화 처리 후 검색
+        Set<String> result = searchIndex.search(ModelSearchIndex.normalize(model));
         if (result.isEmpty()) {
-            result.add(model);
+            return Set.of(model);
         }
         return result;
     }
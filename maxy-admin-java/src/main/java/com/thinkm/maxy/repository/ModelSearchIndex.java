@@ -0,0 +1,147 @@
+package com.thinkm.maxy.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Device Model 이름 검색용 index
+ * <pre>
+ * - 적재 시점에 nameKo / nameEn 을 한 번만 표준화 (소문자, 공백 제거)
+ * - 표준화된 이름의 3-gram -> model 번호 목록으로 후보를 좁힌 뒤 contains 로 확인
+ * - 3글자 미만 검색어는 표준화된 이름 배열을 순회
+ * - 자주 쓰는 검색어 결과는 cache
+ * </pre>
+ * 생성 후에는 읽기만 하므로 여러 thread 에서 공유해도 된다.
+ */
+final class ModelSearchIndex {
+
+    static final ModelSearchIndex EMPTY = new ModelSearchIndex(Collections.emptyMap());
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int GRAM = 3;
+    private static final int[] NONE = new int[0];
+
+    // model 번호 -> Identifier
+    private final String[] identifiers;
+    // model 번호 -> 표준화된 nameKo / nameEn
+    private final String[] nameKo;
+    private final String[] nameEn;
+    // 3-gram -> model 번호 (오름차순)
+    private final Map<String, int[]> postings;
+
+    private final Cache<String, Set<String>> resultCache = Caffeine.newBuilder()
+            .maximumSize(1024)
+            .build();
+
+    ModelSearchIndex(Map<String, Map<String, String>> modelInfo) {
+        int size = modelInfo.size();
+        identifiers = new String[size];
+        nameKo = new String[size];
+        nameEn = new String[size];
+
+        Map<String, BitSet> grams = new HashMap<>();
+        int i = 0;
+        for (Map.Entry<String, Map<String, String>> entry : modelInfo.entrySet()) {
+            Map<String, String> map = entry.getValue();
+            identifiers[i] = entry.getKey();
+            nameKo[i] = map == null ? null : normalize(map.get("nameKo"));
+            nameEn[i] = map == null ? null : normalize(map.get("nameEn"));
+            addGrams(grams, nameKo[i], i);
+            addGrams(grams, nameEn[i], i);
+            i++;
+        }
+
+        postings = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, bits) -> postings.put(gram, bits.stream().toArray()));
+    }
+
+    /**
+     * 표준화 처리 (한글/영문 소문자, 공백 제거)
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        return WHITESPACE.matcher(value.toLowerCase()).replaceAll("");
+    }
+
+    /**
+     * 표준화된 검색어가 nameKo / nameEn 에 포함된 model 의 Identifier 목록
+     *
+     * @param query 표준화된 검색어
+     * @return Identifier set (읽기 전용)
+     */
+    Set<String> search(String query) {
+        return resultCache.get(query, this::find);
+    }
+
+    private Set<String> find(String query) {
+        Set<String> result = new HashSet<>();
+        if (query.length() < GRAM) {
+            for (int i = 0; i < identifiers.length; i++) {
+                if (matches(i, query)) {
+                    result.add(identifiers[i]);
+                }
+            }
+            return Collections.unmodifiableSet(result);
+        }
+
+        // 검색어의 3-gram 중 후보가 가장 적은 목록부터 교집합
+        int[] candidates = null;
+        for (int start = 0; start + GRAM <= query.length(); start++) {
+            int[] posting = postings.getOrDefault(query.substring(start, start + GRAM), NONE);
+            candidates = candidates == null ? posting : intersect(candidates, posting);
+            if (candidates.length == 0) {
+                return Collections.emptySet();
+            }
+        }
+
+        // 3-gram 이 모두 있어도 연속된 문자열이 아닐 수 있으므로 확인
+        for (int i : candidates) {
+            if (matches(i, query)) {
+                result.add(identifiers[i]);
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    private boolean matches(int i, String query) {
+        return (nameKo[i] != null && nameKo[i].contains(query))
+               || (nameEn[i] != null && nameEn[i].contains(query));
+    }
+
+    int size() {
+        return identifiers.length;
+    }
+
+    private static void addGrams(Map<String, BitSet> grams, String name, int index) {
+        if (name == null) {
+            return;
+        }
+        for (int start = 0; start + GRAM <= name.length(); start++) {
+            grams.computeIfAbsent(name.substring(start, start + GRAM), k -> new BitSet()).set(index);
+        }
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+}
@@ -2,22 +2,98 @@ package com.thinkm.maxy.repository;
 
 import com.thinkm.maxy.vo.PagesVO;
 import lombok.Getter;
-import lombok.Setter;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
-@Getter
 @Component
 public class PageRepository {
 
     // key: packageNm_serverType_pageType_reqUrl, value : Alias 명
+    @Getter
     private final HashMap<String, String> ALIAS_MAP = new HashMap<>();
 
     // key: packageNm:serverType:reqUrl, value: PagesVO
+    @Getter
     private final Map<String, PagesVO> PAGE_MAP = new HashMap<>();
 
-    @Setter
-    private Map<String, Map<String, Map<String, String>>> pageAlias;
+    // {packageNm: {serverType: {reqUrl: appPageNm}}}
+    private volatile Snapshot<Map<String, Map<String, Map<String, String>>>> pageAlias = Snapshot.initial(Collections.emptyMap());
+
+    public Map<String, Map<String, Map<String, String>>> getPageAlias() {
+        return pageAlias.data();
+    }
+
+    /**
+     * alias 와 version 을 함께 조회 (version 으로 가공 결과 재사용 여부 판단)
+     */
+    public Snapshot<Map<String, Map<String, Map<String, String>>>> getPageAliasSnapshot() {
+        return pageAlias;
+    }
+
+    /**
+     * alias 전체 교체
+     *
+     * @param aliasMap {packageNm: {serverType: {reqUrl: appPageNm}}}
+     */
+    public synchronized void setPageAlias(Map<String, Map<String, Map<String, String>>> aliasMap) {
+        Map<String, Map<String, Map<String, String>>> copy = new HashMap<>();
+        aliasMap.forEach((packageNm, serverTypeMap) -> copy.put(packageNm, freeze(serverTypeMap)));
+        pageAlias = pageAlias.next(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * alias 전체를 읽어서 교체. 읽기부터 교체까지 lock 을 잡아, 그 사이 적용된 app 별 교체를 이전 데이터로 덮어쓰지 않는다.
+     *
+     * @param loader {packageNm: {serverType: {reqUrl: appPageNm}}} 조회
+     */
+    public synchronized void reloadPageAlias(Supplier<Map<String, Map<String, Map<String, String>>>> loader) {
+        setPageAlias(loader.get());
+    }
+
+    /**
+     * 한 app (packageNm, serverType) 의 alias 를 읽어서 교체 (lock 안에서 조회)
+     *
+     * @param loader {reqUrl: appPageNm} 조회
+     */
+    public synchronized void reloadPageAlias(String packageNm, String serverType, Supplier<Map<String, String>> loader) {
+        setPageAlias(packageNm, serverType, loader.get());
+    }
+
+    /**
+     * 한 app (packageNm, serverType) 의 alias 만 교체. 나머지 app 의 데이터는 그대로 재사용
+     *
+     * @param pageMap {reqUrl: appPageNm}, 비어있으면 해당 app 제거
+     */
+    public synchronized void setPageAlias(String packageNm, String serverType, Map<String, String> pageMap) {
+        Map<String, Map<String, Map<String, String>>> copy = new HashMap<>(pageAlias.data());
+        Map<String, Map<String, String>> serverTypeMap = new HashMap<>(copy.getOrDefault(packageNm, Collections.emptyMap()));
+        if (pageMap == null || pageMap.isEmpty()) {
+            serverTypeMap.remove(serverType);
+        } else {
+            serverTypeMap.put(serverType, Collections.unmodifiableMap(new HashMap<>(pageMap)));
+        }
+        if (serverTypeMap.isEmpty()) {
+            copy.remove(packageNm);
+        } else {
+            copy.put(packageNm, Collections.unmodifiableMap(serverTypeMap));
+        }
+        pageAlias = pageAlias.next(Collections.unmodifiableMap(copy));
+    }
+
+    public Map<String, Object> getSnapshotInfo() {
+        Snapshot<Map<String, Map<String, Map<String, String>>>> current = pageAlias;
+        Map<String, Object> result = current.info();
+        result.put("packages", current.data().size());
+        return result;
+    }
+
+    private static Map<String, Map<String, String>> freeze(Map<String, Map<String, String>> serverTypeMap) {
+        Map<String, Map<String, String>> copy = new HashMap<>();
+        serverTypeMap.forEach((serverType, pageMap) -> copy.put(serverType, Collections.unmodifiableMap(new HashMap<>(pageMap))));
+        return Collections.unmodifiableMap(copy);
+    }
 }
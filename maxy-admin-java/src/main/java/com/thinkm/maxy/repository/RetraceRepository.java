@@ -1,22 +1,166 @@
 package com.thinkm.maxy.repository;
 
+import com.thinkm.common.util.retrace.ArxanMatcher;
 import com.thinkm.maxy.vo.ObfuscationVO;
-import lombok.Getter;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Supplier;
 
-@Getter
 @Component
 public class RetraceRepository {
-    // 난독화 타입(Arxan / ProGuard) map
-    private final Map<String, ObfuscationVO.ObfuscatedType> OBF_TYPE_MAP = new HashMap<>();
 
-    // 파일 정보나 full text 가 있는 map
-    private final Map<String, String> RULE_INFO_MAP = new HashMap<>();
+    private volatile Snapshot<Rules> snapshot = Snapshot.initial(Rules.EMPTY);
 
-    // 룰 정보 전체가 있는 map
-    private final Map<String, List<Map<String, String>>> RULE_MAP = new HashMap<>();
+    /**
+     * 난독화 룰 전체
+     *
+     * @param OBF_TYPE_MAP       난독화 타입(Arxan / ProGuard) map
+     * @param RULE_INFO_MAP      파일 정보나 full text 가 있는 map
+     * @param RULE_MAP           룰 정보 전체가 있는 map (난독화 문자열 길이 desc 정렬)
+     * @param ARXAN_MATCHER_MAP  RULE_MAP 을 compile 한 Arxan 치환기 map
+     */
+    public record Rules(Map<String, ObfuscationVO.ObfuscatedType> OBF_TYPE_MAP,
+                        Map<String, String> RULE_INFO_MAP,
+                        Map<String, List<Map<String, String>>> RULE_MAP,
+                        Map<String, ArxanMatcher> ARXAN_MATCHER_MAP) {
+        static final Rules EMPTY = new Rules(Collections.emptyMap(), Collections.emptyMap(),
+                Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    public Map<String, ObfuscationVO.ObfuscatedType> getOBF_TYPE_MAP() {
+        return snapshot.data().OBF_TYPE_MAP();
+    }
+
+    public Map<String, String> getRULE_INFO_MAP() {
+        return snapshot.data().RULE_INFO_MAP();
+    }
+
+    public Map<String, List<Map<String, String>>> getRULE_MAP() {
+        return snapshot.data().RULE_MAP();
+    }
+
+    public Map<String, ArxanMatcher> getARXAN_MATCHER_MAP() {
+        return snapshot.data().ARXAN_MATCHER_MAP();
+    }
+
+    /**
+     * 룰 전체 교체
+     *
+     * @param ruleInfoList 룰 정보 목록
+     * @param ruleList     룰 목록
+     */
+    public synchronized void replace(List<ObfuscationVO> ruleInfoList, List<ObfuscationVO> ruleList) {
+        snapshot = snapshot.next(build(Rules.EMPTY, null, ruleInfoList, ruleList));
+    }
+
+    /**
+     * 한 app (packageNm, serverType) 의 룰만 교체. 나머지 app 의 룰과 compile 된 치환기는 그대로 재사용
+     *
+     * @param packageNm    패키지명
+     * @param serverType   서버 타입
+     * @param ruleInfoList 해당 app 의 룰 정보 목록
+     * @param ruleList     해당 app 의 룰 목록
+     */
+    public synchronized void replace(String packageNm, String serverType,
+                                     List<ObfuscationVO> ruleInfoList, List<ObfuscationVO> ruleList) {
+        String prefix = packageNm + ":" + serverType + ":";
+        snapshot = snapshot.next(build(snapshot.data(), prefix, ruleInfoList, ruleList));
+    }
+
+    /**
+     * 룰 전체를 읽어서 교체. 읽기부터 교체까지 lock 을 잡아, 그 사이 적용된 app 별 교체를 이전 데이터로 덮어쓰지 않는다.
+     *
+     * @param ruleInfoLoader 룰 정보 목록 조회
+     * @param ruleLoader     룰 목록 조회
+     */
+    public synchronized void reload(Supplier<List<ObfuscationVO>> ruleInfoLoader,
+                                    Supplier<List<ObfuscationVO>> ruleLoader) {
+        replace(ruleInfoLoader.get(), ruleLoader.get());
+    }
+
+    /**
+     * 한 app (packageNm, serverType) 의 룰을 읽어서 교체 (lock 안에서 조회)
+     */
+    public synchronized void reload(String packageNm, String serverType,
+                                    Supplier<List<ObfuscationVO>> ruleInfoLoader,
+                                    Supplier<List<ObfuscationVO>> ruleLoader) {
+        replace(packageNm, serverType, ruleInfoLoader.get(), ruleLoader.get());
+    }
+
+    /**
+     * 룰이 교체될 때마다 증가하는 version (retrace 결과 cache key 용)
+     */
+    public long getVersion() {
+        return snapshot.version();
+    }
+
+    public Map<String, Object> getSnapshotInfo() {
+        Snapshot<Rules> current = snapshot;
+        Map<String, Object> result = current.info();
+        result.put("ruleInfo", current.data().OBF_TYPE_MAP().size());
+        result.put("rule", current.data().RULE_MAP().size());
+        return result;
+    }
+
+    /**
+     * 새 룰 생성
+     *
+     * @param base   유지할 기존 룰
+     * @param prefix base 에서 제거할 key prefix, null 이면 base 를 사용하지 않음
+     */
+    private static Rules build(Rules base, String prefix,
+                               List<ObfuscationVO> ruleInfoList, List<ObfuscationVO> ruleList) {
+        Map<String, ObfuscationVO.ObfuscatedType> obfTypeMap = copyWithout(base.OBF_TYPE_MAP(), prefix);
+        Map<String, String> ruleInfoMap = copyWithout(base.RULE_INFO_MAP(), prefix);
+        Map<String, List<Map<String, String>>> ruleMap = copyWithout(base.RULE_MAP(), prefix);
+        Map<String, ArxanMatcher> matcherMap = copyWithout(base.ARXAN_MATCHER_MAP(), prefix);
+
+        // RULE_INFO_MAP: full text 컬럼이 있는 경우에만 넣는다.
+        for (ObfuscationVO item : ruleInfoList) {
+            String key = item.key();
+            if (item.getObfFullText() != null && !item.getObfFullText().isEmpty()) {
+                ruleInfoMap.put(key, item.getObfFullText());
+            }
+            obfTypeMap.put(key, item.getObfType());
+        }
+
+        // RULE_MAP
+        Map<String, List<Map<String, String>>> newRules = new HashMap<>();
+        for (ObfuscationVO item : ruleList) {
+            newRules.computeIfAbsent(item.key(), k -> new ArrayList<>())
+                    .add(Map.of(item.getObfuscationString(), item.getOriginalString()));
+        }
+        for (Map.Entry<String, List<Map<String, String>>> entry : newRules.entrySet()) {
+            List<Map<String, String>> list = entry.getValue();
+            list.sort(Comparator.comparing((Map<String, String> cp) -> {
+                int l = 0;
+                for (String str : cp.keySet()) {
+                    l = str.length();
+                }
+                return l;
+            }).reversed());
+            ruleMap.put(entry.getKey(), Collections.unmodifiableList(list));
+            // ARXAN_MATCHER_MAP: 정렬된 rule 을 key 별로 compile
+            matcherMap.put(entry.getKey(), ArxanMatcher.compile(list));
+        }
+
+        return new Rules(Collections.unmodifiableMap(obfTypeMap),
+                Collections.unmodifiableMap(ruleInfoMap),
+                Collections.unmodifiableMap(ruleMap),
+                Collections.unmodifiableMap(matcherMap));
+    }
+
+    private static <V> Map<String, V> copyWithout(Map<String, V> map, String prefix) {
+        Map<String, V> copy = new HashMap<>();
+        if (prefix == null) {
+            return copy;
+        }
+        for (Map.Entry<String, V> entry : map.entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                copy.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return copy;
+    }
 }
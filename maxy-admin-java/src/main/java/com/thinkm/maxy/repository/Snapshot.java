@@ -0,0 +1,36 @@
+package com.thinkm.maxy.repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * repository 에 적재된 읽기 전용 데이터
+ * <p>
+ * 갱신 시에는 새 데이터를 별도로 만든 뒤 Snapshot 을 통째로 교체하므로
+ * 조회하는 쪽은 lock 없이 항상 완성된 데이터만 보게 된다.
+ *
+ * @param data      읽기 전용 데이터
+ * @param version   교체될 때마다 1씩 증가
+ * @param createdAt 생성 시각 (ms)
+ */
+public record Snapshot<T>(T data, long version, long createdAt) {
+
+    public static <T> Snapshot<T> initial(T data) {
+        return new Snapshot<>(data, 0, System.currentTimeMillis());
+    }
+
+    /**
+     * 다음 version 의 Snapshot 생성
+     */
+    public Snapshot<T> next(T newData) {
+        return new Snapshot<>(newData, version + 1, System.currentTimeMillis());
+    }
+
+    public Map<String, Object> info() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("version", version);
+        result.put("createdAt", createdAt);
+        result.put("ageMs", System.currentTimeMillis() - createdAt);
+        return result;
+    }
+}
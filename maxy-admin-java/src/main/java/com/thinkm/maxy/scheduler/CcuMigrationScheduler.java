@@ -0,0 +1,42 @@
+package com.thinkm.maxy.scheduler;
+
+import com.thinkm.common.util.DateUtil;
+import com.thinkm.maxy.service.app.CcuRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * legacy 분 단위 CCU key 를 daily hash 로 옮기는 job
+ * <p>
+ * collector 가 daily hash 로 직접 저장하기 전까지 사용한다. (maxy.ccu.migration.enabled)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CcuMigrationScheduler {
+
+    private static final String[] NAMESPACES = {"appCcuCount", "front:countCcu"};
+
+    private final CcuRedisService ccuRedisService;
+
+    @Value("${maxy.ccu.migration.enabled:false}")
+    private boolean enabled;
+
+    @Scheduled(fixedDelayString = "${maxy.ccu.migration.interval-ms:60000}")
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        String date = DateUtil.getIndexDate();
+        for (String namespace : NAMESPACES) {
+            try {
+                ccuRedisService.migrate(namespace, date);
+            } catch (Exception e) {
+                log.error("ccu migrate error: {}, {}", namespace, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.thinkm.maxy.service.app;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 동시 접속자(CCU) 조회 서비스
+ * <pre>
+ * - legacy : {prefix}:{yyyyMMddHHmm}             분 단위 String key (KEYS/SCAN + MGET 필요)
+ * - daily  : ccuDaily:{prefix}:{yyyyMMdd}        하루 단위 hash, field=HHmm, value=long (HGETALL 1회)
+ *
+ * prefix ex) appCcuCount:{packageNm}:{serverType}:{osType}, front:countCcu:{packageNm}:{serverType}
+ *
+ * maxy.ccu.read-mode
+ *   auto   : daily hash 를 읽고, hash 에 아직 옮겨지지 않은 분만 legacy key 를 이름으로 직접 조회 (SCAN 없음)
+ *   hash   : daily hash 만 사용
+ *   legacy : legacy key 만 사용 (SCAN)
+ * </pre>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CcuRedisService {
+
+    static final String DAILY_PREFIX = "ccuDaily:";
+    // 당일 hash 키의 date 길이 (yyyyMMdd)
+    private static final int DATE_LENGTH = 8;
+    // 분 단위 시간 길이 (yyyyMMddHHmm)
+    private static final int TIME_LENGTH = 12;
+    private static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private final RedisService redisService;
+
+    @Value("${maxy.ccu.read-mode:auto}")
+    private String readMode;
+    @Value("${maxy.ccu.daily-ttl-hours:48}")
+    private long dailyTtlHours;
+    @Value("${maxy.ccu.migration.rescan-minutes:60}")
+    private long rescanMinutes;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    // namespace 별 마지막 SCAN 으로 찾은 prefix 와 옮긴 시점
+    private final Map<String, MigrationState> migrationStates = new ConcurrentHashMap<>();
+
+    /**
+     * 특정 일자의 분 단위 동시 접속자 수 조회
+     *
+     * @param prefix CCU key prefix
+     * @param date   yyyyMMdd
+     * @return yyyyMMddHHmm: count
+     */
+    public Map<String, Long> getCount(String prefix, String date) {
+        if ("legacy".equalsIgnoreCase(readMode)) {
+            return getLegacyCount(prefix, date);
+        }
+        long s = System.currentTimeMillis();
+        Map<String, Long> hash = redisService.getHashLong(dailyKey(prefix, date));
+        log.debug("get ccu hash time: {}ms", System.currentTimeMillis() - s);
+        Map<String, Long> result = toTimeMap(date, hash);
+        if ("hash".equalsIgnoreCase(readMode)) {
+            return result;
+        }
+
+        // hash 의 마지막 분 (옮긴 뒤 값이 바뀌었을 수 있음) 부터 현재 분까지만 legacy key 로 조회
+        String from = hash.keySet().stream().max(Comparator.naturalOrder()).orElse(null);
+        List<String> keyList = minuteKeys(prefix, date, from);
+        if (!keyList.isEmpty()) {
+            List<Object> valList = redisService.get(keyList);
+            if (valList.size() == keyList.size()) {
+                for (int i = 0; i < keyList.size(); i++) {
+                    if (valList.get(i) != null) {
+                        String key = keyList.get(i);
+                        result.put(key.substring(key.length() - TIME_LENGTH), toLong(valList.get(i)));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * legacy key 구조 조회 (호환용)
+     */
+    Map<String, Long> getLegacyCount(String prefix, String date) {
+        long s = System.currentTimeMillis();
+        List<String> keyList = new ArrayList<>(redisService.scan(prefix + ":" + date + "*"));
+        log.debug("scan ccu keys time: {}ms", System.currentTimeMillis() - s);
+        if (keyList.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // 이미 데이터를 넣을 때 String 으로 넣어서 getLong 을 사용할 수 없었음
+        List<Object> valList = redisService.get(keyList);
+        return parseLegacy(keyList, valList);
+    }
+
+    /**
+     * 특정 일자의 legacy key 를 daily hash 로 옮긴다. 이미 있는 field 는 덮어쓴다.
+     * <p>
+     * SCAN 은 rescan-minutes 마다 (새 prefix 확인) 하고, 그 사이에는 이미 찾은 prefix 의
+     * 지난번 옮긴 분부터 현재 분까지의 key 만 이름으로 조회한다.
+     *
+     * @param namespace legacy key namespace (ex. appCcuCount, front:countCcu)
+     * @param date      yyyyMMdd
+     * @return 옮긴 key 수
+     */
+    public int migrate(String namespace, String date) {
+        MigrationState state = migrationStates.get(namespace);
+        if (state != null && state.date().equals(date)
+            && clock.millis() - state.scannedAt() < Duration.ofMinutes(rescanMinutes).toMillis()) {
+            return migrateRecent(namespace, date, state);
+        }
+
+        long scannedAt = clock.millis();
+        String until = lastMinute(date);
+        List<String> keyList = new ArrayList<>(redisService.scan(namespace + ":*:" + date + "*"));
+        if (keyList.isEmpty()) {
+            // legacy key 가 없으면 rescan 전까지 다시 SCAN 하지 않음
+            migrationStates.put(namespace, new MigrationState(date, Set.of(), scannedAt, until));
+            return 0;
+        }
+        List<Object> valList = redisService.get(keyList);
+        if (valList.size() != keyList.size()) {
+            log.warn("ccu migrate skipped. keys: {}, values: {}", keyList.size(), valList.size());
+            return 0;
+        }
+
+        // prefix 별로 묶어서 hash 로 저장
+        Map<String, Map<String, Long>> grouped = new HashMap<>();
+        for (int i = 0; i < keyList.size(); i++) {
+            String key = keyList.get(i);
+            int idx = key.lastIndexOf(':');
+            String time = key.substring(idx + 1);
+            if (time.length() < TIME_LENGTH || !time.startsWith(date)) {
+                continue;
+            }
+            grouped.computeIfAbsent(key.substring(0, idx), k -> new HashMap<>())
+                    .put(time.substring(DATE_LENGTH, TIME_LENGTH), toLong(valList.get(i)));
+        }
+
+        Duration ttl = Duration.ofHours(dailyTtlHours);
+        grouped.forEach((prefix, map) -> redisService.setHashLong(dailyKey(prefix, date), map, ttl));
+        migrationStates.put(namespace, new MigrationState(date, grouped.keySet(), scannedAt, until));
+        log.info("ccu migrate {}:{} keys: {}, hashes: {}", namespace, date, keyList.size(), grouped.size());
+        return keyList.size();
+    }
+
+    /**
+     * 마지막 SCAN 에서 찾은 prefix 의 최근 분만 옮김
+     */
+    private int migrateRecent(String namespace, String date, MigrationState state) {
+        String until = lastMinute(date);
+        List<String> keyList = new ArrayList<>();
+        for (String prefix : state.prefixes()) {
+            keyList.addAll(minuteKeys(prefix, date, state.migratedUntil()));
+        }
+        if (keyList.isEmpty()) {
+            return 0;
+        }
+        List<Object> valList = redisService.get(keyList);
+        if (valList.size() != keyList.size()) {
+            log.warn("ccu migrate skipped. keys: {}, values: {}", keyList.size(), valList.size());
+            return 0;
+        }
+
+        Map<String, Map<String, Long>> grouped = new HashMap<>();
+        int count = 0;
+        for (int i = 0; i < keyList.size(); i++) {
+            if (valList.get(i) == null) {
+                continue;
+            }
+            String key = keyList.get(i);
+            int idx = key.lastIndexOf(':');
+            grouped.computeIfAbsent(key.substring(0, idx), k -> new HashMap<>())
+                    .put(key.substring(idx + 1 + DATE_LENGTH), toLong(valList.get(i)));
+            count++;
+        }
+
+        Duration ttl = Duration.ofHours(dailyTtlHours);
+        grouped.forEach((prefix, map) -> redisService.setHashLong(dailyKey(prefix, date), map, ttl));
+        migrationStates.put(namespace, new MigrationState(date, state.prefixes(), state.scannedAt(), until));
+        log.debug("ccu migrate recent {}:{} keys: {}", namespace, date, count);
+        return count;
+    }
+
+    /**
+     * from (HHmm, 포함, null 이면 0000) 부터 해당 일자의 마지막 분 (오늘이면 현재 분) 까지의 legacy key
+     * <p>
+     * 초 단위 key (yyyyMMddHHmmss) 는 이름을 알 수 없으므로 SCAN (migrate / legacy mode) 으로만 조회된다.
+     */
+    List<String> minuteKeys(String prefix, String date, String from) {
+        String until = lastMinute(date);
+        if (until == null) {
+            return Collections.emptyList();
+        }
+        int start = from == null ? 0 : minuteOfDay(from);
+        int end = minuteOfDay(until);
+        List<String> keys = new ArrayList<>(Math.max(0, end - start + 1));
+        for (int m = start; m <= end; m++) {
+            keys.add(prefix + ":" + date + String.format("%02d%02d", m / 60, m % 60));
+        }
+        return keys;
+    }
+
+    /**
+     * 해당 일자의 마지막 분 (HHmm). 오늘이면 현재 분, 지난 날은 2359, 미래는 null
+     */
+    private String lastMinute(String date) {
+        String now = LocalDateTime.now(clock).format(MINUTE_FORMAT);
+        int compare = date.compareTo(now.substring(0, DATE_LENGTH));
+        if (compare > 0) {
+            return null;
+        }
+        return compare == 0 ? now.substring(DATE_LENGTH) : "2359";
+    }
+
+    private static int minuteOfDay(String hhmm) {
+        return Integer.parseInt(hhmm.substring(0, 2)) * 60 + Integer.parseInt(hhmm.substring(2, 4));
+    }
+
+    static String dailyKey(String prefix, String date) {
+        return DAILY_PREFIX + prefix + ":" + date;
+    }
+
+    /**
+     * daily hash (HHmm: count) 를 yyyyMMddHHmm: count 로 변환
+     */
+    static Map<String, Long> toTimeMap(String date, Map<String, Long> hash) {
+        Map<String, Long> result = new HashMap<>(hash.size() * 2);
+        hash.forEach((hhmm, val) -> result.put(date + hhmm, val == null ? 0L : val));
+        return result;
+    }
+
+    /**
+     * legacy key 목록과 값 목록을 yyyyMMddHHmm: count 로 변환
+     */
+    static Map<String, Long> parseLegacy(List<String> keyList, List<Object> valList) {
+        if (valList == null || valList.size() != keyList.size()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Long> result = new HashMap<>(keyList.size() * 2);
+        for (int i = 0; i < keyList.size(); i++) {
+            String key = keyList.get(i);
+            String time = key.substring(key.lastIndexOf(':') + 1);
+            if (time.length() > TIME_LENGTH) {
+                // 12 자리 넘어가면 (초 포함이라면) 분까지로 자르기
+                time = time.substring(0, TIME_LENGTH);
+            }
+            result.put(time, toLong(valList.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * @param prefixes      SCAN 으로 찾은 prefix
+     * @param migratedUntil 마지막으로 옮긴 분 (HHmm)
+     */
+    record MigrationState(String date, Set<String> prefixes, long scannedAt, String migratedUntil) {
+    }
+
+    private static long toLong(Object val) {
+        if (val == null) {
+            return 0L;
+        }
+        if (val instanceof Number n) {
+            return n.longValue();
+        }
+        try {
+            return Long.parseLong(String.valueOf(val));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -60,6 +60,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
@@ -75,7 +76,7 @@ public class DashboardService {
 
     private final ElasticClient elasticClient;
     private final DashboardMapper dashboardMapper;
-    private final RedisService redisService;
+    private final CcuRedisService ccuRedisService;
     private final DashboardConfigService dashboardConfigService;
 
     @Value("${maxy.userid-masking:false}")
@@ -110,7 +111,7 @@ public class DashboardService {
         SearchRequest searchRequest = DashboardQueryFactory.createMedResponseAndLoadingTimeQuery(vo);
 
         try {
-            SearchResponse response = elasticClient.get(searchRequest);
+            SearchResponse response = elasticClient.get(searchRequest, "medTime");
             return DashboardServiceHelper.parseMedTimeVal(response);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
@@ -200,7 +201,7 @@ public class DashboardService {
         DashboardComponentVO componentConfig = dashboardConfigService.getComponentConfig(componentVO);
         SearchRequest searchRequest = DashboardQueryFactory.createPageViewInfoListQuery(vo, componentConfig);
         try {
-            SearchResponse response = elasticClient.get(searchRequest);
+            SearchResponse response = elasticClient.get(searchRequest, "pageView");
             return DashboardServiceHelper.parsePageViewInfoList(response);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
@@ -270,23 +271,32 @@ public class DashboardService {
 
             dynamicParams.put("isOsType", vo.checkOsType());
 
-            Arrays.stream(new String[]{"allUser", "user", "resource"}).parallel().forEach(type -> {
+            // 3개의 쿼리를 동시에 요청
+            Map<String, CompletableFuture<Map<String, Object>>> futures = new LinkedHashMap<>();
+            for (String type : new String[]{"allUser", "user", "resource"}) {
                 Elastic countParam = Elastic.builder()
                         .method(Elastic.GET)
                         .queryParams(queryParams)
                         .dynamicParams(dynamicParams)
                         .build();
 
-                try {
-                    if ("resource".equals(type)) {
-                        countParam.setEndpoint(ElasticIndex.PAGE_LOG.getIndex() + "*/_search");
-                        countParam.setQueryFile("db/resource/" + type + "-count-by-model.json");
-                    } else {
-                        countParam.setEndpoint(ElasticIndex.ACCESS_HISTORY.getIndex() + "*/_search");
-                        countParam.setQueryFile("db/resource/" + type + "-count-by-all.json");
-                    }
-                    Map<String, Object> u = elasticClient.get(countParam);
+                if ("resource".equals(type)) {
+                    countParam.setEndpoint(ElasticIndex.PAGE_LOG.getIndex() + "*/_search");
+                    countParam.setQueryFile("db/resource/" + type + "-count-by-model.json");
+                } else {
+                    countParam.setEndpoint(ElasticIndex.ACCESS_HISTORY.getIndex() + "*/_search");
+                    countParam.setQueryFile("db/resource/" + type + "-count-by-all.json");
+                }
+                futures.put(type, elasticClient.performRequestAsync(countParam));
+            }
 
+            futures.forEach((type, future) -> {
+                Map<String, Object> u = elasticClient.join(future, null);
+                if (u == null) {
+                    return;
+                }
+
+                try {
                     if ("allUser".equals(type)) {
                         totalData.put("totalCount", ((Map<String, Object>) u.get("res")).get("value"));
                     } else if ("user".equals(type)) {
@@ -311,11 +321,9 @@ public class DashboardService {
                             resultList.add(resultData);
                         }
                     }
-
                 } catch (Exception e) {
                     log.error(e.getMessage(), e);
                 }
-
             });
             // 장치 별 resource Data, 전체의 resource Data put
             for (Map<String, Object> r : resultList) {
@@ -352,8 +360,11 @@ public class DashboardService {
         SearchRequest userSearchRequest = DashboardQueryFactory.createResourcePopupRowDataForUser(vo);
         SearchRequest resourceSearchRequest = DashboardQueryFactory.createResourcePopupRowDataForResource(vo);
         try {
-            SearchResponse userResponse = elasticClient.get(userSearchRequest);
-            SearchResponse resourceResponse = elasticClient.get(resourceSearchRequest);
+            CompletableFuture<SearchResponse> userFuture = elasticClient.searchAsync(userSearchRequest);
+            CompletableFuture<SearchResponse> resourceFuture = elasticClient.searchAsync(resourceSearchRequest);
+
+            SearchResponse userResponse = elasticClient.join(userFuture, null);
+            SearchResponse resourceResponse = elasticClient.join(resourceFuture, null);
 
             if (userResponse == null || resourceResponse == null) {
                 return result;
@@ -718,7 +729,7 @@ public class DashboardService {
             });
         }
 
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*");
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, from, to));
         searchRequest.source(searchSourceBuilder);
 
         List<Map<String, Object>> resList = elasticClient.getListMap(searchRequest);
@@ -922,14 +933,17 @@ public class DashboardService {
                 .aggregation(errorHistogramAggregationBuilder)
                 .size(0);
 
-        SearchRequest userSearchRequest = new SearchRequest(ElasticIndex.ACCESS_HISTORY.getIndex() + "*")
+        SearchRequest userSearchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.ACCESS_HISTORY, from, to))
                 .source(userSourceBuilder);
-        SearchRequest errorSearchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        SearchRequest errorSearchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, from, to))
                 .source(errorSourceBuilder);
 
         try {
-            SearchResponse userResponse = elasticClient.get(userSearchRequest);
-            SearchResponse errorResponse = elasticClient.get(errorSearchRequest);
+            CompletableFuture<SearchResponse> userFuture = elasticClient.searchAsync(userSearchRequest);
+            CompletableFuture<SearchResponse> errorFuture = elasticClient.searchAsync(errorSearchRequest);
+
+            SearchResponse userResponse = elasticClient.join(userFuture, null);
+            SearchResponse errorResponse = elasticClient.join(errorFuture, null);
 
             if (userResponse == null || errorResponse == null) {
                 return result;
@@ -1035,7 +1049,7 @@ public class DashboardService {
                 }, null)
                 .sort(SortBuilders.fieldSort(Elastic.logTm).order(SortOrder.DESC));
 
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.TROUBLE_LOG.getIndex() + "*")
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.TROUBLE_LOG, from, to))
                 .source(searchSourceBuilder);
 
         try {
@@ -1216,19 +1230,25 @@ public class DashboardService {
                     .aggregation(performanceHistogramAgg)
                     .size(0);
 
-            SearchRequest userSearchRequest = new SearchRequest(ElasticIndex.ACCESS_HISTORY.getIndex() + "*")
+            SearchRequest userSearchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.ACCESS_HISTORY, from, to))
                     .source(userSourceBuilder);
-            SearchRequest errorSearchRequest = new SearchRequest(ElasticIndex.TROUBLE_LOG.getIndex() + "*")
+            SearchRequest errorSearchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.TROUBLE_LOG, from, to))
                     .source(errorSourceBuilder);
-            SearchRequest crashSearchRequest = new SearchRequest(ElasticIndex.TROUBLE_LOG.getIndex() + "*")
+            SearchRequest crashSearchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.TROUBLE_LOG, from, to))
                     .source(crashSourceBuilder);
-            SearchRequest performanceSearchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+            SearchRequest performanceSearchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, from, to))
                     .source(performanceSourceBuilder);
 
-            SearchResponse userResponse = elasticClient.get(userSearchRequest);
-            SearchResponse errorResponse = elasticClient.get(errorSearchRequest);
-            SearchResponse crashResponse = elasticClient.get(crashSearchRequest);
-            SearchResponse performanceResponse = elasticClient.get(performanceSearchRequest);
+            // 4개의 쿼리를 동시에 요청
+            CompletableFuture<SearchResponse> userFuture = elasticClient.searchAsync(userSearchRequest);
+            CompletableFuture<SearchResponse> errorFuture = elasticClient.searchAsync(errorSearchRequest);
+            CompletableFuture<SearchResponse> crashFuture = elasticClient.searchAsync(crashSearchRequest);
+            CompletableFuture<SearchResponse> performanceFuture = elasticClient.searchAsync(performanceSearchRequest);
+
+            SearchResponse userResponse = elasticClient.join(userFuture, null);
+            SearchResponse errorResponse = elasticClient.join(errorFuture, null);
+            SearchResponse crashResponse = elasticClient.join(crashFuture, null);
+            SearchResponse performanceResponse = elasticClient.join(performanceFuture, null);
 
             if (userResponse == null || errorResponse == null || crashResponse == null || performanceResponse == null) {
                 return result;
@@ -1405,53 +1425,18 @@ public class DashboardService {
      * @return 동시 접속자 정보
      */
     private Map<String, Long> getConcurrentUserCount(DashboardVO vo, String osType) {
-        Map<String, Long> result = new HashMap<>();
-
-        // appCcuCount:appId:serverType:osType:yyyyMMdd
-        String pattern = String.join(":",
+        // appCcuCount:appId:serverType:osType
+        String prefix = String.join(":",
                 "appCcuCount",
                 vo.getPackageNm(),
                 vo.getServerType(),
-                osType,
-                DateUtil.getIndexDate());
-
-        // 당일 날짜의 모든 키 조회 (시간:분 까지)
-        long s = System.currentTimeMillis();
-        Set<String> keys = redisService.keys(pattern + "*");
-        log.debug("get keys time: {}ms ", System.currentTimeMillis() - s);
+                osType);
 
-        if (keys.isEmpty()) {
+        Map<String, Long> result = new HashMap<>(ccuRedisService.getCount(prefix, DateUtil.getIndexDate()));
+        if (result.isEmpty()) {
             return Collections.emptyMap();
         }
 
-        List<String> keyList = new ArrayList<>(keys);
-        long s1 = System.currentTimeMillis();
-        // 이미 데이터를 넣을 때 String 으로 넣어서 getLong 을 사용할 수 없었음 .. 추후에 Long 타입으로 넣으면 좋을 듯
-        List<Object> valList = redisService.get(keyList);
-        log.debug("get val time: {} ms", System.currentTimeMillis() - s1);
-        if (valList == null || valList.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        long s2 = System.currentTimeMillis();
-        for (int i = 0; i < keyList.size(); i++) {
-            String key = keyList.get(i);
-            String[] keyArr = key.split(":");
-            if (keyArr.length != 5) {
-                continue;
-            }
-            String time = keyArr[4];
-            if (time.length() > 12) {
-                // 12 자리 넘어가면 (초 포함이라면) 분까지로 자르기
-                time = time.substring(0, 12);
-            }
-
-            // null check 하여 time: val 구조로 넣기
-            Object val = valList.get(i);
-            result.put(time, val == null ? 0L : Long.parseLong(String.valueOf(val)));
-        }
-        log.debug("get concurrent user count time: {} ms", System.currentTimeMillis() - s2);
-
         // 현재시간까지의 padding 값 추가
         for (String time : DateUtil.generateTimeArray()) {
             result.putIfAbsent(time, 0L);
@@ -1485,7 +1470,7 @@ public class DashboardService {
 
         log.debug(searchRequest.toString());
         try {
-            SearchResponse response = elasticClient.get(searchRequest);
+            SearchResponse response = elasticClient.get(searchRequest, "ccu");
             if (response == null) {
                 return Collections.emptyMap();
             }
@@ -1554,7 +1539,7 @@ public class DashboardService {
         log.debug(searchRequest.toString());
 
         try {
-            SearchResponse response = elasticClient.get(searchRequest);
+            SearchResponse response = elasticClient.get(searchRequest, "ccu");
             if (response == null) {
                 return Collections.emptyMap();
             }
@@ -1695,7 +1680,7 @@ public class DashboardService {
             searchSourceBuilder.searchAfter(new Object[]{vo.getLastLogTm()});
         }
 
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.TROUBLE_LOG.getIndex() + "*")
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.TROUBLE_LOG, vo.getFrom(), vo.getTo()))
                 .source(searchSourceBuilder);
 
         log.debug(searchRequest.toString());
@@ -1821,14 +1806,17 @@ public class DashboardService {
                 .aggregation(crashCompositeAggs)
                 .size(0);
 
-        SearchRequest userSearchRequest = new SearchRequest(ElasticIndex.ACCESS_HISTORY.getIndex() + "*")
+        SearchRequest userSearchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.ACCESS_HISTORY, from, to))
                 .source(userSourceBuilder);
-        SearchRequest crashSearchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        SearchRequest crashSearchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, from, to))
                 .source(crashSourceBuilder);
 
         try {
-            SearchResponse userResponse = elasticClient.get(userSearchRequest);
-            SearchResponse crashResponse = elasticClient.get(crashSearchRequest);
+            CompletableFuture<SearchResponse> userFuture = elasticClient.searchAsync(userSearchRequest);
+            CompletableFuture<SearchResponse> crashFuture = elasticClient.searchAsync(crashSearchRequest);
+
+            SearchResponse userResponse = elasticClient.join(userFuture, null);
+            SearchResponse crashResponse = elasticClient.join(crashFuture, null);
 
             if (userResponse == null || crashResponse == null) {
                 return Collections.emptyList();
@@ -1900,7 +1888,7 @@ public class DashboardService {
                     .aggregation(histogramAggregationBuilder)
                     .size(0);
 
-            SearchRequest searchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+            SearchRequest searchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, from, to))
                     .source(sourceBuilder);
 
             SearchResponse response = elasticClient.get(searchRequest);
@@ -2095,7 +2083,7 @@ public class DashboardService {
             searchSourceBuilder.searchAfter(new Object[]{vo.getLastPageStartTm()});
         }
 
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.PAGE_LOG, vo.getFrom(), vo.getTo()))
                 .source(searchSourceBuilder);
 
         log.debug(searchRequest.toString());
@@ -2205,16 +2193,19 @@ public class DashboardService {
                 .aggregation(outTermsAgg)
                 .aggregation(reachAgg);
 
-        SearchRequest inSearchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        SearchRequest inSearchRequest = new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.PAGE_LOG, vo.getFrom(), vo.getTo()))
                 .source(inSourceBuilder);
 
-        SearchRequest outSearchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        SearchRequest outSearchRequest = new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.PAGE_LOG, vo.getFrom(), vo.getTo()))
                 .source(outSourceBuilder);
 
         Map<String, Object> result = new HashMap<>();
         try {
-            SearchResponse inResponse = elasticClient.get(inSearchRequest);
-            SearchResponse outResponse = elasticClient.get(outSearchRequest);
+            CompletableFuture<SearchResponse> inFuture = elasticClient.searchAsync(inSearchRequest);
+            CompletableFuture<SearchResponse> outFuture = elasticClient.searchAsync(outSearchRequest);
+
+            SearchResponse inResponse = elasticClient.join(inFuture, null);
+            SearchResponse outResponse = elasticClient.join(outFuture, null);
 
             if (inResponse == null || outResponse == null) {
                 result.put("errMsg", ERR_DATA_LOAD.getMsg());
@@ -6,9 +6,12 @@ import com.thinkm.common.code.MaxyLogType;
 import com.thinkm.common.code.ReturnCode;
 import com.thinkm.common.exception.BadRequestException;
 import com.thinkm.common.util.CommonUtil;
+import com.thinkm.common.util.CsvWriter;
 import com.thinkm.common.util.DateUtil;
 import com.thinkm.common.util.Elastic;
 import com.thinkm.common.util.ElasticClient;
+import com.thinkm.common.util.IndexRouter;
+import com.thinkm.common.util.UrlDictionary;
 import com.thinkm.common.util.retrace.ReTrace;
 import com.thinkm.maxy.mapper.ReportMapper;
 import com.thinkm.maxy.repository.ModelRepository;
@@ -26,6 +29,7 @@ import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.aggregations.AggregationBuilders;
@@ -39,14 +43,14 @@ import org.springframework.stereotype.Service;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.OutputStream;
 import java.net.URLDecoder;
-import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @SuppressWarnings("unchecked")
 @Service
@@ -59,6 +63,10 @@ public class LogAnalysisService {
     private final ModelRepository modelRepository;
     private final ReportMapper reportMapper;
     private final ReportService reportService;
+    private final UrlDictionary urlDictionary;
+
+    @Value("${maxy.csv.page-size:1000}")
+    private int csvPageSize;
 
     @Value("${maxy.userid-masking:false}")
     private boolean userIdMasking;
@@ -80,69 +88,127 @@ public class LogAnalysisService {
         }
     }
 
-    public void downloadRealTimeLogList(List<Map<String, Object>> logList,
+    /**
+     * 실시간 로그 CSV 다운로드
+     * <pre>
+     * - search_after 로 csv-page-size 단위로 조회해서 바로 response 로 내보낸다. (전체 목록을 메모리에 두지 않음)
+     * - vo.size 만큼 (없으면 전체) 내보낸다.
+     * </pre>
+     *
+     * @param vo        조회 조건
+     * @param rowMapper 행 변환 (reqUrl alias 등)
+     */
+    public void downloadRealTimeLogList(LogVO vo,
+                                        Consumer<Map<String, Object>> rowMapper,
                                         HttpServletRequest request,
-                                        HttpServletResponse response,
-                                        LogVO vo) {
-        String newLine = System.lineSeparator();
-        String lang = vo.getLocale();
-        List<Map<String, Object>> deviceModelList = reportMapper.selectDeviceModelList();
-        StringBuilder sb = new StringBuilder();
+                                        HttpServletResponse response) {
+        Map<String, String> deviceModelNames = reportService.toDeviceModelNameMap(reportMapper.selectDeviceModelList(), vo.getLocale());
         String[] header = {
                 "Time", "Device ID", "User ID", "Log Type",
                 "Log Type Detail", "Run Time", "Request URL",
                 "Result Msg.", "Device Model", "OS Ver.", "APP Ver.",
                 "Login"
         };
-        sb.append(String.join(",", header)).append(newLine);
 
-        try (OutputStream outputStream = response.getOutputStream()) {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSS");
-            SimpleDateFormat fileSDf = new SimpleDateFormat("yyMMddhhmmss");
-            Date date = new Date();
-            String fileDate = fileSDf.format(date.getTime());
-            String fileName = "RealTimeLog_" + fileDate + ".csv";
-            String userAgent = request.getHeader("user-agent");
+        SimpleDateFormat fileSDf = new SimpleDateFormat("yyMMddhhmmss");
+        String fileName = "RealTimeLog_" + fileSDf.format(new Date()) + ".csv";
+        String userAgent = request.getHeader("user-agent");
 
-            if (!fileName.contains(".csv") || userAgent.contains("Macintosh")) {
-                fileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8);
-            } else {
-                fileName = new String(fileName.getBytes("euc-kr"), StandardCharsets.ISO_8859_1);
+        try (CsvWriter csv = CsvWriter.open(response, fileName, userAgent)) {
+            csv.writeRow(header);
+            if (vo.getSearchLogType() == null || vo.getSearchLogType().isEmpty()) {
+                return;
             }
 
+            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSS");
             DecimalFormat formatter = new DecimalFormat("#,##0.00");
-            for (Map<String, Object> item : logList) {
-                long logTime = Long.parseLong(String.valueOf(item.get("logTm")));
-                date.setTime(logTime);
-                Double intervalTimed = Math.round(Double.parseDouble(String.valueOf(item.get("intervaltime"))) / 1000 * 100) / 100.00;
-                String intervalTime = formatter.format(intervalTimed);
-
-                int logType = (int) item.get("logType");
-                String[] content = {
-                        sdf.format(date),
-                        String.valueOf(item.get("deviceId")),
-                        Objects.equals(String.valueOf(item.get("userId")), "null") ? "-" : CommonUtil.maskUserId(String.valueOf(item.get("userId")), userIdMasking, 2),
-                        MaxyLogType.findLogTypeGroupByLogType(logType),
-                        MaxyLogType.findLogTypeDetailByLogType(logType),
-                        intervalTime + "sec",
-                        CommonUtil.convertEscapeAndLine(String.valueOf(item.get("reqUrl"))),
-                        CommonUtil.convertEscapeAndLine(String.valueOf(item.get("resMsg"))),
-                        reportService.convertDeviceModel(deviceModelList, String.valueOf(item.get("deviceModel")), lang),
-                        String.valueOf(item.get("osVer")),
-                        String.valueOf(item.get("appVer")),
-                        String.valueOf(item.get("loginYn")),
-                };
-
-                sb.append(String.join(",", content));
-                sb.append(newLine);
-            }
-
-            CommonUtil.writeCsvFile(response, sb, outputStream, fileName, userAgent);
+            Date date = new Date();
 
+            long limit = vo.getSize() == null ? Long.MAX_VALUE : vo.getSize();
+            long written = 0;
+            vo.setOffsetIndex(1);
+            // 직전 page 끝과 정렬값이 같아 이미 내보낸 문서 (다음 page 에서 제외)
+            Set<String> boundaryIds = Collections.emptySet();
+            try {
+                while (written < limit) {
+                    int pageSize = (int) Math.min(csvPageSize, limit - written);
+                    vo.setSize(pageSize);
+                    SearchRequest searchRequest = LogAnalysisQueryFactory.createRealTimeLogListRequest(vo, modelRepository);
+                    SearchResponse searchResponse = elasticClient.get(searchRequest);
+                    if (searchResponse == null) {
+                        throw new IllegalStateException("real time log search failed. page: " + vo.getOffsetIndex());
+                    }
+                    SearchHit[] hits = searchResponse.getHits().getHits();
+
+                    for (SearchHit hit : hits) {
+                        if (boundaryIds.contains(hit.getId())) {
+                            continue;
+                        }
+                        Map<String, Object> item = Elastic.convertHit(hit);
+                        rowMapper.accept(item);
+                        csv.writeRow(toRealTimeLogRow(item, deviceModelNames, sdf, formatter, date));
+                        written++;
+                    }
+                    if (hits.length < pageSize) {
+                        break;
+                    }
+
+                    // (logTm, deviceId, logType) 은 unique 하지 않아 같은 값이 page 경계에 걸치면 search_after 에서 누락되므로
+                    // logType + 1 (내림차순) 부터 다시 조회하고 이미 내보낸 문서는 제외한다.
+                    Object[] lastSort = hits[hits.length - 1].getSortValues();
+                    Set<String> tiedIds = new HashSet<>();
+                    for (int i = hits.length - 1; i >= 0 && Arrays.equals(hits[i].getSortValues(), lastSort); i--) {
+                        tiedIds.add(hits[i].getId());
+                    }
+                    vo.setOffsetIndex(vo.getOffsetIndex() + 1);
+                    vo.setLastLogTm(String.valueOf(lastSort[0]));
+                    vo.setLastDeviceId(String.valueOf(lastSort[1]));
+                    if (tiedIds.size() == hits.length) {
+                        // page 전체가 같은 정렬값이면 나머지는 건너뛴다.
+                        log.warn("real time log csv: {} rows with same sort values skipped", tiedIds.size());
+                        vo.setLastLogType(String.valueOf(lastSort[2]));
+                        boundaryIds = Collections.emptySet();
+                    } else {
+                        vo.setLastLogType(String.valueOf(CommonUtil.toLong(lastSort[2]) + 1));
+                        boundaryIds = tiedIds;
+                    }
+                }
+            } catch (Exception e) {
+                log.error("real time log csv aborted. rows: {}, message: {}", written, e.getMessage(), e);
+                // 응답 header 는 이미 보냈으므로 잘린 파일이 정상처럼 보이지 않도록 마지막 행에 표시
+                csv.writeRow("Download failed. Only " + written + " rows were exported.");
+            }
+            log.debug("real time log csv rows: {}", csv.getRowCount());
         } catch (Exception e) {
             log.error(e.getMessage(), e);
         }
+    }
 
+    private String[] toRealTimeLogRow(Map<String, Object> item,
+                                      Map<String, String> deviceModelNames,
+                                      SimpleDateFormat sdf,
+                                      DecimalFormat formatter,
+                                      Date date) {
+        long logTime = Long.parseLong(String.valueOf(item.get("logTm")));
+        date.setTime(logTime);
+        Double intervalTimed = Math.round(Double.parseDouble(String.valueOf(item.get("intervaltime"))) / 1000 * 100) / 100.00;
+        String intervalTime = formatter.format(intervalTimed);
+
+        int logType = (int) item.get("logType");
+        return new String[]{
+                sdf.format(date),
+                String.valueOf(item.get("deviceId")),
+                Objects.equals(String.valueOf(item.get("userId")), "null") ? "-" : CommonUtil.maskUserId(String.valueOf(item.get("userId")), userIdMasking, 2),
+                MaxyLogType.findLogTypeGroupByLogType(logType),
+                MaxyLogType.findLogTypeDetailByLogType(logType),
+                intervalTime + "sec",
+                CommonUtil.removeLineBreak(String.valueOf(item.get("reqUrl"))),
+                CommonUtil.removeLineBreak(String.valueOf(item.get("resMsg"))),
+                reportService.convertDeviceModel(deviceModelNames, String.valueOf(item.get("deviceModel"))),
+                String.valueOf(item.get("osVer")),
+                String.valueOf(item.get("appVer")),
+                String.valueOf(item.get("loginYn")),
+        };
     }
 
     /**
@@ -250,27 +316,6 @@ public class LogAnalysisService {
             boolQuery.filter(QueryBuilders.termQuery(Elastic.appVer, vo.getAppVer()));
         }
 
-        // 검색조건 세팅
-        if (vo.getSearchValue() != null && !vo.getSearchValue().isBlank()) {
-            switch (vo.getSearchKey()) {
-                case Elastic.deviceId ->
-                        boolQuery.filter(QueryBuilders.termQuery(Elastic.deviceId_raw, vo.getSearchValue()));
-                case Elastic.userNm ->
-                        boolQuery.filter(QueryBuilders.termQuery(Elastic.userNm_raw, vo.getSearchValue()));
-                case Elastic.userId ->
-                        boolQuery.filter(QueryBuilders.termQuery(Elastic.userId_raw, vo.getSearchValue()));
-                case Elastic.reqUrl -> boolQuery.filter(QueryBuilders.wildcardQuery(
-                        Elastic.reqUrl_raw,
-                        URLDecoder.decode("*" + vo.getSearchValue() + "*", StandardCharsets.UTF_8)
-                ));
-                case Elastic.pageUrl -> boolQuery.filter(QueryBuilders.wildcardQuery(
-                        Elastic.pageUrl_raw,
-                        URLDecoder.decode("*" + vo.getSearchValue() + "*", StandardCharsets.UTF_8)
-                ));
-                default -> {
-                }
-            }
-        }
         // 전체 시간영역의 from/to 날짜가 다른지 여부 (하루치만 어제 데이터를 조회할 수 있음)
         // YDA 키 인데 어제 데이터 조회하지 않는 플래그면 통과
         if ("YDA".equalsIgnoreCase(type.getDateType()) && !DateUtil.isSameDate(vo.getTotalFrom(), vo.getTotalTo())) {
@@ -299,6 +344,24 @@ public class LogAnalysisService {
                 .lte(to)
                 .timeZone("Z"));
 
+        // 검색조건 세팅
+        if (vo.getSearchValue() != null && !vo.getSearchValue().isBlank()) {
+            switch (vo.getSearchKey()) {
+                case Elastic.deviceId ->
+                        boolQuery.filter(QueryBuilders.termQuery(Elastic.deviceId_raw, vo.getSearchValue()));
+                case Elastic.userNm ->
+                        boolQuery.filter(QueryBuilders.termQuery(Elastic.userNm_raw, vo.getSearchValue()));
+                case Elastic.userId ->
+                        boolQuery.filter(QueryBuilders.termQuery(Elastic.userId_raw, vo.getSearchValue()));
+                case Elastic.reqUrl ->
+                        boolQuery.filter(urlQuery(vo, ElasticIndex.fromIndex(type.getIndex()), type.getTimeField(), Elastic.reqUrl_raw, from, to));
+                case Elastic.pageUrl ->
+                        boolQuery.filter(urlQuery(vo, ElasticIndex.fromIndex(type.getIndex()), type.getTimeField(), Elastic.pageUrl_raw, from, to));
+                default -> {
+                }
+            }
+        }
+
         // 타입에 따른 로그타입 설정
         if (LogType.ERROR.equals(type.getType())) {
             Elastic.errorBuilder(boolQuery);
@@ -311,7 +374,7 @@ public class LogAnalysisService {
                 .trackTotalHits(true)
                 .size(0);
 
-        SearchRequest searchRequest = new SearchRequest(type.getIndex() + "*")
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.fromIndex(type.getIndex()), from, to))
                 .source(searchSourceBuilder);
         multiSearchRequest.add(searchRequest);
     }
@@ -322,21 +385,21 @@ public class LogAnalysisService {
         if (vo.checkAppVer()) {
             boolQuery.filter(QueryBuilders.termQuery(Elastic.appVer, vo.getAppVer()));
         }
-        String index;
+        ElasticIndex index;
         String timeField;
         switch (vo.getType()) {
             case "error" -> {
-                index = ElasticIndex.TROUBLE_LOG.getIndex();
+                index = ElasticIndex.TROUBLE_LOG;
                 timeField = Elastic.logTm;
                 Elastic.errorBuilder(boolQuery);
             }
             case "crash" -> {
-                index = ElasticIndex.TROUBLE_LOG.getIndex();
+                index = ElasticIndex.TROUBLE_LOG;
                 timeField = Elastic.logTm;
                 Elastic.crashBuilder(boolQuery);
             }
             case "page" -> {
-                index = ElasticIndex.PAGE_LOG.getIndex();
+                index = ElasticIndex.PAGE_LOG;
                 timeField = Elastic.pageStartTm;
             }
             default -> throw new BadRequestException(ReturnCode.ERR_INVALID_LOG_TYPE);
@@ -356,9 +419,9 @@ public class LogAnalysisService {
             } else if (Elastic.userId.equals(vo.getSearchKey())) {
                 boolQuery.filter(QueryBuilders.termQuery(Elastic.userId_raw, vo.getSearchValue()));
             } else if (Elastic.reqUrl.equals(vo.getSearchKey())) {
-                boolQuery.filter(QueryBuilders.wildcardQuery(Elastic.reqUrl_raw, URLDecoder.decode("*" + vo.getSearchValue() + "*", StandardCharsets.UTF_8)));
+                boolQuery.filter(urlQuery(vo, index, timeField, Elastic.reqUrl_raw, vo.getFrom(), vo.getTo()));
             } else if (Elastic.pageUrl.equals(vo.getSearchKey())) {
-                boolQuery.filter(QueryBuilders.wildcardQuery(Elastic.pageUrl_raw, URLDecoder.decode("*" + vo.getSearchValue() + "*", StandardCharsets.UTF_8)));
+                boolQuery.filter(urlQuery(vo, index, timeField, Elastic.pageUrl_raw, vo.getFrom(), vo.getTo()));
             }
         }
 
@@ -373,7 +436,7 @@ public class LogAnalysisService {
                 .aggregation(dateHistogramAgg)
                 .size(0);
 
-        SearchRequest searchRequest = new SearchRequest(index + "*")
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.routeOrAll(index, vo.getFrom(), vo.getTo()))
                 .source(searchSourceBuilder);
 
         List<long[]> result = new ArrayList<>();
@@ -401,11 +464,15 @@ public class LogAnalysisService {
 
     public Map<String, Object> getLogStackList(LogVO vo) {
         Map<String, Object> result = new HashMap<>();
-        Arrays.stream(new String[]{"before", "after"}).parallel().forEach(type -> {
+        Map<String, CompletableFuture<SearchResponse>> futures = new LinkedHashMap<>();
+        for (String type : new String[]{"before", "after"}) {
             SearchRequest searchRequest = LogAnalysisQueryFactory.createLogStackListQuery(LogRequestVO.of(vo), type);
             log.debug("type: {}, searchRequest: {}", type, searchRequest);
+            futures.put(type, elasticClient.searchAsync(searchRequest));
+        }
+        futures.forEach((type, future) -> {
             try {
-                SearchResponse response = elasticClient.get(searchRequest);
+                SearchResponse response = elasticClient.join(future, null);
                 result.put(type, LogAnalysisServiceHelper.parseLogStackList(response, type, userIdMasking));
             } catch (Exception e) {
                 log.error("{}: {}", type, e.getMessage(), e);
@@ -563,14 +630,10 @@ public class LogAnalysisService {
                         boolQuery.filter(QueryBuilders.termQuery(Elastic.userNm_raw, vo.getSearchValue()));
                 case Elastic.userId ->
                         boolQuery.filter(QueryBuilders.termQuery(Elastic.userId_raw, vo.getSearchValue()));
-                case Elastic.reqUrl -> boolQuery.filter(QueryBuilders.wildcardQuery(
-                        Elastic.reqUrl_raw,
-                        URLDecoder.decode("*" + vo.getSearchValue() + "*", StandardCharsets.UTF_8)
-                ));
-                case Elastic.pageUrl -> boolQuery.filter(QueryBuilders.wildcardQuery(
-                        Elastic.pageUrl_raw,
-                        URLDecoder.decode("*" + vo.getSearchValue() + "*", StandardCharsets.UTF_8)
-                ));
+                case Elastic.reqUrl ->
+                        boolQuery.filter(urlQuery(vo, ElasticIndex.TROUBLE_LOG, Elastic.logTm, Elastic.reqUrl_raw, vo.getFrom(), vo.getTo()));
+                case Elastic.pageUrl ->
+                        boolQuery.filter(urlQuery(vo, ElasticIndex.TROUBLE_LOG, Elastic.logTm, Elastic.pageUrl_raw, vo.getFrom(), vo.getTo()));
                 default -> {
                 }
             }
@@ -620,7 +683,7 @@ public class LogAnalysisService {
             searchSourceBuilder.searchAfter(new Object[]{vo.getLastLogTm()});
         }
 
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.TROUBLE_LOG.getIndex() + "*")
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.TROUBLE_LOG, vo.getFrom(), vo.getTo()))
                 .source(searchSourceBuilder);
 
 //        log.debug(searchRequest.toString());
@@ -670,6 +733,33 @@ public class LogAnalysisService {
         return result;
     }
 
+    /**
+     * 심볼리케이션에 필요한 iOS crash 정보를 한 번에 조회
+     *
+     * @param docIds trouble log doc id 목록
+     * @return packageNm, serverType, osType, appVer, appBuildNum, content
+     */
+    public List<Map<String, Object>> getIosCrashContents(List<String> docIds) {
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
+                .filter(QueryBuilders.idsQuery().addIds(docIds.toArray(new String[0])))
+                .filter(QueryBuilders.termQuery(Elastic.osType, "iOS"));
+        SearchSourceBuilder ssb = new SearchSourceBuilder()
+                .query(boolQuery)
+                .size(docIds.size())
+                .fetchSource(new String[]{Elastic.packageNm, Elastic.serverType, Elastic.osType,
+                        Elastic.appVer, Elastic.appBuildNum, Elastic.content}, null);
+
+        SearchResponse response = elasticClient.get(new SearchRequest(ElasticIndex.TROUBLE_LOG.getIndex() + "*").source(ssb));
+        if (response == null) {
+            return Collections.emptyList();
+        }
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (SearchHit hit : response.getHits()) {
+            result.add(hit.getSourceAsMap());
+        }
+        return result;
+    }
+
     public List<Map<String, Object>> getLogList(ElasticIndex index, String packageNm, String serverType) {
         BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
         if (packageNm != null && !packageNm.isBlank()
@@ -709,5 +799,13 @@ public class LogAnalysisService {
         }
         return result;
     }
-}
 
+    /**
+     * reqUrl / pageUrl 부분 문자열 검색 조건
+     */
+    private QueryBuilder urlQuery(LogVO vo, ElasticIndex index, String timeField, String field, Long from, Long to) {
+        String text = URLDecoder.decode(vo.getSearchValue(), StandardCharsets.UTF_8);
+        UrlDictionary.Key key = new UrlDictionary.Key(index, timeField, field, vo.getPackageNm(), vo.getServerType());
+        return urlDictionary.containsQuery(key, text, from, to);
+    }
+}
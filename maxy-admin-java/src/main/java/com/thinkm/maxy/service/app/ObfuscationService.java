@@ -7,6 +7,7 @@ import com.thinkm.common.code.ReturnCode;
 import com.thinkm.common.exception.BadRequestException;
 import com.thinkm.common.exception.FileStorageException;
 import com.thinkm.common.util.JsonUtil;
+import com.thinkm.common.util.retrace.FrameRemapperCache;
 import com.thinkm.maxy.mapper.ObfuscationMapper;
 import com.thinkm.maxy.repository.RetraceRepository;
 import com.thinkm.maxy.vo.ObfuscationVO;
@@ -44,6 +45,8 @@ public class ObfuscationService {
     private final ObfuscationMapper mapper;
     @Resource
     private final RetraceRepository retraceRepository;
+    @Resource
+    private final FrameRemapperCache frameRemapperCache;
     @Value("${dir.obfuscation}")
     private String OBF_DIR = "obf";
 
@@ -94,7 +97,7 @@ public class ObfuscationService {
                 case ARXAN -> saveJsonInfo(vo, filePath);
                 default -> saveSplitTextByLine(vo, filePath);
             }
-            refreshRuleList();
+            refreshRuleList(vo);
         } catch (IOException e) {
             log.error(e.getMessage(), e);
         }
@@ -210,6 +213,8 @@ public class ObfuscationService {
         vo.setObfFullText(path);
         vo.setType(ObfuscationVO.Type.FILE);
         mapper.insertObfuscationRuleInfoWithFullText(vo);
+        // 첫 retrace 요청 전에 mapping 파일을 미리 읽어둔다.
+        frameRemapperCache.warm(filePath.toFile());
     }
 
     /**
@@ -284,48 +289,38 @@ public class ObfuscationService {
     public void refreshRuleList() {
         long s0 = System.currentTimeMillis();
         log.debug("start rule list.");
-        // RULE_INFO_MAP: full text 컬럼이 있는 경우에만 넣는다.
-        List<ObfuscationVO> ruleInfoList = mapper.selectAllObfuscationRuleInfoList();
-        for (ObfuscationVO item : ruleInfoList) {
-            String key = item.key();
-            if (item.getObfFullText() != null && !item.getObfFullText().isEmpty()) {
-                retraceRepository.getRULE_INFO_MAP().put(key, item.getObfFullText());
-            }
-            retraceRepository.getOBF_TYPE_MAP().put(key, item.getObfType());
-        }
-
-        // RULE_MAP
-        List<ObfuscationVO> ruleList = mapper.selectAllObfuscationRuleList();
-        for (ObfuscationVO item : ruleList) {
-            String key = item.key();
-            @SuppressWarnings("MismatchedQueryAndUpdateOfCollection")
-            List<Map<String, String>> tmp = retraceRepository.getRULE_MAP().getOrDefault(key, new ArrayList<>());
-            tmp.add(Map.of(item.getObfuscationString(), item.getOriginalString()));
-            retraceRepository.getRULE_MAP().put(key, tmp);
-        }
-        for (String key : retraceRepository.getRULE_MAP().keySet()) {
-            List<Map<String, String>> list = retraceRepository.getRULE_MAP().get(key);
-            list.sort(Comparator.comparing((Map<String, String> cp) -> {
-                int l = 0;
-                for (String str : cp.keySet()) {
-                    l = str.length();
-                }
-                return l;
-            }).reversed());
-        }
+        // 새로 만든 룰로 한 번에 교체 (조회도 lock 안에서 해서 app 별 교체를 덮어쓰지 않음)
+        retraceRepository.reload(mapper::selectAllObfuscationRuleInfoList, mapper::selectAllObfuscationRuleList);
         log.info("refresh rule list. {}ms", System.currentTimeMillis() - s0);
     }
 
+    /**
+     * 한 app (packageNm, serverType) 의 룰만 다시 읽어서 교체
+     *
+     * @param vo packageNm, serverType
+     */
+    public void refreshRuleList(ObfuscationVO vo) {
+        long s0 = System.currentTimeMillis();
+        retraceRepository.reload(vo.getPackageNm(), vo.getServerType(),
+                () -> mapper.selectAppObfuscationRuleInfoList(vo),
+                () -> mapper.selectAppObfuscationRuleList(vo));
+        log.info("refresh rule list. packageNm: {}, serverType: {}, {}ms",
+                vo.getPackageNm(), vo.getServerType(), System.currentTimeMillis() - s0);
+    }
+
     public List<ObfuscationVO> getRuleList(ObfuscationVO vo) {
         return mapper.selectObfuscationRuleList(vo);
     }
 
     public void deleteRuleList(ObfuscationVO vo) {
+        Map<String, ObfuscationVO> apps = new LinkedHashMap<>();
         for (ObfuscationVO item : vo.getDeleteList()) {
+            apps.putIfAbsent(item.getPackageNm() + ":" + item.getServerType(), item);
             mapper.deleteObfuscationRuleInfo(item);
             if (item.getType().equals(ObfuscationVO.Type.FILE)
                 && item.getObfFullText() != null
                 && item.getObfFullText().endsWith(".obf")) {
+                frameRemapperCache.invalidate(item.getObfFullText());
                 try {
                     Files.deleteIfExists(Path.of(item.getObfFullText()));
                 } catch (Exception e) {
@@ -334,7 +329,8 @@ public class ObfuscationService {
             }
         }
 
-        refreshRuleList();
+        // 삭제한 룰이 있는 app 만 다시 적재
+        apps.values().forEach(this::refreshRuleList);
     }
 
     /**
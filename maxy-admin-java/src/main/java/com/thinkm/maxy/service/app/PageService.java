@@ -10,6 +10,7 @@ import com.thinkm.common.util.CommonUtil;
 import com.thinkm.common.util.DateUtil;
 import com.thinkm.common.util.Elastic;
 import com.thinkm.common.util.ElasticClient;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.mapper.PageMapper;
 import com.thinkm.maxy.repository.PageRepository;
 import com.thinkm.maxy.service.app.helper.PageServiceHelper;
@@ -83,7 +84,7 @@ public class PageService {
      */
     public void updatePage(PagesVO vo) {
         mapper.updatePage(vo);
-        refreshPageAliasMapper();
+        refreshPageAliasMapper(vo);
     }
 
     /**
@@ -93,12 +94,12 @@ public class PageService {
      */
     public void updatePageMarketingInsight(PagesVO vo) {
         mapper.updatePageMarketingInsight(vo);
-        refreshPageAliasMapper();
+        refreshPageAliasMapper(vo);
     }
 
     public void insertPage(PagesVO vo) {
         mapper.insertPage(vo);
-        refreshPageAliasMapper();
+        refreshPageAliasMapper(vo);
     }
 
     /**
@@ -109,55 +110,83 @@ public class PageService {
         try {
             long s0 = System.currentTimeMillis();
             log.debug("start select page list.");
-            List<PagesVO> pageList = mapper.selectPageAliasList();
-
-            // 결과 맵
-            Map<String, Map<String, Map<String, String>>> resultMap = new HashMap<>();
-            for (PagesVO page : pageList) {
-                String packageNm = page.getPackageNm();
-                String serverType = page.getServerType();
-
-                Set<String> keySet = resultMap.keySet();
-
-                Map<String, Map<String, String>> serverTypeMap;
-                if (keySet.isEmpty()) {
-                    // 빈 Map 생성
-                    serverTypeMap = new HashMap<>();
-                } else {
-                    // 패키지 명을 가지고 와서 넣음
-                    serverTypeMap = resultMap.getOrDefault(packageNm, new HashMap<>());
-                }
+            // 조회도 lock 안에서 해서 그 사이 app 별 교체를 덮어쓰지 않음
+            pageRepository.reloadPageAlias(() -> toAliasMap(mapper.selectPageAliasList()));
 
-                // {reqURL: appPageNm}
-                Map<String, String> pageMap;
-                Set<String> sKeySet = serverTypeMap.keySet();
-                if (sKeySet.isEmpty()) {
-                    pageMap = new HashMap<>();
-                } else {
-                    pageMap = serverTypeMap.getOrDefault(serverType, new HashMap<>());
-                }
+            log.info("refresh page list. {}ms", System.currentTimeMillis() - s0);
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+    }
 
-                // replace quote
-                String reqUrl = page.getReqUrl();
-                if (reqUrl.contains("'")) {
-                    reqUrl = reqUrl.replaceAll("'", "&apos;");
-                }
-                if (reqUrl.contains("\"")) {
-                    reqUrl = reqUrl.replaceAll("\"", "&quot;");
-                }
-                pageMap.put(reqUrl, page.getAppPageNm());
+    /**
+     * 한 app (packageNm, serverType) 의 Page URL Alias 만 다시 조회하여 교체
+     *
+     * @param vo packageNm, serverType
+     */
+    private void refreshPageAliasMapper(PagesVO vo) {
+        if (vo.getPackageNm() == null || vo.getServerType() == null) {
+            refreshPageAliasMapper();
+            return;
+        }
+        try {
+            long s0 = System.currentTimeMillis();
+            pageRepository.reloadPageAlias(vo.getPackageNm(), vo.getServerType(),
+                    () -> toAliasMap(mapper.selectAppPageAliasList(vo))
+                            .getOrDefault(vo.getPackageNm(), Map.of())
+                            .get(vo.getServerType()));
+            log.info("refresh page list. packageNm: {}, serverType: {}, {}ms",
+                    vo.getPackageNm(), vo.getServerType(), System.currentTimeMillis() - s0);
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+    }
 
-                serverTypeMap.put(serverType, pageMap);
-                resultMap.put(packageNm, serverTypeMap);
+    /**
+     * Page 목록을 {packageNm: {serverType: {reqUrl: appPageNm}}} 로 변환
+     */
+    private static Map<String, Map<String, Map<String, String>>> toAliasMap(List<PagesVO> pageList) {
+        // 결과 맵
+        Map<String, Map<String, Map<String, String>>> resultMap = new HashMap<>();
+        for (PagesVO page : pageList) {
+            String packageNm = page.getPackageNm();
+            String serverType = page.getServerType();
+
+            Set<String> keySet = resultMap.keySet();
+
+            Map<String, Map<String, String>> serverTypeMap;
+            if (keySet.isEmpty()) {
+                // 빈 Map 생성
+                serverTypeMap = new HashMap<>();
+            } else {
+                // 패키지 명을 가지고 와서 넣음
+                serverTypeMap = resultMap.getOrDefault(packageNm, new HashMap<>());
             }
 
-            // 화면에서 사용할 수 있도록 JSON String 으로 변경
-            pageRepository.setPageAlias(resultMap);
+            // {reqURL: appPageNm}
+            Map<String, String> pageMap;
+            Set<String> sKeySet = serverTypeMap.keySet();
+            if (sKeySet.isEmpty()) {
+                pageMap = new HashMap<>();
+            } else {
+                pageMap = serverTypeMap.getOrDefault(serverType, new HashMap<>());
+            }
 
-            log.info("refresh page list. {}ms", System.currentTimeMillis() - s0);
-        } catch (Exception e) {
-            log.error(e.getMessage(), e);
+            // replace quote
+            String reqUrl = page.getReqUrl();
+            if (reqUrl.contains("'")) {
+                reqUrl = reqUrl.replaceAll("'", "&apos;");
+            }
+            if (reqUrl.contains("\"")) {
+                reqUrl = reqUrl.replaceAll("\"", "&quot;");
+            }
+            pageMap.put(reqUrl, page.getAppPageNm());
+
+            serverTypeMap.put(serverType, pageMap);
+            resultMap.put(packageNm, serverTypeMap);
         }
+
+        return resultMap;
     }
 
     public String getAliasNm(String key) {
@@ -347,7 +376,7 @@ public class PageService {
 
     public void upsertPage(PagesVO vo) {
         mapper.upsertPage(vo);
-        refreshPageAliasMapper();
+        refreshPageAliasMapper(vo);
     }
 
     public List<Map<String, Object>> getNoAliasUrlList(PagesVO vo) {
@@ -405,7 +434,7 @@ public class PageService {
                 .query(boolQuery)
                 .size(0);
 
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, today[0], today[1]))
                 .source(searchSourceBuilder);
 
         log.debug(searchRequest.toString());
@@ -459,7 +488,7 @@ public class PageService {
                 .query(boolQuery)
                 .aggregation(termsAggregationBuilder);
 
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, times[0], times[1]))
                 .source(searchSourceBuilder);
 
         log.debug(searchRequest.toString());
@@ -9,6 +9,7 @@ import com.thinkm.common.util.CommonUtil;
 import com.thinkm.common.util.DateUtil;
 import com.thinkm.common.util.Elastic;
 import com.thinkm.common.util.ElasticClient;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.vo.DashboardVO;
 import com.thinkm.maxy.vo.LogRequestVO;
 import com.thinkm.maxy.vo.LogVO;
@@ -223,7 +224,7 @@ public class PerformanceAnalysisService {
                 .fetchSource(sources, null)
                 .sort(Elastic.pageEndTm, SortOrder.DESC);
 
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.PAGE_LOG, vo.getFrom(), vo.getTo()))
                 .source(searchSourceBuilder);
 
         log.debug(searchRequest.toString());
@@ -328,7 +329,7 @@ public class PerformanceAnalysisService {
             boolQuery.filter(QueryBuilders.termsQuery(Elastic.mxPageId, mxPageIds))
                     .filter(QueryBuilders.termsQuery(Elastic.name, "LCP", "INP", "CLS", "FCP"));
 
-            String[] indices = ElasticIndex.getIndicesForDateRange(ElasticIndex.VITAL_LOG, vo.getFrom(), vo.getTo());
+            String[] indices = IndexRouter.route(ElasticIndex.VITAL_LOG, vo.getFrom(), vo.getTo());
 
             // Aggregation 구성: mxPageId별 -> name별 -> logTm 최신 1건
             SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
@@ -489,7 +490,11 @@ public class PerformanceAnalysisService {
         return result;
     }
 
-    public Map<String, Long> getResponseTopBot(BoolQueryBuilder boolQuery) {
+    /**
+     * @param from 조회 시작 시간 (ms, boolQuery 의 logTm 범위와 같음)
+     * @param to   조회 종료 시간 (ms)
+     */
+    public Map<String, Long> getResponseTopBot(BoolQueryBuilder boolQuery, long from, long to) {
         boolQuery.filter(QueryBuilders.rangeQuery(Elastic.intervaltime).gte(0));
 
         // Aggregation 생성
@@ -503,7 +508,7 @@ public class PerformanceAnalysisService {
                 .size(0)
                 .aggregation(aggs);
 
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.NETWORK_LOG.getIndex() + "*")
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.NETWORK_LOG, from, to))
                 .source(searchSourceBuilder);
 
         SearchResponse response = elasticClient.get(searchRequest);
@@ -523,7 +528,7 @@ public class PerformanceAnalysisService {
         return result;
     }
 
-    public Map<Integer, Integer> getResponseTimeData(BoolQueryBuilder boolQuery, Map<String, Long> topBotMap) {
+    public Map<Integer, Integer> getResponseTimeData(BoolQueryBuilder boolQuery, Map<String, Long> topBotMap, long from, long to) {
         LinkedHashMap<Integer, Integer> result = new LinkedHashMap<>();
         // 설정에서 analysis.response-slice-threshold 값이 true 면 top, bot 값에 대한 범위 조건을 준다.
         if (isResponseSliceThreshold) {
@@ -544,7 +549,7 @@ public class PerformanceAnalysisService {
                 .query(boolQuery)
                 .aggregation(aggregationBuilder);
 
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.NETWORK_LOG.getIndex() + "*")
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.NETWORK_LOG, from, to))
                 .source(sourceBuilder);
         SearchResponse response = elasticClient.get(searchRequest);
         if (response == null) {
@@ -587,7 +592,7 @@ public class PerformanceAnalysisService {
                 type = "response";
                 limit = vo.getOptResponsetimescatterRange();
                 intervaltimeField = Elastic.intervaltime;
-                indices = ElasticIndex.getIndicesForDateRange(ElasticIndex.NETWORK_LOG, from, to);
+                indices = IndexRouter.route(ElasticIndex.NETWORK_LOG, from, to);
                 timeRangeField = Elastic.logTm;
 
                 boolQuery.filter(QueryBuilders.termsQuery(Elastic.logType, MaxyLogType.NETWORK_TYPES_SET));
@@ -596,7 +601,7 @@ public class PerformanceAnalysisService {
                 type = "loading";
                 limit = vo.getOptLoadingtimescatterRange();
                 intervaltimeField = Elastic.loadingTime;
-                indices = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, from, to);
+                indices = IndexRouter.route(ElasticIndex.PAGE_LOG, from, to);
                 timeRangeField = Elastic.pageEndTm;
             }
             default -> throw new BadRequestException(ReturnCode.ERR_WRONG_PARAMS);
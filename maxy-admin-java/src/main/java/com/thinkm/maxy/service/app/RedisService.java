@@ -1,12 +1,16 @@
 package com.thinkm.maxy.service.app;
 
+import com.thinkm.common.config.metrics.MaxyMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 
 @Slf4j
@@ -17,22 +21,31 @@ public class RedisService {
     private final RedisTemplate<String, Object> redisJsonTemplate;
     private final RedisTemplate<String, Long> redisLongTemplate;
     private final RedisTemplate<String, String> redisStringTemplate;
+    private final MaxyMetrics maxyMetrics;
+
+    private MaxyMetrics.Sample start(String op) {
+        return maxyMetrics.start(MaxyMetrics.REDIS, "op", op);
+    }
 
     public Set<String> keys(String pattern) {
+        MaxyMetrics.Sample sample = start("keys");
         try {
             log.debug("search keys: {}", pattern);
-            return redisJsonTemplate.keys(pattern);
+            return sample.success(redisJsonTemplate.keys(pattern));
         } catch (Exception e) {
+            sample.error();
             log.error("Redis keys error: pattern={}, message={}", pattern, e.getMessage(), e);
             return Collections.emptySet();
         }
     }
 
     public Object get(String key) {
+        MaxyMetrics.Sample sample = start("get");
         try {
             log.debug("get data: {}", key);
-            return redisJsonTemplate.opsForValue().get(key);
+            return sample.success(redisJsonTemplate.opsForValue().get(key));
         } catch (Exception e) {
+            sample.error();
             log.error("Redis get (Object) error: key={}, message={}", key, e.getMessage(), e);
             return null;
         }
@@ -48,21 +61,25 @@ public class RedisService {
     }
 
     public String getString(String key) {
+        MaxyMetrics.Sample sample = start("get");
         try {
             log.debug("get data: {}", key);
-            return redisStringTemplate.opsForValue().get(key);
+            return sample.success(redisStringTemplate.opsForValue().get(key));
         } catch (Exception e) {
+            sample.error();
             log.error("Redis getString error: key={}, message={}", key, e.getMessage(), e);
             return null;
         }
     }
 
     public List<Long> getLong(List<String> keys) {
+        MaxyMetrics.Sample sample = start("mget");
         try {
             log.debug("get data keys size: {}", keys.size());
             List<Long> result = redisLongTemplate.opsForValue().multiGet(keys);
-            return result != null ? result : Collections.emptyList();
+            return sample.success(result != null ? result : Collections.emptyList());
         } catch (Exception e) {
+            sample.error();
             log.error("Redis getLong error: keys={}, message={}", keys.size(), e.getMessage(), e);
             log.debug(keys.toString());
             return Collections.emptyList();
@@ -70,33 +87,42 @@ public class RedisService {
     }
 
     public void set(String key, Object value) {
+        MaxyMetrics.Sample sample = start("set");
         try {
             log.debug("set key: {}, value: {}", key, value);
             redisJsonTemplate.opsForValue().set(key, value);
+            sample.success();
         } catch (Exception e) {
+            sample.error();
             log.error("Redis set (Object) error: key={}, value={}, message={}", key, value, e.getMessage(), e);
         }
     }
 
     public void setString(String key, String value) {
+        MaxyMetrics.Sample sample = start("set");
         try {
             log.debug("set key: {}, value: {}", key, value);
             redisStringTemplate.opsForValue().set(key, value);
+            sample.success();
         } catch (Exception e) {
+            sample.error();
             log.error("Redis setString error: key={}, value={}, message={}", key, value, e.getMessage(), e);
         }
     }
 
     public List<Object> bulkGet(Collection<String> keys) {
+        MaxyMetrics.Sample sample = start("pipeline_get");
         try {
             log.debug("bulkGet keys size: {}", keys.size());
-            return redisJsonTemplate.executePipelined((RedisCallback<?>) connection -> {
+            List<Object> result = redisJsonTemplate.executePipelined((RedisCallback<?>) connection -> {
                 for (String key : keys) {
                     connection.get(key.getBytes(StandardCharsets.UTF_8));  // This will be pipelined
                 }
                 return null;
             });
+            return sample.success(result);
         } catch (Exception e) {
+            sample.error();
             log.error("Redis bulkGet error: keys={}, message={}", keys.size(), e.getMessage(), e);
             log.debug(keys.toString());
             return Collections.emptyList();
@@ -104,11 +130,13 @@ public class RedisService {
     }
 
     public List<Object> multiGet(Collection<String> keys) {
+        MaxyMetrics.Sample sample = start("mget");
         try {
             log.debug("multiGet keys size: {}", keys.size());
             List<Object> result = redisJsonTemplate.opsForValue().multiGet(keys);
-            return result != null ? result : Collections.emptyList();
+            return sample.success(result != null ? result : Collections.emptyList());
         } catch (Exception e) {
+            sample.error();
             log.error("Redis multiGet (Object) error: keys={}, message={}", keys.size(), e.getMessage(), e);
             log.debug(keys.toString());
             return Collections.emptyList();
@@ -116,20 +144,101 @@ public class RedisService {
     }
 
     public void delete(String key) {
+        MaxyMetrics.Sample sample = start("del");
         try {
             log.debug("delete key: {}", key);
             redisStringTemplate.delete(key);
+            sample.success();
         } catch (Exception e) {
+            sample.error();
             log.error("Redis delete error: key={}, message={}", key, e.getMessage(), e);
         }
     }
 
     public void setHash(String key, Map<String, Object> map) {
+        MaxyMetrics.Sample sample = start("hset");
         try {
             log.debug("setHash key: {}, map: {}", key, map);
             redisStringTemplate.opsForHash().putAll(key, map);
+            sample.success();
         } catch (Exception e) {
+            sample.error();
             log.error("Redis setHash error: key={}, message={}", key, e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * KEYS 대신 SCAN 으로 pattern 에 맞는 key 조회 (Redis 를 block 하지 않음)
+     */
+    public Set<String> scan(String pattern) {
+        Set<String> result = new HashSet<>();
+        MaxyMetrics.Sample sample = start("scan");
+        try {
+            log.debug("scan keys: {}", pattern);
+            ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+            redisStringTemplate.execute((RedisCallback<Void>) connection -> {
+                try (Cursor<byte[]> cursor = connection.scan(options)) {
+                    while (cursor.hasNext()) {
+                        result.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                    }
+                }
+                return null;
+            });
+            sample.success();
+        } catch (Exception e) {
+            sample.error();
+            log.error("Redis scan error: pattern={}, message={}", pattern, e.getMessage(), e);
+        }
+        return result;
+    }
+
+    public Map<String, Long> getHashLong(String key) {
+        MaxyMetrics.Sample sample = start("hgetall");
+        try {
+            log.debug("getHashLong key: {}", key);
+            Map<Object, Object> entries = redisLongTemplate.opsForHash().entries(key);
+            Map<String, Long> result = new HashMap<>(entries.size());
+            entries.forEach((k, v) -> result.put((String) k, (Long) v));
+            return sample.success(result);
+        } catch (Exception e) {
+            sample.error();
+            log.error("Redis getHashLong error: key={}, message={}", key, e.getMessage(), e);
+            return Collections.emptyMap();
+        }
+    }
+
+    public void setHashLong(String key, Map<String, Long> map, Duration ttl) {
+        MaxyMetrics.Sample sample = start("hset");
+        try {
+            log.debug("setHashLong key: {}, size: {}", key, map.size());
+            redisLongTemplate.opsForHash().putAll(key, map);
+            if (ttl != null) {
+                redisLongTemplate.expire(key, ttl);
+            }
+            sample.success();
+        } catch (Exception e) {
+            sample.error();
+            log.error("Redis setHashLong error: key={}, message={}", key, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * SET NX PX 로 분산 lock 획득
+     *
+     * @param key   lock key
+     * @param owner lock 소유자
+     * @param ttl   lock 유지 시간
+     * @return 획득 여부 (다른 소유자가 있으면 false)
+     * @throws org.springframework.dao.DataAccessException Redis 오류 (lock 상태를 알 수 없음)
+     */
+    public boolean tryLock(String key, String owner, Duration ttl) {
+        MaxyMetrics.Sample sample = start("lock");
+        try {
+            Boolean result = redisStringTemplate.opsForValue().setIfAbsent(key, owner, ttl);
+            return sample.success(Boolean.TRUE.equals(result));
+        } catch (RuntimeException e) {
+            sample.error();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.thinkm.maxy.service.app;
+
+import com.thinkm.maxy.vo.ReportVO;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 예약 리포트 1회 실행 동안 사용하는 section 데이터 캐시
+ * <p>
+ * 같은 packageNm / serverType / osType / appVer / 기간의 section 은 한 번만 조회하고,
+ * 호출하는 쪽에서 row 를 수정하므로 (deviceModel 변환 등) 반환할 때마다 row 를 복사한다.
+ */
+public final class ReportSectionCache {
+
+    private final Map<String, CompletableFuture<Object>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * section 목록 데이터 조회
+     *
+     * @param section section 구분 (ReportType 등)
+     * @param vo      리포트 조건
+     * @param loader  실제 조회
+     * @return 복사된 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> list(String section, ReportVO vo, Supplier<List<Map<String, Object>>> loader) {
+        List<Map<String, Object>> list = (List<Map<String, Object>>) get(key(section, vo), loader::get);
+        if (list == null) {
+            return new ArrayList<>();
+        }
+        List<Map<String, Object>> result = new ArrayList<>(list.size());
+        for (Map<String, Object> row : list) {
+            result.add(copy(row));
+        }
+        return result;
+    }
+
+    /**
+     * section 단건 데이터 조회
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> map(String section, ReportVO vo, Supplier<Map<String, Object>> loader) {
+        Map<String, Object> map = (Map<String, Object>) get(key(section, vo), loader::get);
+        return map == null ? new HashMap<>() : copy(map);
+    }
+
+    /**
+     * 조건과 관계없는 공통 데이터 조회 (복사하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T shared(String key, Supplier<T> loader) {
+        return (T) get(key, loader::get);
+    }
+
+    private Object get(String key, Supplier<Object> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = cache.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+        try {
+            Object value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            // 실패한 section 은 다음 호출에서 다시 조회
+            cache.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static String key(String section, ReportVO vo) {
+        return String.join("|", section, vo.getPackageNm(), vo.getServerType(), vo.getOsType(), vo.getAppVer(),
+                vo.getFromDt(), vo.getToDt(), String.valueOf(vo.getFrom()), String.valueOf(vo.getTo()),
+                String.valueOf(vo.getDiff()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> copy(Map<String, Object> row) {
+        // CamelHashMap 은 put 시 key 를 변환하므로 clone 으로 같은 타입을 유지
+        if (row instanceof HashMap<?, ?> hashMap) {
+            return (Map<String, Object>) hashMap.clone();
+        }
+        return new LinkedHashMap<>(row);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
@@ -2,6 +2,7 @@ package com.thinkm.maxy.service.app;
 
 import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.code.MaxyLogType;
+import com.thinkm.common.config.metrics.MaxyMetrics;
 import com.thinkm.common.util.*;
 import com.thinkm.maxy.mapper.ReportMapper;
 import com.thinkm.maxy.mapper.ScheduledReportMapper;
@@ -47,6 +48,8 @@ import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.thinkm.maxy.vo.ReportVO.ReportType.STATUS_INFO;
@@ -67,12 +70,15 @@ public class ReportService {
     private static final float LINE_GAP = 10;
     private static final String DEFAULT_FONT_PATH = "/font/Pretendard/ttf/Pretendard-Medium.ttf";
     private static final String BOLD_FONT_PATH = "/font/Pretendard/ttf/Pretendard-Bold.ttf";
+    // classpath 폰트 파일 byte 캐시
+    private static final Map<String, byte[]> FONT_BYTES = new ConcurrentHashMap<>();
 
     private final ElasticClient elasticClient;
     private final ReportMapper mapper;
     private final ScheduledReportMapper scheduledMapper;
     private final AppInfoRepository appInfoRepository;
     private final MailService mailService;
+    private final MaxyMetrics maxyMetrics;
 
     private final ReportServiceHelper reportServiceHelper;
 
@@ -82,12 +88,13 @@ public class ReportService {
     private boolean userIdMasking;
 
     public ReportService(ElasticClient elasticClient, ReportMapper mapper, ScheduledReportMapper scheduledMapper,
-                         AppInfoRepository appInfoRepository, MailService mailService) {
+                         AppInfoRepository appInfoRepository, MailService mailService, MaxyMetrics maxyMetrics) {
         this.elasticClient = elasticClient;
         this.mapper = mapper;
         this.scheduledMapper = scheduledMapper;
         this.appInfoRepository = appInfoRepository;
         this.mailService = mailService;
+        this.maxyMetrics = maxyMetrics;
         this.reportServiceHelper = new ReportServiceHelper(
                 TITLE,
                 FONT_SIZE_16,
@@ -286,7 +293,7 @@ public class ReportService {
     }
 
     private void makeSbTopRendering(List<Map<String, Object>> topRendering, ReportVO vo, StringBuilder sb,
-                                    String newLine, List<Map<String, Object>> deviceModelList) {
+                                    String newLine, Map<String, String> deviceModelNames) {
         String[] performanceRenderingTop10Header = {
                 "OS", "Device", "User",
                 "Rate", "MAX", "MED",
@@ -310,7 +317,7 @@ public class ReportService {
                 String userRateString = userRate.setScale(2, RoundingMode.HALF_UP).toPlainString() + "%";
                 String[] content = {
                         String.valueOf(item.get("osType")),
-                        convertDeviceModel(deviceModelList, deviceModel, vo.getLocale()),
+                        convertDeviceModel(deviceModelNames, deviceModel),
                         useCnt,
                         userRateString,
                         numberFormat.format(item.get("maxLoadingTime")),
@@ -373,7 +380,7 @@ public class ReportService {
     }
 
     private void makeSbTopResponse(List<Map<String, Object>> topResponse, ReportVO vo, StringBuilder sb, String newLine,
-                                   List<Map<String, Object>> deviceModelList) {
+                                   Map<String, String> deviceModelNames) {
         String[] responseTopHeader = {
                 "Response Time (Top 10)", "", "",
                 "", "", "",
@@ -396,7 +403,7 @@ public class ReportService {
                 String userRateString = userRate.setScale(2, RoundingMode.HALF_UP).toPlainString() + "%";
                 String[] content = {
                         String.valueOf(item.get("osType")),
-                        convertDeviceModel(deviceModelList, deviceModel, vo.getLocale()),
+                        convertDeviceModel(deviceModelNames, deviceModel),
                         useCnt,
                         userRateString,
                         numberFormat.format(item.get("maxResponseTime")),
@@ -413,7 +420,7 @@ public class ReportService {
     }
 
     private void makeSbPageViewInfo(List<Map<String, Object>> pageViewInfo, ReportVO vo, StringBuilder sb,
-                                    String newLine, List<Map<String, Object>> pageList) {
+                                    String newLine, Map<String, String> pageNames) {
         String[] pageViewHeader = {
                 "Page View", "Page (or URL)", "Viewer",
                 "Stay Time*", "Loading Time*", "Error",
@@ -441,7 +448,7 @@ public class ReportService {
                 String crashCnt = numberFormat.format(item.get("crashCnt") == null ? 0 : item.get("crashCnt"));
                 String[] content = {
                         pageviewCnt,
-                        convertPageNm(pageList, String.valueOf(item.get("reqUrl"))),
+                        convertPageNm(pageNames, String.valueOf(item.get("reqUrl"))),
                         viewerCnt,
                         renderingTimeResult1,
                         renderingTimeResult2,
@@ -511,7 +518,7 @@ public class ReportService {
         sb.append(newLine);
     }
 
-    private void makeSbDeviceErrorInfo(List<Map<String, Object>> deviceErrorInfo, ReportVO vo, StringBuilder sb, String newLine, List<Map<String, Object>> deviceModelList) {
+    private void makeSbDeviceErrorInfo(List<Map<String, Object>> deviceErrorInfo, ReportVO vo, StringBuilder sb, String newLine, Map<String, String> deviceModelNames) {
         String[] top10ErrorHeader = {
                 "Error(CT)", "Rate", "Device",
                 "OS", "User", "Rate",
@@ -530,7 +537,7 @@ public class ReportService {
                 String[] content = {
                         errorCnt,
                         Math.round(Double.parseDouble(String.valueOf(item.get("errorRate")))) + "%",
-                        convertDeviceModel(deviceModelList, deviceModel, vo.getLocale()),
+                        convertDeviceModel(deviceModelNames, deviceModel),
                         String.valueOf(item.get("osType")),
                         userCnt,
                         userRateString
@@ -544,7 +551,7 @@ public class ReportService {
         sb.append(newLine);
     }
 
-    private void makeSbDeviceCrashInfo(List<Map<String, Object>> deviceCrashInfo, ReportVO vo, StringBuilder sb, String newLine, List<Map<String, Object>> deviceModelList) {
+    private void makeSbDeviceCrashInfo(List<Map<String, Object>> deviceCrashInfo, ReportVO vo, StringBuilder sb, String newLine, Map<String, String> deviceModelNames) {
         String[] top10CrashHeader = {
                 "Crash(CT)", "Rate", "Device",
                 "OS", "User", "Rate",
@@ -563,7 +570,7 @@ public class ReportService {
                 String[] content = {
                         crashCnt,
                         Math.round(Double.parseDouble(String.valueOf(item.get("crashRate")))) + "%",
-                        convertDeviceModel(deviceModelList, deviceModel, vo.getLocale()),
+                        convertDeviceModel(deviceModelNames, deviceModel),
                         String.valueOf(item.get("osType")),
                         userCnt,
                         userRateString
@@ -965,28 +972,17 @@ public class ReportService {
 
     public void downloadReportData(Map<String, Object> reportData, HttpServletRequest request, HttpServletResponse response, ReportVO vo) {
 
-        List<Map<String, Object>> deviceModelList = mapper.selectDeviceModelList();
-        List<Map<String, Object>> pageList = mapper.selectPageList(vo);
+        Map<String, String> deviceModelNames = toDeviceModelNameMap(mapper.selectDeviceModelList(), vo.getLocale());
+        Map<String, String> pageNames = toPageNameMap(mapper.selectPageList(vo));
         String newLine = System.lineSeparator();
+        // section 단위로 만들고 바로 내보낸 뒤 재사용
         StringBuilder sb = new StringBuilder();
 
-        try (OutputStream outputStream = response.getOutputStream()) {
-            outputStream.write(0xEF);
-            outputStream.write(0xBB);
-            outputStream.write(0xBF);
-            SimpleDateFormat fileSDf = new SimpleDateFormat("yyMMddhhmmss");
-            Date date = new Date();
-            String fileDate = fileSDf.format(date.getTime());
-            String fileName = "ReportData_" + fileDate + ".csv";
-            String userAgent = request.getHeader("user-agent");
-
-            if (!fileName.contains(".csv") || userAgent.contains("Macintosh")) {
-                fileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8);
-            } else {
-                fileName = new String(
-                        fileName.getBytes("euc-kr"), StandardCharsets.ISO_8859_1);
-            }
+        SimpleDateFormat fileSDf = new SimpleDateFormat("yyMMddhhmmss");
+        String fileName = "ReportData_" + fileSDf.format(new Date()) + ".csv";
+        String userAgent = request.getHeader("user-agent");
 
+        try (CsvWriter csv = CsvWriter.openWithBom(response, fileName, userAgent)) {
             String[] typeList = vo.getReportType().split(","); // 보여줘야할 리포트 정보 유형
             for (String type : typeList) {
                 switch (ReportType.fromType(type)) {
@@ -997,21 +993,21 @@ public class ReportService {
                     case LOADING_SUMMARY -> // Performance - Loading Time (Summary)
                             makeSbRenderingSummary((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine);
                     case LOADING_10 -> // Performance - Loading Time (Top 10)
-                            makeSbTopRendering((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine, deviceModelList);
+                            makeSbTopRendering((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine, deviceModelNames);
                     case RESPONSE_SUMMARY -> // Performance - Response Time (Summary)
                             makeSbResponseSummary((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine);
                     case RESPONSE_10 -> // Performance - Response Time (Top 10)
-                            makeSbTopResponse((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine, deviceModelList);
+                            makeSbTopResponse((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine, deviceModelNames);
                     case PAGEVIEW_INFO -> // Performance - Page View (Top 10)
-                            makeSbPageViewInfo((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine, pageList);
+                            makeSbPageViewInfo((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine, pageNames);
                     case ERROR_INFO -> // Performance - Error (Top 10)
                             makeSbErrorInfo((List<Map<String, Object>>) reportData.get(type), sb, newLine);
                     case CRASH_INFO -> // Performance - Crash (Top 10)
                             makeSbCrashInfo((List<Map<String, Object>>) reportData.get(type), sb, newLine);
                     case TOP10_DEVICE_ERROR_INFO -> // Performance - Device Error Info (Top 10)
-                            makeSbDeviceErrorInfo((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine, deviceModelList);
+                            makeSbDeviceErrorInfo((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine, deviceModelNames);
                     case TOP10_DEVICE_CRASH_INFO -> // Performance - Device Crash Info (Top 10)
-                            makeSbDeviceCrashInfo((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine, deviceModelList);
+                            makeSbDeviceCrashInfo((List<Map<String, Object>>) reportData.get(type), vo, sb, newLine, deviceModelNames);
                     case NETWORK_ERROR_INFO ->
                             makeSbNetworkErrorInfo((List<Map<String, Object>>) reportData.get(type), sb, newLine);
                     case NETWORK_CRASH_INFO ->
@@ -1040,15 +1036,9 @@ public class ReportService {
                             makeSbFrontErrorNetworkInfo((List<Map<String, Object>>) reportData.get(type), sb, newLine);
 
                 }
+                csv.write(sb);
+                sb.setLength(0);
             }
-
-            response.setContentType("text/csv");
-            response.setHeader("Content-type", "text/csv; charset=UTF-8");
-            response.setHeader("Content-Disposition", "attachment; filename=" + fileName);
-
-            outputStream.write(sb.toString().getBytes(StandardCharsets.UTF_8));
-            outputStream.flush();
-            sb.setLength(0);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
         }
@@ -1071,28 +1061,18 @@ public class ReportService {
         String serverType = vo.getServerType();
         String appName = appInfoRepository.get(packageNm, serverType);
 
-        String newLine = System.lineSeparator();
-        StringBuilder sb = new StringBuilder();
         String[] statusHeader = {
                 "구분", "발생건수", "요청번호", "담당팀명", "오류채널",
                 "앱종류", "앱버전", "로그종류", "로그유형",
                 "오류내용", "USER ID", "발생일", "발생시간"
         };
-        sb.append(String.join(",", statusHeader)).append(newLine);
 
-        try (OutputStream outputStream = response.getOutputStream()) {
-            SimpleDateFormat fileSDf = new SimpleDateFormat("yyMMddhhmmss");
-            Date date = new Date();
-            String fileDate = fileSDf.format(date.getTime());
-            String fileName = "ReportErrorCrashData_" + fileDate + ".csv";
-            String userAgent = request.getHeader("user-agent");
+        SimpleDateFormat fileSDf = new SimpleDateFormat("yyMMddhhmmss");
+        String fileName = "ReportErrorCrashData_" + fileSDf.format(new Date()) + ".csv";
+        String userAgent = request.getHeader("user-agent");
 
-            if (!fileName.contains(".csv") || userAgent.contains("Macintosh")) {
-                fileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8);
-            } else {
-                fileName = new String(
-                        fileName.getBytes("euc-kr"), StandardCharsets.ISO_8859_1);
-            }
+        try (CsvWriter csv = CsvWriter.open(response, fileName, userAgent)) {
+            csv.writeRow(statusHeader);
             int maxErrorIndex = Math.min(info.get("error").size(), 50);
             for (int i = 0; i < maxErrorIndex; i++) {
                 Map<String, Object> item = info.get("error").get(i);
@@ -1116,7 +1096,7 @@ public class ReportService {
                         DateUtil.timestampToDate(logTm, "HH:mm:ss"),
                 };
 
-                makeCsvFormat(newLine, sb, contents);
+                csv.writeRow(contents);
             }
 
             int maxCrashIndex = Math.min(info.get("crash").size(), 50);
@@ -1141,10 +1121,8 @@ public class ReportService {
                         DateUtil.timestampToDate(logTm, "yyyyMMdd"),
                         DateUtil.timestampToDate(logTm, "HH:mm:ss"),
                 };
-                makeCsvFormat(newLine, sb, contents);
+                csv.writeRow(contents);
             }
-
-            CommonUtil.writeCsvFile(response, sb, outputStream, fileName, userAgent);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
         }
@@ -1202,9 +1180,9 @@ public class ReportService {
                 .aggregation(crashCompositeAggs)
                 .size(0);
 
-        SearchRequest errorSearchRequest = new SearchRequest(ElasticIndex.TROUBLE_LOG.getIndex() + "*")
+        SearchRequest errorSearchRequest = new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.TROUBLE_LOG, vo.getFrom(), vo.getTo()))
                 .source(errorSourceBuilder);
-        SearchRequest crashSearchRequest = new SearchRequest(ElasticIndex.TROUBLE_LOG.getIndex() + "*")
+        SearchRequest crashSearchRequest = new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.TROUBLE_LOG, vo.getFrom(), vo.getTo()))
                 .source(crashSourceBuilder);
 
         log.debug(errorSearchRequest.toString());
@@ -1414,36 +1392,52 @@ public class ReportService {
         return mapper.getNetworkCrashInfo(vo);
     }
 
-    public String convertDeviceModel(List<Map<String, Object>> deviceModelList, String str, String lang) {
-        String result = "";
-
+    /**
+     * device model 목록을 Identifier -> 모델명 map 으로 변환 (행마다 목록을 순회하지 않도록)
+     *
+     * @param deviceModelList selectDeviceModelList 결과
+     * @param lang            ko / en (그 외 언어는 원본 모델명 사용)
+     * @return {deviceModel: name}
+     */
+    public Map<String, String> toDeviceModelNameMap(List<Map<String, Object>> deviceModelList, String lang) {
+        String key = "ko".equals(lang) ? "nameKo" : "en".equals(lang) ? "nameEn" : null;
+        if (key == null || deviceModelList == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> result = new HashMap<>(deviceModelList.size() * 2);
         for (Map<String, Object> d : deviceModelList) {
-            if (str.equals(d.get("deviceModel"))) {
-                if (lang.equals("ko")) {
-                    result = (String) d.get("nameKo");
-                } else if (lang.equals("en")) {
-                    result = (String) d.get("nameEn");
-                }
+            Object name = d.get(key);
+            if (d.get("deviceModel") != null && name != null) {
+                result.put(String.valueOf(d.get("deviceModel")), String.valueOf(name));
             }
         }
+        return result;
+    }
+
+    public String convertDeviceModel(Map<String, String> deviceModelNames, String str) {
+        String result = deviceModelNames.get(str);
 
         // 매칭되는 모델명이 없으면 원본 모델명 그대로 반환
-        if ("".equals(result)) {
+        if (result == null || result.isEmpty()) {
             result = str;
         }
 
         return result;
     }
 
-    private String convertPageNm(List<Map<String, Object>> pageList, String str) {
-        String result = str;
-
+    private Map<String, String> toPageNameMap(List<Map<String, Object>> pageList) {
+        Map<String, String> result = new HashMap<>(pageList.size() * 2);
         for (Map<String, Object> p : pageList) {
-            if (str.equals(p.get("reqUrl"))) {
-                result = (String) p.get("appPageNm");
-                break;
+            // 같은 reqUrl 이 여러 건이면 첫 번째 이름 사용
+            if (p.get("reqUrl") != null) {
+                result.putIfAbsent(String.valueOf(p.get("reqUrl")), (String) p.get("appPageNm"));
             }
         }
+        return result;
+    }
+
+    private String convertPageNm(Map<String, String> pageNames, String str) {
+        String result = pageNames.get(str);
 
         if (result == null || result.isEmpty()) {
             result = str;
@@ -1479,7 +1473,38 @@ public class ReportService {
      * @throws IOException 파일 처리 중 오류 발생 시
      */
     public ByteArrayOutputStream createPdfReport(ReportVO vo) throws IOException {
-        List<Map<String, Object>> deviceModelList = mapper.selectDeviceModelList();
+        return createPdfReport(vo, null);
+    }
+
+    /**
+     * 리포트 PDF 생성. sectionCache 가 있으면 같은 조건의 section 데이터를 공유한다. (예약 리포트)
+     *
+     * @param vo           리포트 요청 정보
+     * @param sectionCache 1회 실행 동안의 section 캐시 (nullable)
+     * @return PDF 파일이 저장된 ByteArrayOutputStream
+     * @throws IOException 파일 처리 중 오류 발생 시
+     */
+    public ByteArrayOutputStream createPdfReport(ReportVO vo, ReportSectionCache sectionCache) throws IOException {
+        // 예약 리포트 (sectionCache 사용) 와 화면 다운로드 구분
+        String type = sectionCache == null ? "download" : "scheduled";
+        MaxyMetrics.Sample sample = maxyMetrics.start(MaxyMetrics.PDF, "type", type);
+        ByteArrayOutputStream outputStream;
+        try {
+            outputStream = writePdfReport(vo, sectionCache);
+        } catch (IOException | RuntimeException e) {
+            sample.stop(e);
+            throw e;
+        }
+        sample.success();
+        maxyMetrics.recordSize(MaxyMetrics.PDF_SIZE, MaxyMetrics.BYTES, outputStream.size(), "type", type);
+        return outputStream;
+    }
+
+    private ByteArrayOutputStream writePdfReport(ReportVO vo, ReportSectionCache sectionCache) throws IOException {
+        List<Map<String, Object>> deviceModelList = sectionCache == null
+                ? mapper.selectDeviceModelList()
+                : sectionCache.shared("deviceModelList", mapper::selectDeviceModelList);
+        Map<String, String> deviceModelNames = toDeviceModelNameMap(deviceModelList, vo.getLocale());
 
         // 대용량 보고서 처리를 위한 버퍼 크기 설정
         int bufferSize = 8192;
@@ -1521,43 +1546,43 @@ public class ReportService {
 
                 switch (reportType) {
                     case STATUS_INFO -> { // 상태 정보
-                        mapData = getStatusInfoDB(vo);
+                        mapData = sectionMap(sectionCache, type, vo, () -> getStatusInfoDB(vo));
                     }
                     case VERSION_SUMMARY -> { // App 버전별 통계
                         columnList = ReportColumn.getVersionSummary();
-                        listData = getTotalVersionInfoDB(vo);
+                        listData = section(sectionCache, type, vo, () -> getTotalVersionInfoDB(vo));
                     }
                     case LOADING_SUMMARY -> { // Performance - Loading Time (Summary)
                         columnList = ReportColumn.getLoadingSummary();
-                        listData = getRenderingSummaryDB(vo);
+                        listData = section(sectionCache, type, vo, () -> getRenderingSummaryDB(vo));
                     }
                     case LOADING_10 -> { // Performance - Loading Time (Top 10)
                         columnList = ReportColumn.getLoading10();
-                        listData = getRenderingTop(vo);
+                        listData = section(sectionCache, type, vo, () -> getRenderingTop(vo));
                         for (Map<String, Object> item : listData) {
-                            String deviceModel = convertDeviceModel(deviceModelList, (String) item.get("deviceModel"), vo.getLocale());
+                            String deviceModel = convertDeviceModel(deviceModelNames, (String) item.get("deviceModel"));
                             item.put("deviceModel", deviceModel);
                         }
                     }
                     case RESPONSE_SUMMARY -> { // Performance - Response Time (Summary)
                         columnList = ReportColumn.getResponseSummary();
-                        listData = getResponseSummaryDB(vo);
+                        listData = section(sectionCache, type, vo, () -> getResponseSummaryDB(vo));
                     }
                     case RESPONSE_10 -> { // Performance - Response Time (Top 10)
                         columnList = ReportColumn.getResponse10();
-                        listData = getResponseTop(vo);
+                        listData = section(sectionCache, type, vo, () -> getResponseTop(vo));
                         for (Map<String, Object> item : listData) {
-                            String deviceModel = convertDeviceModel(deviceModelList, (String) item.get("deviceModel"), vo.getLocale());
+                            String deviceModel = convertDeviceModel(deviceModelNames, (String) item.get("deviceModel"));
                             item.put("deviceModel", deviceModel);
                         }
                     }
                     case PAGEVIEW_INFO -> {  // Performance - Page View (Top 10)
                         columnList = ReportColumn.getPageViewInfo();
-                        listData = getPageViewInfoDB(vo);
+                        listData = section(sectionCache, type, vo, () -> getPageViewInfoDB(vo));
                     }
                     case ERROR_INFO -> { // Performance - Error (Top 10)
                         columnList = ReportColumn.getErrorInfo();
-                        listData = getErrorInfo(vo);
+                        listData = section(sectionCache, type, vo, () -> getErrorInfo(vo));
 
                         // 개행문자가 있으면 폰트에서 오류나서 제거
                         for (Map<String, Object> item : listData) {
@@ -1573,7 +1598,7 @@ public class ReportService {
                     }
                     case CRASH_INFO -> { // Performance - Crash (Top 10)
                         columnList = ReportColumn.getCrashInfo();
-                        listData = getCrashInfo(vo);
+                        listData = section(sectionCache, type, vo, () -> getCrashInfo(vo));
 
                         // 개행문자가 있으면 폰트에서 오류나서 제거
                         for (Map<String, Object> item : listData) {
@@ -1596,23 +1621,23 @@ public class ReportService {
                     }
                     case TOP10_DEVICE_ERROR_INFO -> { // Performance - Device Error Info (Top 10)
                         columnList = ReportColumn.getErrorDeviceInfo();
-                        listData = deviceErrorInfo(vo);
+                        listData = section(sectionCache, type, vo, () -> deviceErrorInfo(vo));
                         for (Map<String, Object> item : listData) {
-                            String deviceModel = convertDeviceModel(deviceModelList, (String) item.get("deviceModel"), vo.getLocale());
+                            String deviceModel = convertDeviceModel(deviceModelNames, (String) item.get("deviceModel"));
                             item.put("deviceModel", deviceModel);
                         }
                     }
                     case TOP10_DEVICE_CRASH_INFO -> { // Performance - Device Crash Info (Top 10)
                         columnList = ReportColumn.getCrashDeviceInfo();
-                        listData = deviceCrashInfo(vo);
+                        listData = section(sectionCache, type, vo, () -> deviceCrashInfo(vo));
                         for (Map<String, Object> item : listData) {
-                            String deviceModel = convertDeviceModel(deviceModelList, (String) item.get("deviceModel"), vo.getLocale());
+                            String deviceModel = convertDeviceModel(deviceModelNames, (String) item.get("deviceModel"));
                             item.put("deviceModel", deviceModel);
                         }
                     }
                     case NETWORK_ERROR_INFO -> { // 네트워크 에러 정보 (Top 10)
                         columnList = ReportColumn.getNetworkErrorInfo();
-                        listData = getNetworkErrorInfo(vo);
+                        listData = section(sectionCache, type, vo, () -> getNetworkErrorInfo(vo));
 
                         // 개행문자가 있으면 폰트에서 오류나서 제거
                         for (Map<String, Object> item : listData) {
@@ -1631,7 +1656,7 @@ public class ReportService {
                     }
                     case NETWORK_CRASH_INFO -> { // 네트워크 크래시 정보 (Top 10)
                         columnList = ReportColumn.getNetworkCrashInfo();
-                        listData = getNetworkCrashInfo(vo);
+                        listData = section(sectionCache, type, vo, () -> getNetworkCrashInfo(vo));
 
                         // 개행문자가 있으면 폰트에서 오류나서 제거
                         for (Map<String, Object> item : listData) {
@@ -1659,7 +1684,7 @@ public class ReportService {
                     }
                     case F_STATUS_INFO -> { // MAXY FRONT - 기본정보
                         columnList = ReportColumn.getFrontStatusInfo();
-                        listData = getFrontBasicInfo(vo);
+                        listData = section(sectionCache, type, vo, () -> getFrontBasicInfo(vo));
 
                         for (Map<String, Object> item : listData) {
                             Object baseDateObj = item.get("baseDate");
@@ -1674,7 +1699,7 @@ public class ReportService {
                     }
                     case F_BROWSER_10 -> { // MAXY FRONT - 브라우저 별 페이지 로드 Top 10
                         columnList = ReportColumn.getFrontBrowserPageLoadTop10();
-                        listData = getFrontPageInfoByBrowser(vo);
+                        listData = section(sectionCache, type, vo, () -> getFrontPageInfoByBrowser(vo));
 
                         int no = 1;
                         for (Map<String, Object> item : listData) {
@@ -1683,7 +1708,7 @@ public class ReportService {
                     }
                     case F_LOCATION_10 -> { // MAXY FRONT - 지역 별 페이지 로드 Top 10
                         columnList = ReportColumn.getFrontLocationPageLoadTop10();
-                        listData = getFrontPageInfoByLocation(vo);
+                        listData = section(sectionCache, type, vo, () -> getFrontPageInfoByLocation(vo));
 
                         int no = 1;
                         for (Map<String, Object> item : listData) {
@@ -1696,7 +1721,7 @@ public class ReportService {
                     }
                     case F_PAGE_LOAD_10 -> { // MAXY FRONT - 페이지 로드 Top 10
                         columnList = ReportColumn.getFrontPageLoadTop10();
-                        listData = getFrontPageLoadTop10(vo);
+                        listData = section(sectionCache, type, vo, () -> getFrontPageLoadTop10(vo));
 
                         int no = 1;
                         for (Map<String, Object> item : listData) {
@@ -1705,7 +1730,7 @@ public class ReportService {
                     }
                     case F_PAGE_LOAD_WORST_10 -> { // MAXY FRONT - 사용자 체감 별 페이지 로드 Worst 10
                         columnList = ReportColumn.getFrontPageLoadWorst10();
-                        listData = getFrontPageLoadWorst10(vo);
+                        listData = section(sectionCache, type, vo, () -> getFrontPageLoadWorst10(vo));
 
                         int no = 1;
                         for (Map<String, Object> item : listData) {
@@ -1714,7 +1739,7 @@ public class ReportService {
                     }
                     case F_LCP_WORST_10 -> { // MAXY FRONT - LCP Worst 10
                         columnList = ReportColumn.getFrontLcpWorst10();
-                        listData = getFrontLcpWorst10(vo);
+                        listData = section(sectionCache, type, vo, () -> getFrontLcpWorst10(vo));
 
                         int no = 1;
                         for (Map<String, Object> item : listData) {
@@ -1723,7 +1748,7 @@ public class ReportService {
                     }
                     case F_CLS_WORST_10 -> { // MAXY FRONT - CLS Worst 10
                         columnList = ReportColumn.getFrontClsWorst10();
-                        listData = getFrontClsWorst10(vo);
+                        listData = section(sectionCache, type, vo, () -> getFrontClsWorst10(vo));
 
                         int no = 1;
                         for (Map<String, Object> item : listData) {
@@ -1732,7 +1757,7 @@ public class ReportService {
                     }
                     case F_INP_WORST_10 -> { // MAXY FRONT - INP Worst 10
                         columnList = ReportColumn.getFrontInpWorst10();
-                        listData = getFrontInpWorst10(vo);
+                        listData = section(sectionCache, type, vo, () -> getFrontInpWorst10(vo));
 
                         int no = 1;
                         for (Map<String, Object> item : listData) {
@@ -1741,7 +1766,7 @@ public class ReportService {
                     }
                     case F_ERROR_PAGE_10 -> { // MAXY FRONT - 페이지 별 에러 수 Top 10
                         columnList = ReportColumn.getFrontPageErrorTop10();
-                        listData = getFrontPageInfoByPageError(vo);
+                        listData = section(sectionCache, type, vo, () -> getFrontPageInfoByPageError(vo));
 
                         int no = 1;
                         for (Map<String, Object> item : listData) {
@@ -1750,7 +1775,7 @@ public class ReportService {
                     }
                     case F_ERROR_MSG_10 -> { // MAXY FRONT - 에러 메시지 별 Top 10
                         columnList = ReportColumn.getFrontErrorMsgTop10();
-                        listData = getFrontPageInfoByErrorMsg(vo);
+                        listData = section(sectionCache, type, vo, () -> getFrontPageInfoByErrorMsg(vo));
 
                         int no = 1;
                         for (Map<String, Object> item : listData) {
@@ -1759,7 +1784,7 @@ public class ReportService {
                     }
                     case F_ERROR_NET_10 -> { // MAXY FRONT - 페이지 별 에러 수 Top 10
                         columnList = ReportColumn.getFrontErrorNetworkTop10();
-                        listData = getFrontPageInfoByNetworkErrorMsg(vo);
+                        listData = section(sectionCache, type, vo, () -> getFrontPageInfoByNetworkErrorMsg(vo));
 
                         int no = 1;
                         for (Map<String, Object> item : listData) {
@@ -2214,6 +2239,16 @@ public class ReportService {
         }
     }
 
+    private List<Map<String, Object>> section(ReportSectionCache sectionCache, String type, ReportVO vo,
+                                              Supplier<List<Map<String, Object>>> loader) {
+        return sectionCache == null ? loader.get() : sectionCache.list(type, vo, loader);
+    }
+
+    private Map<String, Object> sectionMap(ReportSectionCache sectionCache, String type, ReportVO vo,
+                                           Supplier<Map<String, Object>> loader) {
+        return sectionCache == null ? loader.get() : sectionCache.map(type, vo, loader);
+    }
+
     /**
      * PDF 문서에 사용할 폰트를 로드
      *
@@ -2223,19 +2258,32 @@ public class ReportService {
      * @throws IOException 폰트 파일 접근 또는 로드 중 오류 발생 시
      */
     private PDType0Font loadFont(PDDocument document, String fontPath) throws IOException {
+        byte[] fontBytes = readFontBytes(fontPath);
+        try {
+            return PDType0Font.load(document, new ByteArrayInputStream(fontBytes));
+        } catch (IOException e) {
+            log.error("폰트 '{}' 로딩 중 오류 발생: {}", fontPath, e.getMessage(), e);
+            throw new IOException("폰트 로딩 실패: " + fontPath, e);
+        }
+    }
+
+    /**
+     * 폰트 파일은 classpath 에서 한 번만 읽고 byte 배열로 보관 (PDType0Font 는 문서마다 생성해야 함)
+     */
+    private byte[] readFontBytes(String fontPath) throws IOException {
+        byte[] cached = FONT_BYTES.get(fontPath);
+        if (cached != null) {
+            return cached;
+        }
         // 자원 누수 방지를 위해 try-with-resources 사용
         try (InputStream is = getClass().getResourceAsStream(fontPath)) {
-            if (is != null) {
-                try {
-                    return PDType0Font.load(document, is);
-                } catch (IOException e) {
-                    log.error("폰트 '{}' 로딩 중 오류 발생: {}", fontPath, e.getMessage(), e);
-                    throw new IOException("폰트 로딩 실패: " + fontPath, e);
-                }
-            } else {
+            if (is == null) {
                 log.warn("폰트 파일 '{}' 을 찾을 수 없습니다.", fontPath);
                 throw new IOException("폰트 파일을 찾을 수 없습니다: " + fontPath);
             }
+            byte[] bytes = is.readAllBytes();
+            FONT_BYTES.putIfAbsent(fontPath, bytes);
+            return bytes;
         }
     }
 
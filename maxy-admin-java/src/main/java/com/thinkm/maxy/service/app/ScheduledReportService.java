@@ -15,30 +15,53 @@ import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 예약된 리포트 메일 발송을 담당하는 서비스
- * 스케줄링 기능을 별도로 분리하여 중복 실행을 방지
+ * 스케줄링 기능을 별도로 분리하고 Redis lock 으로 여러 node 의 중복 실행을 방지
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduledReportService {
 
+    // 여러 admin node 중 하나만 실행하기 위한 lock (날짜별 key, 해제하지 않고 TTL 로 만료)
+    private static final String LOCK_KEY = "maxy:lock:scheduledReport";
+
     private final ReportService reportService;
+    private final RedisService redisService;
     
     @Autowired
     private MailService mailService;
 
     @Value("${network.context-url}")
     private String contextUrl;
+    @Value("${maxy.report.schedule.pdf-workers:4}")
+    private int pdfWorkers;
+    @Value("${maxy.report.schedule.mail-workers:2}")
+    private int mailWorkers;
+    @Value("${maxy.report.schedule.mail-max-attempts:3}")
+    private int mailMaxAttempts;
+    @Value("${maxy.report.schedule.mail-retry-backoff-ms:5000}")
+    private long mailRetryBackoffMs;
+    @Value("${maxy.report.schedule.lock-minutes:1500}")
+    private long lockMinutes;
+
+    // 마지막 실행 결과 (리포트별 소요 시간)
+    private volatile Map<String, Object> lastRunStats = Collections.emptyMap();
 
     /**
      * 매일 오전 12시에 예약된 리포트 메일 발송
@@ -47,12 +70,28 @@ public class ScheduledReportService {
      * 0 0 12 * * * = 매일 오후 12시 0분 0초
      * 
      * 이 메서드는 ReportController와 FrontReportController에서 공통으로 사용되며,
-     * 스케줄링은 한 번만 실행되도록 설계됨
+     * Redis lock 으로 여러 node 중 하나에서만 실행됨
+     * <pre>
+     * 1) PDF 생성: pdf-workers 개의 thread 에서 동시에 생성, 같은 조건의 section 데이터는 공유
+     * 2) 메일 발송: mail-workers 개의 thread 에서 발송, 실패 시 mail-max-attempts 까지 재시도
+     * </pre>
      */
     @Scheduled(cron = "0 0 12 * * *")
     public void sendScheduledReports() {
-        log.info("예약 리포트 메일 발송 작업 시작");
+        // 먼저 끝난 node 가 lock 을 풀면 늦게 시작한 node 가 다시 발송하므로 당일 lock 은 해제하지 않음
+        String lockKey = LOCK_KEY + ":" + LocalDate.now();
+        try {
+            if (!redisService.tryLock(lockKey, UUID.randomUUID().toString(), Duration.ofMinutes(lockMinutes))) {
+                log.info("다른 node 에서 오늘 예약 리포트 메일 발송 작업을 실행함");
+                return;
+            }
+        } catch (Exception e) {
+            // 중복 발송을 막기 위해 lock 을 확인할 수 없으면 실행하지 않음
+            log.error("Redis 오류로 예약 리포트 lock 획득 실패, 발송하지 않음: {}", e.getMessage(), e);
+            return;
+        }
 
+        log.info("예약 리포트 메일 발송 작업 시작");
         try {
             // 예약 리포트 수신자 목록 조회
             List<ScheduledMailVO> recipients = reportService.selectActiveScheduledEmail();
@@ -63,20 +102,69 @@ public class ScheduledReportService {
             }
 
             log.info("예약 리포트 수: {}", recipients.size());
+            runPipeline(recipients);
+            log.info("예약 리포트 메일 발송 작업 완료");
+        } catch (Exception e) {
+            log.error("예약 리포트 메일 발송 작업 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
 
-            // 예약 요청별로 PDF 한 번만 생성하고 모든 수신자에게 발송
+    /**
+     * PDF 생성 -> 메일 발송 pipeline 실행
+     *
+     * @param recipients 예약 메일 목록
+     */
+    private void runPipeline(List<ScheduledMailVO> recipients) {
+        long s = System.currentTimeMillis();
+        ReportSectionCache sectionCache = new ReportSectionCache();
+        ExecutorService pdfExecutor = newExecutor("report-pdf-", pdfWorkers);
+        ExecutorService mailExecutor = newExecutor("report-mail-", mailWorkers);
+
+        List<CompletableFuture<ReportTiming>> futures = new ArrayList<>();
+        try {
             for (ScheduledMailVO recipient : recipients) {
-                try {
-                    processScheduledReport(recipient);
-                } catch (Exception e) {
-                    log.error("개별 리포트 생성 중 오류 발생: {}", e.getMessage(), e);
+                // 발송 주기 확인
+                if (!shouldSendReport(recipient)) {
+                    log.debug("발송 주기가 아님: {}", recipient.getSendCycle());
+                    continue;
                 }
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> generateReport(recipient, sectionCache), pdfExecutor)
+                        .thenApplyAsync(this::sendReport, mailExecutor)
+                        .exceptionally(e -> {
+                            log.error("개별 리포트 생성 중 오류 발생: {}", e.getMessage(), e);
+                            return ReportTiming.failed(recipient);
+                        }));
             }
-
-            log.info("예약 리포트 메일 발송 작업 완료");
-        } catch (Exception e) {
-            log.error("예약 리포트 메일 발송 작업 중 오류 발생: {}", e.getMessage(), e);
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            pdfExecutor.shutdown();
+            mailExecutor.shutdown();
         }
+
+        List<ReportTiming> timings = futures.stream().map(CompletableFuture::join).toList();
+        long success = timings.stream().filter(ReportTiming::success).count();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("startedAt", s);
+        stats.put("elapsedMs", System.currentTimeMillis() - s);
+        stats.put("total", timings.size());
+        stats.put("success", success);
+        stats.put("failure", timings.size() - success);
+        stats.put("sectionCacheSize", sectionCache.size());
+        stats.put("reports", timings);
+        lastRunStats = stats;
+
+        log.info("예약 리포트 {}건 (성공 {}), section {}개, {}ms",
+                timings.size(), success, sectionCache.size(), System.currentTimeMillis() - s);
+    }
+
+    private static ExecutorService newExecutor(String prefix, int size) {
+        AtomicInteger seq = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, size), r -> {
+            Thread t = new Thread(r, prefix + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
     }
 
     /**
@@ -87,33 +175,70 @@ public class ScheduledReportService {
      */
     public void processScheduledReport(ScheduledMailVO recipient) {
         try {
-            // 리포트 요청 정보 생성
-            ReportVO reportVO = createReportVO(recipient);
-            
             // 발송 주기 확인
             if (!shouldSendReport(recipient)) {
                 log.debug("발송 주기가 아님: {}", recipient.getSendCycle());
                 return;
             }
 
-            // PDF 생성
-            ByteArrayOutputStream pdfStream = reportService.createPdfReport(reportVO);
+            sendReport(generateReport(recipient, null));
+        } catch (Exception e) {
+            log.error("예약 리포트 처리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
 
-            // 이메일 발송
-            boolean success = sendReportEmail(pdfStream, reportVO, recipient);
+    /**
+     * PDF 생성 단계
+     */
+    private ReportJob generateReport(ScheduledMailVO recipient, ReportSectionCache sectionCache) {
+        long s = System.currentTimeMillis();
+        // 리포트 요청 정보 생성
+        ReportVO reportVO = createReportVO(recipient);
+        try {
+            ByteArrayOutputStream pdfStream = reportService.createPdfReport(reportVO, sectionCache);
+            return new ReportJob(recipient, reportVO, pdfStream, System.currentTimeMillis() - s);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            if (success) {
-                log.info("예약 리포트 메일 발송 성공: {}", recipient.getToEmailListStr());
-            } else {
-                log.error("예약 리포트 메일 발송 실패: {}", recipient.getToEmailListStr());
+    /**
+     * 메일 발송 단계. 실패 시 재시도
+     */
+    private ReportTiming sendReport(ReportJob job) {
+        long s = System.currentTimeMillis();
+        ScheduledMailVO recipient = job.recipient();
+        boolean success = false;
+        int attempt = 0;
+        try {
+            while (!success && attempt < Math.max(1, mailMaxAttempts)) {
+                if (attempt > 0) {
+                    log.warn("예약 리포트 메일 재발송 {}회: {}", attempt, recipient.getToEmailListStr());
+                    Thread.sleep(mailRetryBackoffMs * attempt);
+                }
+                attempt++;
+                success = sendReportEmail(job.pdfStream(), job.reportVO(), recipient);
             }
-
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
             // 리소스 정리
-            closeStream(pdfStream);
+            closeStream(job.pdfStream());
+        }
 
-        } catch (Exception e) {
-            log.error("예약 리포트 처리 중 오류 발생: {}", e.getMessage(), e);
+        long sendMs = System.currentTimeMillis() - s;
+        if (success) {
+            log.info("예약 리포트 메일 발송 성공: {} (pdf {}ms, mail {}ms)",
+                    recipient.getToEmailListStr(), job.generateMs(), sendMs);
+        } else {
+            log.error("예약 리포트 메일 발송 실패: {}", recipient.getToEmailListStr());
         }
+        return new ReportTiming(recipient.getReportSubject(), recipient.getPackageNm(),
+                job.generateMs(), sendMs, attempt, success);
+    }
+
+    public Map<String, Object> getLastRunStats() {
+        return lastRunStats;
     }
 
     /**
@@ -298,4 +423,18 @@ public class ScheduledReportService {
             log.error("PDF 스트림 닫기 실패: {}", e.getMessage(), e);
         }
     }
+
+    private record ReportJob(ScheduledMailVO recipient, ReportVO reportVO,
+                             ByteArrayOutputStream pdfStream, long generateMs) {
+    }
+
+    /**
+     * 리포트별 소요 시간
+     */
+    public record ReportTiming(String reportSubject, String packageNm,
+                               long generateMs, long sendMs, int attempts, boolean success) {
+        static ReportTiming failed(ScheduledMailVO recipient) {
+            return new ReportTiming(recipient.getReportSubject(), recipient.getPackageNm(), 0, 0, 0, false);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,259 @@
+package com.thinkm.maxy.service.app;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.thinkm.common.util.SymbolicationUtil;
+import com.thinkm.common.util.SymbolicationUtil.CrashFrame;
+import com.thinkm.common.util.SymbolicationUtil.FrameGroup;
+import com.thinkm.maxy.dto.app.dsym.SymbolicationItemDto;
+import com.thinkm.maxy.dto.app.dsym.SymbolicationResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * iOS dSYM 심볼리케이션
+ * <pre>
+ * - (dSYM, 바이너리, 로드 주소 기준 offset) 단위로 결과를 cache 하여 같은 frame 은 CLI 를 다시 실행하지 않음
+ * - cache 에 없는 frame 은 여러 crash 를 모아 batch-size 단위로 CLI 1회에 처리
+ * </pre>
+ */
+@Slf4j
+@Service
+public class SymbolicationService {
+
+    // CLI 가 결과를 주지 않은 frame (다시 CLI 를 실행하지 않도록 cache)
+    private static final Symbol NOT_FOUND = new Symbol(null, null, null);
+
+    private SymbolicationUtil symbolicationUtil = new SymbolicationUtil();
+
+    private final Cache<SymbolKey, Symbol> cache;
+    private final int batchSize;
+
+    private final LongAdder cliCalls = new LongAdder();
+    private final LongAdder cliFailures = new LongAdder();
+    private final LongAdder cliNanos = new LongAdder();
+    private final LongAdder requestNanos = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+
+    public SymbolicationService(
+            @Value("${maxy.symbolication.cache.max-size:200000}") long maxSize,
+            @Value("${maxy.symbolication.cache.expire-hours:24}") long expireHours,
+            @Value("${maxy.symbolication.batch-size:500}") int batchSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofHours(expireHours))
+                .recordStats()
+                .build();
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * crash 1건 심볼리케이션
+     *
+     * @param dsymPath DSYM 파일
+     * @param crashLog Crash log
+     * @param appName  DSYM app Name
+     * @return SymbolicationResponse
+     */
+    public SymbolicationResponseDto symbolicate(String dsymPath, String crashLog, String appName) {
+        return symbolicate(dsymPath, appName, List.of(crashLog)).get(0);
+    }
+
+    /**
+     * 같은 dSYM 의 crash 여러 건 심볼리케이션
+     *
+     * @param dsymPath  DSYM 파일
+     * @param appName   DSYM app Name
+     * @param crashLogs Crash log 목록
+     * @return crashLogs 순서의 SymbolicationResponse 목록
+     */
+    public List<SymbolicationResponseDto> symbolicate(String dsymPath, String appName, List<String> crashLogs) {
+        long s0 = System.nanoTime();
+        String dsymId = dsymId(dsymPath);
+
+        // 1) crash 별 frame 추출 및 cache 조회, 없는 frame 은 중복 제거하여 모음
+        // cache 는 key 당 한 번만 조회 (hit / miss 통계가 실제 조회 수와 같도록)
+        List<List<CrashFrame>> framesList = new ArrayList<>(crashLogs.size());
+        Map<SymbolKey, Symbol> symbols = new HashMap<>();
+        Map<SymbolKey, CrashFrame> misses = new LinkedHashMap<>();
+        for (String crashLog : crashLogs) {
+            List<CrashFrame> frames = crashLog == null
+                    ? List.of()
+                    : symbolicationUtil.parseCrashFrames(crashLog, appName);
+            framesList.add(frames);
+            for (CrashFrame frame : frames) {
+                SymbolKey key = SymbolKey.of(dsymId, frame);
+                if (symbols.containsKey(key) || misses.containsKey(key)) {
+                    continue;
+                }
+                Symbol symbol = cache.getIfPresent(key);
+                if (symbol != null) {
+                    symbols.put(key, symbol);
+                } else {
+                    misses.put(key, frame);
+                }
+            }
+        }
+
+        // 2) cache 에 없는 frame 을 batch 단위로 CLI 실행
+        String error = null;
+        if (!misses.isEmpty()) {
+            error = resolve(dsymPath, dsymId, misses, symbols);
+        }
+
+        // 3) crash 별 응답 생성
+        List<SymbolicationResponseDto> results = new ArrayList<>(framesList.size());
+        for (List<CrashFrame> frames : framesList) {
+            results.add(toResponse(dsymId, frames, symbols, error));
+        }
+
+        requests.increment();
+        requestNanos.add(System.nanoTime() - s0);
+        return results;
+    }
+
+    /**
+     * cache 에 없는 frame 을 CLI 로 심볼화하여 cache 와 symbols 에 저장
+     *
+     * @return 실패한 batch 가 있으면 마지막 에러 메시지, 없으면 null
+     */
+    private String resolve(String dsymPath, String dsymId, Map<SymbolKey, CrashFrame> misses, Map<SymbolKey, Symbol> symbols) {
+        String error = null;
+        Deque<Map.Entry<SymbolKey, CrashFrame>> pending = new ArrayDeque<>(misses.entrySet());
+        while (!pending.isEmpty()) {
+            // 응답은 (바이너리, 주소) 로 매칭하므로 batch 안에서 같은 (바이너리, 주소) 는 한 번만 넣음
+            Map<String, SymbolKey> batch = new LinkedHashMap<>();
+            Map<String, FrameGroup> groups = new LinkedHashMap<>();
+            Deque<Map.Entry<SymbolKey, CrashFrame>> deferred = new ArrayDeque<>();
+            while (!pending.isEmpty() && batch.size() < batchSize) {
+                Map.Entry<SymbolKey, CrashFrame> entry = pending.poll();
+                CrashFrame frame = entry.getValue();
+                String matchKey = matchKey(frame.binaryName(), frame.address());
+                if (batch.putIfAbsent(matchKey, entry.getKey()) != null) {
+                    deferred.add(entry);
+                    continue;
+                }
+                groups.computeIfAbsent(frame.binaryName() + '@' + frame.loadMemory(),
+                                k -> new FrameGroup(frame.binaryName(), frame.loadMemory(), new ArrayList<>()))
+                        .traces().add(new String[]{frame.address(), frame.stackFrameNumber()});
+            }
+            pending.addAll(deferred);
+
+            long s1 = System.nanoTime();
+            SymbolicationResponseDto response = symbolicationUtil.symbolicateGroups(dsymPath, new ArrayList<>(groups.values()));
+            cliCalls.increment();
+            cliNanos.add(System.nanoTime() - s1);
+
+            if (response.getStatus() != 200) {
+                cliFailures.increment();
+                error = response.getError();
+                log.warn("symbolication failed. dsym: {}, frames: {}, error: {}", dsymId, batch.size(), error);
+                continue;
+            }
+
+            for (SymbolicationItemDto item : response.getItems()) {
+                SymbolKey key = batch.remove(matchKey(item.getAppName(), item.getCrashMemory()));
+                if (key != null) {
+                    Symbol symbol = new Symbol(item.getExceptionName(), item.getExceptionPath(), item.getExceptionLine());
+                    cache.put(key, symbol);
+                    symbols.put(key, symbol);
+                }
+            }
+            for (SymbolKey key : batch.values()) {
+                cache.put(key, NOT_FOUND);
+                symbols.put(key, NOT_FOUND);
+            }
+        }
+        return error;
+    }
+
+    private SymbolicationResponseDto toResponse(String dsymId, List<CrashFrame> frames, Map<SymbolKey, Symbol> symbols,
+                                                String error) {
+        List<SymbolicationItemDto> items = new ArrayList<>(frames.size());
+        for (CrashFrame frame : frames) {
+            Symbol symbol = symbols.get(SymbolKey.of(dsymId, frame));
+            if (symbol == null) {
+                // CLI 실행이 실패한 frame 이 있으면 기존과 같이 에러 응답
+                return new SymbolicationResponseDto(500, error != null ? error : "No Data");
+            }
+            if (symbol == NOT_FOUND) {
+                continue;
+            }
+            items.add(new SymbolicationItemDto(frame.binaryName(), frame.stackFrameNumber(), frame.address(),
+                    symbol.exceptionName(), symbol.exceptionPath(), symbol.exceptionLine()));
+        }
+        return new SymbolicationResponseDto(200, items);
+    }
+
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        long cliCount = cliCalls.sum();
+        long requestCount = requests.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hit", stats.hitCount());
+        result.put("miss", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("entries", cache.estimatedSize());
+        result.put("requests", requestCount);
+        result.put("avgRequestMs", requestCount == 0 ? 0 : requestNanos.sum() / requestCount / 1_000_000);
+        result.put("cliCalls", cliCount);
+        result.put("cliFailures", cliFailures.sum());
+        result.put("avgCliMs", cliCount == 0 ? 0 : cliNanos.sum() / cliCount / 1_000_000);
+        result.put("processSpawns", SymbolicationUtil.getSpawnCount());
+        return result;
+    }
+
+    /**
+     * dSYM 식별값. 같은 경로에 다시 업로드되면 수정시간/크기가 바뀌므로 이전 결과를 사용하지 않음
+     */
+    private static String dsymId(String dsymPath) {
+        File file = new File(dsymPath);
+        return dsymPath + '|' + file.lastModified() + '|' + file.length();
+    }
+
+    private static String matchKey(String binaryName, String address) {
+        return binaryName + '|' + normalizeAddress(address);
+    }
+
+    private static String normalizeAddress(String address) {
+        Long value = parseAddress(address);
+        return value == null ? String.valueOf(address).toLowerCase() : "0x" + Long.toHexString(value);
+    }
+
+    private static Long parseAddress(String address) {
+        if (address == null) {
+            return null;
+        }
+        String hex = address.startsWith("0x") || address.startsWith("0X") ? address.substring(2) : address;
+        try {
+            return Long.parseUnsignedLong(hex, 16);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * cache key. 같은 바이너리라도 crash 마다 로드 주소가 다르므로 로드 주소 기준 offset 으로 저장
+     */
+    record SymbolKey(String dsymId, String binaryName, String offset) {
+        static SymbolKey of(String dsymId, CrashFrame frame) {
+            Long address = parseAddress(frame.address());
+            Long load = parseAddress(frame.loadMemory());
+            String offset = address != null && load != null
+                    ? Long.toHexString(address - load)
+                    : frame.loadMemory() + '/' + frame.address();
+            return new SymbolKey(dsymId, frame.binaryName(), offset);
+        }
+    }
+
+    record Symbol(String exceptionName, String exceptionPath, String exceptionLine) {
+    }
+}
@@ -7,6 +7,7 @@ import com.thinkm.common.exception.BadRequestException;
 import com.thinkm.common.util.CommonUtil;
 import com.thinkm.common.util.Elastic;
 import com.thinkm.common.util.ElasticClient;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.dto.app.useranalytics.UserAnalyticsDetailRequestDto;
 import com.thinkm.maxy.dto.app.useranalytics.UserAnalyticsDetailResponseDto;
 import com.thinkm.maxy.dto.app.useranalytics.UserAnalyticsSearchRequestDto;
@@ -14,17 +15,22 @@ import com.thinkm.maxy.dto.app.useranalytics.UserAnalyticsSearchResponseDto;
 import com.thinkm.maxy.mapper.DeviceMapper;
 import com.thinkm.maxy.service.app.factory.UserAnalyticsQueryFactory;
 import com.thinkm.maxy.service.app.helper.UserAnalyticsServiceHelper;
+import com.thinkm.maxy.service.app.helper.UserFlowPager;
 import com.thinkm.maxy.service.common.CommonService;
 import com.thinkm.maxy.vo.DeviceVO;
 import com.thinkm.maxy.vo.LogRequestVO;
 import com.thinkm.maxy.vo.PageLogVO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.search.sort.SortOrder;
@@ -32,7 +38,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @SuppressWarnings("unchecked")
@@ -41,6 +49,67 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserAnalyticsService {
 
+    private static final int USER_FLOW_DEFAULT_SIZE = 20;
+    private static final int USER_FLOW_MAX_SIZE = 200;
+    // 흐름 하나의 최대 page 수
+    private static final int USER_FLOW_MAX_GROUP_SIZE = 10000;
+
+    // 사용자 페이지 흐름 조회 필드
+    private static final String[] USER_FLOW_FIELDS = {
+        Elastic.packageNm,
+        Elastic.serverType,
+        Elastic.deviceId,
+        Elastic.deviceModel,
+        Elastic.simOperatorNm,
+        Elastic.appVer,
+        Elastic.appBuildNum,
+        Elastic.comType,
+        Elastic.timezone,
+        Elastic.osVer,
+        Elastic.osType,
+        Elastic.userId,
+        Elastic.userNm,
+        Elastic.clientNo,
+        Elastic.reqUrl,
+        Elastic.preUrl,
+        Elastic.aliasValue,
+        Elastic.flowOrder,
+        Elastic.logType,
+        Elastic.requestCount,
+        Elastic.crashCount,
+        Elastic.eventCount,
+        Elastic.jsErrorCount,
+        Elastic.errorCount,
+        Elastic.intervaltime,
+        Elastic.eventIntervaltime,
+        Elastic.loadingTime,
+        Elastic.responseTime,
+        Elastic.parentLogDate,
+        Elastic.pageStartTm,
+        Elastic.pageEndTm,
+        Elastic.maxCpuUsage,
+        Elastic.minCpuUsage,
+        Elastic.avgCpuUsage,
+        Elastic.sumCpuUsage,
+        Elastic.maxMemUsage,
+        Elastic.minMemUsage,
+        Elastic.avgMemUsage,
+        Elastic.sumMemUsage,
+        Elastic.maxStorageUsage,
+        Elastic.minStorageUsage,
+//        Elastic.avgStorageUsage,
+//        Elastic.sumStorageUsage,
+        Elastic.maxComSensitivity,
+        Elastic.minComSensitivity,
+//        Elastic.avgComSensitivity,
+//        Elastic.sumComSensitivity,
+        Elastic.maxBatteryLvl,
+        Elastic.minBatteryLvl,
+        Elastic.mxPageId,
+//        Elastic.avgBatteryLvl,
+//        Elastic.sumBatteryLvl
+    };
+
     private final ElasticClient elasticClient;
     private final DeviceMapper deviceMapper;
 
@@ -51,6 +120,11 @@ public class UserAnalyticsService {
     @Value("${maxy.optional-search-fields:}")
     private String optionalSearchFields;
     private Map<String, String> optionalSearchFieldMap;
+    // 사용자 흐름 paging 시 한 번에 조회할 page log 수
+    @Value("${maxy.user-flow.page-size:1000}")
+    private int userFlowPageSize;
+    @Value("${maxy.user-flow.pit-keep-alive:3m}")
+    private Duration userFlowPitKeepAlive;
 
     @PostConstruct
     private void init() {
@@ -159,6 +233,218 @@ public class UserAnalyticsService {
     public List<?> getUserFlowListV2(PageLogVO vo) {
         List<List<Map<String, Object>>> result = new ArrayList<>();
 
+        BoolQueryBuilder boolQuery = makeUserFlowQuery(vo);
+
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+                .query(boolQuery)
+                .size(10000)
+                .fetchSource(USER_FLOW_FIELDS, null)
+                .sort(Elastic.parentLogDate, SortOrder.DESC)
+                .sort(Elastic.pageStartTm, SortOrder.ASC);
+
+        SearchRequest searchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+                .source(searchSourceBuilder);
+        log.debug(searchRequest.toString());
+        try {
+            SearchResponse response = elasticClient.get(searchRequest);
+            if (response == null) {
+                return Collections.emptyList();
+            }
+
+            List<Map<String, Object>> tmpList = new ArrayList<>();
+            // Hits -> list map 변환
+            for (SearchHit hit : response.getHits()) {
+                tmpList.add(toUserFlowItem(hit));
+            }
+            // parentLogDate 로 grouping
+            Map<String, List<Map<String, Object>>> unsortedMap = tmpList
+                    .stream()
+                    .collect(Collectors.groupingBy(map ->
+                            map.get(Elastic.parentLogDate).toString()));
+
+            // user id masking
+            for (String key : unsortedMap.keySet()) {
+                CommonUtil.maskUserId(unsortedMap.get(key), userIdMasking, 2);
+                result.add(unsortedMap.get(key));
+            }
+
+            // parentLogDate 로 desc sorting
+            result.sort(Comparator.comparing((List<Map<String, Object>> cp)
+                    -> (Long) cp.get(0).get(Elastic.parentLogDate)).reversed());
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+
+        return result;
+    }
+
+    /**
+     * 사용자 분석 -> 사용자 페이지 흐름 목록 paging 조회
+     * <pre>
+     * - PIT + search_after 로 (parentLogDate desc, pageStartTm asc) 순서대로 pageSize 건씩 조회
+     * - parentLogDate 가 바뀌면 흐름이 완성된 것으로 보고 flowSize 개 흐름이 모이면 조회 중단
+     * - 다음 조회는 cursor (PIT id, 마지막 흐름의 parentLogDate) 로 이어서 조회한다.
+     * </pre>
+     *
+     * @param vo getUserFlowListV2 조건, cursor, flowSize
+     * @return userFlowList, cursor (더 이상 흐름이 없으면 null)
+     * @throws IllegalStateException 조회 실패 (요청한 cursor 로 다시 조회할 수 있음)
+     */
+    public Map<String, Object> getUserFlowPage(PageLogVO vo) {
+        UserFlowPager.Cursor cursor = null;
+        if (CommonUtil.isValidString(vo.getCursor())) {
+            cursor = UserFlowPager.Cursor.decode(vo.getCursor());
+            if (cursor == null) {
+                log.error("Invalid cursor: {}", vo.getCursor());
+                throw new BadRequestException(ReturnCode.ERR_WRONG_PARAMS);
+            }
+        }
+        int flowSize = vo.getFlowSize() == null
+                ? USER_FLOW_DEFAULT_SIZE
+                : Math.max(1, Math.min(vo.getFlowSize(), USER_FLOW_MAX_SIZE));
+
+        BoolQueryBuilder boolQuery = makeUserFlowQuery(vo);
+        if (cursor != null) {
+            // 이미 전달한 흐름 이후부터
+            boolQuery.filter(QueryBuilders.rangeQuery(Elastic.parentLogDate).lt(cursor.before()));
+        }
+        // 흐름의 page 는 parentLogDate 다음날 index 에 있을 수 있음
+        String[] indices = IndexRouter.routeOrAll(ElasticIndex.PAGE_LOG,
+                vo.getFrom(), vo.getTo() == null ? null : vo.getTo() + TimeUnit.DAYS.toMillis(1));
+
+        TimeValue keepAlive = TimeValue.timeValueMillis(userFlowPitKeepAlive.toMillis());
+        String pitId = cursor != null && cursor.pitId() != null
+                ? cursor.pitId()
+                : elasticClient.openPit(keepAlive, indices);
+
+        UserFlowPager.Grouper grouper = new UserFlowPager.Grouper(flowSize, USER_FLOW_MAX_GROUP_SIZE);
+        boolean exhausted = false;
+        boolean pitRetried = false;
+        Object[] searchAfter = null;
+        // 직전 page 끝과 같은 정렬값을 가진 문서 (다음 page 에서 중복 제외)
+        Set<String> boundaryIds = Collections.emptySet();
+        try {
+            while (true) {
+                SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+                        .query(boolQuery)
+                        .size(userFlowPageSize)
+                        .fetchSource(USER_FLOW_FIELDS, null)
+                        .sort(Elastic.parentLogDate, SortOrder.DESC)
+                        .sort(Elastic.pageStartTm, SortOrder.ASC);
+                if (searchAfter != null) {
+                    searchSourceBuilder.searchAfter(searchAfter);
+                }
+
+                SearchResponse response;
+                if (pitId != null) {
+                    searchSourceBuilder.pointInTimeBuilder(
+                            new PointInTimeBuilder(pitId).setKeepAlive(keepAlive));
+                    try {
+                        response = elasticClient.searchPit(new SearchRequest().source(searchSourceBuilder));
+                    } catch (OpenSearchStatusException e) {
+                        if (pitRetried || e.status() != RestStatus.NOT_FOUND) {
+                            throw e;
+                        }
+                        // PIT 만료 시 다시 생성 (cursor 의 parentLogDate 조건으로 이어서 조회)
+                        log.debug("pit expired, reopen: {}", e.getMessage());
+                        pitRetried = true;
+                        elasticClient.closePit(pitId);
+                        pitId = elasticClient.openPit(keepAlive, indices);
+                        continue;
+                    }
+                    if (response.pointInTimeId() != null) {
+                        pitId = response.pointInTimeId();
+                    }
+                } else {
+                    // PIT 를 사용할 수 없으면 search_after 만 사용
+                    SearchRequest searchRequest = new SearchRequest(indices).source(searchSourceBuilder);
+                    log.debug(searchRequest.toString());
+                    response = elasticClient.get(searchRequest);
+                    if (response == null) {
+                        throw new IllegalStateException("user flow search failed");
+                    }
+                }
+
+                SearchHit[] hits = response.getHits().getHits();
+                boolean stopped = false;
+                for (SearchHit hit : hits) {
+                    if (boundaryIds.contains(hit.getId())) {
+                        continue;
+                    }
+                    if (!grouper.accept(toUserFlowItem(hit))) {
+                        stopped = true;
+                        break;
+                    }
+                }
+                if (stopped) {
+                    break;
+                }
+                if (hits.length < userFlowPageSize) {
+                    exhausted = true;
+                    break;
+                }
+
+                // 정렬값이 같은 문서가 page 경계에 걸치면 search_after 에서 누락되므로
+                // pageStartTm - 1 부터 다시 조회하고 이미 받은 문서는 제외한다.
+                Object[] lastSort = hits[hits.length - 1].getSortValues();
+                long lastParentLogDate = CommonUtil.toLong(lastSort[0]);
+                long lastPageStartTm = CommonUtil.toLong(lastSort[1]);
+                Set<String> tiedIds = new HashSet<>();
+                for (int i = hits.length - 1; i >= 0; i--) {
+                    Object[] sort = hits[i].getSortValues();
+                    if (CommonUtil.toLong(sort[0]) != lastParentLogDate
+                            || CommonUtil.toLong(sort[1]) != lastPageStartTm) {
+                        break;
+                    }
+                    tiedIds.add(hits[i].getId());
+                }
+                if (tiedIds.size() == hits.length) {
+                    // page 전체가 같은 정렬값이면 나머지는 건너뛴다.
+                    searchAfter = new Object[]{lastParentLogDate, lastPageStartTm};
+                    boundaryIds = Collections.emptySet();
+                } else {
+                    searchAfter = new Object[]{lastParentLogDate, lastPageStartTm - 1};
+                    boundaryIds = tiedIds;
+                }
+            }
+        } catch (Exception e) {
+            // 빈 결과 + cursor null 로 반환하면 끝으로 보이므로 실패로 응답한다.
+            elasticClient.closePit(pitId);
+            throw new IllegalStateException("user flow page search failed", e);
+        }
+
+        if (exhausted) {
+            grouper.finish();
+        }
+        if (grouper.isTruncated()) {
+            log.debug("user flow truncated to {} pages", USER_FLOW_MAX_GROUP_SIZE);
+        }
+
+        List<List<Map<String, Object>>> flows = grouper.getFlows();
+        for (List<Map<String, Object>> flow : flows) {
+            CommonUtil.maskUserId(flow, userIdMasking, 2);
+        }
+
+        String nextCursor = null;
+        if (!exhausted && grouper.getLastCompletedKey() != null) {
+            nextCursor = new UserFlowPager.Cursor(pitId, grouper.getLastCompletedKey()).encode();
+        } else {
+            elasticClient.closePit(pitId);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("userFlowList", flows);
+        result.put("cursor", nextCursor);
+        return result;
+    }
+
+    /**
+     * 사용자 페이지 흐름 조회 조건
+     *
+     * @param vo packageNm, serverType, searchType {deviceId, userId}, searchValue, from {timestamp}, to {timestamp}
+     * @return BoolQueryBuilder
+     */
+    private BoolQueryBuilder makeUserFlowQuery(PageLogVO vo) {
         BoolQueryBuilder boolQuery = Elastic.makeBoolQueryByAppInfo(LogRequestVO.of(vo));
         boolQuery.filter(QueryBuilders.rangeQuery(Elastic.parentLogDate)
                 .gte(vo.getFrom())
@@ -211,106 +497,17 @@ public class UserAnalyticsService {
             throw new BadRequestException(ReturnCode.ERR_WRONG_PARAMS);
         }
 
-        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
-                .query(boolQuery)
-                .size(10000)
-                .fetchSource(new String[]{
-                        Elastic.packageNm,
-                        Elastic.serverType,
-                        Elastic.deviceId,
-                        Elastic.deviceModel,
-                        Elastic.simOperatorNm,
-                        Elastic.appVer,
-                        Elastic.appBuildNum,
-                        Elastic.comType,
-                        Elastic.timezone,
-                        Elastic.osVer,
-                        Elastic.osType,
-                        Elastic.userId,
-                        Elastic.userNm,
-                        Elastic.clientNo,
-                        Elastic.reqUrl,
-                        Elastic.preUrl,
-                        Elastic.aliasValue,
-                        Elastic.flowOrder,
-                        Elastic.logType,
-                        Elastic.requestCount,
-                        Elastic.crashCount,
-                        Elastic.eventCount,
-                        Elastic.jsErrorCount,
-                        Elastic.errorCount,
-                        Elastic.intervaltime,
-                        Elastic.eventIntervaltime,
-                        Elastic.loadingTime,
-                        Elastic.responseTime,
-                        Elastic.parentLogDate,
-                        Elastic.pageStartTm,
-                        Elastic.pageEndTm,
-                        Elastic.maxCpuUsage,
-                        Elastic.minCpuUsage,
-                        Elastic.avgCpuUsage,
-                        Elastic.sumCpuUsage,
-                        Elastic.maxMemUsage,
-                        Elastic.minMemUsage,
-                        Elastic.avgMemUsage,
-                        Elastic.sumMemUsage,
-                        Elastic.maxStorageUsage,
-                        Elastic.minStorageUsage,
-//                        Elastic.avgStorageUsage,
-//                        Elastic.sumStorageUsage,
-                        Elastic.maxComSensitivity,
-                        Elastic.minComSensitivity,
-//                        Elastic.avgComSensitivity,
-//                        Elastic.sumComSensitivity,
-                        Elastic.maxBatteryLvl,
-                        Elastic.minBatteryLvl,
-                        Elastic.mxPageId,
-//                        Elastic.avgBatteryLvl,
-//                        Elastic.sumBatteryLvl
-                }, null)
-                .sort(Elastic.parentLogDate, SortOrder.DESC)
-                .sort(Elastic.pageStartTm, SortOrder.ASC);
-
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
-                .source(searchSourceBuilder);
-        log.debug(searchRequest.toString());
-        try {
-            SearchResponse response = elasticClient.get(searchRequest);
-            if (response == null) {
-                return Collections.emptyList();
-            }
-
-            List<Map<String, Object>> tmpList = new ArrayList<>();
-            // Hits -> list map 변환
-            for (SearchHit hit : response.getHits()) {
-                Map<String, Object> item = hit.getSourceAsMap();
-                item.put("_id", hit.getId());
-                Object mxPageId = item.get(Elastic.mxPageId);
-                if (mxPageId != null) {
-                    item.put(Elastic.mxPageId, mxPageId.toString());
-                }
-                tmpList.add(item);
-            }
-            // parentLogDate 로 grouping
-            Map<String, List<Map<String, Object>>> unsortedMap = tmpList
-                    .stream()
-                    .collect(Collectors.groupingBy(map ->
-                            map.get(Elastic.parentLogDate).toString()));
-
-            // user id masking
-            for (String key : unsortedMap.keySet()) {
-                CommonUtil.maskUserId(unsortedMap.get(key), userIdMasking, 2);
-                result.add(unsortedMap.get(key));
-            }
+        return boolQuery;
+    }
 
-            // parentLogDate 로 desc sorting
-            result.sort(Comparator.comparing((List<Map<String, Object>> cp)
-                    -> (Long) cp.get(0).get(Elastic.parentLogDate)).reversed());
-        } catch (Exception e) {
-            log.error(e.getMessage(), e);
+    private static Map<String, Object> toUserFlowItem(SearchHit hit) {
+        Map<String, Object> item = hit.getSourceAsMap();
+        item.put("_id", hit.getId());
+        Object mxPageId = item.get(Elastic.mxPageId);
+        if (mxPageId != null) {
+            item.put(Elastic.mxPageId, mxPageId.toString());
         }
-
-        return result;
+        return item;
     }
 
     public long getParentLogDateByLogTmV2(PageLogVO vo) {
@@ -332,7 +529,7 @@ public class UserAnalyticsService {
                 .fetchSource(new String[]{Elastic.parentLogDate}, null)
                 .size(1);
 
-        String[] indices = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, vo.getFrom(), vo.getTo());
+        String[] indices = IndexRouter.route(ElasticIndex.PAGE_LOG, vo.getFrom(), vo.getTo());
         SearchRequest sr = new SearchRequest(indices).source(ssb);
 
         try {
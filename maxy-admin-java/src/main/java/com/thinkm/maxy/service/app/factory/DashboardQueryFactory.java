@@ -6,6 +6,7 @@ import com.thinkm.common.exception.BadRequestException;
 import com.thinkm.common.util.CommonUtil;
 import com.thinkm.common.util.DateUtil;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.vo.DashboardComponentVO;
 import com.thinkm.maxy.vo.DashboardVO;
 import com.thinkm.maxy.vo.LogRequestVO;
@@ -28,6 +29,7 @@ import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.PercentilesAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -76,8 +78,9 @@ public class DashboardQueryFactory {
                 .aggregation(responseTimeAgg)
                 .size(0);
 
-        String indexMonth = DateUtil.getIndexMonth(System.currentTimeMillis());
-        String index = ElasticIndex.PAGE_LOG.getIndex() + indexMonth + "*";
+        // now-3d/d ~ now 기간의 index
+        long now = System.currentTimeMillis();
+        String[] index = IndexRouter.route(ElasticIndex.PAGE_LOG, now - Duration.ofDays(3).toMillis(), now);
         return new SearchRequest(index).source(sourceBuilder);
     }
 
@@ -112,7 +115,7 @@ public class DashboardQueryFactory {
                 .query(boolQuery)
                 .aggregation(termsAgg);
 
-        return new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        return new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, from, to))
                 .source(sourceBuilder);
     }
 
@@ -140,7 +143,7 @@ public class DashboardQueryFactory {
                 .size(0);
 
 //        String[] indices = ElasticIndex.getIndicesForDateRange(ElasticIndex.DEVICE_PAGE_FLOW, from, to);
-        return new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        return new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, from, to))
                 .source(sourceBuilder);
     }
 
@@ -171,7 +174,7 @@ public class DashboardQueryFactory {
                 .aggregation(userHistogramAgg)
                 .size(0);
 
-        return new SearchRequest(ElasticIndex.ACCESS_HISTORY.getIndex() + "*")
+        return new SearchRequest(IndexRouter.route(ElasticIndex.ACCESS_HISTORY, from, to))
                 .source(userSourceBuilder);
     }
 
@@ -209,7 +212,7 @@ public class DashboardQueryFactory {
                 .aggregation(resourceHistogramAgg)
                 .size(0);
 
-        return new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        return new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, from, to))
                 .source(resourceSourceBuilder);
     }
 
@@ -250,7 +253,7 @@ public class DashboardQueryFactory {
                 .aggregation(termsAgg);
 
 //        String[] indices = ElasticIndex.getIndicesForDateRange(ElasticIndex.DEVICE_PAGE_FLOW, from, to);
-        return new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        return new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, from, to))
                 .source(sourceBuilder);
     }
 
@@ -283,7 +286,7 @@ public class DashboardQueryFactory {
                 .aggregation(histogramAggregationBuilder)
                 .size(0);
 
-        return new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        return new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, from, to))
                 .source(sourceBuilder);
     }
 
@@ -325,11 +328,11 @@ public class DashboardQueryFactory {
                 .aggregation(compositeAggs)
                 .size(0);
 
-        SearchRequest conversionSearchRequest = new SearchRequest(ElasticIndex.ACCESS_HISTORY.getIndex() + "*")
+        SearchRequest conversionSearchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.ACCESS_HISTORY, from, to))
                 .source(conversionSourceBuilder);
-        SearchRequest errorSearchRequest = new SearchRequest(ElasticIndex.TROUBLE_LOG.getIndex() + "*")
+        SearchRequest errorSearchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.TROUBLE_LOG, from, to))
                 .source(errorSourceBuilder);
-        SearchRequest crashSearchRequest = new SearchRequest(ElasticIndex.TROUBLE_LOG.getIndex() + "*")
+        SearchRequest crashSearchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.TROUBLE_LOG, from, to))
                 .source(crashSourceBuilder);
 
         return new MultiSearchRequest()
@@ -382,7 +385,7 @@ public class DashboardQueryFactory {
                 .query(boolQuery)
                 .aggregation(dateHistogramAgg)
                 .size(0);
-        return new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*")
+        return new SearchRequest(IndexRouter.route(ElasticIndex.PAGE_LOG, from, to))
                 .source(sourceBuilder);
     }
 }
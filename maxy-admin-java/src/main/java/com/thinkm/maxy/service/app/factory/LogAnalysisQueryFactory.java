@@ -2,6 +2,7 @@ package com.thinkm.maxy.service.app.factory;
 
 import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.repository.ModelRepository;
 import com.thinkm.maxy.vo.AppInfoVO;
 import com.thinkm.maxy.vo.LogRequestVO;
@@ -137,7 +138,7 @@ public class LogAnalysisQueryFactory {
         }, null);
 
         // SearchRequest에 인덱스와 검색 조건 설정
-        SearchRequest searchRequest = new SearchRequest(ElasticIndex.getIndicesForDateRange(ElasticIndex.TOTAL_LOG, vo.getFrom())); // 인덱스 이름 설정
+        SearchRequest searchRequest = new SearchRequest(IndexRouter.route(ElasticIndex.TOTAL_LOG, vo.getFrom())); // 인덱스 이름 설정
         searchRequest.source(searchSourceBuilder);
 
         return searchRequest;
@@ -167,7 +168,7 @@ public class LogAnalysisQueryFactory {
                 .size(size)
                 .sort(Elastic.logTm, sortOrder);
 
-        return new SearchRequest(ElasticIndex.getIndicesForDateRange(ElasticIndex.TOTAL_LOG, vo.getLogTm()))
+        return new SearchRequest(IndexRouter.route(ElasticIndex.TOTAL_LOG, vo.getLogTm()))
                 .source(searchSourceBuilder);
     }
 }
@@ -6,6 +6,7 @@ import com.thinkm.common.code.perf.HitmapOption;
 import com.thinkm.common.code.perf.HitmapType;
 import com.thinkm.common.code.perf.Vital;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.vo.LogRequestVO;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.index.query.BoolQueryBuilder;
@@ -28,16 +29,17 @@ public class PerformanceAnalysisQueryFactory {
     public static SearchRequest createHitmapQuery(LogRequestVO vo, HitmapOption option) {
         BoolQueryBuilder boolQuery = Elastic.makeBoolQueryByAppInfo(vo);
 
-        String timeField, durationTimeField, index;
+        String timeField, durationTimeField;
+        String[] index;
         if (HitmapType.API.equals(option.type())) {
             timeField = Elastic.logTm;
             durationTimeField = Elastic.intervaltime;
-            index = ElasticIndex.NETWORK_LOG.getIndex() + "*";
+            index = IndexRouter.routeOrAll(ElasticIndex.NETWORK_LOG, vo.getFrom(), vo.getTo());
             boolQuery.filter(QueryBuilders.termsQuery(Elastic.logType, MaxyLogType.NETWORK_TYPES_SET));
         } else if (HitmapType.PAGE.equals(option.type())) {
             timeField = Elastic.pageEndTm;
             durationTimeField = Elastic.loadingTime;
-            index = ElasticIndex.PAGE_LOG.getIndex() + "*";
+            index = IndexRouter.routeOrAll(ElasticIndex.PAGE_LOG, vo.getFrom(), vo.getTo());
             boolQuery.filter(QueryBuilders.termsQuery(Elastic.logType, MaxyLogType.WEB_PAGE_TYPES_SET));
         } else {
             throw new IllegalArgumentException("invalid type: " + option.type());
@@ -91,22 +93,23 @@ public class PerformanceAnalysisQueryFactory {
                 .aggregation(aggregationBuilder)
                 .size(0);
 
-        return new SearchRequest(ElasticIndex.NETWORK_LOG.getIndex() + "*").source(searchSourceBuilder);
+        return new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.NETWORK_LOG, vo.getFrom(), vo.getTo())).source(searchSourceBuilder);
     }
 
     public static SearchRequest createHitmapListQuery(LogRequestVO vo, HitmapType type) {
         BoolQueryBuilder boolQuery = Elastic.makeBoolQueryByAppInfo(vo);
 
-        String timeField, durationTimeField, index;
+        String timeField, durationTimeField;
+        String[] index;
         if (HitmapType.API.equals(type)) {
             timeField = Elastic.logTm;
             durationTimeField = Elastic.intervaltime;
-            index = ElasticIndex.NETWORK_LOG.getIndex() + "*";
+            index = IndexRouter.routeOrAll(ElasticIndex.NETWORK_LOG, vo.getFrom(), vo.getTo());
             boolQuery.filter(QueryBuilders.termsQuery(Elastic.logType, MaxyLogType.NETWORK_TYPES_SET));
         } else if (HitmapType.PAGE.equals(type)) {
             timeField = Elastic.pageEndTm;
             durationTimeField = Elastic.loadingTime;
-            index = ElasticIndex.PAGE_LOG.getIndex() + "*";
+            index = IndexRouter.routeOrAll(ElasticIndex.PAGE_LOG, vo.getFrom(), vo.getTo());
             boolQuery.filter(QueryBuilders.termsQuery(Elastic.logType, MaxyLogType.WEB_PAGE_TYPES_SET));
         } else {
             throw new IllegalArgumentException("invalid type: " + type);
@@ -145,16 +148,17 @@ public class PerformanceAnalysisQueryFactory {
     public static SearchRequest createLogListByTimeQuery(LogRequestVO vo, HitmapType type) {
         BoolQueryBuilder boolQuery = Elastic.makeBoolQueryByAppInfo(vo);
 
-        String timeField, durationTimeField, index;
+        String timeField, durationTimeField;
+        String[] index;
         if (HitmapType.API.equals(type)) {
             timeField = Elastic.logTm;
             durationTimeField = Elastic.intervaltime;
-            index = ElasticIndex.NETWORK_LOG.getIndex() + "*";
+            index = IndexRouter.routeOrAll(ElasticIndex.NETWORK_LOG, vo.getFrom(), vo.getTo());
             boolQuery.filter(QueryBuilders.termsQuery(Elastic.logType, MaxyLogType.NETWORK_TYPES_SET));
         } else if (HitmapType.PAGE.equals(type)) {
             timeField = Elastic.pageEndTm;
             durationTimeField = Elastic.loadingTime;
-            index = ElasticIndex.PAGE_LOG.getIndex() + "*";
+            index = IndexRouter.routeOrAll(ElasticIndex.PAGE_LOG, vo.getFrom(), vo.getTo());
         } else {
             throw new IllegalArgumentException("invalid type: " + type);
         }
@@ -226,7 +230,7 @@ public class PerformanceAnalysisQueryFactory {
                 .fetchSource(includes, null)
                 .size(1000);
 
-        return new SearchRequest(ElasticIndex.NETWORK_LOG.getIndex() + "*").source(searchSourceBuilder);
+        return new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.NETWORK_LOG, vo.getFrom(), vo.getTo())).source(searchSourceBuilder);
     }
 
     public static SearchRequest createApiListByPageUrlQuery(LogRequestVO vo) {
@@ -256,7 +260,7 @@ public class PerformanceAnalysisQueryFactory {
                 .fetchSource(includes, null)
                 .size(1000);
 
-        return new SearchRequest(ElasticIndex.NETWORK_LOG.getIndex() + "*").source(searchSourceBuilder);
+        return new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.NETWORK_LOG, vo.getFrom(), vo.getTo())).source(searchSourceBuilder);
     }
 
     public static SearchRequest createCoreVitalQuery(LogRequestVO vo, Vital vital) {
@@ -274,7 +278,7 @@ public class PerformanceAnalysisQueryFactory {
                 .aggregation(builder)
                 .size(0);
 
-        return new SearchRequest(ElasticIndex.VITAL_LOG.getIndex() + "*").source(searchSourceBuilder);
+        return new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.VITAL_LOG, vo.getFrom(), vo.getTo())).source(searchSourceBuilder);
     }
 
     public static SearchRequest createVitalChartQuery(LogRequestVO vo, Vital vital) {
@@ -300,7 +304,7 @@ public class PerformanceAnalysisQueryFactory {
                 .aggregation(aggregationBuilder)
                 .size(0);
 
-        return new SearchRequest(ElasticIndex.VITAL_LOG.getIndex() + "*").source(searchSourceBuilder);
+        return new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.VITAL_LOG, vo.getFrom(), vo.getTo())).source(searchSourceBuilder);
     }
 
     public static SearchRequest createApiErrorListQuery(LogRequestVO vo) {
@@ -320,7 +324,7 @@ public class PerformanceAnalysisQueryFactory {
                 .aggregation(aggsBuilder)
                 .size(0);
 
-        return new SearchRequest(ElasticIndex.NETWORK_LOG.getIndex() + "*").source(searchSourceBuilder);
+        return new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.NETWORK_LOG, vo.getFrom(), vo.getTo())).source(searchSourceBuilder);
     }
 
     public static SearchRequest createErrorListByApiUrlQuery(LogRequestVO vo) {
@@ -361,7 +365,7 @@ public class PerformanceAnalysisQueryFactory {
                 .fetchSource(includes, null)
                 .size(1000);
 
-        return new SearchRequest(ElasticIndex.NETWORK_LOG.getIndex() + "*").source(searchSourceBuilder);
+        return new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.NETWORK_LOG, vo.getFrom(), vo.getTo())).source(searchSourceBuilder);
     }
 
     public static SearchRequest createApiErrorChartQuery(LogRequestVO vo) {
@@ -389,7 +393,7 @@ public class PerformanceAnalysisQueryFactory {
                 .aggregation(subAggsBuilder)
                 .size(0);
 
-        return new SearchRequest(ElasticIndex.NETWORK_LOG.getIndex() + "*").source(searchSourceBuilder);
+        return new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.NETWORK_LOG, vo.getFrom(), vo.getTo())).source(searchSourceBuilder);
     }
 
     public static SearchRequest createVitalListByPageQuery(LogRequestVO vo) {
@@ -418,7 +422,7 @@ public class PerformanceAnalysisQueryFactory {
                 .aggregation(aggsBuilder)
                 .size(0);
 
-        return new SearchRequest(ElasticIndex.PAGE_LOG.getIndex() + "*").source(searchSourceBuilder);
+        return new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.PAGE_LOG, vo.getFrom(), vo.getTo())).source(searchSourceBuilder);
     }
 
     public static SearchRequest createCoreVitalAvgQuery(LogRequestVO vo) {
@@ -438,7 +442,7 @@ public class PerformanceAnalysisQueryFactory {
                 .aggregation(builder)
                 .size(0);
 
-        return new SearchRequest(ElasticIndex.VITAL_LOG.getIndex() + "*").source(searchSourceBuilder);
+        return new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.VITAL_LOG, vo.getFrom(), vo.getTo())).source(searchSourceBuilder);
     }
 
     public static SearchRequest createApiDetailQuery(LogRequestVO vo) {
@@ -453,7 +457,7 @@ public class PerformanceAnalysisQueryFactory {
                 .query(boolQuery)
                 .size(1);
 
-        return new SearchRequest(ElasticIndex.NETWORK_LOG.getIndex() + "*").source(searchSourceBuilder);
+        return new SearchRequest(IndexRouter.routeOrAll(ElasticIndex.NETWORK_LOG, vo.getFrom(), vo.getTo())).source(searchSourceBuilder);
     }
 
     public static SearchRequest createPercentileDataQuery(LogRequestVO vo, int hour) {
@@ -482,7 +486,7 @@ public class PerformanceAnalysisQueryFactory {
                 .aggregation(aggs)
                 .aggregation(rankAggs);
 
-        return new SearchRequest(ElasticIndex.NETWORK_LOG.getIndex() + "*")
+        return new SearchRequest(IndexRouter.route(ElasticIndex.NETWORK_LOG, from, to))
                 .source(searchSourceBuilder);
     }
 }
@@ -2,6 +2,7 @@ package com.thinkm.maxy.service.app.factory;
 
 import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.dto.app.useranalytics.UserAnalyticsDetailRequestDto;
 import com.thinkm.maxy.dto.app.useranalytics.UserAnalyticsDetailResponseDto;
 import com.thinkm.maxy.dto.app.useranalytics.UserAnalyticsSearchRequestDto;
@@ -52,7 +53,7 @@ public class UserAnalyticsQueryFactory {
                 .query(boolQuery)
                 .aggregation(userCompositeAggs)
                 .size(0);
-        String[] index = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
+        String[] index = IndexRouter.route(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(index).source(searchSourceBuilder);
     }
 
@@ -125,7 +126,7 @@ public class UserAnalyticsQueryFactory {
                 .query(boolQuery)
                 .size(0);
 
-        String[] index = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
+        String[] index = IndexRouter.route(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(index).source(searchSourceBuilder);
     }
 }
@@ -0,0 +1,136 @@
+package com.thinkm.maxy.service.app.helper;
+
+import com.thinkm.common.util.CommonUtil;
+import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.JsonUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 흐름 (parentLogDate 별 page 목록) paging
+ * <pre>
+ * - page log 를 (parentLogDate desc, pageStartTm asc) 순으로 받아 parentLogDate 가 바뀌면 완성된 흐름으로 전달한다.
+ * - 흐름 단위로 끊기 때문에 다음 조회는 "마지막 흐름의 parentLogDate 미만" 조건으로 이어서 조회한다.
+ * </pre>
+ */
+public class UserFlowPager {
+
+    /**
+     * 다음 흐름 조회 위치
+     *
+     * @param pitId  Point In Time id (nullable, 만료 시 새로 생성)
+     * @param before 이미 전달한 마지막 흐름의 parentLogDate
+     */
+    public record Cursor(String pitId, long before) {
+
+        public String encode() {
+            Map<String, Object> map = new HashMap<>();
+            map.put("pit", pitId);
+            map.put("before", before);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(JsonUtil.toJson(map).getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @param cursor encode() 값
+         * @return Cursor, 형식이 잘못되었으면 null
+         */
+        public static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                Map<String, Object> map = JsonUtil.readMap(json);
+                long before = CommonUtil.toLong(map.get("before"));
+                if (before <= 0) {
+                    return null;
+                }
+                Object pit = map.get("pit");
+                return new Cursor(pit == null ? null : String.valueOf(pit), before);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 정렬된 page log 를 흐름 단위로 묶는다.
+     */
+    public static class Grouper {
+
+        private final int flowLimit;
+        private final int maxGroupSize;
+        private final List<List<Map<String, Object>>> flows = new ArrayList<>();
+        private List<Map<String, Object>> current;
+        private long currentKey;
+        private Long lastCompletedKey;
+        private boolean truncated;
+
+        /**
+         * @param flowLimit    한 번에 전달할 최대 흐름 수
+         * @param maxGroupSize 흐름 하나의 최대 page 수 (초과분은 버림)
+         */
+        public Grouper(int flowLimit, int maxGroupSize) {
+            this.flowLimit = flowLimit;
+            this.maxGroupSize = maxGroupSize;
+        }
+
+        /**
+         * @param item page log
+         * @return false 이면 flowLimit 에 도달 (더 받지 않음)
+         */
+        public boolean accept(Map<String, Object> item) {
+            long key = CommonUtil.toLong(item.get(Elastic.parentLogDate));
+            if (current != null && key != currentKey) {
+                complete();
+                if (flows.size() >= flowLimit) {
+                    // 다음 흐름은 cursor 로 조회
+                    return false;
+                }
+            }
+            if (current == null) {
+                current = new ArrayList<>();
+                currentKey = key;
+            }
+            if (current.size() < maxGroupSize) {
+                current.add(item);
+            } else {
+                truncated = true;
+            }
+            return true;
+        }
+
+        /**
+         * 더 이상 page log 가 없을 때 마지막 흐름 완료
+         */
+        public void finish() {
+            if (current != null && flows.size() < flowLimit) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            flows.add(current);
+            lastCompletedKey = currentKey;
+            current = null;
+        }
+
+        public List<List<Map<String, Object>>> getFlows() {
+            return flows;
+        }
+
+        public Long getLastCompletedKey() {
+            return lastCompletedKey;
+        }
+
+        public boolean isTruncated() {
+            return truncated;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -224,16 +225,12 @@ public class CommonService {
             for (SearchHit hit : hits) {
                 Map<String, Object> item = hit.getSourceAsMap();
                 item.put(Elastic._ID, hit.getId());
-                if (isCrash) {
-                    // 난독화 retrace
-                    ReTraceInfo info = ReTraceInfo.fromMap(item);
-                    if (info != null) {
-                        String logName = retrace.convert(info, String.valueOf(item.get(Elastic.logName)));
-                        item.put(Elastic.logName, logName);
-                    }
-                }
                 result.add(item);
             }
+            if (isCrash) {
+                // 난독화 retrace (같은 stack 은 한 번만)
+                retrace.convertAll(result, Elastic.logName);
+            }
 
             CommonUtil.maskUserId(result, userIdMasking, 2);
 
@@ -412,8 +409,11 @@ public class CommonService {
     public List<Map<String, Object>> getWaterfallDataList(LogRequestVO vo) {
         SearchRequest searchRequest = CommonServiceQueryFactory.createWaterfallDataQuery(vo);
         log.debug("getWaterfallDataList : {}", searchRequest);
+        return toWaterfallDataList(elasticClient.get(searchRequest));
+    }
+
+    private List<Map<String, Object>> toWaterfallDataList(SearchResponse response) {
         try {
-            SearchResponse response = elasticClient.get(searchRequest);
             return CommonServiceHelper.parseWaterfallDataList(response, webPerfRegistry);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
@@ -425,8 +425,11 @@ public class CommonService {
         SearchRequest searchRequest = CommonServiceQueryFactory.createCoreVitalDataQuery(vo);
 
         log.debug("getCoreVitalData : {}", searchRequest);
+        return toCoreVitalData(elasticClient.get(searchRequest));
+    }
+
+    private List<Map<String, Object>> toCoreVitalData(SearchResponse response) {
         try {
-            SearchResponse response = elasticClient.get(searchRequest);
             return QueryParseHelper.parseSimpleList(response);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
@@ -436,10 +439,12 @@ public class CommonService {
 
     public List<Map<String, Object>> getWaterfallErrorData(LogRequestVO vo) {
         SearchRequest searchRequest = CommonServiceQueryFactory.createWaterfallErrorDataQuery(vo);
+        return toWaterfallErrorData(elasticClient.get(searchRequest), vo);
+    }
 
+    private List<Map<String, Object>> toWaterfallErrorData(SearchResponse response, LogRequestVO vo) {
         List<Map<String, Object>> result = new ArrayList<>();
         try {
-            SearchResponse response = elasticClient.get(searchRequest);
             if (response == null) {
                 return Collections.emptyList();
             }
@@ -466,13 +471,23 @@ public class CommonService {
                 vo.getPageStartTm(), vo.getPageEndTm()
         );
 
+        // resource / core vital / error 조회를 하나의 _msearch 로 요청
+        CompletableFuture<SearchResponse> resourceFuture;
+        CompletableFuture<SearchResponse> coreVitalFuture;
+        CompletableFuture<SearchResponse> errorFuture;
+        try (SearchBatch batch = elasticClient.newBatch()) {
+            resourceFuture = batch.add(CommonServiceQueryFactory.createWaterfallDataQuery(vo));
+            coreVitalFuture = batch.add(CommonServiceQueryFactory.createCoreVitalDataQuery(vo));
+            errorFuture = batch.add(CommonServiceQueryFactory.createWaterfallErrorDataQuery(vo));
+        }
+
         // resource 기본 정보 목록
-        List<Map<String, Object>> resourceInfo = getWaterfallDataList(vo);
+        List<Map<String, Object>> resourceInfo = toWaterfallDataList(elasticClient.join(resourceFuture, null));
 
-        List<Map<String, Object>> coreVital = getCoreVitalData(vo);
+        List<Map<String, Object>> coreVital = toCoreVitalData(elasticClient.join(coreVitalFuture, null));
         Map<String, Object> performance = CommonServiceHelper.convertPerformanceData(resourceInfo);
         Map<String, Object> timing = CommonServiceHelper.convertWaterfallTimingData(resourceInfo, coreVital);
-        List<Map<String, Object>> error = getWaterfallErrorData(vo);
+        List<Map<String, Object>> error = toWaterfallErrorData(elasticClient.join(errorFuture, null), vo);
 
         // Error데이터를 waterfall 데이터 형식으로 가공해서 주기
         CommonServiceHelper.processErrorData(error, resourceInfo);
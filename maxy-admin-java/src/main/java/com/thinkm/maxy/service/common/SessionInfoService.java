@@ -0,0 +1,288 @@
+package com.thinkm.maxy.service.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thinkm.common.code.MaxyLogType;
+import com.thinkm.common.code.ServerTypeCode;
+import com.thinkm.maxy.repository.AppInfoRepository;
+import com.thinkm.maxy.repository.ModelRepository;
+import com.thinkm.maxy.repository.PageRepository;
+import com.thinkm.maxy.repository.Snapshot;
+import com.thinkm.maxy.service.app.LogAnalysisService;
+import com.thinkm.maxy.vo.MaxyUser;
+import com.thinkm.maxy.vo.UserAppVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * getSessionInfo 응답 (화면 bootstrap 데이터)
+ * <pre>
+ * - 공통 부분 (model / log type / serverType) 은 JSON byte 로 미리 만들어 두고 model 정보가 바뀔 때만 다시 만든다.
+ * - 사용자 부분 (appInfo / 사용자 package 의 alias) 은 (userNo, appType) 별로 캐시한다.
+ *   app 정보나 alias 가 교체되면 다시 만들고, 권한 변경 시 invalidate 한다.
+ *   app version 은 수집 서버에서도 추가되므로 expire 시간이 지나면 다시 조회한다.
+ * - 응답 byte 의 hash 를 ETag 로 사용하므로 내용이 같으면 304 로 응답할 수 있다.
+ * </pre>
+ */
+@Slf4j
+@Service
+public class SessionInfoService {
+
+    private final UserService userService;
+    private final ModelRepository modelRepository;
+    private final PageRepository pageRepository;
+    private final AppInfoRepository appInfoRepository;
+    private final LogAnalysisService logAnalysisService;
+    private final ObjectMapper objectMapper;
+    private final Cache<UserKey, UserPart> userCache;
+
+    private volatile StaticPart staticPart;
+
+    private final LongAdder userHit = new LongAdder();
+    private final LongAdder userRebuild = new LongAdder();
+    private final LongAdder appInfoLoad = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    public SessionInfoService(
+            UserService userService,
+            ModelRepository modelRepository,
+            PageRepository pageRepository,
+            AppInfoRepository appInfoRepository,
+            LogAnalysisService logAnalysisService,
+            ObjectMapper objectMapper,
+            @Value("${maxy.session-info.user-cache-size:10000}") long userCacheSize,
+            @Value("${maxy.session-info.user-cache-expire-seconds:60}") long userCacheExpireSeconds
+    ) {
+        this.userService = userService;
+        this.modelRepository = modelRepository;
+        this.pageRepository = pageRepository;
+        this.appInfoRepository = appInfoRepository;
+        this.logAnalysisService = logAnalysisService;
+        this.objectMapper = objectMapper;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(userCacheSize)
+                .expireAfterWrite(userCacheExpireSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    record UserKey(Long userNo, String appType) {
+    }
+
+    /**
+     * @param modelVersion model 정보 version
+     * @param fields       공통 필드 JSON (중괄호 제외)
+     * @param hash         fields 의 hash
+     */
+    record StaticPart(long modelVersion, byte[] fields, String hash) {
+    }
+
+    /**
+     * @param appInfoVersion app 정보 version
+     * @param aliasVersion   alias version
+     * @param appInfo        사용자 appInfo
+     * @param fields         사용자 필드 JSON (중괄호 제외)
+     * @param hash           fields 의 hash
+     */
+    record UserPart(long appInfoVersion, long aliasVersion,
+                    Map<String, Map<String, Map<String, UserAppVO>>> appInfo,
+                    byte[] fields, String hash) {
+    }
+
+    /**
+     * @param body JSON 응답
+     * @param etag ETag (따옴표 포함)
+     */
+    public record Payload(byte[] body, String etag) {
+
+        /**
+         * @param ifNoneMatch If-None-Match header
+         * @return 클라이언트가 같은 내용을 가지고 있는지 여부
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                String value = tag.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals("*") || value.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 사용자 bootstrap 데이터. 사용자 session 의 appInfo 도 함께 갱신한다.
+     *
+     * @param user    로그인 사용자
+     * @param appType 앱 타입
+     * @return JSON 응답과 ETag
+     */
+    public Payload getSessionInfo(MaxyUser user, String appType) {
+        StaticPart common = getStaticPart();
+        UserPart userPart = getUserPart(user, appType);
+        user.setAppInfo(userPart.appInfo());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(common.fields().length + userPart.fields().length + 2);
+        out.write('{');
+        out.writeBytes(common.fields());
+        out.write(',');
+        out.writeBytes(userPart.fields());
+        out.write('}');
+        return new Payload(out.toByteArray(), "\"" + common.hash() + "-" + userPart.hash() + "\"");
+    }
+
+    public void countNotModified() {
+        notModified.increment();
+    }
+
+    /**
+     * 사용자 권한이 바뀌었을 때 호출
+     *
+     * @param userNo 사용자 번호
+     */
+    public void invalidate(Long userNo) {
+        userCache.asMap().keySet().removeIf(key -> Objects.equals(key.userNo(), userNo));
+    }
+
+    public void invalidateAll() {
+        userCache.invalidateAll();
+    }
+
+    StaticPart getStaticPart() {
+        long modelVersion = modelRepository.getVersion();
+        StaticPart current = staticPart;
+        if (current != null && current.modelVersion() == modelVersion) {
+            return current;
+        }
+        synchronized (this) {
+            current = staticPart;
+            if (current != null && current.modelVersion() == modelVersion) {
+                return current;
+            }
+            Map<String, Map<String, String>> modelInfo = modelRepository.getModelInfo();
+
+            Map<String, Object> fields = new LinkedHashMap<>();
+            fields.put("deviceModelList", modelInfo == null ? Collections.emptyMap() : modelInfo);
+            fields.put("logDictionary", MaxyLogType.toMap());
+            fields.put("logTypeSet", logAnalysisService.getAllLogTypes());
+            fields.put("serverType", ServerTypeCode.getAll());
+            byte[] bytes = toFields(fields);
+
+            current = new StaticPart(modelVersion, bytes, hash(bytes));
+            staticPart = current;
+            log.info("session info static part rebuilt. modelVersion: {}, size: {}", modelVersion, bytes.length);
+            return current;
+        }
+    }
+
+    UserPart getUserPart(MaxyUser user, String appType) {
+        UserKey key = new UserKey(user.getUserNo(), appType);
+        long appInfoVersion = appInfoRepository.getVersion();
+        Snapshot<Map<String, Map<String, Map<String, String>>>> alias = pageRepository.getPageAliasSnapshot();
+
+        UserPart current = userCache.getIfPresent(key);
+        if (current != null
+                && current.appInfoVersion() == appInfoVersion
+                && current.aliasVersion() == alias.version()) {
+            userHit.increment();
+            return current;
+        }
+
+        Map<String, Map<String, Map<String, UserAppVO>>> appInfo;
+        if (current != null && current.appInfoVersion() == appInfoVersion) {
+            // alias 만 바뀐 경우
+            appInfo = current.appInfo();
+        } else {
+            userService.refreshAppInfo(user, appType);
+            appInfo = user.getAppInfo();
+            appInfoLoad.increment();
+        }
+
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("alias", filterAlias(alias.data(), appInfo.keySet()));
+        fields.put("appInfoData", appInfo);
+        fields.put("packageOrder", new ArrayList<>(appInfo.keySet()));
+        byte[] bytes = toFields(fields);
+
+        UserPart userPart = new UserPart(appInfoVersion, alias.version(), appInfo, bytes, hash(bytes));
+        userCache.put(key, userPart);
+        userRebuild.increment();
+        return userPart;
+    }
+
+    /**
+     * 사용자 app 의 alias 만 남김
+     *
+     * @param alias    {packageNm: {serverType: {reqUrl: appPageNm}}}
+     * @param appNames packageNm:serverType 목록
+     * @return 사용자 app 의 alias
+     */
+    static Map<String, Map<String, Map<String, String>>> filterAlias(Map<String, Map<String, Map<String, String>>> alias,
+                                                                     Collection<String> appNames) {
+        Map<String, Map<String, Map<String, String>>> result = new HashMap<>();
+        for (String appName : appNames) {
+            int idx = appName.lastIndexOf(':');
+            if (idx < 0) {
+                continue;
+            }
+            String packageNm = appName.substring(0, idx);
+            String serverType = appName.substring(idx + 1);
+            Map<String, Map<String, String>> serverTypeMap = alias.get(packageNm);
+            if (serverTypeMap == null || !serverTypeMap.containsKey(serverType)) {
+                continue;
+            }
+            result.computeIfAbsent(packageNm, k -> new HashMap<>()).put(serverType, serverTypeMap.get(serverType));
+        }
+        return result;
+    }
+
+    /**
+     * map 을 JSON 으로 만든 뒤 바깥 중괄호를 제외한 byte 반환 (다른 부분과 이어 붙이기 위함)
+     */
+    private byte[] toFields(Map<String, Object> fields) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(fields);
+            return Arrays.copyOfRange(json, 1, json.length - 1);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        StaticPart current = staticPart;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("staticSize", current == null ? null : current.fields().length);
+        result.put("modelVersion", current == null ? null : current.modelVersion());
+        result.put("userCacheSize", userCache.estimatedSize());
+        result.put("userHit", userHit.sum());
+        result.put("userRebuild", userRebuild.sum());
+        result.put("appInfoLoad", appInfoLoad.sum());
+        result.put("notModified", notModified.sum());
+        return result;
+    }
+}
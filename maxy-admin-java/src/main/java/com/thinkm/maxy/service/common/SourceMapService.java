@@ -1,49 +1,89 @@
 package com.thinkm.maxy.service.common;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.thinkm.common.util.sourcemap.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StreamUtils;
 
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Service
 public class SourceMapService {
 
     /**
-     * 캐시 TTL (10분)
+     * bundle 경로 -> 파싱된 sourcemap
+     * <pre>
+     * - 추정 heap 크기(KB) 합계가 max-weight-mb 를 넘으면 제거
+     * - 같은 key 의 동시 load 는 하나만 수행하고 결과를 공유
+     * - refresh-minutes 가 지난 뒤 조회되면 기존 값을 반환하면서 background 로 파일 수정 시간을 확인하고,
+     *   바뀐 경우에만 다시 읽음
+     * </pre>
      */
-    private static final long CACHE_TTL_MILLIS = Duration.ofMinutes(10).toMillis();
-
-    /**
-     * 파일명 -> 파싱된 sourcemap + 캐시 시각
-     * ConcurrentHashMap 사용으로 스레드 세이프
-     */
-    private final Map<String, CacheEntry> cacheMap = new ConcurrentHashMap<>();
+    private final LoadingCache<SourceMapKey, CachedSourceMap> cache;
+    // refresh 전용 thread (commonPool 을 파싱에 쓰지 않음)
+    private final ExecutorService refreshExecutor;
 
     private final ResourcePatternResolver resolver;
     private final Path sourceMapBaseDir;
 
     public SourceMapService(
             ResourcePatternResolver resolver,
-            @Value("${maxy.sourcemap.base-dir}") String baseDir
+            @Value("${maxy.sourcemap.base-dir}") String baseDir,
+            @Value("${maxy.sourcemap.cache.max-weight-mb:512}") long maxWeightMb,
+            @Value("${maxy.sourcemap.cache.expire-minutes:10}") long expireMinutes,
+            @Value("${maxy.sourcemap.cache.refresh-minutes:5}") long refreshMinutes
     ) {
         this.resolver = resolver;
         this.sourceMapBaseDir = Paths.get(baseDir).toAbsolutePath().normalize();
+        this.refreshExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "sourcemap-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightMb * 1024)
+                .weigher((SourceMapKey key, CachedSourceMap value) ->
+                        (int) Math.min(Integer.MAX_VALUE, value.parsed().estimatedBytes() / 1024))
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .refreshAfterWrite(Duration.ofMinutes(refreshMinutes))
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public CachedSourceMap load(SourceMapKey key) throws IOException {
+                        return loadSourceMap(key);
+                    }
+
+                    @Override
+                    public CachedSourceMap reload(SourceMapKey key, CachedSourceMap oldValue) throws IOException {
+                        // 파일이 바뀌지 않았으면 기존 값을 그대로 사용
+                        return oldValue.isModified() ? loadSourceMap(key) : oldValue;
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        refreshExecutor.shutdownNow();
     }
 
-    // todo: Spring cache + caffeine 구성으로 동일 요청 동일 반환 기조로 개발 필요
     public List<StackMappingResult> mapErrorStack(String errorStack) throws IOException {
         // 1) 트레이스 line 전부 파싱
         List<StackFrameRef> frames = new ArrayList<>(SourceMapParser.parseConsoleStackFrames(errorStack));
@@ -131,14 +171,11 @@ public class SourceMapService {
         String normalizedPath = pathInfo.normalizedPath();
         String cacheKey = normalizedPath.isEmpty() ? mapFileName : normalizedPath + ".map";
 
-        CacheEntry cachedEntry = cacheMap.get(cacheKey);
-        if (cachedEntry != null) {
-            if (!cachedEntry.isExpired(CACHE_TTL_MILLIS)) {
-                return cachedEntry.sourceMap();
-            }
-            cacheMap.remove(cacheKey, cachedEntry);
-        }
+        CachedSourceMap cached = cache.get(new SourceMapKey(cacheKey, mapFileName, pathInfo.directories()));
+        return cached == null ? null : cached.parsed();
+    }
 
+    private CachedSourceMap loadSourceMap(SourceMapKey key) throws IOException {
         /*
          * Windows-safe file pattern 생성
          * 1) Path → URI → file:///c:/tmp/map 형태
@@ -150,31 +187,55 @@ public class SourceMapService {
             baseUriStr += "/";
         }
 
-        Resource[] resources = findMatchingResources(mapFileName, pathInfo.directories(), baseUriStr);
+        Resource[] resources = findMatchingResources(key.mapFileName(), key.directories(), baseUriStr);
         if (resources.length == 0) {
             return null;
         }
         if (resources.length > 1) {
-            log.warn("Multiple sourcemap resources for {}; falling back to first match", mapFileName);
+            log.warn("Multiple sourcemap resources for {}; falling back to first match", key.mapFileName());
         }
 
-        String json = StreamUtils.copyToString(resources[0].getInputStream(), StandardCharsets.UTF_8);
-        SourceMapParser.ParsedSourceMap parsed = SourceMapParser.parse(json);
+        Resource resource = resources[0];
+        long lastModified = resource.lastModified();
+        long s = System.currentTimeMillis();
+        SourceMapParser.ParsedSourceMap parsed = readSourceMap(resource);
+        log.info("sourcemap loaded: {} ({} segments, ~{} KB) {}ms", key.cacheKey(),
+                parsed.getMappings().segmentCount(), parsed.estimatedBytes() / 1024, System.currentTimeMillis() - s);
+        return new CachedSourceMap(parsed, resource, lastModified);
+    }
 
-        cacheMap.put(cacheKey, new CacheEntry(parsed, System.currentTimeMillis()));
-        return parsed;
+    /**
+     * buffered stream 으로 바로 파싱한다. (파일 내용을 String 으로 한 번 더 복사하지 않음)
+     */
+    private SourceMapParser.ParsedSourceMap readSourceMap(Resource resource) throws IOException {
+        try (InputStream is = new BufferedInputStream(resource.getInputStream(), 64 * 1024)) {
+            return SourceMapParser.parse(is);
+        }
     }
 
     /**
-     * 캐시에 저장된 sourcemap 중,
-     * 현재 시각 기준 10분 이상 지난 항목을 모두 제거한다.
-     * 외부 스케줄러에서 주기적으로 호출할 메서드.
+     * 만료된 캐시 항목 정리. 외부 스케줄러에서 주기적으로 호출할 메서드.
      */
     public void evictExpiredCache() {
-        cacheMap.entrySet().removeIf(entry -> {
-            CacheEntry value = entry.getValue();
-            return value == null || value.isExpired(CACHE_TTL_MILLIS);
-        });
+        cache.cleanUp();
+    }
+
+    /**
+     * sourcemap 캐시 상태 조회
+     */
+    public Map<String, Object> getCacheStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hit", stats.hitCount());
+        result.put("miss", stats.missCount());
+        result.put("loadSuccess", stats.loadSuccessCount());
+        result.put("loadFailure", stats.loadFailureCount());
+        result.put("totalLoadTimeMs", stats.totalLoadTime() / 1_000_000);
+        result.put("evict", stats.evictionCount());
+        result.put("entries", cache.estimatedSize());
+        cache.policy().eviction().ifPresent(eviction ->
+                result.put("weightKb", eviction.weightedSize().orElse(0L)));
+        return result;
     }
 
     private Resource[] findMatchingResources(
@@ -321,6 +382,23 @@ public class SourceMapService {
         return true;
     }
 
+    /**
+     * 파싱된 sourcemap 과 읽을 당시의 파일 수정 시간
+     */
+    private record CachedSourceMap(SourceMapParser.ParsedSourceMap parsed, Resource resource, long lastModified) {
+        boolean isModified() {
+            try {
+                return resource.lastModified() != lastModified;
+            } catch (IOException e) {
+                // 파일이 삭제된 경우 등은 다시 찾는다.
+                return true;
+            }
+        }
+    }
+
+    private record SourceMapKey(String cacheKey, String mapFileName, List<String> directories) {
+    }
+
     private record BundlePathInfo(String fileName, List<String> directories) {
         String normalizedPath() {
             if (fileName == null || fileName.isBlank()) {
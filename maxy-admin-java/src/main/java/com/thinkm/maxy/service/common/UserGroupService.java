@@ -39,6 +39,9 @@ public class UserGroupService {
     @Resource
     private final SecurityUtil securityUtil;
 
+    @Resource
+    private final SessionInfoService sessionInfoService;
+
     @Value("${network.context-url}")
     private String contextUrl;
     @Value("${security.pass.expire-date:90}")
@@ -453,6 +456,8 @@ public class UserGroupService {
         if (!vo.getAppInfoList().isEmpty()) {
             mapper.updateUserAppGrant(vo);
         }
+        // 캐시된 session 정보 (appInfo) 다시 조회
+        sessionInfoService.invalidate(vo.getUserNo());
     }
 
     public boolean checkAppGranted(UserVO vo) {
@@ -2,6 +2,7 @@ package com.thinkm.maxy.service.common;
 
 import com.thinkm.common.code.CommonCode;
 import com.thinkm.common.code.ReturnCode;
+import com.thinkm.common.config.session.RedisSessionStore;
 import com.thinkm.common.exception.AuthException;
 import com.thinkm.common.exception.BadRequestException;
 import com.thinkm.common.exception.NeedOtpInfo;
@@ -35,6 +36,7 @@ public class UserService {
     private final SecurityUtil securityUtil;
     private final UserServiceHelper userServiceHelper;
     private final OtpService otpService;
+    private final RedisSessionStore redisSessionStore;
 
     private final RSAUtil rsaUtil = new RSAUtil();
 
@@ -136,8 +138,9 @@ public class UserService {
      * 메뉴 권한 갱신
      *
      */
-    public void refreshMenuRole(MaxyUser user) {
+    public void refreshMenuRole(HttpServletRequest request, MaxyUser user) {
         userServiceHelper.refreshMenuRoleToLoginUser(user);
+        redisSessionStore.update(request, user);
     }
 
     /**
@@ -182,6 +185,8 @@ public class UserService {
         // 로그인 사용자 Session 에 저장
         request.getSession().setAttribute(CommonCode.loginUserKey(), loginInfo);
         request.getSession().setMaxInactiveInterval(sessionTimeout);
+        // 다른 WAS 에서도 사용할 수 있도록 저장 (사용 설정 시)
+        redisSessionStore.save(request, response, loginInfo);
     }
 
     /**
@@ -2,6 +2,7 @@ package com.thinkm.maxy.service.common.factory;
 
 import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.vo.LogRequestVO;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.search.SearchRequest;
@@ -27,7 +28,7 @@ public class CommonServiceQueryFactory {
                 .sort(Elastic.logTm, SortOrder.ASC)
                 .size(10000);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PERF_LOG, vo.getPageStartTm(), vo.getPageEndTm());
+        String[] indexes = IndexRouter.route(ElasticIndex.PERF_LOG, vo.getPageStartTm(), vo.getPageEndTm());
         return new SearchRequest(indexes).source(sourceBuilder);
     }
 
@@ -44,7 +45,7 @@ public class CommonServiceQueryFactory {
                 .query(boolQuery)
                 .sort(Elastic.logTm, SortOrder.ASC)
                 .size(10000);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.VITAL_LOG, vo.getPageStartTm(), vo.getPageEndTm());
+        String[] indexes = IndexRouter.route(ElasticIndex.VITAL_LOG, vo.getPageStartTm(), vo.getPageEndTm());
         return new SearchRequest(indexes).source(sourceBuilder);
     }
 
@@ -63,7 +64,7 @@ public class CommonServiceQueryFactory {
                 .sort(Elastic.logTm, SortOrder.ASC)
                 .size(10000);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.TROUBLE_LOG, vo.getPageStartTm(), vo.getPageEndTm());
+        String[] indexes = IndexRouter.route(ElasticIndex.TROUBLE_LOG, vo.getPageStartTm(), vo.getPageEndTm());
         return new SearchRequest(indexes).source(sourceBuilder);
     }
 }
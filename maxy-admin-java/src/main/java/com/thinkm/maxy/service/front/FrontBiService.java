@@ -8,7 +8,7 @@ import com.thinkm.maxy.dto.front.bi.BiDefaultResponseDto;
 import com.thinkm.maxy.dto.front.bi.BiErrorResponseDto;
 import com.thinkm.maxy.dto.front.bi.BiRequestDto;
 import com.thinkm.maxy.mapper.FrontBiMapper;
-import com.thinkm.maxy.service.app.RedisService;
+import com.thinkm.maxy.service.app.CcuRedisService;
 import com.thinkm.maxy.service.front.factory.FrontBiFactory;
 import com.thinkm.maxy.service.front.helper.FrontBiServiceHelper;
 import com.thinkm.maxy.vo.FrontBiVO;
@@ -29,7 +29,7 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class FrontBiService {
-    private final RedisService redisService;
+    private final CcuRedisService ccuRedisService;
     private final ElasticClient elasticClient;
     private final FrontBiMapper frontBiMapper;
 
@@ -181,28 +181,13 @@ public class FrontBiService {
      * @return CCU 응답 DTO
      */
     private BiCcuResponseDto getCcuData(BiRequestDto dto) {
-        // appCcuCount:appId:serverType:osType:yyyyMMdd
-        String pattern = String.join(":",
+        // front:countCcu:appId:serverType
+        String prefix = String.join(":",
                 "front:countCcu",
                 dto.getPackageNm(),
-                dto.getServerType(),
-                DateUtil.getIndexDate());
+                dto.getServerType());
 
-        // 당일 날짜의 모든 키 조회 (시간:분 까지)
-        long s = System.currentTimeMillis();
-        Set<String> keys = redisService.keys(pattern + "*");
-        log.debug("get keys time: {}ms ", System.currentTimeMillis() - s);
-
-        if (keys.isEmpty()) {
-            return new BiCcuResponseDto();
-        }
-
-        List<String> keyList = new ArrayList<>(keys);
-        long s1 = System.currentTimeMillis();
-        // 이미 데이터를 넣을 때 String 으로 넣어서 getLong 을 사용할 수 없었음 .. 추후에 Long 타입으로 넣으면 좋을 듯
-        List<Object> valList = redisService.get(keyList);
-        log.debug("get val time: {}ms ", System.currentTimeMillis() - s1);
-        return FrontBiServiceHelper.parseCcuTodayData(valList, keyList);
+        return FrontBiServiceHelper.parseCcuTodayData(ccuRedisService.getCount(prefix, DateUtil.getIndexDate()));
     }
 
     /**
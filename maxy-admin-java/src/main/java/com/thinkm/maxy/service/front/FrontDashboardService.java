@@ -1,6 +1,7 @@
 package com.thinkm.maxy.service.front;
 
 import com.thinkm.common.util.ElasticClient;
+import com.thinkm.common.util.SearchBatch;
 import com.thinkm.maxy.dto.front.dashboard.session.SessionDetailRequestDto;
 import com.thinkm.maxy.dto.front.dashboard.session.SessionDetailResponseDto;
 import com.thinkm.maxy.dto.front.dashboard.user.UserRequestDto;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 프런트 대시보드 화면에서 사용하는 페이지/네트워크/세션/에러 데이터를 조회하는 서비스입니다.
@@ -66,56 +68,47 @@ public class FrontDashboardService {
     }
 
     /**
-     * Vital 정보를 조회한다.
+     * 세션 프로필 이후의 Vital / 페이지 / 이벤트 정보를 한 번에 조회한다.
      *
-     * @param dto  조회 조건
-     * @param from 조회 시작 시간
-     * @return Vital 정보 DTO
+     * @param dto     조회 조건
+     * @param profile 세션 프로필
+     * @param from    인덱스 계산 범위 시작
+     * @return 세션 상세 DTO
      */
-    public SessionDetailResponseDto.Vital getSessionVitalInfo(SessionDetailRequestDto dto, long from) {
-        SearchRequest searchRequest = FrontDashboardFactory.createSessionVitalInfoQuery(dto, from);
+    public SessionDetailResponseDto getSessionDetail(SessionDetailRequestDto dto,
+                                                     SessionDetailResponseDto.Profile profile,
+                                                     long from) {
+        // 세 조회를 하나의 _msearch 로 요청
+        CompletableFuture<SearchResponse> vitalFuture;
+        CompletableFuture<SearchResponse> pageFuture;
+        CompletableFuture<SearchResponse> eventFuture;
+        try (SearchBatch batch = client.newBatch()) {
+            vitalFuture = batch.add(FrontDashboardFactory.createSessionVitalInfoQuery(dto, from));
+            pageFuture = batch.add(FrontDashboardFactory.createSessionPageListQuery(dto, from));
+            eventFuture = batch.add(FrontDashboardFactory.createSessionEventListQuery(dto, from));
+        }
+
+        SessionDetailResponseDto.Vital vital = new SessionDetailResponseDto.Vital();
+        List<SessionDetailResponseDto.PageInfo> pageInfoList = new ArrayList<>();
+        List<SessionDetailResponseDto.EventInfo> eventInfoList = new ArrayList<>();
         try {
-            SearchResponse response = client.get(searchRequest);
-            return FrontDashboardServiceHelper.parseSessionVitalData(response);
+            SearchResponse response = client.join(vitalFuture, null);
+            vital = FrontDashboardServiceHelper.parseSessionVitalData(response);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
-            return new SessionDetailResponseDto.Vital();
         }
-    }
-
-    /**
-     * 세션별 페이지 이동 목록을 조회한다.
-     *
-     * @param dto  조회 조건
-     * @param from 인덱스 계산을 위한 시작 시간
-     * @return 페이지 정보 리스트
-     */
-    public List<SessionDetailResponseDto.PageInfo> getSessionPageInfo(SessionDetailRequestDto dto, long from) {
-        SearchRequest searchRequest = FrontDashboardFactory.createSessionPageListQuery(dto, from);
         try {
-            SearchResponse response = client.get(searchRequest);
-            return FrontDashboardServiceHelper.parseSessionPageListData(response);
+            SearchResponse response = client.join(pageFuture, null);
+            pageInfoList = FrontDashboardServiceHelper.parseSessionPageListData(response);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
-            return new ArrayList<>();
         }
-    }
-
-    /**
-     * 세션별 이벤트 목록을 조회한다.
-     *
-     * @param dto  조회 조건
-     * @param from 인덱스 계산 범위 시작
-     * @return 이벤트 정보 리스트
-     */
-    public List<SessionDetailResponseDto.EventInfo> getSessionEventInfo(SessionDetailRequestDto dto, long from) {
-        SearchRequest searchRequest = FrontDashboardFactory.createSessionEventListQuery(dto, from);
         try {
-            SearchResponse response = client.get(searchRequest);
-            return FrontDashboardServiceHelper.parseSessionEventListData(response);
+            SearchResponse response = client.join(eventFuture, null);
+            eventInfoList = FrontDashboardServiceHelper.parseSessionEventListData(response);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
-            return new ArrayList<>();
         }
+        return new SessionDetailResponseDto(profile, vital, pageInfoList, eventInfoList);
     }
 }
@@ -4,6 +4,7 @@ import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.util.DummyUtil;
 import com.thinkm.common.util.ElasticClient;
 import com.thinkm.common.util.HashUtil;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.common.util.sourcemap.StackMappingResult;
 import com.thinkm.maxy.domain.front.error.ErrorListSearchCondition;
 import com.thinkm.maxy.dto.front.common.SinglePageInfo;
@@ -66,7 +67,7 @@ public class FrontErrorService {
     public ErrorDetailResponseDto.DetailData getErrorDetailData(ErrorDetailRequestDto dto) {
         try {
             // docId로 detail 조회
-            String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.TROUBLE_LOG, dto.getFrom(), dto.getTo());
+            String[] indexes = IndexRouter.route(ElasticIndex.TROUBLE_LOG, dto.getFrom(), dto.getTo());
             Map<String, Object> response = client.get(indexes, dto.getDocId());
             ErrorDetailResponseDto.DetailData result = FrontErrorServiceHelper.parseErrorDetailData(response, userIdMasking);
 
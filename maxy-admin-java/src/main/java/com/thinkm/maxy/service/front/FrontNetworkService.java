@@ -2,6 +2,7 @@ package com.thinkm.maxy.service.front;
 
 import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.util.ElasticClient;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.domain.front.network.NetworkListSearchCondition;
 import com.thinkm.maxy.dto.front.common.DocumentIdRequestDto;
 import com.thinkm.maxy.dto.front.dashboard.network.NetworkDetailRequestDto;
@@ -58,7 +59,7 @@ public class FrontNetworkService {
      */
     public NetworkDetailResponseDto.DetailData getNetworkDetailData(DocumentIdRequestDto dto) {
         try {
-            String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.NETWORK_LOG, dto.getFrom(), dto.getTo());
+            String[] indexes = IndexRouter.route(ElasticIndex.NETWORK_LOG, dto.getFrom(), dto.getTo());
             Map<String, Object> response = client.get(indexes, dto.getDocId());
             return FrontNetworkServiceHelper.parseNetworkDetailData(response, userIdMasking);
         } catch (Exception e) {
@@ -4,6 +4,7 @@ import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.code.StatisticsInfo;
 import com.thinkm.common.util.CommonUtil;
 import com.thinkm.common.util.ElasticClient;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.domain.front.page.PageListSearchCondition;
 import com.thinkm.maxy.dto.front.common.*;
 import com.thinkm.maxy.dto.front.dashboard.page.PageListResponseDto;
@@ -214,7 +215,7 @@ public class FrontPageService {
      */
     public PageDetailResponseDto getPageDetailData(DocumentIdRequestDto dto) {
         try {
-            String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
+            String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
             Map<String, Object> response = client.get(indexes, dto.getDocId());
             PageDetailResponseDto.DetailData detailData = FrontPageServiceHelper.parsePageDetailData(response, userIdMasking);
             LogRequestVO param = LogRequestVO.builder()
@@ -1,16 +1,21 @@
 package com.thinkm.maxy.service.front;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.google.common.io.CountingInputStream;
 import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.code.MaxyLogType;
+import com.thinkm.common.config.metrics.MaxyMetrics;
 import com.thinkm.common.util.Elastic;
 import com.thinkm.common.util.ElasticClient;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.common.util.JsonUtil;
 import com.thinkm.maxy.dto.front.sessionreplay.SessionReplayRequestDto;
 import com.thinkm.maxy.dto.front.sessionreplay.SessionReplayResponseDto;
 import com.thinkm.maxy.service.front.factory.FrontSessionReplayFactory;
 import com.thinkm.maxy.service.front.helper.FrontSessionReplayServiceHelper;
+import com.thinkm.maxy.service.front.helper.SessionReplayEventStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.get.MultiGetItemResponse;
@@ -23,12 +28,18 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.*;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -42,7 +53,7 @@ public class FrontSessionReplayService {
 
     private final RestTemplate restTemplate;
     private final ElasticClient client;
-    private final WebClient fileDbWebClient;
+    private final MaxyMetrics maxyMetrics;
 
     /**
      * FileDB 서버 기본 URL
@@ -50,6 +61,14 @@ public class FrontSessionReplayService {
     @Value("${network.filedb.url:}")
     private String fileDbBaseUrl;
 
+    /**
+     * timestamp 정렬 시 보관하는 최대 event 수
+     */
+    @Value("${maxy.session-replay.reorder-window:4096}")
+    private int reorderWindow;
+
+    private static final int STREAM_FLUSH_EVENTS = 200;
+
     /**
      * 세션ID로 세션의 appStartTm 데이터를 조회합니다.
      *
@@ -114,28 +133,24 @@ public class FrontSessionReplayService {
         }*/
 
         try {
-            // 입력 파라미터 검증
-            validateSessionReplayRequest(requestDto);
-
-            // FileDB 요청 URL 구성
-            String url = fileDbBaseUrl + "/getstreams";
-
-            // JSON 요청 본문 구성
-            Map<String, Object> requestBody = buildSessionReplayRequestBody(requestDto, startKey, endKey);
-
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // HTTP 요청 엔티티 생성
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
-
-            // FileDB에 HTTP POST 요청 전송
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.POST, requestEntity, String.class);
+            // FileDB 응답을 timestamp 순으로 읽어 SessionReplayResponseDto로 변환
+            SessionReplayResponseDto responseDto = new SessionReplayResponseDto();
+            ArrayNode replayDataArray = JsonUtil.createArrayNode();
+            long[] range = {Long.MAX_VALUE, Long.MIN_VALUE};
+            // 어차피 전체를 메모리에 올리므로 window 없이 전체 정렬
+            readSessionReplay(requestDto, startKey, endKey, Integer.MAX_VALUE, event -> {
+                replayDataArray.add(toJsonNode(event));
+                range[0] = Math.min(range[0], event.timestamp());
+                range[1] = Math.max(range[1], event.timestamp());
+            });
 
-            // FileDB 응답을 SessionReplayResponseDto로 변환
-            return parseSessionReplayResponse(response.getBody(), startKey);
+            if (replayDataArray.size() > 0) {
+                responseDto.setFrom(range[0]);
+                responseDto.setTo(range[1]);
+            }
+            responseDto.setReplayData(replayDataArray);
+            responseDto.setStatus("success");
+            return responseDto;
 
         } catch (IllegalArgumentException e) {
             log.error("Failed to validate startKey format: startKey={}, error={}", startKey, e.getMessage());
@@ -216,7 +231,7 @@ public class FrontSessionReplayService {
         // MultiGetRequest 구성
         MultiGetRequest request = new MultiGetRequest();
         for (SessionReplayResponseDto.ActionListData action : targetActions) {
-            String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, action.getLogTm());
+            String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, action.getLogTm());
 
             for (String index : indexes) {
                 String docId = action.getLogTm() + action.getDeviceId();
@@ -304,95 +319,6 @@ public class FrontSessionReplayService {
         return requestBody;
     }
 
-    /**
-     * FileDB 응답을 SessionReplayResponseDto로 변환합니다.
-     * FileDB는 여러 개의 JSON 객체가 연속으로 나열된 형태로 응답합니다:
-     * {"key1":"data1"},{"key2":"data2"},...
-     *
-     * @param responseBody FileDB 응답 JSON 문자열
-     * @param startKey     요청한 startKey
-     * @return 변환된 SessionReplayResponseDto 객체
-     */
-    private SessionReplayResponseDto parseSessionReplayResponse(String responseBody, String startKey) {
-        SessionReplayResponseDto responseDto = new SessionReplayResponseDto();
-
-        try {
-            // FileDB 응답은 여러 JSON 객체가 연속으로 나열된 형태: {"key1":"data1"},{"key2":"data2"},...
-            // 이를 배열 형태로 변환
-            ArrayNode replayDataArray = JsonUtil.createArrayNode();
-
-            // 응답 문자열을 개별 JSON 객체로 분리
-            String[] jsonObjects = splitJsonObjects(responseBody);
-
-            for (String jsonObjectStr : jsonObjects) {
-                if (jsonObjectStr.trim().isEmpty()) {
-                    continue;
-                }
-
-                try {
-                    JsonNode jsonObject = JsonUtil.readTree(jsonObjectStr);
-
-                    // 각 JSON 객체의 필드를 순회
-                    jsonObject.fields().forEachRemaining(entry -> {
-                        String key = entry.getKey();
-                        JsonNode value = entry.getValue();
-
-                        // key가 sessionId#timestamp 형식인지 확인
-                        if (key.contains("#")) {
-                            // value가 문자열인 경우 JSON으로 파싱 시도
-                            if (value.isTextual()) {
-                                try {
-                                    JsonNode parsedData = JsonUtil.readTree(value.asText());
-                                    // parsedData 자체를 배열에 추가
-                                    replayDataArray.add(parsedData);
-                                } catch (Exception e) {
-                                    // JSON 파싱 실패 시 원본 문자열을 텍스트 노드로 저장
-                                    replayDataArray.add(JsonUtil.valueToTree(value.asText()));
-                                }
-                            } else {
-                                // value가 이미 JSON 객체인 경우 그대로 추가
-                                replayDataArray.add(value);
-                            }
-                        }
-                    });
-                } catch (Exception e) {
-                    log.warn("Individual JSON object parsing failed: {}, error = {}", jsonObjectStr, e.getMessage());
-                }
-            }
-
-            // 배열을 타임스탬프 순으로 정렬
-            List<JsonNode> sortedList = new ArrayList<>();
-            replayDataArray.forEach(sortedList::add);
-            sortedList.sort((a, b) -> {
-                long timestampA = a.has("timestamp") ? a.get("timestamp").asLong() : 0;
-                long timestampB = b.has("timestamp") ? b.get("timestamp").asLong() : 0;
-                return Long.compare(timestampA, timestampB);
-            });
-
-            // 정렬된 배열로 재구성
-            ArrayNode sortedArray = JsonUtil.createArrayNode();
-            sortedList.forEach(sortedArray::add);
-
-            // sortedArray의 첫번째와 마지막 데이터 사용
-            if (sortedArray.size() > 0) {
-                responseDto.setFrom(sortedArray.get(0).get("timestamp").asLong());
-                responseDto.setTo(sortedArray.get(sortedArray.size() - 1).get("timestamp").asLong());
-            }
-
-            responseDto.setReplayData(sortedArray);
-            responseDto.setStatus("success");
-        } catch (NumberFormatException e) {
-            log.error("Timestamp parsing failed: startKey={}, error={}", startKey, e.getMessage(), e);
-            return createEmptySessionReplayResponse();
-        } catch (Exception e) {
-            log.error("FileDB session replay response processing with unexpected exception: startKey={}, response body={}, error={}",
-                    startKey, responseBody, e.getMessage(), e);
-            return createEmptySessionReplayResponse();
-        }
-
-        return responseDto;
-    }
-
     /**
      * 빈 세션 리플레이 응답 객체를 생성합니다.
      * 에러 상황에서 기본값으로 반환됩니다.
@@ -429,82 +355,6 @@ public class FrontSessionReplayService {
         }
     }
 
-    /**
-     * 여러 JSON 객체가 연속으로 나열된 문자열을 개별 JSON 객체로 분리합니다.
-     * 예: {"key1":"data1"},{"key2":"data2"} -> ["{"key1":"data1"}",
-     * "{"key2":"data2"}"]
-     *
-     * @param responseBody 연속된 JSON 객체 문자열
-     * @return 개별 JSON 객체 문자열 배열
-     */
-    private String[] splitJsonObjects(String responseBody) {
-        if (responseBody == null || responseBody.trim().isEmpty()) {
-            return new String[0];
-        }
-
-        List<String> jsonObjects = new ArrayList<>();
-        StringBuilder currentObject = new StringBuilder();
-        int braceCount = 0;
-        boolean inString = false;
-        boolean escaped = false;
-
-        for (int i = 0; i < responseBody.length(); i++) {
-            char c = responseBody.charAt(i);
-
-            if (escaped) {
-                escaped = false;
-                currentObject.append(c);
-                continue;
-            }
-
-            if (c == '\\') {
-                escaped = true;
-                currentObject.append(c);
-                continue;
-            }
-
-            if (c == '"') {
-                inString = !inString;
-                currentObject.append(c);
-                continue;
-            }
-
-            if (!inString) {
-                if (c == '{') {
-                    braceCount++;
-                    currentObject.append(c);
-                } else if (c == '}') {
-                    braceCount--;
-                    currentObject.append(c);
-
-                    // 완전한 JSON 객체가 완성되면 리스트에 추가
-                    if (braceCount == 0) {
-                        String jsonObject = currentObject.toString().trim();
-                        if (!jsonObject.isEmpty()) {
-                            jsonObjects.add(jsonObject);
-                        }
-                        currentObject = new StringBuilder();
-                    }
-                } else if (c == ',' && braceCount == 0) {
-                    // 객체 간 구분자는 무시
-                    continue;
-                } else {
-                    currentObject.append(c);
-                }
-            } else {
-                currentObject.append(c);
-            }
-        }
-
-        // 마지막 객체가 남아있다면 추가
-        String remaining = currentObject.toString().trim();
-        if (!remaining.isEmpty() && braceCount == 0) {
-            jsonObjects.add(remaining);
-        }
-
-        return jsonObjects.toArray(new String[0]);
-    }
-
     /**
      * HTTP 통신 에러 상황을 로그에 기록하고 모니터링을 위한 메트릭을 수집합니다.
      *
@@ -516,73 +366,112 @@ public class FrontSessionReplayService {
         log.warn("FileDB HTTP Communication Error Occurred: endpoint={}, errorType={}, message={}",
                 endpoint, errorType, errorMessage);
 
-        // 향후 메트릭 수집이나 알림 시스템 연동 시 이 메서드를 확장할 수 있습니다.
-        // 예: Micrometer 메트릭 카운터 증가, 알림 발송 등
+        // 호출 시간 / outcome 은 readSessionReplay 에서 maxy.filedb.request metric 으로 기록합니다.
     }
 
     /**
      * 세션 리플레이 데이터를 스트림 방식으로 FileDB에서 가져와 OutputStream에 씁니다.
-     * WebClient를 사용하여 FileDB의 청크를 그대로 클라이언트에 전달합니다.
+     * event 를 timestamp 순으로 한 줄에 하나씩 ({"sessionId#ts":{event}}) NDJSON 으로 전달합니다.
      *
      * @param requestDto 세션 리플레이 조회 요청 데이터
      * @param outputStream 클라이언트로 전송할 OutputStream
      * @throws Exception 스트림 처리 중 발생하는 예외
      */
-    public void streamSessionReplayData(SessionReplayRequestDto requestDto, java.io.OutputStream outputStream) throws Exception {
+    public void streamSessionReplayData(SessionReplayRequestDto requestDto, OutputStream outputStream) throws Exception {
         if (fileDbBaseUrl == null || fileDbBaseUrl.isEmpty()) {
             log.error("FileDB URL is not configured.");
             throw new IllegalStateException("FileDB URL is not configured.");
         }
 
         String startKey = requestDto.getSessionId() + "#" + requestDto.getSessionStartTm();
-        String endKey = null;
 
+        try {
+            JsonGenerator generator = JsonUtil.createGenerator(outputStream);
+            long[] count = {0};
+            readSessionReplay(requestDto, startKey, null, reorderWindow, event -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeFieldName(event.key());
+                    if (event.isJson()) {
+                        generator.writeRawValue(event.json());
+                    } else {
+                        generator.writeString(event.json());
+                    }
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                    // 클라이언트가 점진적으로 재생할 수 있도록 일정 건수마다 flush
+                    if (++count[0] % STREAM_FLUSH_EVENTS == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            try {
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            log.debug("session replay stream. startKey: {}, events: {}", startKey, count[0]);
+        } catch (UncheckedIOException e) {
+            // 클라이언트로 쓰기 실패 (대부분 재생 중 창을 닫은 경우) 는 FileDB 오류가 아니므로 ERROR 로 남기지 않음
+            log.warn("[SESSION-REPLAY-STREAM] client aborted. startKey: {}, message: {}", startKey, e.getCause().getMessage());
+            throw e.getCause();
+        } catch (Exception e) {
+            log.error("Failed to stream session replay data: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * FileDB getstreams 응답을 streaming 으로 읽어 event 를 timestamp 순으로 전달합니다.
+     * 응답 전체를 메모리에 올리지 않고 window 크기만큼만 보관합니다.
+     *
+     * @param requestDto 세션 리플레이 조회 요청 데이터
+     * @param window     정렬을 위해 보관할 event 수 (Integer.MAX_VALUE 면 전체 정렬)
+     * @param consumer   timestamp 순 event consumer
+     * @return event 수
+     */
+    private long readSessionReplay(SessionReplayRequestDto requestDto, String startKey, String endKey, int window,
+                                   Consumer<SessionReplayEventStream.Event> consumer) {
         // 입력 파라미터 검증
         validateSessionReplayRequest(requestDto);
 
-        String url = fileDbBaseUrl + "/getstreams";
-
         // JSON 요청 본문 구성
         Map<String, Object> requestBody = buildSessionReplayRequestBody(requestDto, startKey, endKey);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        RequestCallback requestCallback = restTemplate.httpEntityCallback(new HttpEntity<>(requestBody, headers));
 
+        // 응답을 끝까지 읽어 consumer 에 전달하는 시간까지 기록
+        MaxyMetrics.Sample sample = maxyMetrics.start(MaxyMetrics.FILEDB, "endpoint", "/getstreams");
+        Long count;
         try {
-            // WebClient를 사용하여 FileDB의 청크를 그대로 전달
-            int[] chunkCount = {0};
-            long[] totalBytesRead = {0};
-
-            fileDbWebClient.post()
-                    .uri("/getstreams")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToFlux(org.springframework.core.io.buffer.DataBuffer.class)
-                    .doOnNext(dataBuffer -> {
-                        try {
-                            chunkCount[0]++;
-                            int chunkSize = dataBuffer.readableByteCount();
-                            totalBytesRead[0] += chunkSize;
-
-                            // FileDB로부터 받은 청크를 그대로 클라이언트에 전송
-                            byte[] bytes = new byte[chunkSize];
-                            dataBuffer.read(bytes);
-                            outputStream.write(bytes);
-                            outputStream.flush();
-
-                            // DataBuffer 해제 (메모리 누수 방지)
-                            org.springframework.core.io.buffer.DataBufferUtils.release(dataBuffer);
-                        } catch (Exception e) {
-                            log.error("[SESSION-REPLAY-STREAM-ERROR] Failed to forward chunk: {}", e.getMessage());
-                            throw new RuntimeException(e);
-                        }
-                    })
-                    .doOnError(error -> {
-                        log.error("[SESSION-REPLAY-STREAM-ERROR] Stream error occurred: {}", error.getMessage(), error);
-                    })
-                    .blockLast(); // 스트림이 완료될 때까지 대기
-
-        } catch (Exception e) {
-            log.error("Failed to stream session replay data: {}", e.getMessage(), e);
+            count = restTemplate.execute(fileDbBaseUrl + "/getstreams", HttpMethod.POST, requestCallback, response -> {
+                CountingInputStream body = new CountingInputStream(response.getBody());
+                try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+                    SessionReplayEventStream.Sorter sorter = new SessionReplayEventStream.Sorter(window, consumer);
+                    long read = SessionReplayEventStream.read(reader, sorter);
+                    sorter.finish();
+                    return read;
+                } finally {
+                    maxyMetrics.recordSize(MaxyMetrics.FILEDB_RESPONSE, MaxyMetrics.BYTES, body.getCount(),
+                            "endpoint", "/getstreams");
+                }
+            });
+        } catch (RuntimeException e) {
+            sample.stop(e);
             throw e;
         }
+        sample.success();
+        return count == null ? 0 : count;
+    }
+
+    private JsonNode toJsonNode(SessionReplayEventStream.Event event) {
+        if (event.isJson()) {
+            return JsonUtil.readTree(event.json());
+        }
+        // JSON 이 아닌 경우 원본 문자열을 텍스트 노드로 저장
+        return JsonUtil.valueToTree(event.json());
     }
 }
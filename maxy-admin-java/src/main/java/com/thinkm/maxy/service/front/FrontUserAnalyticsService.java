@@ -6,6 +6,7 @@ import com.thinkm.common.exception.BadRequestException;
 import com.thinkm.common.exception.NotFoundException;
 import com.thinkm.common.util.Elastic;
 import com.thinkm.common.util.ElasticClient;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.dto.front.common.PageInfoRequestDto;
 import com.thinkm.maxy.dto.front.common.SinglePageInfo;
 import com.thinkm.maxy.dto.front.user.*;
@@ -123,7 +124,7 @@ public class FrontUserAnalyticsService {
      */
     public PageFlowDetailResponseDto.PageInfo getPageInfo(PageFlowDetailRequestDto dto, Map<String, Long> avgMap) {
         try {
-            String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
+            String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
             Map<String, Object> map = client.get(indexes, dto.getDocId());
             return PageFlowDetailResponseDto.PageInfo.from(map, userIdMasking, avgMap);
         } catch (Exception e) {
@@ -1,6 +1,10 @@
 package com.thinkm.maxy.service.front;
 
+import com.thinkm.common.code.ElasticIndex;
+import com.thinkm.common.util.Elastic;
 import com.thinkm.common.util.ElasticClient;
+import com.thinkm.common.util.UrlDictionary;
+import com.thinkm.maxy.dto.front.common.DefaultRequestDto;
 import com.thinkm.maxy.dto.front.webperf.error.ErrorAggregateListRequestDto;
 import com.thinkm.maxy.dto.front.webperf.error.ErrorAggregateListResponseDto;
 import com.thinkm.maxy.dto.front.webperf.network.NetworkAggregateListRequestDto;
@@ -18,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.index.query.QueryBuilder;
 import org.springframework.stereotype.Service;
 
 import java.util.Set;
@@ -31,6 +36,7 @@ import java.util.Set;
 public class FrontWebPerfService {
     private final ElasticClient client;
     private final FrontPageService frontPageService;
+    private final UrlDictionary urlDictionary;
 
     /**
      * {@link FrontWebPerfFactory}를 통해 Web Vital 집계 쿼리를 생성하고 실행하여 결과를 {@link VitalResponseDto}로 변환한다.
@@ -69,7 +75,8 @@ public class FrontWebPerfService {
                 return new PageAggregateListResponseDto();
             }
         }
-        SearchRequest searchRequest = FrontWebPerfFactory.createPageAggregateListQuery(size, dto, markedUrls);
+        SearchRequest searchRequest = FrontWebPerfFactory.createPageAggregateListQuery(size, dto, markedUrls,
+                urlQuery(ElasticIndex.PAGE_LOG, Elastic.pageStartTm, Elastic.reqUrl_raw, dto, dto.getReqUrl()));
         try {
             SearchResponse response = client.get(searchRequest);
             PageAggregateListResponseDto result = FrontWebPerfServiceHelper.parsePageAggregateList(size, response);
@@ -109,7 +116,8 @@ public class FrontWebPerfService {
                 return new NetworkAggregateListResponseDto();
             }
         }
-        SearchRequest searchRequest = FrontWebPerfFactory.createNetworkAggregateListQuery(size, dto, markedUrls);
+        SearchRequest searchRequest = FrontWebPerfFactory.createNetworkAggregateListQuery(size, dto, markedUrls,
+                urlQuery(ElasticIndex.NETWORK_LOG, Elastic.logTm, Elastic.reqUrl_raw, dto, dto.getReqUrl()));
         try {
             SearchResponse response = client.get(searchRequest);
             NetworkAggregateListResponseDto result = FrontWebPerfServiceHelper.parseNetworkAggregateList(size, response);
@@ -167,7 +175,8 @@ public class FrontWebPerfService {
                 return new ErrorAggregateListResponseDto();
             }
         }
-        SearchRequest searchRequest = FrontWebPerfFactory.createErrorAggregateListQuery(size, dto, markedUrls);
+        SearchRequest searchRequest = FrontWebPerfFactory.createErrorAggregateListQuery(size, dto, markedUrls,
+                urlQuery(ElasticIndex.TROUBLE_LOG, Elastic.logTm, Elastic.resMsg_raw, dto, dto.getResMsg()));
         try {
             SearchResponse response = client.get(searchRequest);
             ErrorAggregateListResponseDto result = FrontWebPerfServiceHelper.parseErrorAggregateList(size, response);
@@ -186,4 +195,15 @@ public class FrontWebPerfService {
             return new ErrorAggregateListResponseDto();
         }
     }
+
+    /**
+     * 부분 문자열 검색 조건. 검색어가 없으면 null
+     */
+    private QueryBuilder urlQuery(ElasticIndex index, String timeField, String field, DefaultRequestDto dto, String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        UrlDictionary.Key key = new UrlDictionary.Key(index, timeField, field, dto.getPackageNm(), dto.getServerType());
+        return urlDictionary.containsQuery(key, text, dto.getFrom(), dto.getTo());
+    }
 }
@@ -4,6 +4,7 @@ import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.code.MaxyLogType;
 import com.thinkm.common.util.DateUtil;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.domain.front.common.TimeSeriesChartSearchCondition;
 import com.thinkm.maxy.dto.front.common.TimeSeriesChart;
 import com.thinkm.maxy.dto.front.dashboard.session.SessionDetailRequestDto;
@@ -66,7 +67,7 @@ public class FrontDashboardFactory {
                 .sort(dataType.getTimeColumn(), SortOrder.DESC)
                 .size(0)
                 .trackTotalHits(true);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(dataType.getIndex(), sc.range().from(), sc.range().to());
+        String[] indexes = IndexRouter.route(dataType.getIndex(), sc.range().from(), sc.range().to());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -91,7 +92,7 @@ public class FrontDashboardFactory {
                 .sort(Elastic.appStartTm, SortOrder.DESC)
                 .size(1000)
                 .fetchSource(UserListResponseDto.FIELDS, null);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.ACCESS_HISTORY, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.ACCESS_HISTORY, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -111,7 +112,7 @@ public class FrontDashboardFactory {
                 .sort(Elastic.pageStartTm, SortOrder.DESC)
                 .size(1000)
                 .fetchSource(SessionDetailResponseDto.Profile.FIELDS, null);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -167,7 +168,7 @@ public class FrontDashboardFactory {
                 .aggregation(clsFilterAgg)
                 .size(0);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.VITAL_LOG, from, dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.VITAL_LOG, from, dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -189,7 +190,7 @@ public class FrontDashboardFactory {
                 .fetchSource(SessionDetailResponseDto.PageInfo.FIELDS, null)
                 .sort(Elastic.pageStartTm, SortOrder.DESC);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, from, dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, from, dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -212,7 +213,7 @@ public class FrontDashboardFactory {
                 .fetchSource(SessionDetailResponseDto.EventInfo.FIELDS, null)
                 .sort(Elastic.logTm, SortOrder.DESC);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.SESSION_LOG, from, dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.SESSION_LOG, from, dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 }
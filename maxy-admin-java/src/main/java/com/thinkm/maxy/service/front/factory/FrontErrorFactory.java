@@ -3,6 +3,7 @@ package com.thinkm.maxy.service.front.factory;
 import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.code.MaxyLogType;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.domain.front.error.ErrorListSearchCondition;
 import com.thinkm.maxy.dto.front.common.SinglePageInfo;
 import com.thinkm.maxy.dto.front.dashboard.error.ErrorDetailResponseDto;
@@ -37,7 +38,7 @@ public class FrontErrorFactory {
                 .sort(Elastic.logTm, SortOrder.DESC)
                 .size(1000)
                 .fetchSource(ErrorListResponseDto.ListDetail.FIELDS, null);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.TROUBLE_LOG,
+        String[] indexes = IndexRouter.route(ElasticIndex.TROUBLE_LOG,
                 sc.range().from(), sc.range().to());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
@@ -63,7 +64,7 @@ public class FrontErrorFactory {
                 .fetchSource(ErrorDetailResponseDto.EventInfo.FIELDS, null)
                 .sort(Elastic.logTm, SortOrder.DESC);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.SESSION_LOG, dto.getParentLogDate(), to);
+        String[] indexes = IndexRouter.route(ElasticIndex.SESSION_LOG, dto.getParentLogDate(), to);
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 }
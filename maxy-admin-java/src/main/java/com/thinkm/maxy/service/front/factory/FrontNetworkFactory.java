@@ -3,6 +3,7 @@ package com.thinkm.maxy.service.front.factory;
 import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.util.DateUtil;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.domain.front.network.NetworkListSearchCondition;
 import com.thinkm.maxy.dto.front.dashboard.network.NetworkDetailRequestDto;
 import com.thinkm.maxy.dto.front.dashboard.network.NetworkDetailResponseDto;
@@ -53,7 +54,7 @@ public class FrontNetworkFactory {
                 .sort(Elastic.logTm, SortOrder.DESC)
                 .size(1000)
                 .fetchSource(NetworkListResponseDto.FIELDS, null);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.NETWORK_LOG, sc.range());
+        String[] indexes = IndexRouter.route(ElasticIndex.NETWORK_LOG, sc.range());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -87,7 +88,7 @@ public class FrontNetworkFactory {
                 .sort(Elastic.logTm, SortOrder.DESC)
                 .size(0)
                 .trackTotalHits(true);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.NETWORK_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.NETWORK_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 }
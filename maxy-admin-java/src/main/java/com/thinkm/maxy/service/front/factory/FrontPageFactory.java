@@ -5,6 +5,7 @@ import com.thinkm.common.code.MaxyLogType;
 import com.thinkm.common.code.ReturnCode;
 import com.thinkm.common.exception.BadRequestException;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.common.util.ValidUtil;
 import com.thinkm.maxy.domain.front.page.PageListSearchCondition;
 import com.thinkm.maxy.dto.front.common.ExistsPageInfoRequestDto;
@@ -40,7 +41,7 @@ public class FrontPageFactory {
                 .size(1)
                 .sort(Elastic.pageStartTm, SortOrder.DESC);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -83,7 +84,7 @@ public class FrontPageFactory {
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.query(boolQuery).fetchSource(new String[]{Elastic.deviceId}, null);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, logTm, logTm);
+        String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, logTm, logTm);
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -115,7 +116,7 @@ public class FrontPageFactory {
                 .sort(Elastic.pageStartTm, SortOrder.DESC)
                 .size(1000)
                 .fetchSource(PageListResponseDto.FIELDS, null);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, sc.range());
+        String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, sc.range());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 }
@@ -3,6 +3,7 @@ package com.thinkm.maxy.service.front.factory;
 import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.code.MaxyLogType;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.dto.front.sessionreplay.SessionReplayRequestDto;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.search.SearchRequest;
@@ -32,7 +33,7 @@ public class FrontSessionReplayFactory {
                 .query(boolQuery)
                 .sort(Elastic.logTm, SortOrder.ASC)
                 .size(10000);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.SESSION_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.SESSION_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -6,6 +6,7 @@ import com.thinkm.common.exception.BadRequestException;
 import com.thinkm.common.util.CommonUtil;
 import com.thinkm.common.util.DateUtil;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.maxy.dto.front.user.*;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.search.SearchRequest;
@@ -93,7 +94,7 @@ public class FrontUserAnalyticsFactory {
                 .sort(Elastic.pageStartTm, SortOrder.ASC)
                 .size(10000)
                 .fetchSource(PageFlowResponseDto.FIELDS, null);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -111,7 +112,7 @@ public class FrontUserAnalyticsFactory {
                 .size(10000)
                 .query(boolQuery)
                 .fetchSource(PageFlowDetailResponseDto.EventInfo.FIELDS, null);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.TOTAL_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.TOTAL_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -207,7 +208,7 @@ public class FrontUserAnalyticsFactory {
                 .query(boolQuery)
                 .aggregation(terms);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.VISIT_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.VISIT_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(ssb);
     }
 
@@ -241,7 +242,7 @@ public class FrontUserAnalyticsFactory {
                 .sort(Elastic.pageStartTm, SortOrder.DESC)
                 .size(0)
                 .trackTotalHits(true);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 }
@@ -5,6 +5,7 @@ import com.google.gson.JsonSyntaxException;
 import com.thinkm.common.code.ElasticIndex;
 import com.thinkm.common.code.MaxyLogType;
 import com.thinkm.common.util.Elastic;
+import com.thinkm.common.util.IndexRouter;
 import com.thinkm.common.util.JsonUtil;
 import com.thinkm.maxy.dto.front.webperf.error.ErrorAggregateListRequestDto;
 import com.thinkm.maxy.dto.front.webperf.network.NetworkAggregateListRequestDto;
@@ -14,6 +15,7 @@ import com.thinkm.maxy.dto.front.webperf.vital.VitalRequestDto;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
@@ -53,7 +55,7 @@ public class FrontWebPerfFactory {
                 .query(boolQuery)
                 .aggregation(composite)
                 .size(0);
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.VITAL_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.VITAL_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -63,9 +65,10 @@ public class FrontWebPerfFactory {
      * @param size          페이지 사이즈
      * @param dto           조회 조건 DTO
      * @param markedUrlList 즐겨찾기 URL 목록
+     * @param urlQuery      URL 검색 조건 (nullable)
      * @return SearchRequest 객체
      */
-    public static SearchRequest createPageAggregateListQuery(int size, PageAggregateListRequestDto dto, Set<String> markedUrlList) {
+    public static SearchRequest createPageAggregateListQuery(int size, PageAggregateListRequestDto dto, Set<String> markedUrlList, QueryBuilder urlQuery) {
         BoolQueryBuilder boolQuery = Elastic.makeBoolQueryForFront(dto);
         dto.addRangeToFilter(boolQuery, Elastic.pageStartTm);
 
@@ -77,9 +80,9 @@ public class FrontWebPerfFactory {
             boolQuery.filter(QueryBuilders.termsQuery(Elastic.reqUrl_raw, markedUrlList));
         }
 
-        // URL 검색(키워드 포함). 주의: leading wildcard는 비용이 큼
-        if (dto.getReqUrl() != null && !dto.getReqUrl().isBlank()) {
-            boolQuery.filter(QueryBuilders.wildcardQuery(Elastic.reqUrl_raw, "*" + dto.getReqUrl() + "*"));
+        // URL 검색(키워드 포함). UrlDictionary 로 terms 쿼리로 변환된 조건
+        if (urlQuery != null) {
+            boolQuery.filter(urlQuery);
         }
 
         // composite after_key 기반 집계: reqUrl별 버킷
@@ -124,7 +127,7 @@ public class FrontWebPerfFactory {
                 .aggregation(terms)
                 .size(0);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
@@ -181,13 +184,13 @@ public class FrontWebPerfFactory {
                 .query(boolQuery)
                 .aggregation(composite);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.PAGE_LOG, dto.getFrom(), dto.getTo());
         SearchRequest searchRequest = new SearchRequest(indexes).source(searchSourceBuilder);
         log.debug("{}: {}", type.name(), searchRequest);
         return searchRequest;
     }
 
-    public static SearchRequest createNetworkAggregateListQuery(int size, NetworkAggregateListRequestDto dto, Set<String> markedUrlList) {
+    public static SearchRequest createNetworkAggregateListQuery(int size, NetworkAggregateListRequestDto dto, Set<String> markedUrlList, QueryBuilder urlQuery) {
         BoolQueryBuilder boolQuery = Elastic.makeBoolQueryForFront(dto);
         dto.addRangeToFilter(boolQuery, Elastic.logTm);
 
@@ -196,9 +199,9 @@ public class FrontWebPerfFactory {
             boolQuery.filter(QueryBuilders.termsQuery(Elastic.reqUrl_raw, markedUrlList));
         }
 
-        // URL 검색(키워드 포함). 주의: leading wildcard는 비용이 큼
-        if (dto.getReqUrl() != null && !dto.getReqUrl().isBlank()) {
-            boolQuery.filter(QueryBuilders.wildcardQuery(Elastic.reqUrl_raw, "*" + dto.getReqUrl() + "*"));
+        // URL 검색(키워드 포함). UrlDictionary 로 terms 쿼리로 변환된 조건
+        if (urlQuery != null) {
+            boolQuery.filter(urlQuery);
         }
 
         // composite after_key 기반 집계: reqUrl별 버킷
@@ -240,11 +243,11 @@ public class FrontWebPerfFactory {
                 .aggregation(terms)
                 .size(0);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.NETWORK_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.NETWORK_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 
-    public static SearchRequest createErrorAggregateListQuery(int size, ErrorAggregateListRequestDto dto, Set<String> markedUrlList) {
+    public static SearchRequest createErrorAggregateListQuery(int size, ErrorAggregateListRequestDto dto, Set<String> markedUrlList, QueryBuilder urlQuery) {
         BoolQueryBuilder boolQuery = Elastic.makeBoolQueryForFront(dto);
         dto.addRangeToFilter(boolQuery, Elastic.logTm);
 
@@ -255,9 +258,9 @@ public class FrontWebPerfFactory {
 
         boolQuery.filter(QueryBuilders.termsQuery(Elastic.logType, MaxyLogType.FRONT_ERROR_TYPES_SET));
 
-        // URL 검색(키워드 포함). 주의: leading wildcard는 비용이 큼
-        if (dto.getResMsg() != null && !dto.getResMsg().isBlank()) {
-            boolQuery.filter(QueryBuilders.wildcardQuery(Elastic.resMsg_raw, "*" + dto.getResMsg() + "*"));
+        // URL 검색(키워드 포함). UrlDictionary 로 terms 쿼리로 변환된 조건
+        if (urlQuery != null) {
+            boolQuery.filter(urlQuery);
         }
 
         // composite after_key 기반 집계: reqUrl별 버킷
@@ -287,7 +290,7 @@ public class FrontWebPerfFactory {
                 .aggregation(terms)
                 .size(0);
 
-        String[] indexes = ElasticIndex.getIndicesForDateRange(ElasticIndex.TROUBLE_LOG, dto.getFrom(), dto.getTo());
+        String[] indexes = IndexRouter.route(ElasticIndex.TROUBLE_LOG, dto.getFrom(), dto.getTo());
         return new SearchRequest(indexes).source(searchSourceBuilder);
     }
 }
@@ -77,35 +77,15 @@ public class FrontBiServiceHelper {
     /**
      * Redis로부터 조회한 당일 CCU 데이터를 파싱한다.
      *
-     * @param valList 값 목록
-     * @param keyList 키 목록
+     * @param ccu yyyyMMddHHmm: count
      * @return CCU 응답 DTO
      */
-    public static BiCcuResponseDto parseCcuTodayData(List<Object> valList, List<String> keyList) {
-        if (valList == null || valList.isEmpty()) {
+    public static BiCcuResponseDto parseCcuTodayData(Map<String, Long> ccu) {
+        if (ccu == null || ccu.isEmpty()) {
             return new BiCcuResponseDto();
         }
 
-        Map<String, Long> tmp = new HashMap<>();
-        long s2 = System.currentTimeMillis();
-        for (int i = 0; i < keyList.size(); i++) {
-            String key = keyList.get(i);
-            String[] keyArr = key.split(":");
-            if (keyArr.length != 5) {
-                continue;
-            }
-            String time = keyArr[4];
-            if (time.length() > 12) {
-                // 12 자리 넘어가면 (초 포함이라면) 분까지로 자르기
-                time = time.substring(0, 12);
-            }
-
-            // null check 하여 time: val 구조로 넣기
-            Object val = valList.get(i);
-            tmp.put(time, val == null ? 0L : Long.parseLong(String.valueOf(val)));
-        }
-        log.debug("get concurrent user count time: {} ms", System.currentTimeMillis() - s2);
-
+        Map<String, Long> tmp = new HashMap<>(ccu);
         // 현재시간까지의 padding 값 추가
         for (String time : DateUtil.generateTimeArray()) {
             tmp.putIfAbsent(time, 0L);
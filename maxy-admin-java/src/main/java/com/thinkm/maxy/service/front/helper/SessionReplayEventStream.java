@@ -0,0 +1,269 @@
+package com.thinkm.maxy.service.front.helper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.thinkm.common.util.JsonUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * FileDB getstreams 응답을 streaming 으로 읽어 timestamp 순으로 전달한다.
+ * <pre>
+ * - 응답 형태: {"sessionId#ts":"{event json}", ...},{"sessionId#ts":"..."},...
+ * - 전체 응답을 String 으로 읽지 않고 token 단위로 event 를 하나씩 꺼낸다.
+ * - event 는 tree 로 만들지 않고 원본 JSON 문자열과 timestamp 만 보관한다.
+ * - chunk 가 대부분 정렬되어 있으므로 window 크기의 min-heap 으로 순서를 맞춘다. (memory 사용량 = window)
+ * </pre>
+ */
+@Slf4j
+public class SessionReplayEventStream {
+
+    /**
+     * 리플레이 event
+     *
+     * @param key       sessionId#timestamp
+     * @param timestamp event timestamp (없으면 0)
+     * @param json      event JSON (json 이 false 이면 일반 문자열)
+     * @param isJson    JSON 여부
+     * @param seq       수신 순서 (같은 timestamp 정렬용)
+     */
+    public record Event(String key, long timestamp, String json, boolean isJson, long seq) {
+    }
+
+    /**
+     * 응답을 읽으며 event 를 수신 순서대로 전달
+     *
+     * @param reader   FileDB 응답
+     * @param consumer event consumer
+     * @return event 수
+     */
+    public static long read(Reader reader, Consumer<Event> consumer) throws IOException {
+        long seq = 0;
+        try (JsonParser parser = JsonUtil.createParser(new RootCommaFilterReader(reader))) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.currentName();
+                    JsonToken valueToken = parser.nextToken();
+                    // key 가 sessionId#timestamp 형식인 값만 사용
+                    if (!key.contains("#")) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    Event event = valueToken == JsonToken.VALUE_STRING
+                            ? toEvent(key, parser.getText(), seq)
+                            : copyEvent(key, parser, seq);
+                    seq++;
+                    consumer.accept(event);
+                }
+            }
+        }
+        return seq;
+    }
+
+    private static Event toEvent(String key, String text, long seq) {
+        try {
+            return new Event(key, scanTimestamp(text), text, true, seq);
+        } catch (IOException e) {
+            // JSON 이 아니면 원본 문자열 그대로 사용
+            return new Event(key, 0L, text, false, seq);
+        }
+    }
+
+    /**
+     * 문자열이 아닌 값은 tree 를 만들지 않고 token 을 그대로 복사하면서 최상위 timestamp 를 읽는다.
+     */
+    private static Event copyEvent(String key, JsonParser parser, long seq) throws IOException {
+        StringWriter out = new StringWriter();
+        long timestamp = 0L;
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                generator.copyCurrentStructure(parser);
+            } else {
+                generator.writeStartObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("timestamp".equals(name) && value.isNumeric()) {
+                        timestamp = parser.getLongValue();
+                    } else if ("timestamp".equals(name) && value == JsonToken.VALUE_STRING) {
+                        timestamp = parseLong(parser.getText());
+                    }
+                    generator.writeFieldName(name);
+                    generator.copyCurrentStructure(parser);
+                }
+                generator.writeEndObject();
+            }
+        }
+        return new Event(key, timestamp, out.toString(), true, seq);
+    }
+
+    /**
+     * tree 를 만들지 않고 최상위 timestamp 값을 읽는다. (JSON 전체 유효성 검사 포함)
+     */
+    static long scanTimestamp(String json) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new IOException("empty");
+            }
+            long timestamp = 0L;
+            if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("timestamp".equals(name) && value.isNumeric()) {
+                        timestamp = parser.getLongValue();
+                    } else if ("timestamp".equals(name) && value == JsonToken.VALUE_STRING) {
+                        timestamp = parseLong(parser.getText());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+            if (parser.nextToken() != null) {
+                throw new IOException("trailing token");
+            }
+            return timestamp;
+        }
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * window 크기의 min-heap 으로 timestamp 순서를 맞춘다.
+     * window 보다 멀리 떨어진 역순 event 는 도착 즉시 전달된다. (lateCount)
+     */
+    public static class Sorter implements Consumer<Event> {
+
+        private final PriorityQueue<Event> heap;
+        private final int window;
+        private final Consumer<Event> downstream;
+        private long lastTimestamp = Long.MIN_VALUE;
+        private long lateCount = 0;
+
+        public Sorter(int window, Consumer<Event> downstream) {
+            this.window = Math.max(1, window);
+            this.downstream = downstream;
+            this.heap = new PriorityQueue<>(Math.min(this.window, 1024) + 1, (a, b) -> {
+                int c = Long.compare(a.timestamp(), b.timestamp());
+                return c != 0 ? c : Long.compare(a.seq(), b.seq());
+            });
+        }
+
+        @Override
+        public void accept(Event event) {
+            if (event.timestamp() < lastTimestamp) {
+                // 이미 더 늦은 event 를 내보낸 경우
+                lateCount++;
+            }
+            heap.add(event);
+            if (heap.size() > window) {
+                emit(heap.poll());
+            }
+        }
+
+        /**
+         * 남은 event 모두 전달
+         */
+        public void finish() {
+            Event event;
+            while ((event = heap.poll()) != null) {
+                emit(event);
+            }
+            if (lateCount > 0) {
+                log.debug("session replay events out of window: {}", lateCount);
+            }
+        }
+
+        private void emit(Event event) {
+            lastTimestamp = Math.max(lastTimestamp, event.timestamp());
+            downstream.accept(event);
+        }
+
+        public long getLateCount() {
+            return lateCount;
+        }
+    }
+
+    /**
+     * 최상위 객체 사이의 ',' 를 제거한다. ({..},{..} -> {..}{..})
+     */
+    static class RootCommaFilterReader extends FilterReader {
+
+        private int depth = 0;
+        private boolean inString = false;
+        private boolean escaped = false;
+
+        RootCommaFilterReader(Reader in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            char[] one = new char[1];
+            int n = read(one, 0, 1);
+            return n < 0 ? -1 : one[0];
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            // ',' 만 읽혀 0 이 되면 다시 읽는다 (parser 는 0 반환을 허용하지 않음)
+            while (true) {
+                int n = in.read(cbuf, off, len);
+                if (n <= 0) {
+                    return n;
+                }
+                int written = filter(cbuf, off, n);
+                if (written > 0) {
+                    return written;
+                }
+            }
+        }
+
+        private int filter(char[] cbuf, int off, int n) {
+            int write = off;
+            for (int i = off; i < off + n; i++) {
+                char c = cbuf[i];
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (c == '\\') {
+                        escaped = true;
+                    } else if (c == '"') {
+                        inString = false;
+                    }
+                } else if (c == '"') {
+                    inString = true;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                } else if (c == ',' && depth == 0) {
+                    continue;
+                }
+                cbuf[write++] = c;
+            }
+            return write - off;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.thinkm.maxy.vo;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.thinkm.common.code.CommonCode;
+import com.thinkm.common.util.MenuPermission;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -74,6 +76,15 @@ public class MaxyUser implements Serializable {
      */
     private List<String> menuIdList;
 
+    /**
+     * menuIdList 로 만든 메뉴 권한 (세션필터에서 사용)
+     */
+    @JsonIgnore
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient MenuPermission menuPermission;
+
     /**
      * 로그인 한 사용자의 메뉴 목록을 스트링으로 보관
      */
@@ -98,6 +109,26 @@ public class MaxyUser implements Serializable {
         return (MaxyUser) session;
     }
 
+    public void setMenuIdList(List<String> menuIdList) {
+        this.menuIdList = menuIdList;
+        this.menuPermission = MenuPermission.of(menuIdList);
+    }
+
+    /**
+     * 메뉴 권한. builder / 역직렬화로 만들어진 경우 menuIdList 로 다시 만든다.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    @Parameter(hidden = true)
+    public MenuPermission getMenuPermission() {
+        MenuPermission permission = menuPermission;
+        if (permission == null) {
+            permission = MenuPermission.of(menuIdList);
+            menuPermission = permission;
+        }
+        return permission;
+    }
+
     @Schema(hidden = true)
     @Parameter(hidden = true)
     public SimpleMaxyUser userToMaxyUser(UserVO vo) {
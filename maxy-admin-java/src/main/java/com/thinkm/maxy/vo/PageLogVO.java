@@ -86,6 +86,9 @@ public class PageLogVO extends AppInfoVO implements Serializable {
     private Map<String, Long> avgMap;
 
     private String afterKey;
+    // 사용자 흐름 paging (다음 흐름 조회 위치, 한 번에 조회할 흐름 수)
+    private String cursor;
+    private Integer flowSize;
     private RequestType requestType;
     private String docId;
 }
@@ -6,13 +6,24 @@ import lombok.Builder;
 
 import java.util.Map;
 
-@Builder
 public class ReTraceInfo {
-    private String packageNm;
-    private String serverType;
-    private String osType;
-    private String appVer;
-    private String appBuildNum;
+    private final String packageNm;
+    private final String serverType;
+    private final String osType;
+    private final String appVer;
+    private final String appBuildNum;
+
+    // repository 조회용 key. 조회마다 문자열을 만들지 않도록 처음 한 번만 생성
+    private String key;
+
+    @Builder
+    private ReTraceInfo(String packageNm, String serverType, String osType, String appVer, String appBuildNum) {
+        this.packageNm = packageNm;
+        this.serverType = serverType;
+        this.osType = osType;
+        this.appVer = appVer;
+        this.appBuildNum = appBuildNum;
+    }
 
     /**
      * Map 에서 ReTraceInfo 에 맞는 데이터를 뽑아와 ReTraceInfo 객체 반환
@@ -47,12 +58,15 @@ public class ReTraceInfo {
     @Schema(hidden = true)
     @Parameter(hidden = true)
     public String key() {
-        return String.join(":"
-                , this.packageNm
-                , this.serverType
-                , this.osType
-                , this.appVer
-                , this.appBuildNum
-        );
+        if (key == null) {
+            key = String.join(":"
+                    , this.packageNm
+                    , this.serverType
+                    , this.osType
+                    , this.appVer
+                    , this.appBuildNum
+            );
+        }
+        return key;
     }
 }
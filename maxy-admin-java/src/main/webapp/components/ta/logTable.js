@@ -28,12 +28,32 @@ class LogTable {
         table.setColumns(this.columns[type])
 
         table.setData(data)
+        if (type === 'crash') {
+            this.symbolicateCrashList(data)
+        }
         table.off('rowClick')
         table.on('rowClick', this.rowClick.bind(this))
         table.redraw(true)
         cursor.hide()
     }
 
+    /**
+     * crash 목록의 iOS crash 를 dSYM 별로 한 번에 심볼리케이션 (상세 팝업은 서버 cache 결과를 사용)
+     * @param data log list
+     */
+    symbolicateCrashList(data) {
+        const docIds = (data || [])
+            .filter(d => d.osType === 'iOS' && d._id)
+            .map(d => d._id)
+        if (docIds.length === 0) {
+            return
+        }
+        ajaxCall('/ta/0000/symbolicateCrashList.maxy', docIds, {json: true, disableCursor: true})
+            .catch(error => {
+                console.log(error)
+            })
+    }
+
     setTime(from, to){
         this.targetPage.v.time.from = from
         this.targetPage.v.time.to = to
@@ -726,13 +726,41 @@ async function getSessionInfo() {
         }
 
         const appType = (sessionStorage.getItem('maxyMode') || '') === 'front' ? 1 : 0
+        // 이전 응답과 ETag 를 보관해 두고 내용이 같으면 304 로 본문 없이 받음
+        const cacheKey = 'maxySessionInfo:' + appType
+        let cached = null
+        try {
+            cached = JSON.parse(sessionStorage.getItem(cacheKey))
+        } catch (e) {
+            cached = null
+        }
         await $.ajax({
             url: '/ln/getSessionInfo.maxy',
             dataType: 'JSON',
             type: 'POST',
             data: { appType: appType },
+            headers: cached && cached.etag ? { 'If-None-Match': cached.etag } : {},
             async: false,
-            success: data => {
+            success: (result, textStatus, xhr) => {
+                let data = result
+                if (xhr.status === 304 && cached) {
+                    data = cached.data
+                } else {
+                    const etag = xhr.getResponseHeader('ETag')
+                    try {
+                        if (etag) {
+                            sessionStorage.setItem(cacheKey, JSON.stringify({ etag: etag, data: data }))
+                        } else {
+                            sessionStorage.removeItem(cacheKey)
+                        }
+                    } catch (e) {
+                        // 저장 공간 부족 시 다음에는 전체를 받음
+                        sessionStorage.removeItem(cacheKey)
+                    }
+                }
+                if (!data) {
+                    return
+                }
                 const {
                     appInfoData,
                     serverType,
@@ -18,7 +18,11 @@ var UA0000 = {
             userFlowChart: ''
         },
         fileName: '',
-        deviceId: ''
+        deviceId: '',
+        // 기간 조회 시 지금까지 받은 흐름과 다음 조회 cursor
+        flowParams: null,
+        userFlowList: [],
+        flowCursor: null
     },
 
     init: {
@@ -37,6 +41,9 @@ var UA0000 = {
         event() {
             const {v, func} = UA0000
 
+            // 흐름 더보기 버튼 클릭 이벤트
+            $('#btnMoreFlow').on('click', func.getMoreFlowData)
+
             // 조회하기 버튼 클릭 이벤트
             $('#doSearch').on('click', function (event, param) {
                 const $searchValue = $('#searchValue')
@@ -609,11 +616,21 @@ var UA0000 = {
                 return
             }
 
-            ajaxCall('/ua/0000/getPageFlowList.maxy', params, {disableCursor: true})
+            // logTm 으로 진입한 경우는 하나의 흐름만 조회, 기간 조회는 cursor 로 나눠서 조회
+            const url = params.logTm ? '/ua/0000/getPageFlowList.maxy' : '/ua/0000/getPageFlowPage.maxy'
+            v.flowParams = params
+            v.userFlowList = []
+            v.flowCursor = null
+            $('#btnMoreFlow').hide()
+
+            ajaxCall(url, params, {disableCursor: true})
                 .then((data) => {
                     cursor.hide()
 
                     const userFlowList = data.userFlowList
+                    v.userFlowList = userFlowList
+                    v.flowCursor = data.cursor || null
+                    $('#btnMoreFlow').toggle(v.flowCursor !== null)
                     const $noData = $('#noData')
                     const $userInfo = $('#userInfo')
 
@@ -644,6 +661,30 @@ var UA0000 = {
                     cursor.hide()
                 })
         },
+        // 다음 흐름 조회 (실패하면 cursor 를 유지하므로 다시 시도할 수 있음)
+        getMoreFlowData() {
+            const {v, func} = UA0000
+
+            if (!v.flowCursor) {
+                return
+            }
+
+            cursor.show()
+            ajaxCall('/ua/0000/getPageFlowPage.maxy', {...v.flowParams, cursor: v.flowCursor}, {disableCursor: true})
+                .then((data) => {
+                    cursor.hide()
+
+                    v.userFlowList = v.userFlowList.concat(data.userFlowList)
+                    v.flowCursor = data.cursor || null
+                    $('#btnMoreFlow').toggle(v.flowCursor !== null)
+
+                    func.drawFlowChart(v.userFlowList, v.flowParams).then(func.filter.do)
+                })
+                .catch((error) => {
+                    console.log(error)
+                    cursor.hide()
+                })
+        },
         setUserInfo(data) {
             let {userId, userNm, deviceId, clientNo} = data[0][0]
 
@@ -885,13 +926,16 @@ var UA0000 = {
         },
         // 검색조건 초기화 및 데이터 초기화
         reset() {
-            const {func} = UA0000
+            const {v, func} = UA0000
 
             const $graphWrap = $('.user_flow_wrap .graph_wrap')
             $graphWrap.removeClass('exist_user_info')
 
             $('#appFlowChart').empty()
             $('#noData').show()
+            $('#btnMoreFlow').hide()
+            v.flowCursor = null
+            v.userFlowList = []
             func.resetUserInfo()
             $('#userInfo').hide()
             $('.status.search_after').removeClass('search_after').addClass('search_before')
@@ -0,0 +1,123 @@
+package com.thinkm.common.config.audit;
+
+import com.thinkm.maxy.mapper.AuditLogMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class AuditLogWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static AuditLog auditLog(String userId) {
+        return AuditLog.builder()
+                .issuedAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .userId(userId)
+                .action(AuditType.NAVIGATION)
+                .url("/test.maxy")
+                .build();
+    }
+
+    private static List<Integer> captureSizes(AuditLogMapper mapper) {
+        List<Integer> sizes = new ArrayList<>();
+        doAnswer(invocation -> {
+            sizes.add(((List<AuditLog>) invocation.getArgument(0)).size());
+            return null;
+        }).when(mapper).insertAuditLogList(anyList());
+        return sizes;
+    }
+
+    @Test
+    void 종료시_batch_size_단위로_저장() {
+        AuditLogMapper mapper = mock(AuditLogMapper.class);
+        List<Integer> sizes = captureSizes(mapper);
+        AuditLogWriter writer = new AuditLogWriter(mapper, 100, 2, 60_000, AuditLogWriter.Overflow.DROP, 0,
+                tempDir.resolve("spill").toString());
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(writer.offer(auditLog("user" + i))).isTrue();
+        }
+        writer.stop();
+
+        assertThat(sizes).containsExactly(2, 2, 1);
+        assertThat(writer.getStats()).containsEntry("written", 5L);
+    }
+
+    @Test
+    void queue_가_가득_차면_DROP() {
+        AuditLogWriter writer = new AuditLogWriter(mock(AuditLogMapper.class), 1, 10, 60_000,
+                AuditLogWriter.Overflow.DROP, 0, tempDir.resolve("spill").toString());
+
+        assertThat(writer.offer(auditLog("a"))).isTrue();
+        assertThat(writer.offer(auditLog("b"))).isFalse();
+
+        assertThat(writer.getStats()).containsEntry("dropped", 1L);
+    }
+
+    @Test
+    void SPILL_파일은_다시_저장() throws Exception {
+        AuditLogMapper mapper = mock(AuditLogMapper.class);
+        List<Integer> sizes = captureSizes(mapper);
+        Path spill = tempDir.resolve("spill");
+        AuditLogWriter writer = new AuditLogWriter(mapper, 1, 10, 60_000,
+                AuditLogWriter.Overflow.SPILL, 0, spill.toString());
+
+        writer.offer(auditLog("a"));
+        writer.offer(auditLog("b"));
+        writer.offer(auditLog("c"));
+        assertThat(Files.readAllLines(spill)).hasSize(2);
+
+        writer.replaySpill();
+
+        assertThat(sizes).containsExactly(2);
+        assertThat(Files.exists(spill)).isFalse();
+    }
+
+    @Test
+    void 남아있는_replay_파일을_먼저_저장() throws Exception {
+        AuditLogMapper mapper = mock(AuditLogMapper.class);
+        List<Integer> sizes = captureSizes(mapper);
+        Path spill = tempDir.resolve("spill");
+        AuditLogWriter writer = new AuditLogWriter(mapper, 1, 10, 60_000,
+                AuditLogWriter.Overflow.SPILL, 0, spill.toString());
+
+        writer.offer(auditLog("a"));
+        writer.offer(auditLog("b"));
+        // 이전 replay 가 중간에 끝난 파일
+        Files.move(spill, tempDir.resolve("spill.replay"));
+        writer.offer(auditLog("c"));
+        writer.offer(auditLog("d"));
+        writer.offer(auditLog("e"));
+
+        writer.replaySpill();
+
+        assertThat(sizes).containsExactly(1, 3);
+        assertThat(Files.exists(spill)).isFalse();
+        assertThat(Files.exists(tempDir.resolve("spill.replay"))).isFalse();
+    }
+
+    @Test
+    void 저장_실패시_SPILL() throws Exception {
+        AuditLogMapper mapper = mock(AuditLogMapper.class);
+        doThrow(new RuntimeException("db down")).when(mapper).insertAuditLogList(anyList());
+        Path spill = tempDir.resolve("spill");
+        AuditLogWriter writer = new AuditLogWriter(mapper, 10, 10, 60_000,
+                AuditLogWriter.Overflow.SPILL, 0, spill.toString());
+
+        writer.flush(new ArrayList<>(List.of(auditLog("a"), auditLog("b"))));
+
+        assertThat(Files.readAllLines(spill)).hasSize(2);
+        assertThat(writer.getStats()).containsEntry("failed", 0L);
+    }
+}
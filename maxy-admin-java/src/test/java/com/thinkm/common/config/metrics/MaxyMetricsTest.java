@@ -0,0 +1,107 @@
+package com.thinkm.common.config.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MaxyMetricsTest {
+
+    @Test
+    void histogram백분위는bucket안에서보간한다() {
+        Histogram histogram = new Histogram(Histogram.SIZE_BOUNDS);
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        Histogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(1000);
+        assertThat(snapshot.max()).isEqualTo(1000);
+        assertThat(snapshot.mean()).isCloseTo(500.5, within(0.01));
+        // 4 배 bucket 이므로 bucket 폭 만큼의 오차
+        assertThat(snapshot.percentile(0.5)).isBetween(256.0, 1024.0);
+        assertThat(snapshot.percentile(0.99)).isBetween(256.0, 1000.0);
+        assertThat(new Histogram(Histogram.SIZE_BOUNDS).snapshot().percentile(0.99)).isZero();
+    }
+
+    @Test
+    void prometheus_text_format으로내보낸다() {
+        MaxyMetrics metrics = new MaxyMetrics(100);
+        metrics.start(MaxyMetrics.ELASTIC, "op", "search", "family", "DashboardService.getList", "index", "maxy_\"x\"_*").success();
+        metrics.recordSize(MaxyMetrics.ELASTIC_RESPONSE, MaxyMetrics.BYTES, 2048, "op", "search");
+        // 알 수 없는 크기는 기록하지 않음
+        metrics.recordSize(MaxyMetrics.ELASTIC_RESPONSE, MaxyMetrics.BYTES, -1, "op", "msearch");
+
+        String text = metrics.scrape();
+
+        assertThat(text).contains("# TYPE maxy_elastic_request_seconds histogram");
+        assertThat(text).contains("maxy_elastic_request_seconds_bucket{op=\"search\",family=\"DashboardService.getList\","
+                + "index=\"maxy_\\\"x\\\"_*\",outcome=\"success\",le=\"+Inf\"} 1");
+        assertThat(text).contains("maxy_elastic_request_seconds_count{op=\"search\",family=\"DashboardService.getList\"");
+        assertThat(text).contains("maxy_elastic_response_bytes_bucket{op=\"search\",le=\"4096\"} 1");
+        assertThat(text).contains("maxy_elastic_response_bytes_bucket{op=\"search\",le=\"1024\"} 0");
+        assertThat(text).contains("maxy_elastic_response_bytes_sum{op=\"search\"} 2048");
+        assertThat(text).doesNotContain("op=\"msearch\"");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void series수를넘으면overflow로합산한다() {
+        MaxyMetrics metrics = new MaxyMetrics(2);
+        for (int i = 0; i < 10; i++) {
+            metrics.recordSize(MaxyMetrics.DB_ROWS, MaxyMetrics.ROWS, i, "statement", "Mapper.select" + i);
+        }
+
+        Map<String, Object> stats = metrics.getStats();
+        assertThat(stats.get("series")).isEqualTo(3);
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) stats.get("maxy.db.result.rows");
+        assertThat(rows.get(0)).containsEntry("overflow", "true").containsEntry("count", 8L);
+    }
+
+    @Test
+    void index이름은날짜를뺀pattern으로묶는다() {
+        assertThat(MaxyMetrics.indexPattern("maxy_app_total_log_20240101", "maxy_app_total_log_20240102"))
+                .isEqualTo("maxy_app_total_log_*");
+        assertThat(MaxyMetrics.indexPattern("maxy_app_total_log_*", "maxy_device_page_flow_202401"))
+                .isEqualTo("maxy_app_total_log_*,maxy_device_page_flow_*");
+        assertThat(MaxyMetrics.indexPattern("maxy_app_info")).isEqualTo("maxy_app_info");
+        assertThat(MaxyMetrics.indexPattern()).isEqualTo("none");
+    }
+
+    @Test
+    void 감싸진timeout은timeout으로본다() {
+        assertThat(MaxyMetrics.outcome(null)).isEqualTo(MaxyMetrics.SUCCESS);
+        assertThat(MaxyMetrics.outcome(new CompletionException(new TimeoutException()))).isEqualTo(MaxyMetrics.TIMEOUT);
+        assertThat(MaxyMetrics.outcome(new IllegalStateException(new SocketTimeoutException()))).isEqualTo(MaxyMetrics.TIMEOUT);
+        assertThat(MaxyMetrics.outcome(new IllegalStateException())).isEqualTo(MaxyMetrics.ERROR);
+    }
+
+    @Test
+    void 호출한업무method를family로쓴다() {
+        // com.thinkm.maxy 밖에서 호출하면 알 수 없음
+        assertThat(MaxyMetrics.caller()).isEqualTo("unknown");
+        assertThat(MapperMetricsInterceptor.statementName("com.thinkm.maxy.mapper.UserMapper.selectUserList"))
+                .isEqualTo("UserMapper.selectUserList");
+    }
+
+    @Test
+    void snapshot은component별상태를함께반환() {
+        MaxyMetrics metrics = new MaxyMetrics(10);
+        metrics.register("elastic.pool", () -> Map.of("leased", 1));
+        metrics.register("audit-log", () -> {
+            throw new IllegalStateException("closed");
+        });
+
+        Map<String, Object> snapshot = metrics.snapshot(null);
+        assertThat(snapshot).containsOnlyKeys("audit-log", "elastic.pool", "metrics");
+        assertThat(snapshot).containsEntry("elastic.pool", Map.of("leased", 1))
+                .containsEntry("audit-log", Map.of("error", "closed"));
+        assertThat(metrics.snapshot("elastic.pool")).containsOnlyKeys("elastic.pool");
+    }
+}
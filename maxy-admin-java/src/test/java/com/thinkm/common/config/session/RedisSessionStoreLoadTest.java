@@ -0,0 +1,141 @@
+package com.thinkm.common.config.session;
+
+import com.thinkm.common.code.CommonCode;
+import com.thinkm.common.filter.SessionFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+import javax.servlet.Filter;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 WAS (로컬 session) 와 여러 WAS (Redis session + near-cache, sticky 없음) 의 filter 처리량 비교
+ * <pre>
+ * mvn test -Dtest=RedisSessionStoreLoadTest -Dmaxy.loadtest=true
+ * </pre>
+ * Redis 는 latency 를 준 in-memory 대체물을 사용하므로 실제 Redis 와의 비교는 운영 환경에서 따로 측정한다.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "maxy.loadtest", matches = "true")
+class RedisSessionStoreLoadTest {
+
+    private static final int CLIENTS = 200;
+    private static final int THREADS = 8;
+    private static final long DURATION_MS = 3_000;
+    private static final long NEAR_CACHE_MS = 1_000;
+    // Redis round-trip
+    private static final long REDIS_LATENCY_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    /**
+     * WAS 하나: filter 와 사용자별 로컬 session
+     */
+    private record Node(List<Filter> filters, MockHttpSession[] sessions) {
+    }
+
+    @Test
+    void 단일WAS와여러WAS의처리량비교() throws Exception {
+        // 단일 WAS: 로그인한 WAS 로만 요청 (로컬 session)
+        Node single = new Node(List.of(new SessionFilter()), new MockHttpSession[CLIENTS]);
+        String[] noTokens = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            single.sessions()[i] = new MockHttpSession();
+            single.sessions()[i].setAttribute(CommonCode.loginUserKey(), RedisSessionStoreTest.user());
+        }
+        Result singleResult = run(List.of(single), noTokens);
+
+        // 여러 WAS: 어느 WAS 로든 요청, 로그인 정보는 Redis 에서 복원
+        RedisSessionStoreTest.FakeRedis redis = new RedisSessionStoreTest.FakeRedis(REDIS_LATENCY_NANOS);
+        List<Node> nodes = new ArrayList<>();
+        for (int n = 0; n < 3; n++) {
+            RedisSessionStore store = new RedisSessionStore(redis.template, true, 3600, NEAR_CACHE_MS, CLIENTS * 2L);
+            MockHttpSession[] sessions = new MockHttpSession[CLIENTS];
+            for (int i = 0; i < CLIENTS; i++) {
+                sessions[i] = new MockHttpSession();
+            }
+            nodes.add(new Node(List.of(new RedisSessionStoreFilter(store), new SessionFilter()), sessions));
+        }
+        RedisSessionStore loginNode = new RedisSessionStore(redis.template, true, 3600, NEAR_CACHE_MS, CLIENTS);
+        String[] tokens = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            loginNode.save(new MockHttpServletRequest(), response, RedisSessionStoreTest.user());
+            tokens[i] = response.getCookie(RedisSessionStore.COOKIE_NAME).getValue();
+        }
+        redis.reads.set(0);
+        Result multiResult = run(nodes, tokens);
+
+        log.info("single node: {} req/s, denied {}", singleResult.perSecond(), singleResult.denied());
+        log.info("3 nodes    : {} req/s, denied {}, redis reads {}",
+                multiResult.perSecond(), multiResult.denied(), redis.reads.get());
+
+        assertThat(singleResult.denied()).isZero();
+        assertThat(multiResult.denied()).isZero();
+        // token 당 WAS 별로 near-cache 주기에 한 번만 Redis 조회
+        long maxReads = (long) CLIENTS * nodes.size() * (DURATION_MS / NEAR_CACHE_MS + 2);
+        assertThat((long) redis.reads.get()).isLessThanOrEqualTo(maxReads);
+    }
+
+    private record Result(long perSecond, long denied) {
+    }
+
+    private static Result run(List<Node> nodes, String[] tokens) throws Exception {
+        LongAdder count = new LongAdder();
+        LongAdder denied = new LongAdder();
+        CountDownLatch done = new CountDownLatch(THREADS);
+        long end = System.currentTimeMillis() + DURATION_MS;
+        for (int t = 0; t < THREADS; t++) {
+            int seed = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    long i = seed;
+                    while (System.currentTimeMillis() < end) {
+                        int client = (int) (i % CLIENTS);
+                        // sticky session 없이 돌아가며 요청
+                        Node node = nodes.get((int) ((i / CLIENTS) % nodes.size()));
+                        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/db/0100/getList.maxy");
+                        request.setSession(node.sessions()[client]);
+                        if (tokens[client] != null) {
+                            request.setCookies(new Cookie(RedisSessionStore.COOKIE_NAME, tokens[client]));
+                        }
+                        MockHttpServletResponse response = new MockHttpServletResponse();
+                        MockFilterChain chain = new MockFilterChain(new NoopServlet(), node.filters().toArray(new Filter[0]));
+                        chain.doFilter(request, response);
+                        if (response.getRedirectedUrl() != null || response.getStatus() != 200) {
+                            denied.increment();
+                        }
+                        count.increment();
+                        i += THREADS;
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+            thread.start();
+        }
+        done.await();
+        return new Result(count.sum() * 1000 / DURATION_MS, denied.sum());
+    }
+
+    private static final class NoopServlet extends HttpServlet {
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) {
+        }
+    }
+}
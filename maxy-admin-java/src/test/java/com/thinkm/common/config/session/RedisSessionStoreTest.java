@@ -0,0 +1,149 @@
+package com.thinkm.common.config.session;
+
+import com.thinkm.common.code.CommonCode;
+import com.thinkm.maxy.vo.MaxyUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+import javax.servlet.http.Cookie;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisSessionStoreTest {
+
+    /**
+     * Map 으로 동작하는 redisStringTemplate
+     */
+    static final class FakeRedis {
+        final Map<String, String> data = new ConcurrentHashMap<>();
+        final AtomicInteger reads = new AtomicInteger();
+        volatile boolean down;
+        final RedisTemplate<String, String> template;
+
+        @SuppressWarnings("unchecked")
+        FakeRedis(long latencyNanos) {
+            template = mock(RedisTemplate.class, withSettings().stubOnly());
+            ValueOperations<String, String> ops = mock(ValueOperations.class, withSettings().stubOnly());
+            when(template.opsForValue()).thenReturn(ops);
+            doAnswer(inv -> {
+                data.put(inv.getArgument(0), inv.getArgument(1));
+                return null;
+            }).when(ops).set(anyString(), anyString(), anyLong(), any());
+            when(ops.get(anyString())).thenAnswer(inv -> {
+                reads.incrementAndGet();
+                if (down) {
+                    throw new IllegalStateException("redis down");
+                }
+                if (latencyNanos > 0) {
+                    long end = System.nanoTime() + latencyNanos;
+                    while (System.nanoTime() < end) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return data.get((String) inv.getArgument(0));
+            });
+            when(template.delete(anyString())).thenAnswer(inv -> data.remove((String) inv.getArgument(0)) != null);
+            when(template.expire(anyString(), anyLong(), any())).thenReturn(true);
+        }
+    }
+
+    static MaxyUser user() {
+        MaxyUser user = new MaxyUser();
+        user.setUserNo(1L);
+        user.setUserId("maxy");
+        user.setMenuIdList(List.of("DB0100"));
+        return user;
+    }
+
+    private FakeRedis redis;
+    private RedisSessionStore nodeA;
+    private RedisSessionStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        redis = new FakeRedis(0);
+        nodeA = new RedisSessionStore(redis.template, true, 3600, 60_000, 100);
+        nodeB = new RedisSessionStore(redis.template, true, 3600, 60_000, 100);
+    }
+
+    private static String login(RedisSessionStore store, MaxyUser user) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        store.save(new MockHttpServletRequest(), response, user);
+        return response.getCookie(RedisSessionStore.COOKIE_NAME).getValue();
+    }
+
+    private static MockHttpServletRequest request(String token, MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/db/0100/getList.maxy");
+        request.setCookies(new Cookie(RedisSessionStore.COOKIE_NAME, token));
+        if (session != null) {
+            request.setSession(session);
+        }
+        return request;
+    }
+
+    @Test
+    void 다른WAS에서로그인한사용자를로컬session에채운다() throws Exception {
+        String token = login(nodeA, user());
+
+        MockHttpServletRequest request = request(token, null);
+        new RedisSessionStoreFilter(nodeB).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        MaxyUser restored = MaxyUser.getMaxyUserFromSessionInfo(request);
+        assertThat(restored).isNotNull();
+        assertThat(restored.getUserId()).isEqualTo("maxy");
+        // 역직렬화 후에도 메뉴 권한 사용 가능
+        assertThat(restored.getMenuPermission().size()).isEqualTo(1);
+    }
+
+    @Test
+    void near_cache_시간동안은Redis를다시조회하지않는다() {
+        String token = login(nodeA, user());
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(nodeB.find(token).user()).isNotNull();
+        }
+        assertThat(redis.reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 다른WAS에서로그아웃하면로컬session의로그인정보를제거한다() throws Exception {
+        String token = login(nodeA, user());
+        MockHttpSession session = new MockHttpSession();
+        MockHttpServletRequest first = request(token, session);
+        RedisSessionStoreFilter filterB = new RedisSessionStoreFilter(
+                new RedisSessionStore(redis.template, true, 3600, 0, 100));
+        filterB.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+        assertThat(session.getAttribute(CommonCode.loginUserKey())).isNotNull();
+
+        nodeA.remove(request(token, null), new MockHttpServletResponse());
+        filterB.doFilter(request(token, session), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(session.getAttribute(CommonCode.loginUserKey())).isNull();
+    }
+
+    @Test
+    void Redis장애시에는로컬session을유지한다() throws Exception {
+        String token = login(nodeA, user());
+        MockHttpSession session = new MockHttpSession();
+        RedisSessionStoreFilter filterB = new RedisSessionStoreFilter(
+                new RedisSessionStore(redis.template, true, 3600, 0, 100));
+        filterB.doFilter(request(token, session), new MockHttpServletResponse(), new MockFilterChain());
+
+        redis.down = true;
+        filterB.doFilter(request(token, session), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(session.getAttribute(CommonCode.loginUserKey())).isNotNull();
+    }
+}
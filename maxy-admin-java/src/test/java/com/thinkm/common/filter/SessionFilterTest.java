@@ -0,0 +1,62 @@
+package com.thinkm.common.filter;
+
+import com.thinkm.common.code.CommonCode;
+import com.thinkm.maxy.vo.MaxyUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionFilterTest {
+
+    private final SessionFilter filter = new SessionFilter(List.of("10.0.0.9"));
+
+    private MockFilterChain run(String uri, String ip, MaxyUser user, MockHttpServletResponse response) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(ip);
+        if (user != null) {
+            request.getSession().setAttribute(CommonCode.loginUserKey(), user);
+        }
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return chain;
+    }
+
+    private MaxyUser user(String adminYn) {
+        MaxyUser user = MaxyUser.builder().userNo(1L).adminYn(adminYn).build();
+        user.setMenuIdList(List.of("DB0100"));
+        return user;
+    }
+
+    @Test
+    void 상태조회는monitor_ip나관리자만허용한다() throws Exception {
+        assertThat(run("/health/metrics.maxy", "10.0.0.9", null, new MockHttpServletResponse()).getRequest()).isNotNull();
+        assertThat(run("/health/metrics.maxy", "127.0.0.1", user("Y"), new MockHttpServletResponse()).getRequest()).isNotNull();
+
+        MockHttpServletResponse anonymous = new MockHttpServletResponse();
+        assertThat(run("/health/metrics.maxy", "127.0.0.1", null, anonymous).getRequest()).isNull();
+        assertThat(anonymous.getStatus()).isEqualTo(403);
+
+        MockHttpServletResponse normal = new MockHttpServletResponse();
+        assertThat(run("/health/metrics.maxy", "127.0.0.1", user("N"), normal).getRequest()).isNull();
+        assertThat(normal.getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    void 경로중간의health는메뉴권한을검사한다() throws Exception {
+        MockHttpServletResponse anonymous = new MockHttpServletResponse();
+        assertThat(run("/db/0200/health/x.maxy", "10.0.0.9", null, anonymous).getRequest()).isNull();
+        assertThat(anonymous.getRedirectedUrl()).contains("session.expired");
+
+        MockHttpServletResponse denied = new MockHttpServletResponse();
+        assertThat(run("/db/0200/health/x.maxy", "127.0.0.1", user("Y"), denied).getRequest()).isNull();
+        assertThat(denied.getRedirectedUrl()).contains("menu.denied");
+
+        // health.maxy 는 기존대로 로그인 없이 허용
+        assertThat(run("/health.maxy", "127.0.0.1", null, new MockHttpServletResponse()).getRequest()).isNotNull();
+    }
+}
@@ -0,0 +1,50 @@
+package com.thinkm.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvWriterTest {
+
+    @Test
+    void 특수문자가_포함된_값은_따옴표_처리() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvWriter csv = new CsvWriter(out, StandardCharsets.UTF_8, "\n")) {
+            csv.writeRow("a", "b,c", "say \"hi\"", null, "line\nbreak");
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("a,\"b,c\",\"say \"\"hi\"\"\",,\"line\nbreak\"\n");
+    }
+
+    @Test
+    void buffer_보다_큰_내용도_순서대로_기록() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            sb.append(i).append(',');
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvWriter csv = new CsvWriter(out, StandardCharsets.UTF_8, "\n")) {
+            csv.write(sb);
+            csv.writeRow("끝");
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(sb + "끝\n");
+    }
+
+    @Test
+    void EUC_KR_인코딩() throws Exception {
+        Charset eucKr = Charset.forName("euc-kr");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvWriter csv = new CsvWriter(out, eucKr, "\n")) {
+            csv.writeRow("구분", "발생건수");
+            assertThat(csv.getRowCount()).isEqualTo(1);
+        }
+
+        assertThat(out.toByteArray()).isEqualTo("구분,발생건수\n".getBytes(eucKr));
+    }
+}
@@ -0,0 +1,58 @@
+package com.thinkm.common.util;
+
+import com.thinkm.common.code.ElasticIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.Request;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ElasticClientTest {
+
+    private static final String PREFIX = ElasticIndex.PAGE_LOG.getIndex();
+
+    private static long ts(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli() + 60_000L;
+    }
+
+    @AfterEach
+    void tearDown() {
+        IndexRouter.update(null, null);
+    }
+
+    @Test
+    void 없는_일별_index_로_route_해도_lenient_option_으로_조회() throws Exception {
+        RestClient restClient = mock(RestClient.class);
+        when(restClient.performRequest(any(Request.class))).thenThrow(new IOException("stop"));
+        RestHighLevelClient esClient = new RestHighLevelClient(restClient, RestClient::close, List.of()) {
+        };
+        ElasticClient client = new ElasticClient(esClient, restClient, null, null, null, null, null);
+
+        // 3/2, 3/3 index 는 없음
+        IndexRouter.update(Set.of(PREFIX + "20250301"), LocalDate.of(2025, 3, 2));
+        String[] indices = IndexRouter.route(ElasticIndex.PAGE_LOG,
+                ts(LocalDate.of(2025, 3, 1)), ts(LocalDate.of(2025, 3, 3)));
+        assertThat(indices).contains(PREFIX + "20250302");
+
+        client.getListMap(new SearchRequest(indices).source(new SearchSourceBuilder()));
+
+        ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(captor.capture());
+        assertThat(captor.getValue().getParameters())
+                .containsEntry("ignore_unavailable", "true")
+                .containsEntry("allow_no_indices", "true");
+    }
+}
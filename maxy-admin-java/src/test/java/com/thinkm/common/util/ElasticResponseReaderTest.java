@@ -0,0 +1,115 @@
+package com.thinkm.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElasticResponseReaderTest {
+
+    private static InputStream stream(String str) {
+        return new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertSameAsParser(String response) throws Exception {
+        Map<String, Object> expected = ElasticClient.parser(JsonUtil.readMap(response));
+        Map<String, Object> actual = ElasticResponseReader.read(stream(response));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void hits결과는parser와동일() throws Exception {
+        assertSameAsParser("""
+                {"took": 3, "timed_out": false, "_shards": {"total": 1},
+                 "hits": {"total": {"value": 2, "relation": "eq"}, "max_score": 1.0,
+                   "hits": [
+                     {"_index": "a", "_id": "1", "_score": 1.0, "_source": {"deviceId": "d1", "logTm": 1}, "sort": [1]},
+                     {"_index": "a", "_id": "2", "_score": 1.0, "_source": {"deviceId": "d2", "logTm": 2}, "sort": [2]}
+                   ]}}
+                """);
+    }
+
+    @Test
+    void fields결과는parser와동일() throws Exception {
+        assertSameAsParser("""
+                {"hits": {"total": {"value": 1}, "hits": [
+                  {"_id": "1", "fields": {"deviceId": ["d1"], "logTm": [1]}}
+                ]}}
+                """);
+    }
+
+    @Test
+    void 빈hits는total반환() throws Exception {
+        assertSameAsParser("""
+                {"hits": {"total": {"value": 0, "relation": "eq"}, "hits": []}}
+                """);
+    }
+
+    @Test
+    void aggregations결과는parser와동일() throws Exception {
+        assertSameAsParser("""
+                {"hits": {"total": {"value": 10}, "hits": []},
+                 "aggregations": {
+                   "osType": {"doc_count_error_upper_bound": 0, "sum_other_doc_count": 0, "meta": {},
+                     "buckets": [{"key": "iOS", "doc_count": 4}, {"key": "Android", "doc_count": 6}]},
+                   "avgTime": {"value": 12.5},
+                   "median": {"values": {"50.0": 3.0}}
+                 }}
+                """);
+    }
+
+    @Test
+    void composite는buckets와after_key반환() throws Exception {
+        String response = """
+                {"aggregations": {"groupby": {"after_key": {"deviceId": "d2"},
+                  "buckets": [{"key": {"deviceId": "d1"}, "doc_count": 1}, {"key": {"deviceId": "d2"}, "doc_count": 1}]}}}
+                """;
+        Map<String, Object> result = ElasticResponseReader.read(stream(response));
+        assertEquals(2, ((List<?>) result.get(Elastic.RES)).size());
+        assertEquals(Map.of("deviceId", "d2"), result.get(Elastic.AFTER_KEY));
+    }
+
+    @Test
+    void count결과() throws Exception {
+        assertSameAsParser("{\"count\": 42, \"_shards\": {\"total\": 1}}");
+    }
+
+    @Test
+    void 파이프텍스트는리스트로변환() throws Exception {
+        String response = """
+                   deviceId    |    logTm     \s
+                ---------------+---------------
+                d1             |1             \s
+                d2             |2             \s
+                """;
+        Map<String, Object> result = ElasticResponseReader.read(stream(response));
+        List<?> list = (List<?>) result.get(Elastic.RES);
+        assertEquals(2, list.size());
+        assertEquals(Map.of("deviceId", "d1", "logTm", "1"), list.get(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void msearch의각응답은parser와동일() throws Exception {
+        String response = """
+                {"took": 5, "responses": [
+                  {"took": 2, "status": 200, "hits": {"total": {"value": 1}, "hits": [
+                    {"_index": "a", "_id": "1", "_score": 1.0, "_source": {"deviceId": "d1"}}]}},
+                  {"took": 3, "status": 200, "hits": {"total": {"value": 6}, "hits": []},
+                   "aggregations": {"osType": {"sum_other_doc_count": 0, "meta": {},
+                     "buckets": [{"key": "iOS", "doc_count": 6}]}}}
+                ]}
+                """;
+        List<Map<String, Object>> expected = (List<Map<String, Object>>) JsonUtil.readMap(response).get("responses");
+        List<Map<String, Object>> actual = (List<Map<String, Object>>) ElasticResponseReader.readMulti(stream(response)).get("responses");
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(ElasticClient.parser(expected.get(i)), ElasticClient.parser(actual.get(i)));
+        }
+    }
+}
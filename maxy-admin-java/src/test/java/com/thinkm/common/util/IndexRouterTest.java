@@ -0,0 +1,81 @@
+package com.thinkm.common.util;
+
+import com.thinkm.common.code.ElasticIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexRouterTest {
+
+    private static final String PREFIX = ElasticIndex.TROUBLE_LOG.getIndex();
+
+    private static long ts(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli() + 60_000L;
+    }
+
+    @AfterEach
+    void tearDown() {
+        IndexRouter.update(null, null);
+        new IndexRouter(null).setMaxFanOut(62);
+    }
+
+    @Test
+    void 기간에_해당하는_일별_index_만_조회() {
+        String[] indices = IndexRouter.route(ElasticIndex.TROUBLE_LOG,
+                ts(LocalDate.of(2025, 3, 1)), ts(LocalDate.of(2025, 3, 3)));
+
+        assertThat(indices).containsExactlyInAnyOrder(PREFIX + "20250301", PREFIX + "20250302", PREFIX + "20250303");
+    }
+
+    @Test
+    void 존재하지_않는_과거_index_는_제외() {
+        IndexRouter.update(Set.of(PREFIX + "20250301", PREFIX + "20250303"), LocalDate.of(2025, 3, 10));
+
+        String[] indices = IndexRouter.route(ElasticIndex.TROUBLE_LOG,
+                ts(LocalDate.of(2025, 3, 1)), ts(LocalDate.of(2025, 3, 3)));
+
+        assertThat(indices).containsExactlyInAnyOrder(PREFIX + "20250301", PREFIX + "20250303");
+    }
+
+    @Test
+    void 목록_조회일_이후_index_는_유지() {
+        IndexRouter.update(Set.of(PREFIX + "20250301"), LocalDate.of(2025, 3, 2));
+
+        String[] indices = IndexRouter.route(ElasticIndex.TROUBLE_LOG,
+                ts(LocalDate.of(2025, 3, 1)), ts(LocalDate.of(2025, 3, 3)));
+
+        assertThat(indices).containsExactlyInAnyOrder(PREFIX + "20250301", PREFIX + "20250302", PREFIX + "20250303");
+    }
+
+    @Test
+    void 모두_없으면_원래_목록_반환() {
+        IndexRouter.update(Set.of(), LocalDate.of(2025, 4, 1));
+
+        String[] indices = IndexRouter.route(ElasticIndex.TROUBLE_LOG,
+                ts(LocalDate.of(2025, 3, 1)), ts(LocalDate.of(2025, 3, 2)));
+
+        assertThat(indices).containsExactlyInAnyOrder(PREFIX + "20250301", PREFIX + "20250302");
+    }
+
+    @Test
+    void max_fan_out_초과시_와일드카드() {
+        new IndexRouter(null).setMaxFanOut(5);
+
+        String[] indices = IndexRouter.route(ElasticIndex.TROUBLE_LOG,
+                ts(LocalDate.of(2025, 3, 1)), ts(LocalDate.of(2025, 3, 10)));
+
+        assertThat(indices).containsExactly(PREFIX + "*");
+    }
+
+    @Test
+    void 기간이_없으면_전체_조회() {
+        assertThat(IndexRouter.routeOrAll(ElasticIndex.TROUBLE_LOG, null, 1L)).containsExactly(PREFIX + "*");
+        assertThat(IndexRouter.routeOrAll(ElasticIndex.DEVICE_INFO, null, null))
+                .containsExactly(ElasticIndex.DEVICE_INFO.getIndex());
+    }
+}
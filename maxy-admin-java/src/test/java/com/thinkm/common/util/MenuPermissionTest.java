@@ -0,0 +1,44 @@
+package com.thinkm.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuPermissionTest {
+
+    private final MenuPermission permission = MenuPermission.of(List.of("DB0100", "UA0000", "SM0300", "FD0100"));
+
+    @Test
+    void URI의첫두경로로권한을확인한다() {
+        assertThat(permission.size()).isEqualTo(4);
+        assertThat(permission.contains(MenuPermission.menuKey("/db/0100/getList.maxy"))).isTrue();
+        assertThat(permission.contains(MenuPermission.menuKey("/ua/0000/getPageFlowPage.maxy"))).isTrue();
+        // 연속된 '/' 는 하나로 본다
+        assertThat(permission.contains(MenuPermission.menuKey("//sm//0300/modifyMenuAuthList.maxy"))).isTrue();
+        assertThat(permission.contains(MenuPermission.menuKey("/db/0200/getList.maxy"))).isFalse();
+        assertThat(permission.contains(MenuPermission.menuKey("/db0/100/getList.maxy"))).isTrue();
+    }
+
+    @Test
+    void 경로가3단계미만이면메뉴URL이아니다() {
+        assertThat(MenuPermission.menuKey("/main.maxy")).isEqualTo(MenuPermission.NOT_MENU_URL);
+        assertThat(MenuPermission.menuKey("/um/modifyUserInfo.maxy")).isEqualTo(MenuPermission.NOT_MENU_URL);
+        assertThat(MenuPermission.menuKey("/db/0100/")).isEqualTo(MenuPermission.NOT_MENU_URL);
+    }
+
+    @Test
+    void 변환할수없는menuId는권한이없다() {
+        assertThat(MenuPermission.menuKey("/d-b/0100/getList.maxy")).isEqualTo(MenuPermission.INVALID);
+        assertThat(MenuPermission.menuKey("/dashboard/010000/getList.maxy")).isEqualTo(MenuPermission.INVALID);
+        assertThat(permission.contains(MenuPermission.INVALID)).isFalse();
+        assertThat(MenuPermission.EMPTY.contains(MenuPermission.menuKey("/db/0100/getList.maxy"))).isFalse();
+    }
+
+    @Test
+    void menuId와URI의key가같다() {
+        assertThat(MenuPermission.key("DB0100")).isEqualTo(MenuPermission.menuKey("/db/0100/x.maxy"));
+        assertThat(MenuPermission.key("db0100")).isEqualTo(MenuPermission.key("DB0100"));
+    }
+}
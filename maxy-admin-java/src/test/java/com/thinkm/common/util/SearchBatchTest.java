@@ -0,0 +1,95 @@
+package com.thinkm.common.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SearchBatchTest {
+
+    private ElasticClient client;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        client = Mockito.mock(ElasticClient.class);
+        when(client.coalesce(any(), any(), any()))
+                .thenAnswer(inv -> ((Supplier<CompletableFuture<SearchResponse>>) inv.getArgument(2)).get());
+    }
+
+    private static SearchRequest request(String deviceId) {
+        return new SearchRequest("maxy_page_log")
+                .source(new SearchSourceBuilder().query(QueryBuilders.termQuery("deviceId", deviceId)));
+    }
+
+    @Test
+    void 여러요청은하나의msearch로보내고순서대로나눠준다() {
+        SearchResponse first = Mockito.mock(SearchResponse.class);
+        SearchResponse third = Mockito.mock(SearchResponse.class);
+        MultiSearchResponse response = new MultiSearchResponse(new MultiSearchResponse.Item[]{
+                new MultiSearchResponse.Item(first, null),
+                new MultiSearchResponse.Item(null, new IllegalArgumentException("bad query")),
+                new MultiSearchResponse.Item(third, null)
+        }, 1L);
+        when(client.msearchAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(response));
+
+        CompletableFuture<SearchResponse> a;
+        CompletableFuture<SearchResponse> b;
+        CompletableFuture<SearchResponse> c;
+        try (SearchBatch batch = new SearchBatch(client)) {
+            a = batch.add(request("a"));
+            b = batch.add(request("b"));
+            c = batch.add(request("c"));
+            assertThat(a).isNotDone();
+        }
+
+        ArgumentCaptor<MultiSearchRequest> captor = ArgumentCaptor.forClass(MultiSearchRequest.class);
+        verify(client, times(1)).msearchAsync(captor.capture(), any());
+        assertThat(captor.getValue().requests()).hasSize(3);
+
+        assertThat(a.join()).isSameAs(first);
+        // 실패한 요청만 예외로 완료
+        assertThat(b).isCompletedExceptionally();
+        assertThat(c.join()).isSameAs(third);
+    }
+
+    @Test
+    void 요청이하나이면일반검색으로보낸다() {
+        SearchResponse response = Mockito.mock(SearchResponse.class);
+        when(client.sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(response));
+
+        SearchBatch batch = new SearchBatch(client);
+        CompletableFuture<SearchResponse> future = batch.add(request("a"));
+        batch.execute();
+
+        assertThat(future.join()).isSameAs(response);
+        verify(client, never()).msearchAsync(any(), any());
+    }
+
+    @Test
+    void msearch가실패하면모든요청이실패한다() {
+        when(client.msearchAsync(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("connection refused")));
+
+        SearchBatch batch = new SearchBatch(client);
+        CompletableFuture<SearchResponse> a = batch.add(request("a"));
+        CompletableFuture<SearchResponse> b = batch.add(request("b"));
+        batch.execute();
+
+        assertThat(a).isCompletedExceptionally();
+        assertThat(b).isCompletedExceptionally();
+    }
+}
@@ -0,0 +1,150 @@
+package com.thinkm.common.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchCoalescerTest {
+
+    private SearchCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new SearchCoalescer();
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        ReflectionTestUtils.setField(coalescer, "defaultTtlMs", 0L);
+        ReflectionTestUtils.setField(coalescer, "familyTtlStr", "ccu:60000");
+        coalescer.init();
+    }
+
+    private static SearchRequest request(String packageNm) {
+        return new SearchRequest("maxy_ccu")
+                .source(new SearchSourceBuilder().size(0).query(QueryBuilders.termQuery("packageNm", packageNm)));
+    }
+
+    @Test
+    void 진행중인동일요청은하나로합친다() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<SearchResponse> pending = new CompletableFuture<>();
+
+        CompletableFuture<SearchResponse> first = coalescer.coalesce(request("a"), null, () -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<SearchResponse> second = coalescer.coalesce(request("a"), null, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+
+        SearchResponse response = Mockito.mock(SearchResponse.class);
+        pending.complete(response);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(first.join()).isSameAs(response);
+        assertThat(second.join()).isSameAs(response);
+        assertThat(coalescer.getStats()).containsEntry("miss", 1L).containsEntry("coalesce", 1L);
+        assertThat(coalescer.getStats()).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void 한호출자의cancel은다른호출자에게전파되지않는다() {
+        CompletableFuture<SearchResponse> pending = new CompletableFuture<>();
+        CompletableFuture<SearchResponse> first = coalescer.coalesce(request("a"), null, () -> pending);
+        CompletableFuture<SearchResponse> second = coalescer.coalesce(request("a"), null, () -> pending);
+
+        first.cancel(true);
+        SearchResponse response = Mockito.mock(SearchResponse.class);
+        pending.complete(response);
+
+        assertThat(pending.isCancelled()).isFalse();
+        assertThat(second.join()).isSameAs(response);
+    }
+
+    @Test
+    void 다른요청은합치지않는다() {
+        AtomicInteger calls = new AtomicInteger();
+        coalescer.coalesce(request("a"), null, () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        coalescer.coalesce(request("b"), null, () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void family캐시시간동안결과를재사용한다() {
+        SearchResponse response = Mockito.mock(SearchResponse.class);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            SearchResponse result = coalescer.coalesce(request("a"), "ccu", () -> {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture(response);
+            }).join();
+            assertThat(result).isSameAs(response);
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.getStats()).containsEntry("hit", 2L).containsEntry("cached", 1);
+    }
+
+    @Test
+    void hit를반환하는요청은공유하지않는다() {
+        AtomicInteger calls = new AtomicInteger();
+        SearchRequest hits = new SearchRequest("maxy_ccu")
+                .source(new SearchSourceBuilder().size(10).query(QueryBuilders.termQuery("packageNm", "a")));
+        for (int i = 0; i < 2; i++) {
+            coalescer.coalesce(hits, "ccu", () -> {
+                calls.incrementAndGet();
+                return new CompletableFuture<>();
+            });
+        }
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(coalescer.getStats()).containsEntry("bypass", 2L);
+    }
+
+    @Test
+    void hit_families로지정하면hit를반환하는요청도공유한다() {
+        ReflectionTestUtils.setField(coalescer, "hitFamiliesStr", "ccu");
+        coalescer.init();
+        AtomicInteger calls = new AtomicInteger();
+        SearchRequest hits = new SearchRequest("maxy_ccu")
+                .source(new SearchSourceBuilder().size(10).query(QueryBuilders.termQuery("packageNm", "a")));
+        for (int i = 0; i < 2; i++) {
+            coalescer.coalesce(hits, "ccu", () -> {
+                calls.incrementAndGet();
+                return new CompletableFuture<>();
+            });
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 캐시시간이없으면완료후다시요청한다() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            coalescer.coalesce(request("a"), null, () -> {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture(Mockito.mock(SearchResponse.class));
+            }).join();
+        }
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+}
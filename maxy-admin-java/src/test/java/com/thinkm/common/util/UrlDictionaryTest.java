@@ -0,0 +1,93 @@
+package com.thinkm.common.util;
+
+import com.thinkm.common.code.ElasticIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.index.query.WildcardQueryBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class UrlDictionaryTest {
+
+    private static final UrlDictionary.Key KEY = new UrlDictionary.Key(
+            ElasticIndex.PAGE_LOG, Elastic.pageStartTm, Elastic.reqUrl_raw, "com.test", "0");
+    private static final Set<String> URLS = Set.of(
+            "https://maxy.co.kr/main", "https://maxy.co.kr/order/list", "https://maxy.co.kr/order/detail", "/my/orders");
+
+    private UrlDictionary urlDictionary;
+
+    @BeforeEach
+    void setUp() {
+        urlDictionary = new UrlDictionary(mock(ElasticClient.class));
+        ReflectionTestUtils.setField(urlDictionary, "enabled", true);
+        ReflectionTestUtils.setField(urlDictionary, "maxTerms", 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void putDictionary(long coveredFrom, long coveredTo) {
+        UrlDictionary.Entry entry = new UrlDictionary.Entry();
+        entry.dictionary = new UrlDictionary.Dictionary(URLS, new UrlSearchIndex(URLS), coveredFrom, coveredTo, false);
+        ((Map<UrlDictionary.Key, UrlDictionary.Entry>) ReflectionTestUtils.getField(urlDictionary, "entries"))
+                .put(KEY, entry);
+    }
+
+    @Test
+    void 부분_문자열_검색() {
+        UrlSearchIndex index = new UrlSearchIndex(URLS);
+
+        assertThat(index.search("order", 10)).containsExactlyInAnyOrder(
+                "https://maxy.co.kr/order/list", "https://maxy.co.kr/order/detail", "/my/orders");
+        assertThat(index.search("ai", 10)).containsExactlyInAnyOrder(
+                "https://maxy.co.kr/main", "https://maxy.co.kr/order/detail");
+        assertThat(index.search("Order", 10)).isEmpty();
+        // limit 을 넘으면 limit + 1 개까지만
+        assertThat(index.search("maxy", 1)).hasSize(2);
+    }
+
+    @Test
+    void 사전이_없으면_wildcard() {
+        QueryBuilder query = urlDictionary.containsQuery(KEY, "order", 1000L, 2000L);
+
+        assertThat(query).isInstanceOf(WildcardQueryBuilder.class);
+    }
+
+    @Test
+    void 사전_범위_내_조회는_terms() {
+        putDictionary(1000L, 5000L);
+
+        QueryBuilder query = urlDictionary.containsQuery(KEY, "order/", 2000L, 3000L);
+
+        assertThat(query).isInstanceOf(BoolQueryBuilder.class);
+        List<QueryBuilder> should = ((BoolQueryBuilder) query).should();
+        assertThat(should).hasSize(1);
+        assertThat(((TermsQueryBuilder) should.get(0)).values()).containsExactlyInAnyOrder(
+                "https://maxy.co.kr/order/list", "https://maxy.co.kr/order/detail");
+    }
+
+    @Test
+    void 마지막_갱신_이후는_wildcard_추가() {
+        putDictionary(1000L, 5000L);
+
+        BoolQueryBuilder query = (BoolQueryBuilder) urlDictionary.containsQuery(KEY, "main", 2000L, 9000L);
+
+        assertThat(query.should()).hasSize(2);
+        assertThat(query.should().get(1)).isInstanceOf(BoolQueryBuilder.class);
+    }
+
+    @Test
+    void 일치하는_값이_많거나_범위_밖이면_wildcard() {
+        putDictionary(1000L, 5000L);
+
+        assertThat(urlDictionary.containsQuery(KEY, "maxy", 2000L, 3000L)).isInstanceOf(WildcardQueryBuilder.class);
+        assertThat(urlDictionary.containsQuery(KEY, "order", 500L, 3000L)).isInstanceOf(WildcardQueryBuilder.class);
+    }
+}
@@ -0,0 +1,148 @@
+package com.thinkm.common.util.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryTemplateTest {
+
+    private static final String SOURCE = """
+            {
+              "size": #{size},
+              "query": { "bool": { "filter": [
+                { "term": { "packageNm": #{packageNm} } },
+                #[isOsType]
+                { "term": { "osType": #{osType} } },
+                #[/isOsType]
+                { "term": { "serverType": #{serverType} } }
+              ] } }
+              #[isAfterKey], "after": { #{after_key} }#[/isAfterKey]
+            }""";
+
+    @Test
+    void 동적블록은true인경우만포함() {
+        QueryTemplate template = QueryTemplate.compile("test.json", SOURCE);
+        Map<String, Object> params = params();
+
+        String withOs = template.render(params, Map.of("isOsType", true));
+        assertTrue(withOs.contains("\"osType\": \"android\""));
+
+        String withoutOs = template.render(params, Map.of("isOsType", false));
+        assertFalse(withoutOs.contains("osType"));
+
+        // dynamicParams 에 없는 key 의 블록은 제거
+        String noDynamic = template.render(params, null);
+        assertFalse(noDynamic.contains("osType"));
+        assertFalse(noDynamic.contains("#["));
+    }
+
+    @Test
+    void 파라미터치환() {
+        QueryTemplate template = QueryTemplate.compile("test.json", SOURCE);
+        Map<String, Object> params = params();
+        params.put("after_key", "\"deviceId\": \"a\"");
+
+        String query = template.render(params, Map.of("isAfterKey", true));
+        assertTrue(query.contains("\"size\": \"10\""));
+        assertTrue(query.contains("\"after\": { \"deviceId\": \"a\" }"));
+        // null 은 빈값
+        assertTrue(query.contains("\"serverType\": \"\""));
+        assertFalse(query.contains("\n"));
+    }
+
+    @Test
+    void 없는파라미터는그대로유지() {
+        QueryTemplate template = QueryTemplate.compile("test.json", "{\"a\": #{a}, \"b\": #{b}}");
+        String query = template.render(Map.of("a", 1), null);
+        assertEquals("{\"a\": \"1\", \"b\": #{b}}", query);
+    }
+
+    @Test
+    void 값은JSON이스케이프() throws Exception {
+        QueryTemplate template = QueryTemplate.compile("test.json", "{\"a\": #{a}}");
+        Map<String, Object> params = new HashMap<>();
+        params.put("a", "x\"}, \"b\": \"\\\n");
+
+        String query = template.render(params, null);
+        JsonNode node = new ObjectMapper().readTree(query);
+        assertEquals(1, node.size());
+        assertEquals("x\"}, \"b\": \"\\\n", node.get("a").asText());
+    }
+
+    @Test
+    void 실제쿼리파일렌더링결과는유효한JSON() throws Exception {
+        QueryTemplateRegistry registry = new QueryTemplateRegistry();
+        registry.init();
+        assertTrue(registry.size() > 0);
+
+        Pattern blockPattern = Pattern.compile("#\\[([^/\\]]+)]");
+        ObjectMapper mapper = new ObjectMapper();
+        for (String path : new String[]{"rt/bi/login-count.json", "pa/loading-time-list.json",
+                "lm/pageFlowList-search.json", "db/device/user-count-by-all.json"}) {
+            QueryTemplate template = registry.get(path);
+            Map<String, Boolean> dynamicParams = new HashMap<>();
+            String raw = new String(getClass().getClassLoader()
+                    .getResourceAsStream("elastic/" + path).readAllBytes());
+            Matcher m = blockPattern.matcher(raw);
+            while (m.find()) {
+                dynamicParams.put(m.group(1), false);
+            }
+
+            String query = template.render(new FillMap(), dynamicParams);
+            assertDoesNotThrow(() -> mapper.readTree(query), path);
+        }
+    }
+
+    @Test
+    void 쿼리파일의동적블록은같은이름으로닫힘() throws Exception {
+        Pattern blockPattern = Pattern.compile("#\\[(/?)([^\\]]+)]");
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources("classpath*:elastic/**/*.json");
+        assertTrue(resources.length > 0);
+        for (Resource resource : resources) {
+            String raw = new String(resource.getInputStream().readAllBytes());
+            Matcher m = blockPattern.matcher(raw);
+            String open = null;
+            while (m.find()) {
+                if (m.group(1).isEmpty()) {
+                    open = m.group(2);
+                } else {
+                    assertEquals(open, m.group(2), resource.getFilename());
+                    open = null;
+                }
+            }
+        }
+    }
+
+    private static Map<String, Object> params() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("size", 10);
+        params.put("packageNm", "com.thinkm.maxy");
+        params.put("osType", "android");
+        params.put("serverType", null);
+        return params;
+    }
+
+    /**
+     * 모든 key 에 대해 값을 반환하는 파라미터 맵
+     */
+    private static class FillMap extends HashMap<String, Object> {
+        @Override
+        public boolean containsKey(Object key) {
+            return true;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return "1";
+        }
+    }
+}
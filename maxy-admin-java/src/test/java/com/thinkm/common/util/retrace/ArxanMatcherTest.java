@@ -0,0 +1,74 @@
+package com.thinkm.common.util.retrace;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArxanMatcherTest {
+
+    @Test
+    void 가장_긴_룰부터_치환() {
+        ArxanMatcher matcher = ArxanMatcher.compile(List.of(
+                Map.of("a.b.c", "com.thinkm.Main"),
+                Map.of("a.b", "com.thinkm"),
+                Map.of("x", "onCreate")
+        ));
+
+        String result = matcher.replace("at a.b.c.x(Unknown)\nat a.b.d(Unknown)");
+
+        assertThat(result).isEqualTo("at com.thinkm.Main.onCreate(Unknown)\nat com.thinkm.d(Unknown)");
+        assertThat(matcher.getRuleCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 치환된_문자열은_다시_치환하지_않음() {
+        ArxanMatcher matcher = ArxanMatcher.compile(List.of(
+                Map.of("ab", "ba"),
+                Map.of("b", "$1\\c")
+        ));
+
+        assertThat(matcher.replace("abb")).isEqualTo("ba$1\\c");
+    }
+
+    @Test
+    void 중복_룰은_먼저_나온_값_사용() {
+        ArxanMatcher matcher = ArxanMatcher.compile(List.of(
+                Map.of("q", "first"),
+                Map.of("q", "second")
+        ));
+
+        assertThat(matcher.replace("q")).isEqualTo("first");
+        assertThat(matcher.getRuleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 매칭이_없으면_원본_반환() {
+        ArxanMatcher matcher = ArxanMatcher.compile(List.of(Map.of("zz", "none")));
+        String text = "java.lang.NullPointerException";
+
+        assertThat(matcher.replace(text)).isSameAs(text);
+        assertThat(matcher.replace(null)).isNull();
+    }
+
+    @Test
+    void 대량_룰_치환() {
+        List<Map<String, String>> rules = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            rules.add(Map.of("o" + i + "_", "Original" + i));
+        }
+        ArxanMatcher matcher = ArxanMatcher.compile(rules);
+
+        StringBuilder trace = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            trace.append("\tat o").append(i * 97).append("_.run(Unknown Source)\n");
+            expected.append("\tat Original").append(i * 97).append(".run(Unknown Source)\n");
+        }
+
+        assertThat(matcher.replace(trace.toString())).isEqualTo(expected.toString());
+    }
+}
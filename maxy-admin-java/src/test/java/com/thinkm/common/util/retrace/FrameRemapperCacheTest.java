@@ -0,0 +1,78 @@
+package com.thinkm.common.util.retrace;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import proguard.retrace.FrameRemapper;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrameRemapperCacheTest {
+
+    private static final String MAPPING = """
+            com.example.Foo -> a.a:
+                void bar() -> a
+            """;
+
+    @TempDir
+    Path dir;
+
+    private FrameRemapperCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FrameRemapperCache();
+        ReflectionTestUtils.setField(cache, "maxWeightMb", 1L);
+        ReflectionTestUtils.setField(cache, "weightFactor", 3);
+    }
+
+    private File mapping(String name, String text) throws Exception {
+        return Files.writeString(dir.resolve(name), text).toFile();
+    }
+
+    @Test
+    void 같은파일은한번만읽는다() throws Exception {
+        File file = mapping("a.obf", MAPPING);
+
+        FrameRemapper first = cache.get(file);
+        FrameRemapper second = cache.get(file);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.originalClassName("a.a")).isEqualTo("com.example.Foo");
+        assertThat(cache.getStats()).containsEntry("hit", 1L).containsEntry("miss", 1L);
+    }
+
+    @Test
+    void 파일이바뀌면다시읽는다() throws Exception {
+        File file = mapping("a.obf", MAPPING);
+        FrameRemapper first = cache.get(file);
+
+        Files.writeString(file.toPath(), MAPPING + "com.example.Baz -> a.b:\n");
+        assertThat(file.setLastModified(file.lastModified() + 1000)).isTrue();
+
+        FrameRemapper second = cache.get(file);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.originalClassName("a.b")).isEqualTo("com.example.Baz");
+        assertThat(cache.getStats()).containsEntry("entries", 1);
+    }
+
+    @Test
+    void 최대크기를넘으면오래된것부터제거한다() throws Exception {
+        // 300KB * 3 = 900KB, 1MB 에 하나만 들어간다.
+        String padding = "#".repeat(300 * 1024) + "\n";
+        File a = mapping("a.obf", padding + MAPPING);
+        File b = mapping("b.obf", padding + MAPPING);
+
+        cache.get(a);
+        cache.get(b);
+
+        assertThat(cache.getStats()).containsEntry("entries", 1).containsEntry("evict", 1L);
+        cache.get(b);
+        assertThat(cache.getStats()).containsEntry("hit", 1L);
+    }
+}
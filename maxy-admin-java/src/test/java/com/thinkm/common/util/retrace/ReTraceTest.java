@@ -0,0 +1,102 @@
+package com.thinkm.common.util.retrace;
+
+import com.thinkm.maxy.repository.RetraceRepository;
+import com.thinkm.maxy.vo.ObfuscationVO;
+import com.thinkm.maxy.vo.ReTraceInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReTraceTest {
+
+    private RetraceRepository repository;
+    private ObfProGuard obfProGuard;
+    private ReTrace reTrace;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RetraceRepository.class);
+        obfProGuard = mock(ObfProGuard.class);
+        when(repository.getOBF_TYPE_MAP()).thenReturn(Map.of("com.test:0:android:1.0:1", ObfuscationVO.ObfuscatedType.PROGUARD));
+        when(obfProGuard.retrace(any(ReTraceInfo.class), anyString()))
+                .thenAnswer(invocation -> "retraced:" + invocation.getArgument(1));
+
+        reTrace = new ReTrace(repository, obfProGuard, mock(ObfArxan.class));
+        ReflectionTestUtils.setField(reTrace, "batchThreads", 2);
+        ReflectionTestUtils.setField(reTrace, "batchCacheSize", 100L);
+        ReflectionTestUtils.setField(reTrace, "batchCacheExpireMinutes", 10L);
+        reTrace.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reTrace.destroy();
+    }
+
+    private static Map<String, Object> crash(String logName) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("packageNm", "com.test");
+        item.put("serverType", "0");
+        item.put("osType", "android");
+        item.put("appVer", "1.0");
+        item.put("appBuildNum", "1");
+        item.put("logName", logName);
+        return item;
+    }
+
+    @Test
+    void 같은_stack_은_한_번만_retrace() {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            items.add(crash(i % 2 == 0 ? "a.b.c" : "d.e.f"));
+        }
+
+        reTrace.convertAll(items, "logName");
+
+        assertThat(items).extracting(item -> item.get("logName"))
+                .containsOnly("retraced:a.b.c", "retraced:d.e.f");
+        verify(obfProGuard, times(2)).retrace(any(ReTraceInfo.class), anyString());
+    }
+
+    @Test
+    void 다음_조회는_cache_사용() {
+        reTrace.convertAll(new ArrayList<>(List.of(crash("a.b.c"))), "logName");
+        List<Map<String, Object>> next = new ArrayList<>(List.of(crash("a.b.c")));
+
+        reTrace.convertAll(next, "logName");
+
+        assertThat(next.get(0)).containsEntry("logName", "retraced:a.b.c");
+        verify(obfProGuard, times(1)).retrace(any(ReTraceInfo.class), anyString());
+    }
+
+    @Test
+    void 룰이_바뀌면_다시_retrace() {
+        reTrace.convertAll(new ArrayList<>(List.of(crash("a.b.c"))), "logName");
+        when(repository.getVersion()).thenReturn(1L);
+
+        reTrace.convertAll(new ArrayList<>(List.of(crash("a.b.c"))), "logName");
+
+        verify(obfProGuard, times(2)).retrace(any(ReTraceInfo.class), anyString());
+    }
+
+    @Test
+    void app_정보가_없으면_그대로() {
+        Map<String, Object> item = new HashMap<>();
+        item.put("logName", "a.b.c");
+
+        reTrace.convertAll(new ArrayList<>(List.of(item)), "logName");
+
+        assertThat(item).containsEntry("logName", "a.b.c");
+    }
+}
@@ -0,0 +1,67 @@
+package com.thinkm.maxy.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelRepositoryTest {
+
+    private static Map<String, String> names(String ko, String en) {
+        return Map.of("nameKo", ko, "nameEn", en);
+    }
+
+    @Test
+    void 공백과_대소문자를_무시하고_검색() {
+        ModelRepository repository = new ModelRepository();
+        repository.setModelInfo(Map.of(
+                "SM-S918N", names("갤럭시 S23 Ultra", "Galaxy S23 Ultra"),
+                "SM-S911N", names("갤럭시 S23", "Galaxy S23"),
+                "iPhone15,2", names("아이폰 14 Pro", "iPhone 14 Pro")
+        ));
+
+        assertThat(repository.search("galaxy s23")).containsExactlyInAnyOrder("SM-S918N", "SM-S911N");
+        assertThat(repository.search("S23ULTRA")).containsExactly("SM-S918N");
+        assertThat(repository.search("아이폰")).containsExactly("iPhone15,2");
+        assertThat(repository.search("14")).containsExactly("iPhone15,2");
+    }
+
+    @Test
+    void 결과가_없으면_검색어_그대로_반환() {
+        ModelRepository repository = new ModelRepository();
+        repository.setModelInfo(Map.of("SM-S911N", names("갤럭시 S23", "Galaxy S23")));
+
+        // 3-gram 은 모두 있지만 연속되지 않은 경우
+        assertThat(repository.search("gal s23x")).containsExactly("gal s23x");
+        assertThat(repository.search("SM-A536N")).containsExactly("SM-A536N");
+    }
+
+    @Test
+    void 전체_모델에서_선형_검색과_같은_결과() {
+        Map<String, Map<String, String>> modelInfo = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            modelInfo.put("MODEL-" + i, names("갤럭시 모델 " + i, "Galaxy Model " + (i * 7)));
+        }
+        ModelRepository repository = new ModelRepository();
+        repository.setModelInfo(modelInfo);
+
+        for (String query : new String[]{"model 12", "갤럭시 모델 49", "7", "xy", "galaxymodel3500"}) {
+            String normalized = query.toLowerCase().replaceAll("\\s+", "");
+            Set<String> expected = new HashSet<>();
+            modelInfo.forEach((id, map) -> {
+                if (map.get("nameKo").toLowerCase().replaceAll("\\s+", "").contains(normalized)
+                    || map.get("nameEn").toLowerCase().replaceAll("\\s+", "").contains(normalized)) {
+                    expected.add(id);
+                }
+            });
+            if (expected.isEmpty()) {
+                expected.add(query);
+            }
+            assertThat(repository.search(query)).as(query).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.thinkm.maxy.repository;
+
+import com.thinkm.maxy.vo.ObfuscationVO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetraceRepositoryTest {
+
+    private static ObfuscationVO rule(String packageNm, String obf, String org) {
+        return ObfuscationVO.builder()
+                .packageNm(packageNm)
+                .serverType("0")
+                .osType("iOS")
+                .appVer("1.0")
+                .appBuildNum("1")
+                .obfType(ObfuscationVO.ObfuscatedType.ARXAN)
+                .obfuscationString(obf)
+                .originalString(org)
+                .build();
+    }
+
+    @Test
+    void 전체_교체시_이전_룰은_남지_않음() {
+        RetraceRepository repository = new RetraceRepository();
+        repository.replace(List.of(rule("a.app", "x", "X")), List.of(rule("a.app", "x", "X")));
+        repository.replace(List.of(rule("b.app", "y", "Y")), List.of(rule("b.app", "y", "Y")));
+
+        assertThat(repository.getRULE_MAP()).containsOnlyKeys("b.app:0:iOS:1.0:1");
+        assertThat(repository.getARXAN_MATCHER_MAP()).containsOnlyKeys("b.app:0:iOS:1.0:1");
+        assertThat(repository.getSnapshotInfo()).containsEntry("version", 2L);
+    }
+
+    @Test
+    void app_단위_교체는_다른_app_을_재사용() {
+        RetraceRepository repository = new RetraceRepository();
+        repository.replace(
+                List.of(rule("a.app", "x", "X"), rule("b.app", "y", "Y")),
+                List.of(rule("a.app", "x", "X"), rule("b.app", "y", "Y")));
+        Object bMatcher = repository.getARXAN_MATCHER_MAP().get("b.app:0:iOS:1.0:1");
+
+        repository.replace("a.app", "0", List.of(rule("a.app", "z", "Z")), List.of(rule("a.app", "z", "Z")));
+
+        assertThat(repository.getARXAN_MATCHER_MAP().get("b.app:0:iOS:1.0:1")).isSameAs(bMatcher);
+        assertThat(repository.getARXAN_MATCHER_MAP().get("a.app:0:iOS:1.0:1").replace("xz")).isEqualTo("xZ");
+    }
+
+    @Test
+    void 조회한_snapshot_은_변경되지_않음() {
+        RetraceRepository repository = new RetraceRepository();
+        repository.replace(List.of(rule("a.app", "x", "X")), List.of(rule("a.app", "x", "X")));
+        Map<String, List<Map<String, String>>> before = repository.getRULE_MAP();
+
+        repository.replace("a.app", "0", List.of(), List.of());
+
+        assertThat(before).containsKey("a.app:0:iOS:1.0:1");
+        assertThat(repository.getRULE_MAP()).isEmpty();
+        assertThatThrownBy(() -> before.put("k", List.of())).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void 전체_reload_중의_app_단위_교체는_reload_이후에_적용() throws Exception {
+        RetraceRepository repository = new RetraceRepository();
+        Thread appRefresh = new Thread(() -> repository.replace("a.app", "0",
+                List.of(rule("a.app", "x", "NEW")), List.of(rule("a.app", "x", "NEW"))));
+
+        repository.reload(() -> {
+            // 전체 조회 도중 app 단위 교체 요청 (lock 을 기다림)
+            appRefresh.start();
+            try {
+                appRefresh.join(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(rule("a.app", "x", "OLD"));
+        }, () -> List.of(rule("a.app", "x", "OLD")));
+        appRefresh.join();
+
+        assertThat(repository.getARXAN_MATCHER_MAP().get("a.app:0:iOS:1.0:1").replace("x")).isEqualTo("NEW");
+    }
+}
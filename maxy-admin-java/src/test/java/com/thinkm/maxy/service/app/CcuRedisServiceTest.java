@@ -0,0 +1,131 @@
+package com.thinkm.maxy.service.app;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CcuRedisServiceTest {
+
+    private static final String PREFIX = "appCcuCount:maxy:0:Android";
+    private static final String DATE = "20261018";
+
+    @Mock
+    private RedisService redisService;
+    @InjectMocks
+    private CcuRedisService ccuRedisService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ccuRedisService, "readMode", "auto");
+        ReflectionTestUtils.setField(ccuRedisService, "dailyTtlHours", 48L);
+        ReflectionTestUtils.setField(ccuRedisService, "rescanMinutes", 60L);
+        setNow("202610181231");
+    }
+
+    private void setNow(String yyyyMMddHHmm) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDateTime now = LocalDateTime.of(Integer.parseInt(yyyyMMddHHmm.substring(0, 4)),
+                Integer.parseInt(yyyyMMddHHmm.substring(4, 6)), Integer.parseInt(yyyyMMddHHmm.substring(6, 8)),
+                Integer.parseInt(yyyyMMddHHmm.substring(8, 10)), Integer.parseInt(yyyyMMddHHmm.substring(10, 12)));
+        ReflectionTestUtils.setField(ccuRedisService, "clock", Clock.fixed(now.atZone(zone).toInstant(), zone));
+    }
+
+    @Test
+    void daily_hash이후의분만legacy_key로조회한다() {
+        when(redisService.getHashLong("ccuDaily:" + PREFIX + ":" + DATE))
+                .thenReturn(Map.of("0001", 3L, "1230", 7L));
+        when(redisService.get(List.of(PREFIX + ":202610181230", PREFIX + ":202610181231")))
+                .thenReturn(Arrays.asList("8", null));
+
+        Map<String, Long> result = ccuRedisService.getCount(PREFIX, DATE);
+
+        // 마지막 분은 옮긴 뒤 바뀐 값으로, 아직 legacy key 가 없는 분은 추가하지 않음
+        assertThat(result).hasSize(2).containsEntry("202610180001", 3L).containsEntry("202610181230", 8L);
+        verify(redisService, never()).scan(anyString());
+    }
+
+    @Test
+    void daily_hash가없으면legacy_key를이름으로조회한다() {
+        setNow("202610180002");
+        when(redisService.getHashLong(anyString())).thenReturn(Collections.emptyMap());
+        when(redisService.get(List.of(PREFIX + ":202610180000", PREFIX + ":202610180001", PREFIX + ":202610180002")))
+                .thenReturn(Arrays.asList(null, "3", 5));
+
+        Map<String, Long> result = ccuRedisService.getCount(PREFIX, DATE);
+
+        assertThat(result).hasSize(2).containsEntry("202610180001", 3L).containsEntry("202610180002", 5L);
+        verify(redisService, never()).scan(anyString());
+    }
+
+    @Test
+    void 지난날은2359까지만조회한다() {
+        assertThat(ccuRedisService.minuteKeys(PREFIX, "20261017", "2358"))
+                .containsExactly(PREFIX + ":202610172358", PREFIX + ":202610172359");
+        assertThat(ccuRedisService.minuteKeys(PREFIX, "20261019", null)).isEmpty();
+    }
+
+    @Test
+    void legacy_key를daily_hash로옮긴다() {
+        String front = "front:countCcu:maxy:0";
+        when(redisService.scan("appCcuCount:*:" + DATE + "*"))
+                .thenReturn(new LinkedHashSet<>(List.of(PREFIX + ":202610180001", PREFIX + ":202610180002",
+                        front + ":202610180001")));
+        when(redisService.get(anyList())).thenReturn(Arrays.asList("1", null, "4"));
+
+        int count = ccuRedisService.migrate("appCcuCount", DATE);
+
+        assertThat(count).isEqualTo(3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(redisService).setHashLong(eq("ccuDaily:" + PREFIX + ":" + DATE), captor.capture(), eq(Duration.ofHours(48)));
+        assertThat(captor.getValue()).containsEntry("0001", 1L).containsEntry("0002", 0L);
+        verify(redisService).setHashLong(eq("ccuDaily:" + front + ":" + DATE), anyMap(), any());
+    }
+
+    @Test
+    void rescan전에는찾은prefix의최근분만옮긴다() {
+        when(redisService.scan("appCcuCount:*:" + DATE + "*"))
+                .thenReturn(new LinkedHashSet<>(List.of(PREFIX + ":202610181230")));
+        when(redisService.get(anyList())).thenReturn(List.of("1"));
+        ccuRedisService.migrate("appCcuCount", DATE);
+
+        setNow("202610181232");
+        when(redisService.get(List.of(PREFIX + ":202610181231", PREFIX + ":202610181232")))
+                .thenReturn(Arrays.asList("2", null));
+        int count = ccuRedisService.migrate("appCcuCount", DATE);
+
+        assertThat(count).isEqualTo(1);
+        verify(redisService, times(1)).scan(anyString());
+        verify(redisService).setHashLong(eq("ccuDaily:" + PREFIX + ":" + DATE), eq(Map.of("1231", 2L)), any());
+    }
+
+    @Test
+    void legacy_mode는hash를조회하지않는다() {
+        ReflectionTestUtils.setField(ccuRedisService, "readMode", "legacy");
+        when(redisService.scan(PREFIX + ":" + DATE + "*"))
+                .thenReturn(new LinkedHashSet<>(List.of(PREFIX + ":202610180001", PREFIX + ":20261018000230")));
+        when(redisService.get(anyList())).thenReturn(List.of("3", 5));
+
+        Map<String, Long> result = ccuRedisService.getCount(PREFIX, DATE);
+
+        // 초 단위 key 는 분까지로 자른다
+        assertThat(result).containsEntry("202610180001", 3L).containsEntry("202610180002", 5L);
+        verify(redisService, never()).getHashLong(anyString());
+    }
+}
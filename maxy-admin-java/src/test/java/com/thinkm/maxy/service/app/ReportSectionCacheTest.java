@@ -0,0 +1,66 @@
+package com.thinkm.maxy.service.app;
+
+import com.thinkm.common.util.CamelHashMap;
+import com.thinkm.maxy.vo.ReportVO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportSectionCacheTest {
+
+    private static ReportVO vo(String packageNm) {
+        ReportVO vo = new ReportVO();
+        vo.setPackageNm(packageNm);
+        vo.setServerType("0");
+        vo.setOsType("A");
+        vo.setFromDt("20261017");
+        vo.setToDt("20261017");
+        return vo;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 같은조건의section은한번만조회하고row를복사한다() {
+        ReportSectionCache cache = new ReportSectionCache();
+        AtomicInteger calls = new AtomicInteger();
+
+        CamelHashMap row = new CamelHashMap();
+        row.put("DEVICE_MODEL", "SM-G991N");
+        List<Map<String, Object>> rows = List.of(row);
+
+        List<Map<String, Object>> first = cache.list("LOADING_10", vo("maxy"), () -> {
+            calls.incrementAndGet();
+            return rows;
+        });
+        first.get(0).put("DEVICE_MODEL", "Galaxy S21");
+        assertThat(first.get(0)).containsEntry("deviceModel", "Galaxy S21");
+
+        List<Map<String, Object>> second = cache.list("LOADING_10", vo("maxy"), () -> {
+            calls.incrementAndGet();
+            return rows;
+        });
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(second.get(0)).containsEntry("deviceModel", "SM-G991N");
+        // CamelHashMap 타입 유지 (put 시 key 변환)
+        second.get(0).put("LOCATION_DESC", "Seoul");
+        assertThat(second.get(0)).containsKey("locationDesc");
+    }
+
+    @Test
+    void 조건이다르면따로조회한다() {
+        ReportSectionCache cache = new ReportSectionCache();
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.map("STATUS_INFO", vo("a"), () -> Map.of("n", calls.incrementAndGet()));
+        cache.map("STATUS_INFO", vo("b"), () -> Map.of("n", calls.incrementAndGet()));
+        cache.map("STATUS_INFO", vo("a"), () -> Map.of("n", calls.incrementAndGet()));
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,110 @@
+package com.thinkm.maxy.service.app;
+
+import com.thinkm.common.util.SymbolicationUtil;
+import com.thinkm.common.util.SymbolicationUtil.FrameGroup;
+import com.thinkm.maxy.dto.app.dsym.SymbolicationItemDto;
+import com.thinkm.maxy.dto.app.dsym.SymbolicationResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class SymbolicationServiceTest {
+
+    private SymbolicationUtil util;
+    private SymbolicationService service;
+
+    @BeforeEach
+    void setUp() {
+        util = spy(new SymbolicationUtil());
+        // CLI 대신 입력받은 frame 을 그대로 심볼화한 것처럼 응답
+        doAnswer(invocation -> {
+            List<FrameGroup> groups = invocation.getArgument(1);
+            List<SymbolicationItemDto> items = new ArrayList<>();
+            for (FrameGroup group : groups) {
+                for (String[] trace : group.traces()) {
+                    items.add(new SymbolicationItemDto(group.binaryName(), trace[1], trace[0],
+                            "func_" + trace[0], "Main.swift", "10"));
+                }
+            }
+            return new SymbolicationResponseDto(200, items);
+        }).when(util).symbolicateGroups(anyString(), anyList());
+
+        service = new SymbolicationService(1000, 1, 500);
+        ReflectionTestUtils.setField(service, "symbolicationUtil", util);
+    }
+
+    private static String crashLog(String loadAddress, long... offsets) {
+        StringBuilder sb = new StringBuilder("==========AllThreadTrace\n");
+        long load = Long.parseLong(loadAddress.substring(2), 16);
+        for (int i = 0; i < offsets.length; i++) {
+            sb.append(i).append("   MyApp   0x").append(Long.toHexString(load + offsets[i])).append(" MyApp + ").append(offsets[i]).append('\n');
+        }
+        sb.append("==========BinaryImages\n")
+                .append(loadAddress).append(" - /private/var/containers/MyApp.app/MyApp\n");
+        return sb.toString();
+    }
+
+    @Test
+    void 같은_frame_은_다시_CLI_실행하지_않음() {
+        SymbolicationResponseDto first = service.symbolicate("/tmp/none.dSYM", crashLog("0x100000", 0x10, 0x20), "MyApp");
+        SymbolicationResponseDto second = service.symbolicate("/tmp/none.dSYM", crashLog("0x100000", 0x10, 0x20), "MyApp");
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getItems()).hasSize(2);
+        assertThat(second.getItems()).isEqualTo(first.getItems());
+        verify(util, times(1)).symbolicateGroups(anyString(), anyList());
+        // frame 당 한 번만 조회: 첫 요청 miss 2, 두번째 요청 hit 2
+        assertThat(service.getStats()).containsEntry("miss", 2L).containsEntry("hit", 2L);
+    }
+
+    @Test
+    void 로드_주소가_달라도_offset_이_같으면_cache_사용() {
+        service.symbolicate("/tmp/none.dSYM", crashLog("0x100000", 0x10), "MyApp");
+        SymbolicationResponseDto result = service.symbolicate("/tmp/none.dSYM", crashLog("0x200000", 0x10), "MyApp");
+
+        verify(util, times(1)).symbolicateGroups(anyString(), anyList());
+        // 주소와 frame 번호는 해당 crash 의 값으로 응답
+        assertThat(result.getItems().get(0).getCrashMemory()).isEqualTo("0x200010");
+        assertThat(result.getItems().get(0).getExceptionName()).isEqualTo("func_0x100010");
+    }
+
+    @Test
+    void 여러_crash_를_한번에_중복없이_처리() {
+        List<SymbolicationResponseDto> results = service.symbolicate("/tmp/none.dSYM", "MyApp", List.of(
+                crashLog("0x100000", 0x10, 0x20),
+                crashLog("0x100000", 0x20, 0x30)
+        ));
+
+        ArgumentCaptor<List<FrameGroup>> captor = ArgumentCaptor.forClass(List.class);
+        verify(util, times(1)).symbolicateGroups(anyString(), captor.capture());
+        int frameCount = captor.getValue().stream().mapToInt(g -> g.traces().size()).sum();
+        assertThat(frameCount).isEqualTo(3);
+        assertThat(results).hasSize(2);
+        assertThat(results.get(1).getItems()).extracting(SymbolicationItemDto::getStackFrameNumber)
+                .containsExactly("0", "1");
+        assertThat(service.getStats()).containsEntry("cliCalls", 1L);
+    }
+
+    @Test
+    void CLI_실패는_cache_하지_않음() {
+        doReturn(new SymbolicationResponseDto(500, "fail"))
+                .when(util).symbolicateGroups(anyString(), anyList());
+
+        SymbolicationResponseDto result = service.symbolicate("/tmp/none.dSYM", crashLog("0x100000", 0x10), "MyApp");
+        service.symbolicate("/tmp/none.dSYM", crashLog("0x100000", 0x10), "MyApp");
+
+        assertThat(result.getStatus()).isEqualTo(500);
+        assertThat(result.getError()).isEqualTo("fail");
+        verify(util, times(2)).symbolicateGroups(anyString(), anyList());
+    }
+}
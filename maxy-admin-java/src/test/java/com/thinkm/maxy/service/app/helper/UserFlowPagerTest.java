@@ -0,0 +1,69 @@
+package com.thinkm.maxy.service.app.helper;
+
+import com.thinkm.common.util.Elastic;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserFlowPagerTest {
+
+    private static Map<String, Object> page(long parentLogDate, long pageStartTm) {
+        Map<String, Object> item = new HashMap<>();
+        item.put(Elastic.parentLogDate, parentLogDate);
+        item.put(Elastic.pageStartTm, pageStartTm);
+        return item;
+    }
+
+    @Test
+    void parentLogDate_가_바뀌면_흐름_완성() {
+        UserFlowPager.Grouper grouper = new UserFlowPager.Grouper(2, 100);
+
+        assertThat(grouper.accept(page(300, 301))).isTrue();
+        assertThat(grouper.accept(page(300, 302))).isTrue();
+        assertThat(grouper.accept(page(200, 201))).isTrue();
+        assertThat(grouper.getFlows()).hasSize(1);
+        assertThat(grouper.getLastCompletedKey()).isEqualTo(300L);
+
+        // flowLimit 번째 흐름이 완성되면 중단
+        assertThat(grouper.accept(page(100, 101))).isFalse();
+        assertThat(grouper.getFlows()).hasSize(2);
+        assertThat(grouper.getFlows().get(0)).hasSize(2);
+        assertThat(grouper.getLastCompletedKey()).isEqualTo(200L);
+    }
+
+    @Test
+    void 마지막_흐름은_finish_에서_완성() {
+        UserFlowPager.Grouper grouper = new UserFlowPager.Grouper(5, 100);
+        grouper.accept(page(300, 301));
+        grouper.accept(page(200, 201));
+
+        grouper.finish();
+
+        assertThat(grouper.getFlows()).hasSize(2);
+        assertThat(grouper.getLastCompletedKey()).isEqualTo(200L);
+    }
+
+    @Test
+    void 흐름_최대_page_수_초과분은_버림() {
+        UserFlowPager.Grouper grouper = new UserFlowPager.Grouper(5, 2);
+        for (int i = 0; i < 5; i++) {
+            grouper.accept(page(300, 301 + i));
+        }
+        grouper.finish();
+
+        assertThat(grouper.getFlows().get(0)).hasSize(2);
+        assertThat(grouper.isTruncated()).isTrue();
+    }
+
+    @Test
+    void cursor_encode_decode() {
+        UserFlowPager.Cursor cursor = new UserFlowPager.Cursor("pit-id", 1700000000000L);
+
+        assertThat(UserFlowPager.Cursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(UserFlowPager.Cursor.decode(new UserFlowPager.Cursor(null, 1L).encode()).pitId()).isNull();
+        assertThat(UserFlowPager.Cursor.decode("not-a-cursor")).isNull();
+    }
+}
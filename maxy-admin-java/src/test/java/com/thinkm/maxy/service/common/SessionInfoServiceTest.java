@@ -0,0 +1,114 @@
+package com.thinkm.maxy.service.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thinkm.maxy.repository.AppInfoRepository;
+import com.thinkm.maxy.repository.ModelRepository;
+import com.thinkm.maxy.repository.PageRepository;
+import com.thinkm.maxy.service.app.LogAnalysisService;
+import com.thinkm.maxy.vo.MaxyUser;
+import com.thinkm.maxy.vo.UserAppVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SessionInfoServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserService userService;
+    private ModelRepository modelRepository;
+    private PageRepository pageRepository;
+    private AppInfoRepository appInfoRepository;
+    private SessionInfoService service;
+    private MaxyUser user;
+
+    @BeforeEach
+    void setUp() {
+        userService = Mockito.mock(UserService.class);
+        LogAnalysisService logAnalysisService = Mockito.mock(LogAnalysisService.class);
+        modelRepository = new ModelRepository();
+        modelRepository.setModelInfo(Map.of("SM-G991N", Map.of("nameKo", "갤럭시 S21", "nameEn", "Galaxy S21")));
+        pageRepository = new PageRepository();
+        pageRepository.setPageAlias(Map.of(
+                "com.thinkm.mine", Map.of("0", Map.of("/main", "메인")),
+                "com.thinkm.other", Map.of("0", Map.of("/other", "다른 앱"))
+        ));
+        appInfoRepository = new AppInfoRepository();
+        service = new SessionInfoService(userService, modelRepository, pageRepository, appInfoRepository,
+                logAnalysisService, objectMapper, 100, 60);
+
+        UserAppVO app = new UserAppVO();
+        app.setPackageNm("com.thinkm.mine");
+        app.setServerType("0");
+        doAnswer(inv -> {
+            MaxyUser target = inv.getArgument(0);
+            target.setAppInfo(Map.of("com.thinkm.mine:0", Map.of("android", Map.of("1.0.0", app))));
+            return null;
+        }).when(userService).refreshAppInfo(any(), any());
+
+        user = new MaxyUser();
+        user.setUserNo(1L);
+    }
+
+    @Test
+    void 사용자앱의alias만응답한다() throws Exception {
+        SessionInfoService.Payload payload = service.getSessionInfo(user, "0");
+
+        JsonNode json = objectMapper.readTree(payload.body());
+        assertThat(json.get("alias").has("com.thinkm.mine")).isTrue();
+        assertThat(json.get("alias").has("com.thinkm.other")).isFalse();
+        assertThat(json.get("deviceModelList").get("SM-G991N").get("nameEn").asText()).isEqualTo("Galaxy S21");
+        assertThat(json.get("packageOrder").get(0).asText()).isEqualTo("com.thinkm.mine:0");
+        assertThat(user.getAppInfo()).containsKey("com.thinkm.mine:0");
+    }
+
+    @Test
+    void 변경이없으면같은ETag로응답하고앱정보를다시조회하지않는다() {
+        SessionInfoService.Payload first = service.getSessionInfo(user, "0");
+        SessionInfoService.Payload second = service.getSessionInfo(user, "0");
+
+        assertThat(second.etag()).isEqualTo(first.etag());
+        assertThat(second.matches(first.etag())).isTrue();
+        assertThat(second.matches("W/" + first.etag() + ", \"other\"")).isTrue();
+        assertThat(second.matches("\"other\"")).isFalse();
+        verify(userService, times(1)).refreshAppInfo(any(), any());
+    }
+
+    @Test
+    void alias나model이바뀌면ETag가바뀐다() {
+        SessionInfoService.Payload first = service.getSessionInfo(user, "0");
+
+        pageRepository.setPageAlias("com.thinkm.mine", "0", Map.of("/main", "메인 화면"));
+        SessionInfoService.Payload aliasChanged = service.getSessionInfo(user, "0");
+        assertThat(aliasChanged.etag()).isNotEqualTo(first.etag());
+        // alias 만 바뀌면 app 정보는 다시 조회하지 않음
+        verify(userService, times(1)).refreshAppInfo(any(), any());
+
+        // 다른 app 의 alias 변경은 응답에 영향 없음
+        pageRepository.setPageAlias("com.thinkm.other", "0", Map.of("/other", "변경"));
+        assertThat(service.getSessionInfo(user, "0").etag()).isEqualTo(aliasChanged.etag());
+
+        modelRepository.setModelInfo(Map.of());
+        assertThat(service.getSessionInfo(user, "0").etag()).isNotEqualTo(aliasChanged.etag());
+    }
+
+    @Test
+    void 권한이바뀌면앱정보를다시조회한다() {
+        service.getSessionInfo(user, "0");
+        service.invalidate(1L);
+        service.getSessionInfo(user, "0");
+
+        appInfoRepository.update(List.of());
+        service.getSessionInfo(user, "0");
+
+        verify(userService, times(3)).refreshAppInfo(any(), any());
+    }
+}
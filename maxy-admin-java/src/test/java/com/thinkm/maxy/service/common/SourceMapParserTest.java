@@ -1,5 +1,6 @@
 package com.thinkm.maxy.service.common;
 
+import com.thinkm.common.util.sourcemap.OriginalPosition;
 import com.thinkm.common.util.sourcemap.SourceMapParser;
 import com.thinkm.common.util.sourcemap.StackFrameRef;
 import lombok.extern.slf4j.Slf4j;
@@ -62,4 +63,55 @@ class SourceMapParserTest {
         assert first.line() == 1;
         assert first.column() == 8190;
     }
+
+    private static final String SOURCE_MAP = """
+            {
+              "version": 3,
+              "file": "app.js",
+              "sourceRoot": "webpack://",
+              "sources": ["src/a.js", "src/b.js"],
+              "names": ["foo", "bar"],
+              "sourcesContent": ["line1\\nline2\\nline3", null],
+              "mappings": "AAAAA,IAAIC,MAAM;AACA,ECAD"
+            }
+            """;
+
+    @Test
+    void originalPositionFor() throws Exception {
+        SourceMapParser.ParsedSourceMap parsed = SourceMapParser.parse(SOURCE_MAP);
+        assert parsed.getMappings().lineCount() == 2;
+        assert parsed.getMappings().segmentCount() == 5;
+
+        // 1:5 -> 두 번째 segment (src/a.js 1:5, bar)
+        OriginalPosition pos = SourceMapParser.originalPositionFor(parsed, 1, 5);
+        assert pos != null;
+        assert pos.source().equals("webpack://src/a.js");
+        assert pos.line() == 1 && pos.column() == 5;
+        assert "bar".equals(pos.name());
+        assert pos.snippet().contains("> 1 | line1");
+
+        // 사이 column 은 앞 segment 로 매핑
+        pos = SourceMapParser.originalPositionFor(parsed, 1, 8);
+        assert pos != null && pos.column() == 5;
+
+        // 다음 line 의 source/line 은 이전 line 값에 이어서 계산
+        pos = SourceMapParser.originalPositionFor(parsed, 2, 1);
+        assert pos != null && pos.line() == 2 && pos.name() == null;
+        pos = SourceMapParser.originalPositionFor(parsed, 2, 3);
+        assert pos != null && pos.source().equals("webpack://src/b.js");
+
+        assert SourceMapParser.originalPositionFor(parsed, 3, 1) == null;
+    }
+
+    @Test
+    void originalPositionForUnsortedLine() throws Exception {
+        // generated column 10 -> 0 순서로 들어온 line
+        String json = SOURCE_MAP.replace("AAAAA,IAAIC,MAAM;AACA,ECAD", "UAAU,VAAV");
+        SourceMapParser.ParsedSourceMap parsed = SourceMapParser.parse(json);
+
+        OriginalPosition pos = SourceMapParser.originalPositionFor(parsed, 1, 1);
+        assert pos != null && pos.column() == 1;
+        pos = SourceMapParser.originalPositionFor(parsed, 1, 11);
+        assert pos != null && pos.column() == 11;
+    }
 }
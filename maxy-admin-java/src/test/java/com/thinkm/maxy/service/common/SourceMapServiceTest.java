@@ -0,0 +1,42 @@
+package com.thinkm.maxy.service.common;
+
+import com.thinkm.common.util.sourcemap.StackMappingResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SourceMapServiceTest {
+
+    private static final String SOURCE_MAP = """
+            {"version":3,"sources":["src/a.js"],"names":["foo"],"mappings":"AAAAA"}
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 같은sourcemap은한번만읽는다() throws Exception {
+        Files.createDirectories(dir.resolve("static/js"));
+        Files.writeString(dir.resolve("static/js/app.js.map"), SOURCE_MAP);
+        SourceMapService service = new SourceMapService(
+                new PathMatchingResourcePatternResolver(), dir.toString(), 16, 10, 5);
+
+        String stack = "at foo (https://maxy.io/static/js/app.js:1:1)";
+        List<StackMappingResult> first = service.mapErrorStack(stack);
+        List<StackMappingResult> second = service.mapErrorStack(stack);
+
+        assertThat(first).hasSize(1);
+        assertThat(first.get(0).value()).contains("src/a.js");
+        assertThat(second.get(0).value()).isEqualTo(first.get(0).value());
+        assertThat(service.getCacheStats())
+                .containsEntry("miss", 1L)
+                .containsEntry("hit", 1L)
+                .containsEntry("loadSuccess", 1L);
+    }
+}
@@ -0,0 +1,61 @@
+package com.thinkm.maxy.service.front.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionReplayEventStreamTest {
+
+    private static String event(long ts, String data) {
+        return "\"{\\\"type\\\":3,\\\"timestamp\\\":" + ts + ",\\\"data\\\":\\\"" + data + "\\\"}\"";
+    }
+
+    @Test
+    void 연속된_JSON_객체를_event_단위로_읽음() throws Exception {
+        String body = "{\"s#1\":" + event(1, "a,}{") + ",\"s#2\":" + event(2, "b") + "},"
+                      + "{\"meta\":\"skip\",\"s#3\":{\"timestamp\":3,\"data\":{\"timestamp\":9,\"v\":[1,\"x\"]}}},{\"s#4\":\"not json\"}";
+        List<SessionReplayEventStream.Event> events = new ArrayList<>();
+
+        long count = SessionReplayEventStream.read(new StringReader(body), events::add);
+
+        assertThat(count).isEqualTo(4);
+        assertThat(events).extracting(SessionReplayEventStream.Event::key).containsExactly("s#1", "s#2", "s#3", "s#4");
+        assertThat(events).extracting(SessionReplayEventStream.Event::timestamp).containsExactly(1L, 2L, 3L, 0L);
+        assertThat(events.get(0).json()).isEqualTo("{\"type\":3,\"timestamp\":1,\"data\":\"a,}{\"}");
+        assertThat(events.get(2).json()).isEqualTo("{\"timestamp\":3,\"data\":{\"timestamp\":9,\"v\":[1,\"x\"]}}");
+        assertThat(events.get(3).isJson()).isFalse();
+    }
+
+    @Test
+    void window_안의_역순_event_는_timestamp_순으로_전달() throws Exception {
+        String body = "{\"s#5\":" + event(5, "") + ",\"s#3\":" + event(3, "") + "},{\"s#4\":" + event(4, "")
+                      + ",\"s#9\":" + event(9, "") + ",\"s#6\":" + event(6, "") + "}";
+        List<Long> timestamps = new ArrayList<>();
+        SessionReplayEventStream.Sorter sorter = new SessionReplayEventStream.Sorter(3, e -> timestamps.add(e.timestamp()));
+
+        SessionReplayEventStream.read(new StringReader(body), sorter);
+        sorter.finish();
+
+        assertThat(timestamps).containsExactly(3L, 4L, 5L, 6L, 9L);
+        assertThat(sorter.getLateCount()).isZero();
+    }
+
+    @Test
+    void window_를_벗어난_event_는_즉시_전달() {
+        List<Long> timestamps = new ArrayList<>();
+        SessionReplayEventStream.Sorter sorter = new SessionReplayEventStream.Sorter(1, e -> timestamps.add(e.timestamp()));
+
+        long seq = 0;
+        for (long ts : new long[]{10, 20, 30, 5}) {
+            sorter.accept(new SessionReplayEventStream.Event("s#" + ts, ts, "{}", true, seq++));
+        }
+        sorter.finish();
+
+        assertThat(timestamps).hasSize(4);
+        assertThat(sorter.getLateCount()).isEqualTo(1);
+    }
+}